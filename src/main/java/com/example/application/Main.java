@@ -7,19 +7,23 @@ import com.example.model.GrupoClientes;
 import com.example.model.ItemPedido;
 import com.example.model.Restaurante;
 import com.example.util.TipoCliente;
+import com.example.util.persistence.DiarioDeEventos;
+import com.example.util.persistence.RecuperadorDeEstado;
 import javafx.application.Application;
 import javafx.fxml.FXMLLoader;
 import javafx.scene.Scene;
 import javafx.stage.Stage;
 
 import java.io.IOException;
+import java.nio.file.Path;
 import java.time.LocalTime;
 
 /**
  * Classe principal da aplicação de Gerenciamento de Atendimento de Restaurante.
  * <p>
- * Responsável por inicializar a aplicação JavaFX, criar dados de exemplo para garçons,
- * clientes, grupos de clientes e itens do cardápio, além de carregar a tela inicial da interface gráfica.
+ * Responsável por inicializar a aplicação JavaFX, recuperar o estado salvo no diário de eventos,
+ * criar dados de exemplo para garçons, clientes, grupos de clientes e itens do cardápio,
+ * além de carregar a tela inicial da interface gráfica.
  * </p>
  *
  * <p><b>Exceções possíveis:</b></p>
@@ -31,7 +35,9 @@ import java.time.LocalTime;
  *
  * <p><b>Fluxo principal:</b></p>
  * <ol>
- *   <li>Cria o restaurante e popula com dados de exemplo.</li>
+ *   <li>Cria o restaurante e recupera o estado salvo no diretório de dados (instantâneo e diário de eventos).</li>
+ *   <li>Registra o diário de eventos para gravar as alterações seguintes.</li>
+ *   <li>Popula com dados de exemplo caso nenhum garçom tenha sido recuperado.</li>
  *   <li>Carrega o FXML da tela inicial.</li>
  *   <li>Passa o restaurante para o controlador da tela inicial.</li>
  *   <li>Exibe a janela principal da aplicação.</li>
@@ -47,7 +53,11 @@ import java.time.LocalTime;
  * @version 1.0
  */
 public class Main extends Application {
+    /** Diretório do instantâneo e do diário de eventos do restaurante */
+    private static final Path DIRETORIO_DE_DADOS = Path.of("dados");
+
     private Restaurante restaurante;
+    private DiarioDeEventos diario;
 
     /**
      * Inicializa a aplicação JavaFX, cria dados de exemplo e exibe a tela inicial.
@@ -59,29 +69,17 @@ public class Main extends Application {
     public void start(Stage primaryStage) throws Exception {
         try {
             restaurante = new Restaurante("Meu Restaurante");
-            // Adiciona garçons iniciais para teste (alguns com IDs específicos)
-            restaurante.adicionarGarcom(new Garcom(restaurante.gerarNovoGarcomId(), "João Silva", null));
-            restaurante.adicionarGarcom(new Garcom(restaurante.gerarNovoGarcomId(), "Maria Oliveira", null));
-            restaurante.adicionarGarcom(new Garcom(1001, "Carlos Souza", null)); // Garçom com ID pré-definido
-
             restaurante.adicionarAoCardapio(new ItemPedido("Pizza Margherita", 1, 45.00));
             restaurante.adicionarAoCardapio(new ItemPedido("Refrigerante Coca-Cola", 1, 7.50));
             restaurante.adicionarAoCardapio(new ItemPedido("Lasanha Bolonhesa", 1, 38.00));
 
-            // Adicionar alguns clientes e grupos à fila de espera geral para teste
-            Cliente c1 = new Cliente(restaurante.gerarNovoClienteId(), "Ana Paula", TipoCliente.COMUM);
-            c1.setHoraChegada(LocalTime.now().minusMinutes(10));
-            restaurante.getFilaDeEsperaGeral().add(c1);
-
-            Cliente c2 = new Cliente(restaurante.gerarNovoClienteId(), "Pedro Souza", TipoCliente.PRIORITARIO);
-            c2.setHoraChegada(LocalTime.now().minusMinutes(5));
-            restaurante.getFilaDeEsperaGeral().add(c2);
-
-            GrupoClientes g1 = new GrupoClientes(restaurante.gerarNovoGrupoId(), "Família Garcia");
-            g1.adicionarCliente(new Cliente(restaurante.gerarNovoClienteId(), "João G.", TipoCliente.COMUM));
-            g1.adicionarCliente(new Cliente(restaurante.gerarNovoClienteId(), "Maria G.", TipoCliente.COMUM));
-            g1.setHoraChegada(LocalTime.now().minusMinutes(8));
-            restaurante.getFilaDeEsperaGeral().add(g1);
+            // Recupera o estado salvo antes de registrar o diário, para não gravar os eventos reaplicados
+            RecuperadorDeEstado.recuperar(DIRETORIO_DE_DADOS, restaurante);
+            diario = new DiarioDeEventos(DIRETORIO_DE_DADOS);
+            restaurante.setOuvinte(diario);
+            if (restaurante.getGarcons().isEmpty()) {
+                criarDadosDeExemplo();
+            }
 
             FXMLLoader fxmlLoader = new FXMLLoader(getClass().getResource("/view/TelaInicial.fxml"));
             Scene scene = new Scene(fxmlLoader.load());
@@ -104,6 +102,49 @@ public class Main extends Application {
         }
     }
 
+    /**
+     * Grava os eventos pendentes, fecha o diário e fecha o histórico de atendimentos ao encerrar a aplicação.
+     *
+     * @throws Exception caso ocorra erro ao fechar o diário ou o histórico
+     */
+    @Override
+    public void stop() throws Exception {
+        try {
+            if (diario != null) {
+                diario.close();
+            }
+        } finally {
+            if (restaurante != null) {
+                restaurante.getHistorico().close();
+            }
+        }
+    }
+
+    /**
+     * Adiciona garçons de exemplo e alguns clientes e grupos à fila de espera geral.
+     */
+    private void criarDadosDeExemplo() {
+        // Adiciona garçons iniciais para teste (alguns com IDs específicos)
+        restaurante.adicionarGarcom(new Garcom(restaurante.gerarNovoGarcomId(), "João Silva", null));
+        restaurante.adicionarGarcom(new Garcom(restaurante.gerarNovoGarcomId(), "Maria Oliveira", null));
+        restaurante.adicionarGarcom(new Garcom(1001, "Carlos Souza", null)); // Garçom com ID pré-definido
+
+        // Adicionar alguns clientes e grupos à fila de espera geral para teste
+        Cliente c1 = new Cliente(restaurante.gerarNovoClienteId(), "Ana Paula", TipoCliente.COMUM);
+        c1.setHoraChegada(LocalTime.now().minusMinutes(10));
+        restaurante.getFilaDeEsperaGeral().adicionar(c1);
+
+        Cliente c2 = new Cliente(restaurante.gerarNovoClienteId(), "Pedro Souza", TipoCliente.PRIORITARIO);
+        c2.setHoraChegada(LocalTime.now().minusMinutes(5));
+        restaurante.getFilaDeEsperaGeral().adicionar(c2);
+
+        GrupoClientes g1 = new GrupoClientes(restaurante.gerarNovoGrupoId(), "Família Garcia");
+        g1.adicionarCliente(new Cliente(restaurante.gerarNovoClienteId(), "João G.", TipoCliente.COMUM));
+        g1.adicionarCliente(new Cliente(restaurante.gerarNovoClienteId(), "Maria G.", TipoCliente.COMUM));
+        g1.setHoraChegada(LocalTime.now().minusMinutes(8));
+        restaurante.getFilaDeEsperaGeral().adicionar(g1);
+    }
+
     /**
      * Método principal. Inicia a aplicação JavaFX.
      *
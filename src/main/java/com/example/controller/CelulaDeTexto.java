@@ -0,0 +1,42 @@
+package com.example.controller;
+
+import java.util.function.Function;
+
+import javafx.scene.control.ListCell;
+
+/**
+ * Célula de {@link javafx.scene.control.ListView} que exibe um objeto do modelo como texto.
+ * <p>
+ * A lista guarda os próprios objetos do modelo, e o texto de cada linha é montado pela célula somente quando ela é
+ * desenhada. Como a {@link javafx.scene.control.ListView} cria células apenas para as linhas visíveis e as reutiliza
+ * ao rolar, o custo de formatação não cresce com o tamanho da lista.
+ * </p>
+ *
+ * @param <T> tipo dos objetos exibidos
+ * @author Ana Luiza Freitas Brito Siqueira
+ * @author Bruno Campos Penha
+ * @author Grazielly de Sousa Barros
+ * @author João Gabriel Oliveira Magalhães
+ * @author João Vitor Moreira Lemos
+ * @author Robert Alves Guimarães
+ * @author Vinicius D’Oliveira Rocha
+ * @version 1.0
+ */
+class CelulaDeTexto<T> extends ListCell<T> {
+    private final Function<? super T, String> descricao;
+
+    /**
+     * Cria a célula com a função que descreve cada objeto.
+     *
+     * @param descricao função que monta o texto exibido para o objeto
+     */
+    CelulaDeTexto(Function<? super T, String> descricao) {
+        this.descricao = descricao;
+    }
+
+    @Override
+    protected void updateItem(T item, boolean vazia) {
+        super.updateItem(item, vazia);
+        setText(vazia || item == null ? null : descricao.apply(item));
+    }
+}
@@ -0,0 +1,119 @@
+package com.example.controller;
+
+import java.util.List;
+
+import javafx.collections.ObservableList;
+
+/**
+ * Operações sobre as listas observáveis de objetos do modelo exibidas pelas telas.
+ * <p>
+ * Em vez de limpar e recriar a lista a cada ação, as telas aplicam apenas o que mudou, de modo que a
+ * {@link javafx.scene.control.ListView} receba eventos de alteração pontuais (um item adicionado, removido ou
+ * atualizado) e redesenhe somente as células afetadas. Os objetos são comparados por identidade.
+ * </p>
+ *
+ * @author Ana Luiza Freitas Brito Siqueira
+ * @author Bruno Campos Penha
+ * @author Grazielly de Sousa Barros
+ * @author João Gabriel Oliveira Magalhães
+ * @author João Vitor Moreira Lemos
+ * @author Robert Alves Guimarães
+ * @author Vinicius D’Oliveira Rocha
+ * @version 1.0
+ */
+final class ListasExibidas {
+
+    private ListasExibidas() {
+    }
+
+    /**
+     * Torna a lista exibida igual à lista atual alterando somente o trecho entre o início e o fim em comum.
+     * <p>
+     * Quando um único objeto entra, sai ou é trocado por outro, a lista exibida recebe apenas uma inserção, uma
+     * remoção ou uma substituição.
+     * </p>
+     *
+     * @param exibidos lista observável exibida pela tela
+     * @param atuais   objetos que devem ser exibidos, na ordem de exibição
+     * @param <T>      tipo dos objetos exibidos
+     */
+    static <T> void sincronizar(ObservableList<T> exibidos, List<? extends T> atuais) {
+        int inicio = 0;
+        int limite = Math.min(exibidos.size(), atuais.size());
+        while (inicio < limite && exibidos.get(inicio) == atuais.get(inicio)) {
+            inicio++;
+        }
+        int fimExibidos = exibidos.size();
+        int fimAtuais = atuais.size();
+        while (fimExibidos > inicio && fimAtuais > inicio && exibidos.get(fimExibidos - 1) == atuais.get(fimAtuais - 1)) {
+            fimExibidos--;
+            fimAtuais--;
+        }
+        // No trecho diferente, as posições presentes nas duas listas são substituídas uma a uma
+        int substituidos = Math.min(fimExibidos, fimAtuais) - inicio;
+        for (int i = inicio; i < inicio + substituidos; i++) {
+            exibidos.set(i, atuais.get(i));
+        }
+        inicio += substituidos;
+        if (fimExibidos > inicio) {
+            exibidos.remove(inicio, fimExibidos);
+        }
+        if (fimAtuais > inicio) {
+            exibidos.addAll(inicio, atuais.subList(inicio, fimAtuais));
+        }
+    }
+
+    /**
+     * Retorna a posição do objeto selecionado na lista exibida, comparando por identidade.
+     * <p>
+     * A linha informada pelo modelo de seleção é conferida primeiro, em tempo constante; a lista só é percorrida
+     * se a linha não corresponder mais ao objeto. Objetos diferentes com o mesmo texto exibido, como clientes de
+     * mesmo nome, nunca são confundidos.
+     * </p>
+     *
+     * @param exibidos    lista observável exibida pela tela
+     * @param linha       linha selecionada, ou negativa se não houver
+     * @param selecionado objeto selecionado
+     * @param <T>         tipo dos objetos exibidos
+     * @return posição do objeto, ou {@code -1} se não estiver na lista
+     */
+    static <T> int indiceDe(List<T> exibidos, int linha, T selecionado) {
+        if (selecionado == null) return -1;
+        if (linha >= 0 && linha < exibidos.size() && exibidos.get(linha) == selecionado) return linha;
+        for (int i = 0; i < exibidos.size(); i++) {
+            if (exibidos.get(i) == selecionado) return i;
+        }
+        return -1;
+    }
+
+    /**
+     * Remove o objeto selecionado da lista exibida, gerando uma única remoção.
+     *
+     * @param exibidos    lista observável exibida pela tela
+     * @param linha       linha selecionada, ou negativa se não houver
+     * @param selecionado objeto a ser removido
+     * @param <T>         tipo dos objetos exibidos
+     * @return true se o objeto estava na lista
+     */
+    static <T> boolean remover(ObservableList<T> exibidos, int linha, T selecionado) {
+        int indice = indiceDe(exibidos, linha, selecionado);
+        if (indice < 0) return false;
+        exibidos.remove(indice);
+        return true;
+    }
+
+    /**
+     * Avisa a lista exibida de que o objeto mudou, para que somente a sua célula seja redesenhada.
+     *
+     * @param exibidos lista observável exibida pela tela
+     * @param objeto   objeto alterado
+     * @param <T>      tipo dos objetos exibidos
+     * @return true se o objeto estiver na lista
+     */
+    static <T> boolean atualizar(ObservableList<T> exibidos, T objeto) {
+        int indice = indiceDe(exibidos, -1, objeto);
+        if (indice < 0) return false;
+        exibidos.set(indice, objeto);
+        return true;
+    }
+}
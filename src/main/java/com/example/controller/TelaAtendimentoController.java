@@ -2,7 +2,8 @@ package com.example.controller;
 
 import java.io.IOException;
 import java.time.LocalTime;
-import java.util.Comparator;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
 
 import com.example.model.Atendimento;
@@ -48,7 +49,9 @@ import javafx.stage.Stage;
  *   <li>Exibir e atualizar a fila de espera geral e os atendimentos do garçom logado.</li>
  *   <li>Permitir ao garçom atender o próximo da fila geral, cadastrar e atender novos clientes ou grupos.</li>
  *   <li>Gerenciar a finalização de atendimentos e o gerenciamento de pedidos.</li>
- *   <li>Permitir reordenar a fila de espera priorizando clientes prioritários.</li>
+ *   <li>Exibir a fila de espera geral, mantida ordenada com clientes prioritários primeiro.</li>
+ *   <li>Manter as listas exibidas como listas observáveis dos próprios objetos do modelo, atualizadas somente
+ *   no que mudou, com o texto de cada linha montado pela célula ao ser desenhada.</li>
  *   <li>Gerenciar a navegação entre telas do sistema.</li>
  *   <li>Tratar exceções e exibir mensagens de erro ou sucesso ao usuário.</li>
  * </ul>
@@ -57,7 +60,7 @@ import javafx.stage.Stage;
  * <ul>
  *   <li>Modelos: Restaurante, Garcom, Cliente, GrupoClientes, Atendimento, AtendimentoIndividual, AtendimentoGrupo, Atendivel.</li>
  *   <li>Utilitários: Status, TipoCliente.</li>
- *   <li>JavaFX: ListView, Label, Dialog, ComboBox, Spinner, TextArea, Alert, FXMLLoader, Scene, Stage.</li>
+ *   <li>JavaFX: ListView (com células {@link CelulaDeTexto}), Label, Dialog, ComboBox, Spinner, TextArea, Alert, FXMLLoader, Scene, Stage.</li>
  * </ul>
  *
  * @author Ana Luiza Freitas Brito Siqueira
@@ -78,22 +81,18 @@ public class TelaAtendimentoController {
 
     /** ListView que exibe a fila de espera geral */
     @FXML
-    private ListView<String> listViewFilaEspera;
+    private ListView<Atendivel> listViewFilaEspera;
     /** ListView que exibe os atendimentos do garçom logado */
     @FXML
-    private ListView<String> listViewAtendimentosDoGarcom;
+    private ListView<Atendimento> listViewAtendimentosDoGarcom;
     /** Label que exibe o nome do garçom logado */
     @FXML
     private Label labelGarcomLogadoNome;
 
-    /** Lista observável da fila de espera */
-    private ObservableList<Atendivel> filaDeEspera;
-    /** Lista observável de textos para exibição da fila de espera */
-    private ObservableList<String> listaTextoFilaEspera;
-    /** Lista observável dos atendimentos do garçom */
-    private ObservableList<Atendimento> atendimentosDoGarcom;
-    /** Lista observável de textos para exibição dos atendimentos do garçom */
-    private ObservableList<String> listaTextoAtendimentosDoGarcom;
+    /** Lista observável da fila de espera, exibida por {@link #listViewFilaEspera} */
+    private final ObservableList<Atendivel> filaDeEspera = FXCollections.observableArrayList();
+    /** Lista observável dos atendimentos em andamento do garçom, exibida por {@link #listViewAtendimentosDoGarcom} */
+    private final ObservableList<Atendimento> atendimentosDoGarcom = FXCollections.observableArrayList();
 
     /**
      * Define o restaurante e inicializa a fila de espera.
@@ -101,8 +100,6 @@ public class TelaAtendimentoController {
      */
     public void setRestaurante(Restaurante restaurante) {
         this.restaurante = restaurante;
-        this.filaDeEspera = FXCollections.observableArrayList(restaurante.getFilaDeEsperaGeral());
-        this.listaTextoFilaEspera = FXCollections.observableArrayList();
         atualizarListViewFilaEspera();
     }
 
@@ -114,17 +111,19 @@ public class TelaAtendimentoController {
         this.garcomLogado = garcom;
         if (garcomLogado != null) {
             labelGarcomLogadoNome.setText("Garçom: " + garcomLogado.getNome());
-            this.atendimentosDoGarcom = FXCollections.observableArrayList();
-            this.listaTextoAtendimentosDoGarcom = FXCollections.observableArrayList();
             atualizarListas();
         }
     }
 
     /**
-     * Inicializa os listeners dos ListViews.
+     * Associa as listas observáveis e as células aos ListViews e inicializa os seus listeners.
      */
     @FXML
     public void initialize() {
+        listViewFilaEspera.setItems(filaDeEspera);
+        listViewFilaEspera.setCellFactory(lista -> new CelulaDeTexto<>(TelaAtendimentoController::descreverNaFila));
+        listViewAtendimentosDoGarcom.setItems(atendimentosDoGarcom);
+        listViewAtendimentosDoGarcom.setCellFactory(lista -> new CelulaDeTexto<>(TelaAtendimentoController::descreverAtendimento));
         listViewFilaEspera.getSelectionModel().selectedItemProperty().addListener(
                 (obs, oldVal, newVal) -> atualizarBotoes());
         listViewAtendimentosDoGarcom.getSelectionModel().selectedItemProperty().addListener(
@@ -140,32 +139,57 @@ public class TelaAtendimentoController {
     }
 
     /**
-     * Atualiza a exibição da fila de espera geral.
+     * Texto exibido para um cliente ou grupo na fila de espera.
+     * @param atendivel Cliente ou grupo
+     * @return Nome e tipo do cliente ou grupo
+     */
+    static String descreverNaFila(Atendivel atendivel) {
+        return atendivel.getNome() + " (" + atendivel.getTipoCliente() + ")";
+    }
+
+    /**
+     * Texto exibido para um atendimento do garçom.
+     * @param atendimento Atendimento exibido
+     * @return Nome do cliente ou grupo e status do atendimento
+     */
+    static String descreverAtendimento(Atendimento atendimento) {
+        String nome = atendimento instanceof AtendimentoIndividual individual ?
+                individual.getCliente().getNome() :
+                ((AtendimentoGrupo) atendimento).getGrupo().getNomeGrupo();
+        return nome + " - Status: " + atendimento.getStatus();
+    }
+
+    /**
+     * Atualiza a exibição da fila de espera geral, aplicando somente as entradas e saídas.
      */
     private void atualizarListViewFilaEspera() {
-        listaTextoFilaEspera.clear();
-        if (filaDeEspera != null) {
-            filaDeEspera.forEach(atendivel ->
-                    listaTextoFilaEspera.add(atendivel.getNome() + " (" + atendivel.getTipoCliente() + ")")
-            );
-            listViewFilaEspera.setItems(listaTextoFilaEspera);
-        }
+        if (restaurante == null) return;
+        ListasExibidas.sincronizar(filaDeEspera, restaurante.getFilaDeEsperaGeral().listar());
     }
 
     /**
-     * Atualiza a exibição dos atendimentos do garçom logado.
+     * Atualiza a exibição dos atendimentos em andamento do garçom logado, aplicando somente as entradas e saídas.
      */
     private void atualizarListViewAtendimentosDoGarcom() {
-        listaTextoAtendimentosDoGarcom.clear();
-        if (atendimentosDoGarcom != null) {
-            atendimentosDoGarcom.forEach(at -> {
-                String nome = at instanceof AtendimentoIndividual ?
-                        ((AtendimentoIndividual)at).getCliente().getNome() :
-                        ((AtendimentoGrupo)at).getGrupo().getNomeGrupo();
-                listaTextoAtendimentosDoGarcom.add(nome + " - Status: " + at.getStatus());
-            });
-            listViewAtendimentosDoGarcom.setItems(listaTextoAtendimentosDoGarcom);
+        ListasExibidas.sincronizar(atendimentosDoGarcom, listarAtendimentosAtivos(garcomLogado));
+    }
+
+    /**
+     * Atendimentos não finalizados do garçom, na ordem de exibição: os individuais e depois os de grupo, cada fila
+     * em ordem de prioridade. A ordem não depende da disposição interna do heap, então remover um atendimento não
+     * reordena as linhas restantes.
+     * @param garcom Garçom cujos atendimentos são exibidos
+     * @return Atendimentos ativos na ordem de exibição
+     */
+    static List<Atendimento> listarAtendimentosAtivos(Garcom garcom) {
+        List<Atendimento> ativos = new ArrayList<>();
+        for (Atendimento atendimento : garcom.getFilaAtendimentoIndividual().listarEmOrdem()) {
+            if (atendimento.getStatus() != Status.FINALIZADO) ativos.add(atendimento);
+        }
+        for (Atendimento atendimento : garcom.getFilaAtendimentoGrupo().listarEmOrdem()) {
+            if (atendimento.getStatus() != Status.FINALIZADO) ativos.add(atendimento);
         }
+        return ativos;
     }
 
     /**
@@ -173,18 +197,6 @@ public class TelaAtendimentoController {
      */
     private void atualizarListas() {
         if (restaurante == null || garcomLogado == null) return;
-
-        filaDeEspera.setAll(restaurante.getFilaDeEsperaGeral());
-        atendimentosDoGarcom.clear();
-
-        garcomLogado.getFilaAtendimentoIndividual().getFila().stream()
-                .filter(at -> at.getStatus() != Status.FINALIZADO)
-                .forEach(atendimentosDoGarcom::add);
-
-        garcomLogado.getFilaAtendimentoGrupo().getFila().stream()
-                .filter(at -> at.getStatus() != Status.FINALIZADO)
-                .forEach(atendimentosDoGarcom::add);
-
         atualizarListViewFilaEspera();
         atualizarListViewAtendimentosDoGarcom();
     }
@@ -200,29 +212,27 @@ public class TelaAtendimentoController {
             showAlert(Alert.AlertType.ERROR, "Nenhum garçom logado para distribuir atendimento.");
             return;
         }
-        if (restaurante.getFilaDeEsperaGeral().isEmpty()) {
+        Atendivel atendivel = restaurante.getFilaDeEsperaGeral().retirarProximo();
+        if (atendivel == null) {
             showAlert(Alert.AlertType.INFORMATION, "Não há clientes ou grupos na fila de espera geral para distribuir.");
             return;
         }
 
-        Atendivel atendivel = restaurante.getFilaDeEsperaGeral().removeFirst();
         try {
+            // A vaga é conferida pelo próprio atendimento, sob a trava do garçom: outro terminal pode ter ocupado a
+            // última vaga depois que o atendível saiu da fila, e nesse caso ele volta ao início
             if (atendivel instanceof Cliente cliente) {
-                if (garcomLogado.podeAtenderMaisClientesIndividuais()) {
-                    cliente.setHoraChegada(LocalTime.now());
-                    garcomLogado.atenderCliente(cliente);
-                } else {
+                cliente.setHoraChegada(LocalTime.now());
+                if (!garcomLogado.atenderCliente(cliente)) {
                     showAlert(Alert.AlertType.WARNING, garcomLogado.getNome() + ": Limite de clientes individuais atingido.");
-                    restaurante.getFilaDeEsperaGeral().addFirst(atendivel);
+                    restaurante.getFilaDeEsperaGeral().devolverAoInicio(atendivel);
                     return;
                 }
             } else if (atendivel instanceof GrupoClientes grupo) {
-                if (garcomLogado.podeAtenderMaisGrupos()) {
-                    grupo.setHoraChegada(LocalTime.now());
-                    garcomLogado.atenderGrupo(grupo);
-                } else {
+                grupo.setHoraChegada(LocalTime.now());
+                if (!garcomLogado.atenderGrupo(grupo)) {
                     showAlert(Alert.AlertType.WARNING, garcomLogado.getNome() + ": Limite de grupos atingido.");
-                    restaurante.getFilaDeEsperaGeral().addFirst(atendivel);
+                    restaurante.getFilaDeEsperaGeral().devolverAoInicio(atendivel);
                     return;
                 }
             }
@@ -230,10 +240,10 @@ public class TelaAtendimentoController {
             showAlert(Alert.AlertType.INFORMATION, atendivel.getNome() + " adicionado à sua fila de atendimentos.");
         } catch (IllegalArgumentException e) {
             showAlert(Alert.AlertType.ERROR, "Erro ao atender: " + e.getMessage());
-            restaurante.getFilaDeEsperaGeral().addFirst(atendivel);
+            restaurante.getFilaDeEsperaGeral().devolverAoInicio(atendivel);
         } catch (Exception e) {
             showAlert(Alert.AlertType.ERROR, "Erro inesperado ao atender: " + e.getMessage());
-            restaurante.getFilaDeEsperaGeral().addFirst(atendivel);
+            restaurante.getFilaDeEsperaGeral().devolverAoInicio(atendivel);
         }
         atualizarListas();
     }
@@ -260,7 +270,10 @@ public class TelaAtendimentoController {
 
             result.ifPresent(cliente -> {
                 try {
-                    garcomLogado.atenderCliente(cliente);
+                    if (!garcomLogado.atenderCliente(cliente)) {
+                        showAlert(Alert.AlertType.WARNING, garcomLogado.getNome() + ": Limite de clientes individuais atingido.");
+                        return;
+                    }
                     atualizarListas();
                     showAlert(Alert.AlertType.INFORMATION, "Cliente " + cliente.getNome() + " cadastrado e adicionado à fila.");
                 } catch (Exception e) {
@@ -342,7 +355,10 @@ public class TelaAtendimentoController {
 
             result.ifPresent(grupo -> {
                 try {
-                    garcomLogado.atenderGrupo(grupo);
+                    if (!garcomLogado.atenderGrupo(grupo)) {
+                        showAlert(Alert.AlertType.WARNING, garcomLogado.getNome() + ": Limite de grupos atingido.");
+                        return;
+                    }
                     atualizarListas();
                     showAlert(Alert.AlertType.INFORMATION, "Grupo " + grupo.getNomeGrupo() + " cadastrado e adicionado à fila.");
                 } catch (Exception e) {
@@ -406,53 +422,30 @@ public class TelaAtendimentoController {
         return dialog;
     }
 
-    /**
-     * Reordena a fila de espera priorizando clientes prioritários.
-     * Trata exceções inesperadas.
-     * @param event Evento de ação do botão
-     */
-    @FXML
-    public void handleReordenarFila(ActionEvent event) {
-        try {
-            restaurante.getFilaDeEsperaGeral().sort(Comparator
-                    .comparing((Atendivel a) -> a.getTipoCliente() == TipoCliente.PRIORITARIO ? 0 : 1)
-                    .thenComparing(Atendivel::getNome));
-            filaDeEspera.setAll(restaurante.getFilaDeEsperaGeral());
-            atualizarListViewFilaEspera();
-            showAlert(Alert.AlertType.INFORMATION, "Fila de espera reordenada.");
-        } catch (Exception e) {
-            showAlert(Alert.AlertType.ERROR, "Erro ao reordenar fila: " + e.getMessage());
-        }
-    }
-
     /**
      * Finaliza o atendimento selecionado na lista do garçom.
+     * A lista guarda os próprios objetos {@link Atendimento}, então a seleção é resolvida por identidade, sem
+     * comparar textos, mesmo quando dois clientes têm o mesmo nome.
      * Trata exceções inesperadas.
      * @param event Evento de ação do botão
      */
     @FXML
     public void handleFinalizarAtendimento(ActionEvent event) {
         try {
-            String selectedString = listViewAtendimentosDoGarcom.getSelectionModel().getSelectedItem();
-            if (selectedString == null) {
+            Atendimento selecionado = listViewAtendimentosDoGarcom.getSelectionModel().getSelectedItem();
+            if (selecionado == null) {
                 showAlert(Alert.AlertType.WARNING, "Selecione um atendimento para finalizar.");
                 return;
             }
 
-            Atendimento selecionado = atendimentosDoGarcom.stream()
-                    .filter(at -> {
-                        String nomeExibido = at instanceof AtendimentoIndividual ?
-                                ((AtendimentoIndividual)at).getCliente().getNome() :
-                                ((AtendimentoGrupo)at).getGrupo().getNomeGrupo();
-                        String texto = nomeExibido + " - Status: " + at.getStatus();
-                        return texto.equals(selectedString) && at.getStatus() != Status.FINALIZADO;
-                    })
-                    .findFirst()
-                    .orElse(null);
-
-            if (selecionado != null) {
+            if (selecionado.getStatus() != Status.FINALIZADO) {
+                int linha = listViewAtendimentosDoGarcom.getSelectionModel().getSelectedIndex();
                 selecionado.finalizarAtendimento();
                 restaurante.registrarAtendimentoFinalizado(selecionado);
+                // A linha selecionada é conferida por identidade e removida diretamente; como as linhas seguem a
+                // ordem de prioridade, as demais não mudam de posição e a sincronização seguinte só aplica entradas,
+                // como um atendimento repassado pela distribuição automática, e mudanças de status
+                ListasExibidas.remover(atendimentosDoGarcom, linha, selecionado);
                 atualizarListas();
                 showAlert(Alert.AlertType.INFORMATION, "Atendimento finalizado.");
             } else {
@@ -471,24 +464,13 @@ public class TelaAtendimentoController {
     @FXML
     public void handleGerenciarPedido(ActionEvent event) {
         try {
-            String selectedString = listViewAtendimentosDoGarcom.getSelectionModel().getSelectedItem();
-            if (selectedString == null) {
+            Atendimento selecionado = listViewAtendimentosDoGarcom.getSelectionModel().getSelectedItem();
+            if (selecionado == null) {
                 showAlert(Alert.AlertType.WARNING, "Selecione um atendimento para gerenciar o pedido.");
                 return;
             }
 
-            Atendimento selecionado = atendimentosDoGarcom.stream()
-                    .filter(at -> {
-                        String nomeExibido = at instanceof AtendimentoIndividual ?
-                                ((AtendimentoIndividual)at).getCliente().getNome() :
-                                ((AtendimentoGrupo)at).getGrupo().getNomeGrupo();
-                        String texto = nomeExibido + " - Status: " + at.getStatus();
-                        return texto.equals(selectedString) && at.getStatus() == Status.EM_ATENDIMENTO;
-                    })
-                    .findFirst()
-                    .orElse(null);
-
-            if (selecionado != null) {
+            if (selecionado.getStatus() == Status.EM_ATENDIMENTO) {
                 try {
                     FXMLLoader loader = new FXMLLoader(getClass().getResource("/view/TelaGerenciadorPedido.fxml"));
                     Parent root = loader.load();
@@ -1,8 +1,14 @@
 package com.example.controller;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
+import com.example.model.BuscaNoCardapio;
 import com.example.model.ItemPedido;
 import com.example.model.Restaurante;
 
@@ -66,6 +72,14 @@ public class TelaCardapioController {
 
     /** Lista observável dos itens do cardápio */
     private ObservableList<ItemPedido> itensCardapio;
+    /** Item exibido em cada linha de {@link #listaItens} */
+    private final List<ItemPedido> itensExibidos = new ArrayList<>();
+    /** Texto exibido de cada item do cardápio, pelo identificador, formatado uma única vez */
+    private final List<String> rotulos = new ArrayList<>();
+    /** Itens removidos da lista desde o último carregamento */
+    private final Set<ItemPedido> removidos = Collections.newSetFromMap(new IdentityHashMap<>());
+    /** Busca incremental usada pelo filtro */
+    private BuscaNoCardapio busca;
     /** Referência ao restaurante em uso */
     private Restaurante restaurante;
 
@@ -96,6 +110,14 @@ public class TelaCardapioController {
         if (restaurante != null) {
             itensCardapio.clear();
             itensCardapio.addAll(restaurante.getCardapio());
+            removidos.clear();
+            rotulos.clear();
+            for (ItemPedido item : itensCardapio) {
+                rotulos.add(item.getNome() + " - R$" + String.format("%.2f", item.getPreco()));
+            }
+            if (busca == null) {
+                busca = restaurante.novaBuscaNoCardapio();
+            }
             atualizarListaExibida();
         }
     }
@@ -104,26 +126,26 @@ public class TelaCardapioController {
      * Atualiza a exibição da lista de itens do cardápio.
      */
     private void atualizarListaExibida() {
-        listaItens.getItems().clear();
-        itensCardapio.stream()
-                .map(item -> item.getNome() + " - R$" + String.format("%.2f", item.getPreco()))
-                .forEach(itemString -> listaItens.getItems().add(itemString));
+        filtrarItens(null);
     }
 
     /**
-     * Filtra os itens do cardápio conforme o texto digitado no campo de filtro.
+     * Filtra os itens do cardápio conforme o texto digitado no campo de filtro, sem diferenciar acentos,
+     * exibindo os mais relevantes primeiro.
      * @param textoFiltro Texto para filtrar os itens
      */
     private void filtrarItens(String textoFiltro) {
-        if (textoFiltro == null || textoFiltro.isEmpty()) {
-            atualizarListaExibida();
-        } else {
-            listaItens.getItems().clear();
-            itensCardapio.stream()
-                    .filter(item -> item.getNome().toLowerCase().contains(textoFiltro.toLowerCase()))
-                    .map(item -> item.getNome() + " - R$" + String.format("%.2f", item.getPreco()))
-                    .forEach(itemString -> listaItens.getItems().add(itemString));
+        itensExibidos.clear();
+        List<String> linhas = new ArrayList<>();
+        if (busca != null) {
+            List<ItemPedido> cardapio = restaurante.getCardapio();
+            for (int id : busca.buscarIds(textoFiltro)) {
+                if (id >= rotulos.size() || removidos.contains(cardapio.get(id))) continue;
+                itensExibidos.add(cardapio.get(id));
+                linhas.add(rotulos.get(id));
+            }
         }
+        listaItens.getItems().setAll(linhas);
     }
 
     /**
@@ -218,14 +240,10 @@ public class TelaCardapioController {
     @FXML
     public void handleRemoverItem(ActionEvent event) {
         try {
-            String selectedItemString = listaItens.getSelectionModel().getSelectedItem();
-            if (selectedItemString != null) {
-                String nomeItem = selectedItemString.substring(0, selectedItemString.indexOf(" - R$"));
-
-                ItemPedido itemParaRemover = itensCardapio.stream()
-                        .filter(item -> item.getNome().equals(nomeItem))
-                        .findFirst()
-                        .orElse(null);
+            int linhaSelecionada = listaItens.getSelectionModel().getSelectedIndex();
+            if (linhaSelecionada >= 0) {
+                // A linha selecionada leva diretamente ao item, sem reinterpretar o texto exibido
+                ItemPedido itemParaRemover = itensExibidos.get(linhaSelecionada);
 
                 if (itemParaRemover != null) {
                     Alert confirm = new Alert(Alert.AlertType.CONFIRMATION, "Tem certeza que deseja remover '" + itemParaRemover.getNome() + "' do cardápio?");
@@ -235,6 +253,7 @@ public class TelaCardapioController {
                             // Implementação da remoção no restaurante
                             // restaurante.removerItemDoCardapio(itemParaRemover);
                             itensCardapio.remove(itemParaRemover);
+                            removidos.add(itemParaRemover);
                             atualizarListaExibida();
                             new Alert(Alert.AlertType.INFORMATION, "Item removido do cardápio.").showAndWait();
                         } catch (Exception e) {
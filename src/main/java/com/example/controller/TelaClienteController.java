@@ -4,11 +4,14 @@ import java.io.IOException;
 import java.time.LocalTime;
 import java.util.Optional;
 
+import com.example.model.Atendimento;
 import com.example.model.Cliente;
 import com.example.model.GrupoClientes;
+import com.example.model.HistoricoDeAtendimentos;
 import com.example.model.ItemPedido;
 import com.example.model.Pedido;
 import com.example.model.Restaurante;
+import com.example.util.Status;
 import com.example.util.TipoCliente;
 
 import javafx.collections.FXCollections;
@@ -111,7 +114,7 @@ public class TelaClienteController {
         try {
             Cliente novoCliente = new Cliente(restaurante.gerarNovoClienteId(), nome, tipo);
             novoCliente.setHoraChegada(LocalTime.now());
-            restaurante.getFilaDeEsperaGeral().add(novoCliente);
+            restaurante.getFilaDeEsperaGeral().adicionar(novoCliente);
 
             new Alert(Alert.AlertType.INFORMATION, "Olá, " + nome + "! Sua chegada foi registrada. Por favor, aguarde ser chamado(a).").showAndWait();
 
@@ -170,7 +173,7 @@ public class TelaClienteController {
             Optional<GrupoClientes> result = dialog.showAndWait();
             result.ifPresent(grupo -> {
                 try {
-                    restaurante.getFilaDeEsperaGeral().add(grupo);
+                    restaurante.getFilaDeEsperaGeral().adicionar(grupo);
                     new Alert(Alert.AlertType.INFORMATION, "A chegada do Grupo '" + grupo.getNomeGrupo() + "' com " + grupo.getClientes().size() + " pessoas foi registrada! Por favor, aguardem ser chamados.").showAndWait();
                 } catch (Exception e) {
                     new Alert(Alert.AlertType.ERROR, "Erro ao registrar grupo: " + e.getMessage()).showAndWait();
@@ -193,16 +196,16 @@ public class TelaClienteController {
 
         try {
             int pedidoId = Integer.parseInt(pedidoIdField.getText().trim());
-            Pedido pedidoEncontrado = restaurante.buscarPedidoPorId(pedidoId);
+            Atendimento atendimento = restaurante.buscarAtendimentoPorPedidoId(pedidoId);
+            Pedido pedidoEncontrado = atendimento != null ? atendimento.getPedido() : null;
+            // Pedidos antigos que já saíram da memória são procurados nos registros do histórico
+            int posicaoNoHistorico = pedidoEncontrado == null ? restaurante.getHistorico().buscarPosicao(pedidoId) : -1;
 
             if (pedidoEncontrado != null) {
-                // Buscar o status do atendimento associado ao pedido
-                Optional<String> statusOptional = restaurante.getHistoricoAtendimentos().stream()
-                        .filter(at -> at.getPedido().getId() == pedidoEncontrado.getId())
-                        .map(at -> at.getStatus().toString())
-                        .findFirst();
-
-                String status = statusOptional.orElse("Em Andamento");
+                // Status do atendimento associado ao pedido
+                String status = atendimento.getStatus() == Status.FINALIZADO
+                        ? atendimento.getStatus().toString()
+                        : "Em Andamento";
                 labelStatusPedido.setText("Status: " + status);
 
                 // Montar os detalhes do pedido
@@ -226,6 +229,9 @@ public class TelaClienteController {
                 detalhes.append("\nTOTAL: R$ ").append(String.format("%.2f", pedidoEncontrado.calcularTotal()));
                 textAreaDetalhesPedido.setText(detalhes.toString());
 
+            } else if (posicaoNoHistorico >= 0) {
+                labelStatusPedido.setText("Status: " + Status.FINALIZADO);
+                textAreaDetalhesPedido.setText(descreverRegistro(restaurante.getHistorico(), posicaoNoHistorico));
             } else {
                 labelStatusPedido.setText("Status: Pedido não encontrado");
                 textAreaDetalhesPedido.setText("Não foi possível encontrar um pedido com o ID " + pedidoId + ".");
@@ -241,6 +247,19 @@ public class TelaClienteController {
         }
     }
 
+    /**
+     * Monta os detalhes de um pedido que existe apenas como registro no histórico, sem os itens individuais.
+     *
+     * @param historico histórico de atendimentos do restaurante
+     * @param posicao   posição do registro do pedido
+     * @return texto exibido nos detalhes do pedido
+     */
+    static String descreverRegistro(HistoricoDeAtendimentos historico, int posicao) {
+        return "ID do Pedido: " + historico.getPedidoId(posicao) + "\n"
+                + "Itens: " + historico.getQuantidadeDeItens(posicao) + " (detalhes não disponíveis para pedidos antigos)\n"
+                + "\nTOTAL: R$ " + String.format("%.2f", historico.getTotalEmCentavos(posicao) / 100.0);
+    }
+
     /**
      * Limpa os campos de detalhes do pedido.
      */
@@ -1,10 +1,13 @@
 package com.example.controller;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
 
 import com.example.model.Atendimento;
 import com.example.model.AtendimentoGrupo;
 import com.example.model.AtendimentoIndividual;
+import com.example.model.BuscaNoCardapio;
 import com.example.model.Cliente;
 import com.example.model.Garcom;
 import com.example.model.GrupoClientes;
@@ -41,6 +44,7 @@ import javafx.stage.Stage;
  *   <li>Exibir e filtrar itens do cardápio.</li>
  *   <li>Adicionar itens ao pedido e observações aos itens.</li>
  *   <li>Exibir e atualizar o total do pedido.</li>
+ *   <li>Exibir os itens do pedido como lista observável dos próprios itens, redesenhando somente a linha alterada.</li>
  *   <li>Confirmar e salvar o pedido.</li>
  *   <li>Navegar de volta para a tela de atendimento do garçom.</li>
  *   <li>Tratar exceções e exibir mensagens de erro ou sucesso ao usuário.</li>
@@ -49,7 +53,7 @@ import javafx.stage.Stage;
  * <b>Dependências:</b>
  * <ul>
  *   <li>Modelos: Restaurante, Garcom, Atendimento, Pedido, ItemPedido, ObservacaoDoPedido, Cliente, GrupoClientes.</li>
- *   <li>JavaFX: ListView, TextField, Spinner, TextArea, Label, Alert, FXMLLoader, Scene, Stage.</li>
+ *   <li>JavaFX: ListView (com células {@link CelulaDeTexto}), TextField, Spinner, TextArea, Label, Alert, FXMLLoader, Scene, Stage.</li>
  * </ul>
  *
  * @author Ana Luiza Freitas Brito Siqueira
@@ -79,7 +83,7 @@ public class TelaGerenciarPedidoController {
     @FXML
     private TextField filtroCardapio;
     @FXML
-    private ListView<String> listViewItensPedido;
+    private ListView<ItemPedido> listViewItensPedido;
     @FXML
     private Label labelTotalPedido;
     @FXML
@@ -93,10 +97,16 @@ public class TelaGerenciarPedidoController {
     @FXML
     private Label labelStatusPedido;
 
-    /** Lista observável dos itens do cardápio */
+    /** Lista observável dos itens do cardápio; a posição de cada item é o seu identificador no cardápio */
     private ObservableList<ItemPedido> itensCardapioObservableList;
-    /** Lista observável dos itens do pedido */
-    private ObservableList<ItemPedido> itensPedidoObservableList;
+    /** Identificador no cardápio de cada linha exibida em {@link #listViewCardapio} */
+    private final List<Integer> idsExibidosNoCardapio = new ArrayList<>();
+    /** Texto exibido de cada item do cardápio, pelo identificador, formatado uma única vez */
+    private final List<String> rotulosDoCardapio = new ArrayList<>();
+    /** Busca incremental usada pelo filtro do cardápio */
+    private BuscaNoCardapio buscaNoCardapio;
+    /** Lista observável dos itens do pedido, exibida por {@link #listViewItensPedido} */
+    private final ObservableList<ItemPedido> itensPedidoObservableList = FXCollections.observableArrayList();
 
     /**
      * Define o restaurante utilizado pelo controlador e carrega o cardápio.
@@ -105,6 +115,11 @@ public class TelaGerenciarPedidoController {
     public void setRestaurante(Restaurante restaurante) {
         this.restaurante = restaurante;
         itensCardapioObservableList = FXCollections.observableArrayList(restaurante.getCardapio());
+        buscaNoCardapio = restaurante.novaBuscaNoCardapio();
+        rotulosDoCardapio.clear();
+        for (ItemPedido item : itensCardapioObservableList) {
+            rotulosDoCardapio.add(item.getNome() + " - R$" + String.format("%.2f", item.getPreco()));
+        }
         carregarCardapio();
     }
 
@@ -137,8 +152,7 @@ public class TelaGerenciarPedidoController {
         labelStatusPedido.setText("Status do Pedido: " + atendimentoAtual.getStatus().toString());
 
         // Carrega os itens do pedido existentes
-        itensPedidoObservableList = FXCollections.observableArrayList(pedidoAtual.getItens());
-        listViewItensPedido.setItems(formatarItensPedido(itensPedidoObservableList));
+        ListasExibidas.sincronizar(itensPedidoObservableList, pedidoAtual.getItens());
         atualizarTotalPedido();
     }
 
@@ -148,6 +162,8 @@ public class TelaGerenciarPedidoController {
     @FXML
     public void initialize() {
         spinnerQuantidade.setValueFactory(new SpinnerValueFactory.IntegerSpinnerValueFactory(1, 99, 1));
+        listViewItensPedido.setItems(itensPedidoObservableList);
+        listViewItensPedido.setCellFactory(lista -> new CelulaDeTexto<>(TelaGerenciarPedidoController::descreverItem));
         filtroCardapio.textProperty().addListener((obs, oldVal, newVal) -> filtrarCardapio(newVal));
         textAreaObservacoesCliente.setEditable(false);
     }
@@ -156,53 +172,45 @@ public class TelaGerenciarPedidoController {
      * Carrega os itens do cardápio para o ListView.
      */
     private void carregarCardapio() {
-        listViewCardapio.getItems().clear();
-        if (itensCardapioObservableList != null) {
-            itensCardapioObservableList.forEach(item ->
-                    listViewCardapio.getItems().add(item.getNome() + " - R$" + String.format("%.2f", item.getPreco())));
-        }
+        filtrarCardapio("");
     }
 
     /**
-     * Filtra os itens do cardápio conforme o texto digitado no campo de filtro.
+     * Filtra os itens do cardápio conforme o texto digitado no campo de filtro, sem diferenciar acentos,
+     * exibindo os mais relevantes primeiro.
      * @param filtro Texto para filtrar os itens
      */
     private void filtrarCardapio(String filtro) {
-        listViewCardapio.getItems().clear();
-        if (itensCardapioObservableList != null) {
-            itensCardapioObservableList.stream()
-                    .filter(item -> item.getNome().toLowerCase().contains(filtro.toLowerCase()))
-                    .forEach(item -> listViewCardapio.getItems().add(item.getNome() + " - R$" + String.format("%.2f", item.getPreco())));
-        }
-    }
-
-    /**
-     * Formata a lista de itens do pedido para exibição.
-     * @param itens Lista de itens do pedido
-     * @return Lista observável de strings formatadas
-     */
-    private ObservableList<String> formatarItensPedido(ObservableList<ItemPedido> itens) {
-        ObservableList<String> formattedList = FXCollections.observableArrayList();
-        itens.forEach(item -> {
-            StringBuilder itemString = new StringBuilder();
-            itemString.append(item.getNome())
-                    .append(" (x").append(item.getQuantidade())
-                    .append(") - R$ ").append(String.format("%.2f", item.calcularSubtotal()));
-            if (!item.getObservacoes().isEmpty()) {
-                itemString.append(" [Obs: ");
-                item.getObservacoes().forEach(obs -> itemString.append(obs.getDescricao()).append("; "));
-                itemString.append("]");
+        idsExibidosNoCardapio.clear();
+        List<String> linhas = new ArrayList<>();
+        if (buscaNoCardapio != null) {
+            for (int id : buscaNoCardapio.buscarIds(filtro)) {
+                // Itens adicionados ao cardápio depois de abrir a tela não são exibidos
+                if (id < rotulosDoCardapio.size()) {
+                    idsExibidosNoCardapio.add(id);
+                    linhas.add(rotulosDoCardapio.get(id));
+                }
             }
-            formattedList.add(itemString.toString());
-        });
-        return formattedList;
+        }
+        listViewCardapio.getItems().setAll(linhas);
     }
 
     /**
-     * Atualiza a exibição da lista de itens do pedido.
+     * Texto exibido para um item do pedido, montado pela célula somente quando a linha é desenhada.
+     * @param item Item do pedido
+     * @return Nome, quantidade, subtotal e observações do item
      */
-    private void atualizarListaItensPedido() {
-        listViewItensPedido.setItems(formatarItensPedido(itensPedidoObservableList));
+    static String descreverItem(ItemPedido item) {
+        StringBuilder itemString = new StringBuilder();
+        itemString.append(item.getNome())
+                .append(" (x").append(item.getQuantidade())
+                .append(") - R$ ").append(String.format("%.2f", item.calcularSubtotal()));
+        if (!item.getObservacoes().isEmpty()) {
+            itemString.append(" [Obs: ");
+            item.getObservacoes().forEach(obs -> itemString.append(obs.getDescricao()).append("; "));
+            itemString.append("]");
+        }
+        return itemString.toString();
     }
 
     /**
@@ -222,23 +230,20 @@ public class TelaGerenciarPedidoController {
     @FXML
     public void handleAdicionarItem(ActionEvent event) {
         try {
-            String selectedItemString = listViewCardapio.getSelectionModel().getSelectedItem();
-            if (selectedItemString == null) {
+            int linhaSelecionada = listViewCardapio.getSelectionModel().getSelectedIndex();
+            if (linhaSelecionada < 0) {
                 new Alert(Alert.AlertType.WARNING, "Selecione um item do cardápio para adicionar.").showAndWait();
                 return;
             }
 
-            String nomeItem = selectedItemString.substring(0, selectedItemString.indexOf(" - R$"));
-            ItemPedido itemSelecionado = restaurante.getCardapio().stream()
-                    .filter(item -> item.getNome().equals(nomeItem))
-                    .findFirst().orElse(null);
+            // A linha selecionada leva ao identificador do item, sem reinterpretar o texto exibido
+            ItemPedido itemSelecionado = restaurante.buscarItemDoCardapio(idsExibidosNoCardapio.get(linhaSelecionada));
 
             if (itemSelecionado != null) {
                 int quantidade = spinnerQuantidade.getValue();
-                ItemPedido itemParaPedido = new ItemPedido(itemSelecionado.getNome(), quantidade, itemSelecionado.getPreco());
+                ItemPedido itemParaPedido = new ItemPedido(itemSelecionado.getModelo(), quantidade);
                 pedidoAtual.adicionarItem(itemParaPedido);
                 itensPedidoObservableList.add(itemParaPedido);
-                atualizarListaItensPedido();
                 atualizarTotalPedido();
                 new Alert(Alert.AlertType.INFORMATION, itemParaPedido.getNome() + " (x" + quantidade + ") adicionado ao pedido.").showAndWait();
             }
@@ -256,26 +261,18 @@ public class TelaGerenciarPedidoController {
     @FXML
     public void handleAdicionarObservacaoItem(ActionEvent event) {
         try {
-            String selectedItemPedidoString = listViewItensPedido.getSelectionModel().getSelectedItem();
-            if (selectedItemPedidoString == null) {
+            ItemPedido itemNoPedido = listViewItensPedido.getSelectionModel().getSelectedItem();
+            if (itemNoPedido == null) {
                 new Alert(Alert.AlertType.WARNING, "Selecione um item no pedido para adicionar observação.").showAndWait();
                 return;
             }
 
-            ItemPedido itemNoPedido = null;
-            for (ItemPedido item : itensPedidoObservableList) {
-                String itemDisplayStringStart = item.getNome() + " (x" + item.getQuantidade() + ")";
-                if (selectedItemPedidoString.startsWith(itemDisplayStringStart)) {
-                    itemNoPedido = item;
-                    break;
-                }
-            }
-
-            if (itemNoPedido != null) {
+            if (pedidoAtual.getItens().contains(itemNoPedido)) {
                 String observacaoTexto = textAreaObservacoesItem.getText().trim();
                 if (!observacaoTexto.isEmpty()) {
-                    itemNoPedido.adicionarObservacao(new ObservacaoDoPedido(observacaoTexto));
-                    atualizarListaItensPedido();
+                    pedidoAtual.adicionarObservacao(itemNoPedido, new ObservacaoDoPedido(observacaoTexto));
+                    // Somente a linha do item é redesenhada
+                    ListasExibidas.atualizar(itensPedidoObservableList, itemNoPedido);
                     textAreaObservacoesItem.clear();
                     new Alert(Alert.AlertType.INFORMATION, "Observação adicionada a " + itemNoPedido.getNome() + ".").showAndWait();
                 } else {
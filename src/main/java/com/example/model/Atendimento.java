@@ -2,6 +2,7 @@ package com.example.model;
 
 import com.example.util.Status;
 
+import java.time.Clock;
 import java.time.Duration;
 import java.time.LocalTime;
 
@@ -10,6 +11,7 @@ import java.time.LocalTime;
  * <p>
  * Responsável por controlar o ciclo de vida do atendimento, incluindo o pedido associado,
  * tempos de espera e atendimento, status e horários de início e fim.
+ * Ao mudar de status, o atendimento é reposicionado automaticamente na {@link FilaDeAtendimento} que o contém.
  * </p>
  *
  * <p><b>Exceções possíveis:</b></p>
@@ -36,12 +38,24 @@ import java.time.LocalTime;
  * @version 1.0
  */
 public abstract class Atendimento {
+    /** Relógio usado para registrar início e fim dos atendimentos (substituível em simulações) */
+    private static Clock relogio = Clock.systemDefaultZone();
+
     private Pedido pedido;
     private Duration tempoDeEspera;
     private Duration tempoDeAtendimento;
     private Status status;
     private LocalTime inicio;
     private LocalTime fim;
+    /** Identificador do garçom responsável, ou 0 se o atendimento ainda não foi atribuído */
+    private int garcomId;
+
+    /** Fila que contém o atendimento, mantida pela própria {@link FilaDeAtendimento} (não é persistida) */
+    transient volatile FilaDeAtendimento<?> filaAtual;
+    /** Posição do atendimento no heap da fila atual, ou -1 se não estiver em nenhuma fila */
+    transient int posicaoNaFila = -1;
+    /** Ordem de entrada na fila atual, usada como desempate entre atendimentos de mesmo status */
+    transient long ordemNaFila;
 
     /**
      * Construtor do Atendimento.
@@ -62,10 +76,22 @@ public abstract class Atendimento {
      * @throws NullPointerException se {@code horaChegada} for nulo
      */
     public void iniciarAtendimento(LocalTime horaChegada) {
+        iniciarAtendimento(horaChegada, LocalTime.now(relogio));
+    }
+
+    /**
+     * Inicia o atendimento com um horário de início já conhecido, como ao recuperar o estado salvo.
+     *
+     * @param horaChegada horário de chegada do cliente ou grupo
+     * @param inicio      horário de início do atendimento
+     * @throws NullPointerException se {@code horaChegada} ou {@code inicio} forem nulos
+     */
+    public void iniciarAtendimento(LocalTime horaChegada, LocalTime inicio) {
         if (horaChegada == null) throw new NullPointerException("Hora de chegada não pode ser nula.");
-        this.inicio = LocalTime.now();
+        if (inicio == null) throw new NullPointerException("Início do atendimento não pode ser nulo.");
+        this.inicio = inicio;
         this.tempoDeEspera = Duration.between(horaChegada, inicio);
-        this.status = Status.EM_ATENDIMENTO;
+        alterarStatus(Status.EM_ATENDIMENTO);
     }
 
     /**
@@ -75,13 +101,47 @@ public abstract class Atendimento {
      * @throws NullPointerException se {@code inicio} não tiver sido inicializado
      */
     public Atendimento finalizarAtendimento() {
+        return finalizarAtendimento(LocalTime.now(relogio));
+    }
+
+    /**
+     * Finaliza o atendimento com um horário de fim já conhecido, como ao recuperar o estado salvo.
+     *
+     * @param fim horário de término do atendimento
+     * @return o próprio atendimento finalizado
+     * @throws NullPointerException se {@code inicio} não tiver sido inicializado ou {@code fim} for nulo
+     */
+    public Atendimento finalizarAtendimento(LocalTime fim) {
         if (inicio == null) throw new NullPointerException("O atendimento não foi iniciado.");
-        this.fim = LocalTime.now();
+        if (fim == null) throw new NullPointerException("Fim do atendimento não pode ser nulo.");
+        this.fim = fim;
         this.tempoDeAtendimento = Duration.between(inicio, fim);
-        this.status = Status.FINALIZADO;
+        alterarStatus(Status.FINALIZADO);
         return this;
     }
 
+    /**
+     * Altera o status do atendimento e notifica a fila que o contém, se houver.
+     *
+     * @param novoStatus novo status do atendimento
+     */
+    private void alterarStatus(Status novoStatus) {
+        FilaDeAtendimento<?> fila = filaAtual;
+        while (fila != null) {
+            // A troca é feita sob a trava da fila para manter o heap e os contadores consistentes
+            synchronized (fila) {
+                if (filaAtual == fila) {
+                    Status anterior = this.status;
+                    this.status = novoStatus;
+                    fila.statusAlterado(this, anterior);
+                    return;
+                }
+            }
+            fila = filaAtual;
+        }
+        this.status = novoStatus;
+    }
+
     /**
      * Calcula o tempo total entre o início e o fim do atendimento.
      *
@@ -93,6 +153,18 @@ public abstract class Atendimento {
         return Duration.between(inicio, fim);
     }
 
+    /**
+     * Define o relógio usado para registrar os horários dos atendimentos.
+     * Utilizado em simulações e benchmarks que controlam a passagem do tempo.
+     *
+     * @param novoRelogio relógio a ser utilizado (não pode ser nulo)
+     * @throws NullPointerException se o relógio for nulo
+     */
+    static void setRelogio(Clock novoRelogio) {
+        if (novoRelogio == null) throw new NullPointerException("Relógio não pode ser nulo.");
+        relogio = novoRelogio;
+    }
+
     public Pedido getPedido() {
         return pedido;
     }
@@ -116,4 +188,17 @@ public abstract class Atendimento {
     public LocalTime getFim() {
         return fim;
     }
+
+    public int getGarcomId() {
+        return garcomId;
+    }
+
+    /**
+     * Registra o garçom responsável pelo atendimento.
+     *
+     * @param garcomId identificador do garçom
+     */
+    void setGarcomId(int garcomId) {
+        this.garcomId = garcomId;
+    }
 }
\ No newline at end of file
@@ -1,6 +1,7 @@
 package com.example.model;
 
 import com.example.util.TipoCliente;
+import java.time.LocalTime;
 import java.util.List;
 
 /**
@@ -54,4 +55,23 @@ public interface Atendivel {
      * @throws UnsupportedOperationException se a implementação não suportar esta operação
      */
     List<String> getPreferencias();
+
+    /**
+     * Indica se o cliente ou grupo tem a preferência informada.
+     *
+     * @param preferencia preferência procurada
+     * @return true se a preferência estiver em {@link #getPreferencias()}
+     */
+    default boolean temPreferencia(String preferencia) {
+        return getPreferencias().contains(preferencia);
+    }
+
+    /**
+     * Retorna o horário de chegada do cliente ou grupo, usado para ordenar a fila de espera.
+     *
+     * @return horário de chegada ou {@code null} se não informado
+     */
+    default LocalTime getHoraChegada() {
+        return null;
+    }
 }
\ No newline at end of file
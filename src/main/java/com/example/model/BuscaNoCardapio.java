@@ -0,0 +1,136 @@
+package com.example.model;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Busca incremental de itens do cardápio pelo nome, para caixas de filtro que buscam a cada tecla digitada.
+ * <p>
+ * A consulta e os nomes são comparados sem acentos, cedilhas ou diferença entre maiúsculas e minúsculas
+ * ("pao" encontra "Pão de Queijo"), e um item é encontrado se o seu nome contiver a consulta. A primeira consulta
+ * usa o índice de trigramas do cardápio; enquanto o usuário continua digitando (a nova consulta contém a anterior),
+ * apenas os resultados anteriores são filtrados, em vez de recomeçar do cardápio inteiro. Se itens forem
+ * adicionados ao cardápio, a próxima consulta recomeça do índice.
+ * </p>
+ * <p>
+ * Os resultados são ordenados por relevância: primeiro os nomes que começam com a consulta, depois os que têm uma
+ * palavra começando com ela e por fim os demais; em cada grupo, os nomes mais curtos vêm antes e, entre nomes de
+ * mesmo tamanho, a ordem do cardápio é mantida. Uma consulta vazia devolve todos os itens na ordem do cardápio.
+ * </p>
+ * <p>
+ * Cada busca guarda o estado da última consulta e deve ser usada por uma única tela (thread) de cada vez.
+ * </p>
+ *
+ * <p><b>Uso típico:</b></p>
+ * <ol>
+ *   <li>Criar a busca com {@link Restaurante#novaBuscaNoCardapio()} ao abrir a tela.</li>
+ *   <li>A cada alteração no filtro, chamar {@link #buscarIds(String)} ou {@link #buscar(String)}.</li>
+ * </ol>
+ *
+ * @author Ana Luiza Freitas Brito Siqueira
+ * @author Bruno Campos Penha
+ * @author Grazielly de Sousa Barros
+ * @author João Gabriel Oliveira Magalhães
+ * @author João Vitor Moreira Lemos
+ * @author Robert Alves Guimarães
+ * @author Vinicius D’Oliveira Rocha
+ * @version 1.0
+ */
+public class BuscaNoCardapio {
+    private static final long NOME_COMECA_COM_A_CONSULTA = 0;
+    private static final long PALAVRA_COMECA_COM_A_CONSULTA = 1;
+    private static final long CONTEM_A_CONSULTA = 2;
+
+    private final Cardapio cardapio;
+    private final IndiceDeTrigramas indice;
+    /** Última consulta dobrada, ou vazia antes da primeira consulta */
+    private String consultaAnterior = "";
+    /** Identificadores encontrados pela última consulta, em ordem crescente */
+    private int[] encontradosAnteriores;
+    /** Quantidade de itens no índice na última consulta */
+    private int itensNaConsultaAnterior;
+
+    /**
+     * Cria uma busca sobre o cardápio informado.
+     *
+     * @param cardapio cardápio pesquisado
+     */
+    BuscaNoCardapio(Cardapio cardapio) {
+        this.cardapio = cardapio;
+        this.indice = cardapio.getIndice();
+    }
+
+    /**
+     * Busca os itens cujo nome contém a consulta, em ordem de relevância.
+     *
+     * @param consulta texto digitado (nulo ou vazio devolve todos os itens)
+     * @return itens encontrados, do mais relevante para o menos relevante
+     */
+    public List<ItemPedido> buscar(String consulta) {
+        int[] ids = buscarIds(consulta);
+        List<ItemPedido> itens = cardapio.getItens();
+        List<ItemPedido> encontrados = new ArrayList<>(ids.length);
+        for (int id : ids) {
+            encontrados.add(itens.get(id));
+        }
+        return encontrados;
+    }
+
+    /**
+     * Busca os identificadores dos itens cujo nome contém a consulta, em ordem de relevância.
+     *
+     * @param consulta texto digitado (nulo ou vazio devolve todos os identificadores)
+     * @return identificadores encontrados, do mais relevante para o menos relevante
+     */
+    public int[] buscarIds(String consulta) {
+        String dobrada = consulta == null ? "" : IndiceDeTrigramas.dobrar(consulta);
+        int itens = indice.tamanho();
+        if (dobrada.isEmpty()) {
+            consultaAnterior = "";
+            encontradosAnteriores = null;
+            int[] todos = new int[itens];
+            Arrays.setAll(todos, i -> i);
+            return todos;
+        }
+        int[] encontrados;
+        if (!consultaAnterior.isEmpty() && itens == itensNaConsultaAnterior && dobrada.contains(consultaAnterior)) {
+            // Todo nome que contém a nova consulta também contém a anterior
+            encontrados = dobrada.equals(consultaAnterior)
+                    ? encontradosAnteriores : indice.filtrar(dobrada, encontradosAnteriores);
+        } else {
+            encontrados = indice.buscar(dobrada);
+        }
+        consultaAnterior = dobrada;
+        encontradosAnteriores = encontrados;
+        itensNaConsultaAnterior = itens;
+        return ordenarPorRelevancia(dobrada, encontrados);
+    }
+
+    /**
+     * Ordena os identificadores por relevância, tamanho do nome e identificador, compondo cada critério em uma
+     * única chave {@code long} para ordenar sem criar objetos.
+     */
+    private int[] ordenarPorRelevancia(String consulta, int[] ids) {
+        long[] chaves = new long[ids.length];
+        for (int i = 0; i < ids.length; i++) {
+            String nome = indice.nome(ids[i]);
+            long tamanho = Math.min(nome.length(), 0xFFFFF);
+            chaves[i] = relevancia(nome, consulta) << 52 | tamanho << 32 | ids[i];
+        }
+        Arrays.sort(chaves);
+        int[] ordenados = new int[ids.length];
+        for (int i = 0; i < chaves.length; i++) {
+            ordenados[i] = (int) chaves[i];
+        }
+        return ordenados;
+    }
+
+    private static long relevancia(String nome, String consulta) {
+        if (nome.startsWith(consulta)) return NOME_COMECA_COM_A_CONSULTA;
+        for (int i = nome.indexOf(consulta); i > 0; i = nome.indexOf(consulta, i + 1)) {
+            if (!Character.isLetterOrDigit(nome.charAt(i - 1))) return PALAVRA_COMECA_COM_A_CONSULTA;
+        }
+        return CONTEM_A_CONSULTA;
+    }
+}
@@ -1,13 +1,30 @@
 package com.example.model;
 
-import java.util.ArrayList;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Classe que representa o cardápio do restaurante.
  * <p>
  * Responsável por armazenar e gerenciar os itens disponíveis para pedido.
  * </p>
+ * <p>
+ * Cada item recebe um identificador estável ao ser adicionado: a sua posição na lista de itens, que nunca muda,
+ * pois o cardápio é somente de acréscimo. Um índice de hash pelo nome normalizado (sem espaços nas pontas e em
+ * minúsculas) permite buscar itens pelo nome em tempo constante, sem diferenciar maiúsculas de minúsculas. Se
+ * houver itens com o mesmo nome, a busca pelo nome encontra o primeiro adicionado. Buscas por parte do nome, sem
+ * acentos, são feitas por uma {@link BuscaNoCardapio}, criada com {@link #novaBusca()}.
+ * </p>
+ * <p>
+ * Ao ser adicionado, o item recebe um {@link ModeloDeItem} com o seu identificador; os itens de pedido criados a
+ * partir dele compartilham esse modelo, em vez de copiar nome e preço.
+ * </p>
+ * <p>
+ * Acréscimos são serializados pela trava do cardápio; as buscas pelo nome ou identificador e a lista de itens
+ * podem ser consultadas concorrentemente, sem travas.
+ * </p>
  *
  * <p><b>Exceções possíveis:</b></p>
  * <ul>
@@ -17,8 +34,8 @@ import java.util.List;
  * <p><b>Uso típico:</b></p>
  * <ol>
  *   <li>Instanciar o cardápio.</li>
- *   <li>Adicionar itens usando {@link #adicionarItem(ItemPedido)}.</li>
- *   <li>Buscar itens pelo nome usando {@link #buscarItem(String)}.</li>
+ *   <li>Adicionar itens usando {@link #adicionarItem(ItemPedido)}, guardando o identificador devolvido.</li>
+ *   <li>Buscar itens pelo identificador usando {@link #buscarItem(int)} ou pelo nome usando {@link #buscarItem(String)}.</li>
  * </ol>
  *
  * @author Ana Luiza Freitas Brito Siqueira
@@ -31,34 +48,118 @@ import java.util.List;
  * @version 1.0
  */
 public class Cardapio {
-    private List<ItemPedido> itens;
+    private final ListaVersionada<ItemPedido> itens;
+    /** Identificador do primeiro item de cada nome normalizado */
+    private final Map<String, Integer> idsPorNome;
+    /** Índice de trigramas dos nomes sem acentos, usado pelas buscas incrementais */
+    private final IndiceDeTrigramas indice;
+    private int quantidade;
 
     /**
      * Construtor do Cardápio.
-     * Inicializa a lista de itens.
+     * Inicializa a lista de itens e o índice por nome.
      */
     public Cardapio() {
-        this.itens = new ArrayList<>();
+        this.itens = new ListaVersionada<>();
+        this.idsPorNome = new ConcurrentHashMap<>();
+        this.indice = new IndiceDeTrigramas();
     }
 
     /**
      * Adiciona um item ao cardápio.
      *
      * @param item o item a ser adicionado (não pode ser nulo)
+     * @return identificador do item no cardápio
      * @throws NullPointerException se o item for nulo
      */
-    public void adicionarItem(ItemPedido item) {
+    public synchronized int adicionarItem(ItemPedido item) {
         if (item == null) throw new NullPointerException("Item do cardápio não pode ser nulo.");
-        itens.add(item);
+        int id = quantidade++;
+        item.associarAoCardapio(id);
+        // O item entra na lista antes do índice, para que todo identificador indexado já esteja na lista
+        itens.adicionar(item);
+        idsPorNome.putIfAbsent(normalizar(item.getNome()), id);
+        indice.adicionar(id, item.getNome());
+        return id;
     }
 
     /**
-     * Busca um item pelo nome no cardápio.
+     * Busca um item pelo nome no cardápio, sem diferenciar maiúsculas de minúsculas.
      *
      * @param nome nome do item a ser buscado
      * @return o item encontrado ou {@code null} se não existir
      */
     public ItemPedido buscarItem(String nome) {
-        return itens.stream().filter(i -> i.getNome().equalsIgnoreCase(nome)).findFirst().orElse(null);
+        int id = buscarId(nome);
+        return id >= 0 ? itens.visao().get(id) : null;
+    }
+
+    /**
+     * Busca um item pelo identificador.
+     *
+     * @param id identificador do item, devolvido por {@link #adicionarItem(ItemPedido)}
+     * @return o item encontrado ou {@code null} se não existir
+     */
+    public ItemPedido buscarItem(int id) {
+        List<ItemPedido> atuais = itens.visao();
+        return id >= 0 && id < atuais.size() ? atuais.get(id) : null;
+    }
+
+    /**
+     * Busca o identificador de um item pelo nome, sem diferenciar maiúsculas de minúsculas.
+     *
+     * @param nome nome do item a ser buscado
+     * @return identificador do item, ou {@code -1} se não existir
+     */
+    public int buscarId(String nome) {
+        if (nome == null) return -1;
+        Integer id = idsPorNome.get(normalizar(nome));
+        return id != null ? id : -1;
+    }
+
+    /**
+     * Busca o modelo do item do cardápio com exatamente o nome e o preço informados, para ser compartilhado por
+     * itens de pedido recriados a partir desses dados.
+     *
+     * @param nome            nome do item
+     * @param precoEmCentavos preço unitário, em centavos
+     * @return modelo do item, ou {@code null} se não houver item com o mesmo nome e preço
+     */
+    public ModeloDeItem buscarModelo(String nome, long precoEmCentavos) {
+        ItemPedido item = buscarItem(nome);
+        return item != null && item.getModelo().tem(nome, precoEmCentavos) ? item.getModelo() : null;
+    }
+
+    /**
+     * Cria uma busca incremental pelos nomes dos itens, sem diferenciar acentos nem maiúsculas de minúsculas.
+     *
+     * @return nova busca sobre este cardápio
+     */
+    public BuscaNoCardapio novaBusca() {
+        return new BuscaNoCardapio(this);
+    }
+
+    /**
+     * Retorna os itens do cardápio; a posição de cada item na lista é o seu identificador.
+     * A lista é uma visão imutável, recriada somente quando um item é adicionado.
+     *
+     * @return lista imutável de itens, na ordem em que foram adicionados
+     */
+    public List<ItemPedido> getItens() {
+        return itens.visao();
+    }
+
+    IndiceDeTrigramas getIndice() {
+        return indice;
+    }
+
+    /**
+     * Normaliza o nome de um item para o índice: sem espaços nas pontas e em minúsculas.
+     *
+     * @param nome nome do item
+     * @return chave normalizada
+     */
+    static String normalizar(String nome) {
+        return nome.strip().toLowerCase(Locale.ROOT);
     }
 }
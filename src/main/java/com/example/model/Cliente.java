@@ -4,6 +4,7 @@ import com.example.util.TipoCliente;
 
 import java.time.LocalTime;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
 /**
@@ -11,6 +12,16 @@ import java.util.List;
  * <p>
  * Implementa {@link Atendivel} para permitir o atendimento tanto individualmente quanto em grupo.
  * </p>
+ * <p>
+ * A maioria dos clientes não tem preferências, e grupos podem ter dezenas de membros criados apenas para a
+ * contagem de pessoas; por isso a lista de preferências só é criada na primeira preferência adicionada. Até lá,
+ * {@link #getPreferencias()} devolve uma lista vazia compartilhada, somente de leitura.
+ * </p>
+ * <p>
+ * Um cliente pertence a no máximo um {@link GrupoClientes}, que é avisado das preferências adicionadas e removidas
+ * para manter as preferências agregadas do grupo. Para entrar em outro grupo, o cliente precisa antes ser removido
+ * do atual.
+ * </p>
  *
  * <p><b>Exceções possíveis:</b></p>
  * <ul>
@@ -35,10 +46,17 @@ import java.util.List;
  * @version 1.0
  */
 public class Cliente implements Atendivel {
+    private static final List<String> SEM_PREFERENCIAS = Collections.emptyList();
+
     private int id;
     private String nome;
     private TipoCliente tipo;
+    /** Preferências do cliente, ou {@code null} até a primeira ser adicionada */
     private List<String> preferencias;
+    /** Visão somente de leitura das preferências, criada com a lista */
+    private List<String> visaoDasPreferencias;
+    /** Grupo do qual o cliente é membro, avisado das mudanças nas preferências (não é persistido) */
+    private transient GrupoClientes grupo;
     private LocalTime horaChegada;
     private String observacoesGerais;
 
@@ -56,7 +74,6 @@ public class Cliente implements Atendivel {
         this.id = id;
         this.nome = nome;
         this.tipo = tipo;
-        this.preferencias = new ArrayList<>();
         this.observacoesGerais = "";
     }
 
@@ -74,9 +91,14 @@ public class Cliente implements Atendivel {
         return tipo;
     }
 
+    /**
+     * Retorna as preferências do cliente, na ordem em que foram adicionadas.
+     *
+     * @return preferências do cliente, somente de leitura
+     */
     @Override
     public List<String> getPreferencias() {
-        return preferencias;
+        return visaoDasPreferencias != null ? visaoDasPreferencias : SEM_PREFERENCIAS;
     }
 
     /**
@@ -87,7 +109,12 @@ public class Cliente implements Atendivel {
      */
     public void adicionarPreferencia(String item) {
         if (item == null) throw new NullPointerException("Preferência não pode ser nula.");
+        if (preferencias == null) {
+            preferencias = new ArrayList<>(2);
+            visaoDasPreferencias = Collections.unmodifiableList(preferencias);
+        }
         preferencias.add(item);
+        if (grupo != null) grupo.preferenciaAdicionada(item);
     }
 
     /**
@@ -98,9 +125,23 @@ public class Cliente implements Atendivel {
      */
     public void removerPreferencia(String item) {
         if (item == null) throw new NullPointerException("Preferência não pode ser nula.");
-        preferencias.remove(item);
+        if (preferencias != null && preferencias.remove(item) && grupo != null) {
+            grupo.preferenciaRemovida(item);
+        }
     }
 
+    /**
+     * Define o grupo do qual o cliente é membro.
+     *
+     * @param grupo grupo do cliente, ou {@code null} ao sair do grupo
+     * @throws IllegalArgumentException se o cliente já pertencer a um grupo
+     */
+    void setGrupo(GrupoClientes grupo) {
+        if (grupo != null && this.grupo != null) throw new IllegalArgumentException("Cliente já pertence a um grupo.");
+        this.grupo = grupo;
+    }
+
+    @Override
     public LocalTime getHoraChegada() {
         return horaChegada;
     }
@@ -2,17 +2,32 @@ package com.example.model;
 
 import com.example.util.Status;
 
-import java.util.*;
+import java.util.AbstractQueue;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Queue;
 
 /**
  * Classe que representa uma fila de atendimentos no restaurante.
  * <p>
- * Utiliza uma {@link PriorityQueue} para gerenciar a ordem dos atendimentos com base no status.
+ * Utiliza um heap binário indexado para gerenciar a ordem dos atendimentos com base no status e,
+ * entre atendimentos de mesmo status, na ordem de entrada na fila. Cada {@link Atendimento} guarda sua
+ * posição no heap, de modo que remover um atendimento específico ou reposicioná-lo após uma mudança
+ * de status custa O(log n), sem reconstruir a fila. A fila também mantém a quantidade de atendimentos
+ * por status, atualizada a cada inserção, remoção e mudança de status.
+ * </p>
+ * <p>
+ * Cada fila possui sua própria trava: as operações são sincronizadas na instância da fila e a iteração
+ * por {@link #getFila()} percorre uma cópia, permitindo que vários terminais usem filas distintas sem disputa.
  * </p>
  *
  * <p><b>Exceções possíveis:</b></p>
  * <ul>
- *   <li>{@link NullPointerException} - Lançada ao tentar adicionar ou remover um atendimento nulo.</li>
+ *   <li>{@link NullPointerException} - Lançada ao tentar adicionar, remover ou reposicionar um atendimento nulo,
+ *   ou ao contar atendimentos de um status nulo.</li>
+ *   <li>{@link IllegalArgumentException} - Lançada ao adicionar um atendimento que já pertence a uma fila.</li>
  * </ul>
  *
  * <p><b>Uso típico:</b></p>
@@ -31,14 +46,22 @@ import java.util.*;
  * @version 1.0
  */
 public class FilaDeAtendimento<T extends Atendimento> {
-    private PriorityQueue<Atendimento> fila;
+    private Atendimento[] heap;
+    private int tamanho;
+    private long proximaOrdem;
+    /** Quantidade de atendimentos na fila por status, indexada por {@link Status#ordinal()} */
+    private final int[] contagemPorStatus;
+
+    /** Visão somente de consulta da fila (não é persistida) */
+    private transient Queue<Atendimento> visao;
 
     /**
      * Construtor da fila de atendimento.
      * Inicializa a fila com ordenação baseada no status do atendimento.
      */
     public FilaDeAtendimento() {
-        this.fila = new PriorityQueue<>(Comparator.comparing(a -> a.getStatus().ordinal()));
+        this.heap = new Atendimento[8];
+        this.contagemPorStatus = new int[Status.values().length];
     }
 
     /**
@@ -46,10 +69,19 @@ public class FilaDeAtendimento<T extends Atendimento> {
      *
      * @param atendimento atendimento a ser adicionado (não pode ser nulo)
      * @throws NullPointerException se o atendimento for nulo
+     * @throws IllegalArgumentException se o atendimento já pertencer a uma fila
      */
-    public void adicionarAtendimento(Atendimento atendimento) {
+    public synchronized void adicionarAtendimento(Atendimento atendimento) {
         if (atendimento == null) throw new NullPointerException("Atendimento não pode ser nulo.");
-        fila.add(atendimento);
+        if (atendimento.filaAtual != null) throw new IllegalArgumentException("Atendimento já pertence a uma fila.");
+        if (tamanho == heap.length) {
+            heap = Arrays.copyOf(heap, tamanho * 2);
+        }
+        atendimento.filaAtual = this;
+        atendimento.ordemNaFila = proximaOrdem++;
+        contagemPorStatus[atendimento.getStatus().ordinal()]++;
+        colocar(tamanho++, atendimento);
+        subir(atendimento.posicaoNaFila);
     }
 
     /**
@@ -57,38 +89,88 @@ public class FilaDeAtendimento<T extends Atendimento> {
      *
      * @return o atendimento removido ou {@code null} se a fila estiver vazia
      */
-    public Atendimento removerAtendimento() {
-        return fila.poll();
+    public synchronized Atendimento removerAtendimento() {
+        if (tamanho == 0) return null;
+        Atendimento primeiro = heap[0];
+        removerPosicao(0);
+        return primeiro;
     }
 
     /**
-     * Remove um atendimento específico da fila e reordena a fila.
+     * Remove um atendimento específico da fila em O(log n).
      *
      * @param atendimento atendimento a ser removido (não pode ser nulo)
      * @throws NullPointerException se o atendimento for nulo
      */
-    public void removerAtendimentoEspecifico(Atendimento atendimento) {
+    public synchronized void removerAtendimentoEspecifico(Atendimento atendimento) {
         if (atendimento == null) throw new NullPointerException("Atendimento não pode ser nulo.");
-        fila.remove(atendimento);
-        reordenarFila();
+        if (atendimento.filaAtual == this) {
+            removerPosicao(atendimento.posicaoNaFila);
+        }
+    }
+
+    /**
+     * Reposiciona um atendimento da fila após a mudança do seu status, em O(log n).
+     * Chamado automaticamente pelo {@link Atendimento} ao iniciar ou finalizar.
+     *
+     * @param atendimento atendimento cujo status foi alterado (não pode ser nulo)
+     * @throws NullPointerException se o atendimento for nulo
+     */
+    public synchronized void reposicionarAtendimento(Atendimento atendimento) {
+        if (atendimento == null) throw new NullPointerException("Atendimento não pode ser nulo.");
+        if (atendimento.filaAtual == this) {
+            int posicao = atendimento.posicaoNaFila;
+            if (subir(posicao) == posicao) {
+                descer(posicao);
+            }
+        }
+    }
+
+    /**
+     * Atualiza os contadores e a posição de um atendimento da fila após a mudança do seu status.
+     * Chamado pelo {@link Atendimento} ao iniciar ou finalizar.
+     *
+     * @param atendimento     atendimento cujo status foi alterado
+     * @param statusAnterior status anterior à mudança
+     */
+    synchronized void statusAlterado(Atendimento atendimento, Status statusAnterior) {
+        if (atendimento.filaAtual != this) return;
+        contagemPorStatus[statusAnterior.ordinal()]--;
+        contagemPorStatus[atendimento.getStatus().ordinal()]++;
+        reposicionarAtendimento(atendimento);
     }
 
     /**
-     * Conta o número de atendimentos ativos (não finalizados) na fila.
+     * Conta o número de atendimentos ativos (não finalizados) na fila, em tempo constante.
      *
      * @return quantidade de atendimentos ativos
      */
-    public int contarAtendimentosAtivos() {
-        return (int) fila.stream()
-                .filter(a -> a.getStatus() != Status.FINALIZADO)
-                .count();
+    public synchronized int contarAtendimentosAtivos() {
+        return tamanho - contagemPorStatus[Status.FINALIZADO.ordinal()];
+    }
+
+    /**
+     * Conta o número de atendimentos da fila com o status informado, em tempo constante.
+     *
+     * @param status status consultado (não pode ser nulo)
+     * @return quantidade de atendimentos com o status
+     * @throws NullPointerException se o status for nulo
+     */
+    public synchronized int contarPorStatus(Status status) {
+        if (status == null) throw new NullPointerException("Status não pode ser nulo.");
+        return contagemPorStatus[status.ordinal()];
     }
 
     /**
      * Remove todos os atendimentos da fila.
      */
-    public void limparFila() {
-        fila.clear();
+    public synchronized void limparFila() {
+        for (int i = 0; i < tamanho; i++) {
+            desvincular(heap[i]);
+            heap[i] = null;
+        }
+        tamanho = 0;
+        Arrays.fill(contagemPorStatus, 0);
     }
 
     /**
@@ -96,25 +178,178 @@ public class FilaDeAtendimento<T extends Atendimento> {
      *
      * @return quantidade de atendimentos na fila
      */
-    public int tamanho() {
-        return fila.size();
+    public synchronized int tamanho() {
+        return tamanho;
     }
 
     /**
-     * Reordena a fila de acordo com o comparador de status.
+     * Reconstrói a ordem do heap em O(n).
+     * Não é necessário no fluxo normal, pois os atendimentos se reposicionam ao mudar de status.
      */
-    public void reordenarFila() {
-        List<Atendimento> lista = new ArrayList<>(fila);
-        fila.clear();
-        fila.addAll(lista);
+    public synchronized void reordenarFila() {
+        for (int i = (tamanho >>> 1) - 1; i >= 0; i--) {
+            descer(i);
+        }
     }
 
     /**
-     * Retorna a fila interna de atendimentos.
+     * Retorna uma cópia dos atendimentos da fila em ordem de prioridade: por status e, no mesmo status, por ordem
+     * de entrada na fila. A cópia é ordenada em O(n log n) sem alterar o heap, de modo que remover um atendimento
+     * não muda a posição relativa dos demais.
+     *
+     * @return atendimentos da fila, do primeiro ao último na ordem de prioridade
+     */
+    public synchronized List<Atendimento> listarEmOrdem() {
+        Atendimento[] copia = Arrays.copyOf(heap, tamanho);
+        Arrays.sort(copia, FilaDeAtendimento::comparar);
+        return Arrays.asList(copia);
+    }
+
+    /**
+     * Retorna uma visão de consulta dos atendimentos da fila.
+     * <p>
+     * A visão reflete o estado atual da fila. Suas operações {@code offer}, {@code poll} e {@code remove}
+     * delegam para a fila; {@code contains} executa em tempo constante. A iteração não segue a ordem de prioridade;
+     * para exibir os atendimentos em ordem, use {@link #listarEmOrdem()}.
+     * </p>
      *
      * @return fila de atendimentos
      */
-    public PriorityQueue<Atendimento> getFila() {
-        return fila;
+    public Queue<Atendimento> getFila() {
+        if (visao == null) {
+            visao = new Visao();
+        }
+        return visao;
+    }
+
+    private void removerPosicao(int posicao) {
+        Atendimento removido = heap[posicao];
+        contagemPorStatus[removido.getStatus().ordinal()]--;
+        int ultima = --tamanho;
+        if (posicao != ultima) {
+            colocar(posicao, heap[ultima]);
+            heap[ultima] = null;
+            if (subir(posicao) == posicao) {
+                descer(posicao);
+            }
+        } else {
+            heap[ultima] = null;
+        }
+        desvincular(removido);
+    }
+
+    private int subir(int posicao) {
+        Atendimento atendimento = heap[posicao];
+        while (posicao > 0) {
+            int pai = (posicao - 1) >>> 1;
+            if (comparar(atendimento, heap[pai]) >= 0) break;
+            colocar(posicao, heap[pai]);
+            posicao = pai;
+        }
+        colocar(posicao, atendimento);
+        return posicao;
+    }
+
+    private void descer(int posicao) {
+        Atendimento atendimento = heap[posicao];
+        int metade = tamanho >>> 1;
+        while (posicao < metade) {
+            int filho = 2 * posicao + 1;
+            int direito = filho + 1;
+            if (direito < tamanho && comparar(heap[direito], heap[filho]) < 0) {
+                filho = direito;
+            }
+            if (comparar(atendimento, heap[filho]) <= 0) break;
+            colocar(posicao, heap[filho]);
+            posicao = filho;
+        }
+        colocar(posicao, atendimento);
+    }
+
+    private void colocar(int posicao, Atendimento atendimento) {
+        heap[posicao] = atendimento;
+        atendimento.posicaoNaFila = posicao;
+    }
+
+    private static void desvincular(Atendimento atendimento) {
+        atendimento.filaAtual = null;
+        atendimento.posicaoNaFila = -1;
+    }
+
+    /**
+     * Ordena pelo status do atendimento e, em caso de empate, pela ordem de entrada na fila.
+     */
+    private static int comparar(Atendimento a, Atendimento b) {
+        int porStatus = Integer.compare(a.getStatus().ordinal(), b.getStatus().ordinal());
+        return porStatus != 0 ? porStatus : Long.compare(a.ordemNaFila, b.ordemNaFila);
+    }
+
+    /**
+     * Visão da fila compatível com {@link Queue}, sem cópia dos elementos.
+     */
+    private class Visao extends AbstractQueue<Atendimento> {
+        @Override
+        public boolean offer(Atendimento atendimento) {
+            adicionarAtendimento(atendimento);
+            return true;
+        }
+
+        @Override
+        public Atendimento poll() {
+            return removerAtendimento();
+        }
+
+        @Override
+        public Atendimento peek() {
+            synchronized (FilaDeAtendimento.this) {
+                return tamanho == 0 ? null : heap[0];
+            }
+        }
+
+        @Override
+        public int size() {
+            return tamanho();
+        }
+
+        @Override
+        public boolean contains(Object o) {
+            return o instanceof Atendimento a && a.filaAtual == FilaDeAtendimento.this;
+        }
+
+        @Override
+        public boolean remove(Object o) {
+            synchronized (FilaDeAtendimento.this) {
+                if (!contains(o)) return false;
+                removerAtendimentoEspecifico((Atendimento) o);
+                return true;
+            }
+        }
+
+        @Override
+        public void clear() {
+            limparFila();
+        }
+
+        @Override
+        public Iterator<Atendimento> iterator() {
+            Atendimento[] copia;
+            synchronized (FilaDeAtendimento.this) {
+                copia = Arrays.copyOf(heap, tamanho);
+            }
+            return new Iterator<>() {
+                private int proximo;
+
+                @Override
+                public boolean hasNext() {
+                    return proximo < copia.length;
+                }
+
+                @Override
+                public Atendimento next() {
+                    if (proximo >= copia.length) throw new NoSuchElementException();
+                    return copia[proximo++];
+                }
+            };
+        }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,253 @@
+package com.example.model;
+
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.example.util.TipoCliente;
+
+/**
+ * Classe que representa a fila de espera geral do restaurante, compartilhada entre vários terminais.
+ * <p>
+ * A fila é mantida sempre ordenada: clientes e grupos prioritários primeiro e, dentro da mesma
+ * prioridade, por horário de chegada ({@link Atendivel#getHoraChegada()}, sem horário ao final) e ordem de inserção.
+ * A chave de ordenação é registrada na inserção, em O(log n), e o próximo da fila é consultado em O(1),
+ * dispensando reordenações completas.
+ * </p>
+ * <p>
+ * Por ser registrada na inserção, a chave não acompanha sozinha um grupo que muda de prioridade enquanto espera
+ * (por exemplo, ao receber um membro prioritário). Quem altera os membros de um grupo na fila deve chamar
+ * {@link #atualizarPrioridade(Atendivel)}, que reposiciona o grupo mantendo seu horário e ordem de chegada.
+ * </p>
+ * <p>
+ * Utiliza um {@link ConcurrentSkipListSet} sem bloqueios, permitindo que clientes sejam adicionados,
+ * retirados e devolvidos por várias threads ao mesmo tempo, sem perda nem duplicação.
+ * A estrutura interna não é exposta; consultas para exibição recebem uma cópia.
+ * </p>
+ *
+ * <p><b>Exceções possíveis:</b></p>
+ * <ul>
+ *   <li>{@link NullPointerException} - Lançada ao tentar adicionar ou devolver um atendível nulo.</li>
+ * </ul>
+ *
+ * <p><b>Uso típico:</b></p>
+ * <ol>
+ *   <li>Adicionar clientes ou grupos com {@link #adicionar(Atendivel)} ao registrar sua chegada.</li>
+ *   <li>Retirar o próximo com {@link #retirarProximo()} ao iniciar um atendimento.</li>
+ *   <li>Devolver com {@link #devolverAoInicio(Atendivel)} caso o atendimento não possa ser iniciado.</li>
+ * </ol>
+ *
+ * @author Ana Luiza Freitas Brito Siqueira
+ * @author Bruno Campos Penha
+ * @author Grazielly de Sousa Barros
+ * @author João Gabriel Oliveira Magalhães
+ * @author João Vitor Moreira Lemos
+ * @author Robert Alves Guimarães
+ * @author Vinicius D’Oliveira Rocha
+ * @version 1.0
+ */
+public class FilaDeEspera {
+    private static final Comparator<Entrada> ORDEM = Comparator
+            .comparingInt(Entrada::classe)
+            .thenComparing(Entrada::devolvida, Comparator.reverseOrder())
+            .thenComparing(Entrada::horaChegada, Comparator.nullsLast(Comparator.naturalOrder()))
+            .thenComparingLong(Entrada::sequencia);
+
+    private final ConcurrentSkipListSet<Entrada> fila;
+    /** Tamanho mantido à parte, pois {@link ConcurrentSkipListSet#size()} percorre toda a fila */
+    private final AtomicInteger tamanho;
+    /** Desempata inserções; devoluções usam valores decrescentes para ficarem à frente */
+    private final AtomicLong sequencia;
+    /** Ouvinte notificado a cada entrada e saída, ou {@code null} */
+    private final OuvinteDaFilaDeEspera ouvinte;
+
+    /**
+     * Posição de um atendível na fila, com a chave de ordenação capturada no momento da inserção.
+     *
+     * @param classe 0 para prioritário, 1 para comum
+     * @param devolvida true se o atendível foi devolvido ao início da fila
+     * @param horaChegada horário de chegada, ou {@code null} se ausente ou devolvida
+     * @param sequencia desempate único
+     * @param atendivel cliente ou grupo
+     */
+    private record Entrada(int classe, boolean devolvida, LocalTime horaChegada, long sequencia, Atendivel atendivel) {
+    }
+
+    /**
+     * Construtor da fila de espera.
+     */
+    public FilaDeEspera() {
+        this(null);
+    }
+
+    /**
+     * Construtor da fila de espera com ouvinte das entradas e saídas.
+     *
+     * @param ouvinte ouvinte a ser notificado (pode ser nulo)
+     */
+    FilaDeEspera(OuvinteDaFilaDeEspera ouvinte) {
+        this.fila = new ConcurrentSkipListSet<>(ORDEM);
+        this.tamanho = new AtomicInteger();
+        this.sequencia = new AtomicLong();
+        this.ouvinte = ouvinte;
+    }
+
+    private Entrada novaEntrada(Atendivel atendivel, boolean devolvida) {
+        if (atendivel == null) throw new NullPointerException("Atendível não pode ser nulo.");
+        int classe = classe(atendivel);
+        long seq = devolvida ? -sequencia.incrementAndGet() : sequencia.incrementAndGet();
+        // Devoluções ignoram o horário para que a última devolvida seja a próxima da sua prioridade
+        LocalTime hora = devolvida ? null : atendivel.getHoraChegada();
+        return new Entrada(classe, devolvida, hora, seq, atendivel);
+    }
+
+    private static int classe(Atendivel atendivel) {
+        return atendivel.getTipoCliente() == TipoCliente.PRIORITARIO ? 0 : 1;
+    }
+
+    /**
+     * Adiciona um cliente ou grupo na posição correspondente à sua prioridade e horário de chegada.
+     *
+     * @param atendivel cliente ou grupo (não pode ser nulo)
+     * @throws NullPointerException se o atendível for nulo
+     */
+    public void adicionar(Atendivel atendivel) {
+        fila.add(novaEntrada(atendivel, false));
+        tamanho.incrementAndGet();
+        if (ouvinte != null) ouvinte.entrou(atendivel, false);
+    }
+
+    /**
+     * Remove e retorna o próximo cliente ou grupo da fila.
+     *
+     * @return próximo atendível ou {@code null} se a fila estiver vazia
+     */
+    public Atendivel retirarProximo() {
+        Entrada proxima = fila.pollFirst();
+        if (proxima == null) {
+            return null;
+        }
+        tamanho.decrementAndGet();
+        if (ouvinte != null) ouvinte.saiu(proxima.atendivel());
+        return proxima.atendivel();
+    }
+
+    /**
+     * Devolve um cliente ou grupo retirado que não pôde ser atendido, à frente dos demais de mesma prioridade.
+     *
+     * @param atendivel cliente ou grupo (não pode ser nulo)
+     * @throws NullPointerException se o atendível for nulo
+     */
+    public void devolverAoInicio(Atendivel atendivel) {
+        fila.add(novaEntrada(atendivel, true));
+        tamanho.incrementAndGet();
+        if (ouvinte != null) ouvinte.entrou(atendivel, true);
+    }
+
+    /**
+     * Remove da fila um cliente ou grupo específico, em qualquer posição.
+     *
+     * @param atendivel cliente ou grupo a ser removido
+     * @return true se estava na fila e foi removido, false caso contrário
+     */
+    public boolean remover(Atendivel atendivel) {
+        if (atendivel == null) return false;
+        for (Entrada entrada : fila) {
+            if (entrada.atendivel() == atendivel && fila.remove(entrada)) {
+                tamanho.decrementAndGet();
+                if (ouvinte != null) ouvinte.saiu(atendivel);
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Reposiciona um cliente ou grupo cuja prioridade mudou enquanto aguardava, como um grupo que recebeu ou perdeu
+     * um membro prioritário. O horário, a ordem de chegada e a condição de devolvido são mantidos; apenas a
+     * prioridade da chave é recalculada. O ouvinte não é notificado, pois o atendível não sai da fila.
+     *
+     * @param atendivel cliente ou grupo a ser reposicionado
+     * @return true se o atendível estava na fila e mudou de posição, false caso contrário
+     */
+    public boolean atualizarPrioridade(Atendivel atendivel) {
+        if (atendivel == null) return false;
+        int classe = classe(atendivel);
+        for (Entrada entrada : fila) {
+            if (entrada.atendivel() == atendivel) {
+                if (entrada.classe() == classe || !fila.remove(entrada)) return false;
+                fila.add(new Entrada(classe, entrada.devolvida(), entrada.horaChegada(), entrada.sequencia(), atendivel));
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Retorna o próximo cliente ou grupo sem removê-lo.
+     *
+     * @return próximo atendível ou {@code null} se a fila estiver vazia
+     */
+    public Atendivel consultarProximo() {
+        try {
+            return fila.first().atendivel();
+        } catch (NoSuchElementException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Verifica se o cliente ou grupo está na fila.
+     *
+     * @param atendivel atendível procurado
+     * @return true se estiver na fila, false caso contrário
+     */
+    public boolean contem(Atendivel atendivel) {
+        if (atendivel == null) {
+            return false;
+        }
+        for (Entrada entrada : fila) {
+            if (entrada.atendivel() == atendivel) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Retorna a quantidade de clientes e grupos na fila.
+     *
+     * @return tamanho da fila
+     */
+    public int tamanho() {
+        return Math.max(0, tamanho.get());
+    }
+
+    /**
+     * Verifica se a fila está vazia.
+     *
+     * @return true se não houver ninguém aguardando, false caso contrário
+     */
+    public boolean estaVazia() {
+        return fila.isEmpty();
+    }
+
+    /**
+     * Retorna uma cópia da fila, na ordem de atendimento, para exibição.
+     *
+     * @return lista somente leitura dos atendíveis aguardando
+     */
+    public List<Atendivel> listar() {
+        List<Atendivel> copia = new ArrayList<>(tamanho());
+        for (Entrada entrada : fila) {
+            copia.add(entrada.atendivel());
+        }
+        return Collections.unmodifiableList(copia);
+    }
+}
@@ -7,10 +7,14 @@ import com.example.util.Turno;
  * <p>
  * Responsável por gerenciar os atendimentos individuais e em grupo, além de controlar o turno e limites de atendimento.
  * </p>
+ * <p>
+ * As operações que alteram as filas são sincronizadas no próprio garçom, de modo que a verificação do limite
+ * e a inclusão do atendimento ocorram juntas mesmo com vários terminais atendendo ao mesmo tempo.
+ * </p>
  *
  * <p><b>Exceções possíveis:</b></p>
  * <ul>
- *   <li>{@link IllegalArgumentException} - Lançada ao criar um garçom com nome nulo ou vazio.</li>
+ *   <li>{@link IllegalArgumentException} - Lançada ao criar um garçom com nome nulo ou vazio ou ao retomar um atendimento que já pertence a uma fila.</li>
  *   <li>{@link NullPointerException} - Pode ser lançada ao tentar acessar métodos de objetos nulos (ex: cliente ou grupo nulo).</li>
  * </ul>
  *
@@ -18,7 +22,7 @@ import com.example.util.Turno;
  * <ol>
  *   <li>Instanciar um garçom com id, nome e turno.</li>
  *   <li>Chamar métodos para atender clientes individuais ou grupos, respeitando os limites.</li>
- *   <li>Remover atendimentos finalizados e reordenar filas conforme necessário.</li>
+ *   <li>Remover atendimentos finalizados; as filas se mantêm ordenadas automaticamente.</li>
  * </ol>
  *
  * @author Ana Luiza Freitas Brito Siqueira
@@ -33,11 +37,14 @@ import com.example.util.Turno;
 public class Garcom {
     private final int id;
     private final String nome;
-    private Turno turnoAtual;
+    private volatile Turno turnoAtual;
 
     private final FilaDeAtendimento<AtendimentoIndividual> filaAtendimentoIndividual;
     private final FilaDeAtendimento<AtendimentoGrupo> filaAtendimentoGrupo;
 
+    /** Ouvinte notificado a cada alteração nas filas (não é persistido) */
+    private transient OuvinteDoGarcom ouvinte;
+
     /**
      * Construtor do Garcom.
      *
@@ -60,7 +67,7 @@ public class Garcom {
      *
      * @return true se pode atender mais, false caso contrário
      */
-    public boolean podeAtenderMaisClientesIndividuais() {
+    public synchronized boolean podeAtenderMaisClientesIndividuais() {
         return filaAtendimentoIndividual.tamanho() < 5;
     }
 
@@ -69,44 +76,56 @@ public class Garcom {
      *
      * @return true se pode atender mais, false caso contrário
      */
-    public boolean podeAtenderMaisGrupos() {
+    public synchronized boolean podeAtenderMaisGrupos() {
         return filaAtendimentoGrupo.tamanho() < 3;
     }
 
     /**
-     * Inicia o atendimento de um cliente individual.
+     * Inicia o atendimento de um cliente individual, se o garçom ainda tiver vaga.
+     * A verificação do limite e a inclusão são feitas juntas, sob a trava do garçom.
      *
      * @param cliente cliente a ser atendido (não pode ser nulo)
+     * @return true se o atendimento foi iniciado, false se o limite de clientes individuais já foi atingido
      * @throws NullPointerException se o cliente for nulo
      */
-    public void atenderCliente(Cliente cliente) {
+    public synchronized boolean atenderCliente(Cliente cliente) {
         if (cliente == null) throw new NullPointerException("Cliente não pode ser nulo.");
         if (!podeAtenderMaisClientesIndividuais()) {
             System.out.println("Limite de atendimentos individuais atingido.");
-            return;
+            return false;
         }
         Pedido pedido = new Pedido();
         AtendimentoIndividual atendimento = new AtendimentoIndividual(cliente, pedido);
         atendimento.iniciarAtendimento(cliente.getHoraChegada());
+        atendimento.setGarcomId(id);
         filaAtendimentoIndividual.adicionarAtendimento(atendimento);
+        if (ouvinte != null) ouvinte.atendimentoIniciado(this, atendimento);
+        notificarCapacidade();
+        return true;
     }
 
     /**
-     * Inicia o atendimento de um grupo de clientes.
+     * Inicia o atendimento de um grupo de clientes, se o garçom ainda tiver vaga.
+     * A verificação do limite e a inclusão são feitas juntas, sob a trava do garçom.
      *
      * @param grupo grupo de clientes a ser atendido (não pode ser nulo)
+     * @return true se o atendimento foi iniciado, false se o limite de grupos já foi atingido
      * @throws NullPointerException se o grupo for nulo
      */
-    public void atenderGrupo(GrupoClientes grupo) {
+    public synchronized boolean atenderGrupo(GrupoClientes grupo) {
         if (grupo == null) throw new NullPointerException("Grupo de clientes não pode ser nulo.");
         if (!podeAtenderMaisGrupos()) {
             System.out.println("Limite de atendimentos em grupo atingido.");
-            return;
+            return false;
         }
         Pedido pedido = new Pedido();
         AtendimentoGrupo atendimento = new AtendimentoGrupo(grupo, pedido);
         atendimento.iniciarAtendimento(grupo.getHoraChegada());
+        atendimento.setGarcomId(id);
         filaAtendimentoGrupo.adicionarAtendimento(atendimento);
+        if (ouvinte != null) ouvinte.atendimentoIniciado(this, atendimento);
+        notificarCapacidade();
+        return true;
     }
 
     /**
@@ -115,37 +134,106 @@ public class Garcom {
      * @param atendimento atendimento a ser removido (não pode ser nulo)
      * @throws NullPointerException se o atendimento for nulo
      */
-    public void removerAtendimentoFinalizado(Atendimento atendimento) {
+    public synchronized void removerAtendimentoFinalizado(Atendimento atendimento) {
         if (atendimento == null) throw new NullPointerException("Atendimento não pode ser nulo.");
         if (atendimento instanceof AtendimentoIndividual) {
             filaAtendimentoIndividual.removerAtendimentoEspecifico(atendimento);
         } else if (atendimento instanceof AtendimentoGrupo) {
             filaAtendimentoGrupo.removerAtendimentoEspecifico(atendimento);
         }
+        notificarCapacidade();
+    }
+
+    /**
+     * Retoma um atendimento já iniciado, colocando-o na fila correspondente, como ao recuperar o estado salvo.
+     * O limite de atendimentos não é verificado, para que nenhum atendimento salvo seja perdido.
+     *
+     * @param atendimento atendimento individual ou em grupo (não pode ser nulo)
+     * @throws NullPointerException se o atendimento for nulo
+     * @throws IllegalArgumentException se o atendimento já pertencer a uma fila ou for de tipo desconhecido
+     */
+    public synchronized void retomarAtendimento(Atendimento atendimento) {
+        if (atendimento == null) throw new NullPointerException("Atendimento não pode ser nulo.");
+        if (atendimento instanceof AtendimentoIndividual) {
+            filaAtendimentoIndividual.adicionarAtendimento(atendimento);
+        } else if (atendimento instanceof AtendimentoGrupo) {
+            filaAtendimentoGrupo.adicionarAtendimento(atendimento);
+        } else {
+            throw new IllegalArgumentException("Tipo de atendimento desconhecido.");
+        }
+        atendimento.setGarcomId(id);
+        if (ouvinte != null) ouvinte.atendimentoIniciado(this, atendimento);
+        notificarCapacidade();
+    }
+
+    /**
+     * Descarta um atendimento não finalizado, removendo-o das filas do garçom.
+     *
+     * @param atendimento atendimento a ser descartado (não pode ser nulo)
+     * @throws NullPointerException se o atendimento for nulo
+     */
+    public synchronized void descartarAtendimento(Atendimento atendimento) {
+        if (atendimento == null) throw new NullPointerException("Atendimento não pode ser nulo.");
+        boolean naFila = filaAtendimentoIndividual.getFila().contains(atendimento)
+                || filaAtendimentoGrupo.getFila().contains(atendimento);
+        if (!naFila) return;
+        if (ouvinte != null) ouvinte.atendimentoDescartado(this, atendimento);
+        removerAtendimentoFinalizado(atendimento);
     }
 
     /**
      * Limpa todas as filas de atendimento do garçom.
      */
-    public void limparFilasDeAtendimento() {
+    public synchronized void limparFilasDeAtendimento() {
+        if (ouvinte != null) {
+            filaAtendimentoIndividual.getFila().forEach(a -> ouvinte.atendimentoDescartado(this, a));
+            filaAtendimentoGrupo.getFila().forEach(a -> ouvinte.atendimentoDescartado(this, a));
+        }
         filaAtendimentoIndividual.limparFila();
         filaAtendimentoGrupo.limparFila();
+        notificarCapacidade();
     }
 
     /**
      * Reordena a fila de atendimentos individuais.
+     *
+     * @deprecated os atendimentos são reposicionados automaticamente ao mudar de status;
+     * não é necessário reordenar a fila.
      */
+    @Deprecated
     public void reordenarFilaIndividuais() {
         filaAtendimentoIndividual.reordenarFila();
     }
 
     /**
      * Reordena a fila de atendimentos em grupo.
+     *
+     * @deprecated os atendimentos são reposicionados automaticamente ao mudar de status;
+     * não é necessário reordenar a fila.
      */
+    @Deprecated
     public void reordenarFilaGrupos() {
         filaAtendimentoGrupo.reordenarFila();
     }
 
+    /**
+     * Define o ouvinte notificado sempre que as filas do garçom forem alteradas.
+     *
+     * @param ouvinte ouvinte a ser notificado (pode ser nulo)
+     */
+    void setOuvinte(OuvinteDoGarcom ouvinte) {
+        this.ouvinte = ouvinte;
+    }
+
+    /**
+     * Notifica o ouvinte registrado de que a ocupação do garçom mudou.
+     */
+    private void notificarCapacidade() {
+        if (ouvinte != null) {
+            ouvinte.capacidadeAlterada(this);
+        }
+    }
+
     // Getters e Setters
 
     /**
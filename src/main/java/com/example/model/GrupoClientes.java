@@ -4,18 +4,34 @@ import com.example.util.TipoCliente;
 
 import java.time.LocalTime;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Classe que representa um grupo de clientes do restaurante.
  * <p>
  * Implementa {@link Atendivel} para permitir o atendimento de grupos de clientes.
  * </p>
+ * <p>
+ * As listas de clientes e de pedidos só são criadas no primeiro cliente ou pedido adicionado; até lá,
+ * {@link #getClientes()} e {@link #getPedidos()} devolvem listas vazias compartilhadas. As listas devolvidas são
+ * sempre somente de leitura: membros e pedidos entram e saem apenas pelos métodos do grupo, que mantêm os agregados
+ * abaixo. Um cliente pertence a no máximo um grupo.
+ * </p>
+ * <p>
+ * O tipo e as preferências do grupo são mantidos à medida que membros entram e saem e que as preferências dos
+ * membros mudam: o grupo conta os membros prioritários e quantos membros têm cada preferência. Assim,
+ * {@link #getTipoCliente()} e {@link #temPreferencia(String)} respondem em tempo constante, e
+ * {@link #getPreferencias()} devolve a mesma lista imutável até a próxima mudança, sem percorrer os membros.
+ * </p>
  *
  * <p><b>Exceções possíveis:</b></p>
  * <ul>
  *   <li>{@link NullPointerException} - Lançada ao adicionar ou remover clientes ou pedidos nulos.</li>
- *   <li>{@link IllegalArgumentException} - Lançada ao criar um grupo com nome nulo.</li>
+ *   <li>{@link IllegalArgumentException} - Lançada ao criar um grupo com nome nulo ou ao adicionar um cliente que
+ *       já pertence a um grupo.</li>
  * </ul>
  *
  * <p><b>Uso típico:</b></p>
@@ -35,10 +51,25 @@ import java.util.List;
  * @version 1.0
  */
 public class GrupoClientes implements Atendivel {
+    private static final List<Cliente> SEM_CLIENTES = Collections.emptyList();
+    private static final List<Pedido> SEM_PEDIDOS = Collections.emptyList();
+
     private int id;
     private String nomeGrupo;
+    /** Membros do grupo, ou {@code null} até o primeiro ser adicionado */
     private List<Cliente> clientes;
+    /** Visão somente de leitura dos membros, criada com a lista */
+    private List<Cliente> visaoDosClientes;
+    /** Pedidos do grupo, ou {@code null} até o primeiro ser adicionado */
     private List<Pedido> pedidos;
+    /** Visão somente de leitura dos pedidos, criada com a lista */
+    private List<Pedido> visaoDosPedidos;
+    /** Quantidade de membros prioritários */
+    private int prioritarios;
+    /** Quantidade de membros com cada preferência, na ordem em que apareceram, ou {@code null} se nenhum tiver */
+    private Map<String, Integer> membrosPorPreferencia;
+    /** Lista imutável das preferências, recriada somente após uma mudança ({@code null} enquanto desatualizada) */
+    private List<String> preferencias;
     private LocalTime horaChegada;
     private String observacoesGerais;
 
@@ -53,8 +84,6 @@ public class GrupoClientes implements Atendivel {
         if (nomeGrupo == null) throw new IllegalArgumentException("Nome do grupo não pode ser nulo.");
         this.id = id;
         this.nomeGrupo = nomeGrupo;
-        this.clientes = new ArrayList<>();
-        this.pedidos = new ArrayList<>();
     }
 
     public int getId() {
@@ -65,23 +94,80 @@ public class GrupoClientes implements Atendivel {
         return nomeGrupo;
     }
 
+    /**
+     * Retorna os membros do grupo, na ordem em que foram adicionados.
+     *
+     * @return clientes do grupo, somente de leitura
+     */
     public List<Cliente> getClientes() {
-        return clientes;
+        return visaoDosClientes != null ? visaoDosClientes : SEM_CLIENTES;
     }
 
+    /**
+     * Retorna os pedidos do grupo, na ordem em que foram adicionados.
+     *
+     * @return pedidos do grupo, somente de leitura
+     */
     public List<Pedido> getPedidos() {
-        return pedidos;
+        return visaoDosPedidos != null ? visaoDosPedidos : SEM_PEDIDOS;
     }
 
     /**
      * Adiciona um cliente ao grupo.
      *
-     * @param cliente cliente a ser adicionado (não pode ser nulo)
+     * @param cliente cliente a ser adicionado (não pode ser nulo nem pertencer a um grupo)
      * @throws NullPointerException se o cliente for nulo
+     * @throws IllegalArgumentException se o cliente já pertencer a este ou a outro grupo
      */
     public void adicionarCliente(Cliente cliente) {
         if (cliente == null) throw new NullPointerException("Cliente não pode ser nulo.");
+        cliente.setGrupo(this);
+        if (clientes == null) {
+            clientes = new ArrayList<>();
+            visaoDosClientes = Collections.unmodifiableList(clientes);
+        }
         clientes.add(cliente);
+        if (cliente.getTipoCliente() == TipoCliente.PRIORITARIO) prioritarios++;
+        for (String preferencia : cliente.getPreferencias()) {
+            preferenciaAdicionada(preferencia);
+        }
+    }
+
+    /**
+     * Remove um cliente do grupo.
+     *
+     * @param cliente cliente a ser removido (não pode ser nulo)
+     * @throws NullPointerException se o cliente for nulo
+     */
+    public void removerCliente(Cliente cliente) {
+        if (cliente == null) throw new NullPointerException("Cliente não pode ser nulo.");
+        if (clientes == null || !clientes.remove(cliente)) return;
+        cliente.setGrupo(null);
+        if (cliente.getTipoCliente() == TipoCliente.PRIORITARIO) prioritarios--;
+        for (String preferencia : cliente.getPreferencias()) {
+            preferenciaRemovida(preferencia);
+        }
+    }
+
+    /**
+     * Conta mais um membro com a preferência, chamado quando um membro a adiciona ou entra no grupo.
+     *
+     * @param preferencia preferência do membro
+     */
+    void preferenciaAdicionada(String preferencia) {
+        if (membrosPorPreferencia == null) membrosPorPreferencia = new LinkedHashMap<>();
+        if (membrosPorPreferencia.merge(preferencia, 1, Integer::sum) == 1) preferencias = null;
+    }
+
+    /**
+     * Conta um membro a menos com a preferência, chamado quando um membro a remove ou sai do grupo.
+     *
+     * @param preferencia preferência do membro
+     */
+    void preferenciaRemovida(String preferencia) {
+        if (membrosPorPreferencia == null) return;
+        Integer restantes = membrosPorPreferencia.computeIfPresent(preferencia, (p, membros) -> membros > 1 ? membros - 1 : null);
+        if (restantes == null) preferencias = null;
     }
 
     /**
@@ -92,6 +178,10 @@ public class GrupoClientes implements Atendivel {
      */
     public void adicionarPedido(Pedido pedido) {
         if (pedido == null) throw new NullPointerException("Pedido não pode ser nulo.");
+        if (pedidos == null) {
+            pedidos = new ArrayList<>(2);
+            visaoDosPedidos = Collections.unmodifiableList(pedidos);
+        }
         pedidos.add(pedido);
     }
 
@@ -103,7 +193,7 @@ public class GrupoClientes implements Atendivel {
      */
     public void removerPedido(Pedido pedido) {
         if (pedido == null) throw new NullPointerException("Pedido não pode ser nulo.");
-        pedidos.remove(pedido);
+        if (pedidos != null) pedidos.remove(pedido);
     }
 
     @Override
@@ -111,16 +201,38 @@ public class GrupoClientes implements Atendivel {
         return nomeGrupo;
     }
 
+    /**
+     * Retorna o tipo do grupo: prioritário se algum membro for prioritário.
+     *
+     * @return tipo do grupo
+     */
     @Override
     public TipoCliente getTipoCliente() {
-        return clientes.stream().anyMatch(c -> c.getTipoCliente() == TipoCliente.PRIORITARIO) ? TipoCliente.PRIORITARIO : TipoCliente.COMUM;
+        return prioritarios > 0 ? TipoCliente.PRIORITARIO : TipoCliente.COMUM;
     }
 
+    /**
+     * Retorna as preferências dos membros, sem repetições, na ordem em que apareceram no grupo.
+     *
+     * @return lista imutável de preferências
+     */
     @Override
     public List<String> getPreferencias() {
-        return clientes.stream().flatMap(c -> c.getPreferencias().stream()).distinct().toList();
+        List<String> atuais = preferencias;
+        if (atuais == null) {
+            atuais = membrosPorPreferencia == null || membrosPorPreferencia.isEmpty()
+                    ? List.of() : List.copyOf(membrosPorPreferencia.keySet());
+            preferencias = atuais;
+        }
+        return atuais;
     }
 
+    @Override
+    public boolean temPreferencia(String preferencia) {
+        return membrosPorPreferencia != null && membrosPorPreferencia.containsKey(preferencia);
+    }
+
+    @Override
     public LocalTime getHoraChegada() {
         return horaChegada;
     }
@@ -0,0 +1,437 @@
+package com.example.model;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.LocalTime;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Histórico de atendimentos finalizados, somente de acréscimo, mantido fora do heap.
+ * <p>
+ * Cada atendimento finalizado vira um registro de largura fixa ({@value #TAMANHO_DO_REGISTRO} bytes) em um arquivo
+ * mapeado em memória: identificador do pedido, garçom, início, fim, tempo de espera, valor total em centavos e
+ * quantidade de itens. Horários são gravados como nanossegundos do dia e durações como nanossegundos, com
+ * {@code -1} e {@link Long#MIN_VALUE} indicando ausência. O arquivo cresce em segmentos mapeados conforme a
+ * necessidade, e as consultas por posição leem diretamente da região mapeada, sem criar objetos.
+ * </p>
+ * <p>
+ * Somente os atendimentos mais recentes (a "cauda") são mantidos em memória como objetos completos, com cliente,
+ * pedido e itens; ao exceder o tamanho da cauda, o mais antigo é descartado e passa a existir apenas como registro.
+ * O arquivo é uma área de trabalho: é recriado vazio ao abrir, pois a persistência do histórico é feita pelo
+ * diário de eventos e pelos instantâneos.
+ * </p>
+ * <p>
+ * Acréscimos são serializados pela trava do próprio histórico; consultas por posição podem ser feitas
+ * concorrentemente, sem trava, e enxergam todos os registros contados por {@link #tamanho()}. Pedidos que já
+ * saíram da cauda continuam sendo encontrados por {@link #buscarPosicao(int)}, em tempo constante esperado, por um
+ * índice em memória que guarda apenas a posição de cada registro num vetor de {@code int}.
+ * </p>
+ *
+ * <p><b>Exceções possíveis:</b></p>
+ * <ul>
+ *   <li>{@link IllegalArgumentException} - Lançada ao criar o histórico com arquivo nulo ou cauda negativa.</li>
+ *   <li>{@link NullPointerException} - Lançada ao adicionar um atendimento nulo.</li>
+ *   <li>{@link IndexOutOfBoundsException} - Lançada ao consultar uma posição fora do histórico.</li>
+ *   <li>{@link UncheckedIOException} - Lançada se o arquivo não puder ser criado ou ampliado.</li>
+ *   <li>{@link IllegalStateException} - Lançada ao adicionar um atendimento ou registro depois de fechar o histórico.</li>
+ * </ul>
+ *
+ * <p><b>Uso típico:</b></p>
+ * <ol>
+ *   <li>O {@link Restaurante} adiciona cada atendimento finalizado com {@link #adicionar(Atendimento)}.</li>
+ *   <li>Relatórios percorrem as posições de {@code 0} a {@link #tamanho()} consultando os campos de cada registro.</li>
+ *   <li>Ao encerrar a aplicação, o histórico é fechado com {@link #close()}.</li>
+ * </ol>
+ *
+ * @author Ana Luiza Freitas Brito Siqueira
+ * @author Bruno Campos Penha
+ * @author Grazielly de Sousa Barros
+ * @author João Gabriel Oliveira Magalhães
+ * @author João Vitor Moreira Lemos
+ * @author Robert Alves Guimarães
+ * @author Vinicius D’Oliveira Rocha
+ * @version 1.0
+ */
+public class HistoricoDeAtendimentos implements Closeable {
+    /** Tamanho de cada registro, em bytes */
+    public static final int TAMANHO_DO_REGISTRO = 48;
+    /** Quantidade padrão de atendimentos recentes mantidos em memória */
+    public static final int TAMANHO_DA_CAUDA_PADRAO = 256;
+
+    /** Registros por segmento mapeado (768 KiB por segmento) */
+    static final int REGISTROS_POR_SEGMENTO = 1 << 14;
+
+    private static final int PEDIDO = 0;
+    private static final int GARCOM = 4;
+    private static final int INICIO = 8;
+    private static final int FIM = 16;
+    private static final int ESPERA = 24;
+    private static final int TOTAL = 32;
+    private static final int ITENS = 40;
+    // Os 4 bytes restantes mantêm os registros alinhados em 8 bytes
+
+    private static final long HORARIO_AUSENTE = -1L;
+    private static final long DURACAO_AUSENTE = Long.MIN_VALUE;
+
+    /** Ocupação máxima do índice por pedido antes de dobrar a capacidade */
+    private static final float FATOR_DE_CARGA = 0.7f;
+
+    private final Path arquivo;
+    private final boolean temporario;
+    private final int tamanhoDaCauda;
+    private final ArrayDeque<Atendimento> cauda;
+    /** Cópia imutável da cauda devolvida pelas consultas, ou {@code null} se a cauda mudou desde a última */
+    private List<Atendimento> visaoDosRecentes;
+    private FileChannel canal;
+    /** Arquivo criado para um histórico temporário, apagado ao fechar */
+    private Path arquivoTemporario;
+    /** Segmentos mapeados; substituído por inteiro ao crescer, para que as leituras não precisem de trava */
+    private volatile MappedByteBuffer[] segmentos;
+    /** Quantidade de registros gravados; publicada após a gravação de cada registro */
+    private volatile int tamanho;
+    /**
+     * Índice dos registros por pedido, com endereçamento aberto: cada entrada guarda a posição do registro mais um
+     * ({@code 0} indica entrada vazia), e o identificador do pedido é lido do próprio registro. Protegido pela trava
+     * do histórico.
+     */
+    private int[] posicoesPorPedido;
+    private int indexados;
+    private boolean fechado;
+
+    /**
+     * Cria um histórico em um arquivo temporário, removido ao encerrar a aplicação, com a cauda padrão.
+     * O arquivo só é criado ao adicionar o primeiro atendimento.
+     */
+    public HistoricoDeAtendimentos() {
+        this(null, TAMANHO_DA_CAUDA_PADRAO, true);
+    }
+
+    /**
+     * Cria um histórico no arquivo informado, recriado vazio.
+     *
+     * @param arquivo        arquivo dos registros (não pode ser nulo)
+     * @param tamanhoDaCauda quantidade de atendimentos recentes mantidos em memória (não pode ser negativa)
+     * @throws IllegalArgumentException se o arquivo for nulo ou a cauda for negativa
+     */
+    public HistoricoDeAtendimentos(Path arquivo, int tamanhoDaCauda) {
+        this(arquivo, tamanhoDaCauda, false);
+        if (arquivo == null) throw new IllegalArgumentException("Arquivo do histórico não pode ser nulo.");
+    }
+
+    private HistoricoDeAtendimentos(Path arquivo, int tamanhoDaCauda, boolean temporario) {
+        if (tamanhoDaCauda < 0) throw new IllegalArgumentException("Tamanho da cauda não pode ser negativo.");
+        this.arquivo = arquivo;
+        this.temporario = temporario;
+        this.tamanhoDaCauda = tamanhoDaCauda;
+        this.cauda = new ArrayDeque<>();
+        this.segmentos = new MappedByteBuffer[0];
+        this.posicoesPorPedido = new int[16];
+    }
+
+    /**
+     * Acrescenta um atendimento finalizado ao histórico e à cauda em memória.
+     *
+     * @param atendimento atendimento finalizado (não pode ser nulo)
+     * @return atendimento mais antigo descartado da cauda, ou {@code null} se nenhum foi descartado
+     * @throws NullPointerException se o atendimento for nulo
+     * @throws IllegalStateException se o histórico já tiver sido fechado
+     */
+    public synchronized Atendimento adicionar(Atendimento atendimento) {
+        if (atendimento == null) throw new NullPointerException("Atendimento não pode ser nulo.");
+        Pedido pedido = atendimento.getPedido();
+        adicionarRegistro(pedido.getId(), atendimento.getGarcomId(), atendimento.getInicio(), atendimento.getFim(),
+                atendimento.getTempoDeEspera(), pedido.getTotalEmCentavos(), pedido.getItens().size());
+        if (tamanhoDaCauda == 0) return atendimento;
+        cauda.addLast(atendimento);
+        visaoDosRecentes = null;
+        return cauda.size() > tamanhoDaCauda ? cauda.removeFirst() : null;
+    }
+
+    /**
+     * Acrescenta um registro ao histórico sem o atendimento completo, como ao restaurar um instantâneo.
+     *
+     * @param pedidoId           identificador do pedido
+     * @param garcomId           identificador do garçom responsável
+     * @param inicio             início do atendimento (pode ser nulo)
+     * @param fim                fim do atendimento (pode ser nulo)
+     * @param tempoDeEspera      tempo de espera (pode ser nulo)
+     * @param totalEmCentavos    valor total do pedido, em centavos
+     * @param quantidadeDeItens  quantidade de itens do pedido
+     * @throws IllegalStateException se o histórico já tiver sido fechado
+     */
+    public synchronized void adicionarRegistro(int pedidoId, int garcomId, LocalTime inicio, LocalTime fim,
+                                               Duration tempoDeEspera, long totalEmCentavos, int quantidadeDeItens) {
+        if (fechado) throw new IllegalStateException("Histórico de atendimentos já foi fechado.");
+        int posicao = tamanho;
+        MappedByteBuffer segmento = segmentoParaGravar(posicao);
+        int base = (posicao % REGISTROS_POR_SEGMENTO) * TAMANHO_DO_REGISTRO;
+        segmento.putInt(base + PEDIDO, pedidoId);
+        segmento.putInt(base + GARCOM, garcomId);
+        segmento.putLong(base + INICIO, inicio != null ? inicio.toNanoOfDay() : HORARIO_AUSENTE);
+        segmento.putLong(base + FIM, fim != null ? fim.toNanoOfDay() : HORARIO_AUSENTE);
+        segmento.putLong(base + ESPERA, tempoDeEspera != null ? tempoDeEspera.toNanos() : DURACAO_AUSENTE);
+        segmento.putLong(base + TOTAL, totalEmCentavos);
+        segmento.putInt(base + ITENS, quantidadeDeItens);
+        indexar(pedidoId, posicao);
+        tamanho = posicao + 1;
+    }
+
+    /**
+     * Retorna a quantidade de atendimentos no histórico, incluindo os que só existem como registro.
+     *
+     * @return quantidade de registros
+     */
+    public int tamanho() {
+        return tamanho;
+    }
+
+    /**
+     * Retorna os atendimentos mais recentes mantidos em memória, do mais antigo para o mais novo.
+     * A cópia só é refeita depois de um acréscimo; consultas repetidas devolvem a mesma instância.
+     *
+     * @return cópia imutável da cauda em memória
+     */
+    public synchronized List<Atendimento> getRecentes() {
+        if (visaoDosRecentes == null) {
+            visaoDosRecentes = List.copyOf(cauda);
+        }
+        return visaoDosRecentes;
+    }
+
+    /**
+     * Retorna a posição do registro do pedido, inclusive dos que já saíram da cauda em memória.
+     * <p>
+     * A consulta é feita no índice por pedido, em tempo constante esperado, sem criar objetos. Se o mesmo pedido
+     * tiver sido registrado mais de uma vez, devolve a posição do registro mais recente.
+     * </p>
+     *
+     * @param pedidoId identificador do pedido
+     * @return posição do registro, ou {@code -1} se o pedido não estiver no histórico
+     */
+    public synchronized int buscarPosicao(int pedidoId) {
+        int[] tabela = posicoesPorPedido;
+        int mascara = tabela.length - 1;
+        for (int i = espalhar(pedidoId) & mascara; tabela[i] != 0; i = (i + 1) & mascara) {
+            int posicao = tabela[i] - 1;
+            if (pedidoNaPosicao(posicao) == pedidoId) return posicao;
+        }
+        return -1;
+    }
+
+    // Consultas por posição, lidas diretamente da região mapeada
+
+    /**
+     * Retorna o identificador do pedido registrado na posição.
+     *
+     * @param posicao posição do registro, de {@code 0} a {@link #tamanho()} (exclusive)
+     * @return identificador do pedido
+     * @throws IndexOutOfBoundsException se a posição estiver fora do histórico
+     */
+    public int getPedidoId(int posicao) {
+        return segmento(posicao).getInt(base(posicao) + PEDIDO);
+    }
+
+    /**
+     * Retorna o identificador do garçom responsável pelo atendimento registrado na posição.
+     *
+     * @param posicao posição do registro, de {@code 0} a {@link #tamanho()} (exclusive)
+     * @return identificador do garçom
+     * @throws IndexOutOfBoundsException se a posição estiver fora do histórico
+     */
+    public int getGarcomId(int posicao) {
+        return segmento(posicao).getInt(base(posicao) + GARCOM);
+    }
+
+    /**
+     * Retorna o início do atendimento registrado na posição.
+     *
+     * @param posicao posição do registro, de {@code 0} a {@link #tamanho()} (exclusive)
+     * @return horário de início, ou {@code null} se ausente
+     * @throws IndexOutOfBoundsException se a posição estiver fora do histórico
+     */
+    public LocalTime getInicio(int posicao) {
+        return horario(segmento(posicao).getLong(base(posicao) + INICIO));
+    }
+
+    /**
+     * Retorna o fim do atendimento registrado na posição.
+     *
+     * @param posicao posição do registro, de {@code 0} a {@link #tamanho()} (exclusive)
+     * @return horário de fim, ou {@code null} se ausente
+     * @throws IndexOutOfBoundsException se a posição estiver fora do histórico
+     */
+    public LocalTime getFim(int posicao) {
+        return horario(segmento(posicao).getLong(base(posicao) + FIM));
+    }
+
+    /**
+     * Retorna o tempo de espera do atendimento registrado na posição.
+     *
+     * @param posicao posição do registro, de {@code 0} a {@link #tamanho()} (exclusive)
+     * @return tempo de espera, ou {@code null} se ausente
+     * @throws IndexOutOfBoundsException se a posição estiver fora do histórico
+     */
+    public Duration getTempoDeEspera(int posicao) {
+        long nanos = segmento(posicao).getLong(base(posicao) + ESPERA);
+        return nanos == DURACAO_AUSENTE ? null : Duration.ofNanos(nanos);
+    }
+
+    /**
+     * Retorna o valor total do pedido registrado na posição.
+     *
+     * @param posicao posição do registro, de {@code 0} a {@link #tamanho()} (exclusive)
+     * @return valor total, em centavos
+     * @throws IndexOutOfBoundsException se a posição estiver fora do histórico
+     */
+    public long getTotalEmCentavos(int posicao) {
+        return segmento(posicao).getLong(base(posicao) + TOTAL);
+    }
+
+    /**
+     * Retorna a quantidade de itens do pedido registrado na posição.
+     *
+     * @param posicao posição do registro, de {@code 0} a {@link #tamanho()} (exclusive)
+     * @return quantidade de itens
+     * @throws IndexOutOfBoundsException se a posição estiver fora do histórico
+     */
+    public int getQuantidadeDeItens(int posicao) {
+        return segmento(posicao).getInt(base(posicao) + ITENS);
+    }
+
+    /**
+     * Fecha o arquivo dos registros; o histórico passa a ficar vazio. O arquivo temporário, se houver, é apagado.
+     * Chamadas repetidas não têm efeito.
+     * <p>
+     * Os segmentos mapeados não são descartados: uma consulta concorrente que ainda viu a quantidade anterior de
+     * registros continua lendo segmentos válidos, e as seguintes recebem {@link IndexOutOfBoundsException}. A
+     * memória mapeada é liberada quando o histórico deixa de ser referenciado.
+     * </p>
+     *
+     * @throws IOException se o arquivo não puder ser fechado
+     */
+    @Override
+    public synchronized void close() throws IOException {
+        if (fechado) return;
+        fechado = true;
+        tamanho = 0;
+        posicoesPorPedido = new int[16];
+        indexados = 0;
+        cauda.clear();
+        visaoDosRecentes = null;
+        if (canal != null) {
+            canal.close();
+            canal = null;
+            if (temporario && arquivoTemporario != null) {
+                Files.deleteIfExists(arquivoTemporario);
+            }
+        }
+    }
+
+    /**
+     * Retorna o segmento que contém a posição, validando-a contra a quantidade de registros publicada.
+     */
+    private MappedByteBuffer segmento(int posicao) {
+        Objects.checkIndex(posicao, tamanho);
+        return segmentos[posicao / REGISTROS_POR_SEGMENTO];
+    }
+
+    /**
+     * Lê o identificador do pedido gravado na posição. Chamado apenas sob a trava do histórico.
+     */
+    private int pedidoNaPosicao(int posicao) {
+        return segmentos[posicao / REGISTROS_POR_SEGMENTO].getInt(base(posicao) + PEDIDO);
+    }
+
+    /**
+     * Aponta a entrada do pedido no índice para a posição, substituindo a de um registro anterior do mesmo pedido.
+     * Chamado apenas sob a trava do histórico, depois de o registro ser gravado.
+     */
+    private void indexar(int pedidoId, int posicao) {
+        int[] tabela = posicoesPorPedido;
+        int mascara = tabela.length - 1;
+        int i = espalhar(pedidoId) & mascara;
+        while (tabela[i] != 0) {
+            if (pedidoNaPosicao(tabela[i] - 1) == pedidoId) {
+                tabela[i] = posicao + 1;
+                return;
+            }
+            i = (i + 1) & mascara;
+        }
+        tabela[i] = posicao + 1;
+        if (++indexados > tabela.length * FATOR_DE_CARGA) {
+            redimensionarIndice(tabela.length << 1);
+        }
+    }
+
+    private void redimensionarIndice(int capacidade) {
+        int[] antiga = posicoesPorPedido;
+        int[] nova = new int[capacidade];
+        int mascara = capacidade - 1;
+        for (int entrada : antiga) {
+            if (entrada == 0) continue;
+            int i = espalhar(pedidoNaPosicao(entrada - 1)) & mascara;
+            while (nova[i] != 0) {
+                i = (i + 1) & mascara;
+            }
+            nova[i] = entrada;
+        }
+        posicoesPorPedido = nova;
+    }
+
+    private static int espalhar(int chave) {
+        int h = chave * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+
+    private static int base(int posicao) {
+        return (posicao % REGISTROS_POR_SEGMENTO) * TAMANHO_DO_REGISTRO;
+    }
+
+    private static LocalTime horario(long nanos) {
+        return nanos == HORARIO_AUSENTE ? null : LocalTime.ofNanoOfDay(nanos);
+    }
+
+    /**
+     * Retorna o segmento em que a posição será gravada, criando o arquivo e mapeando um novo segmento se preciso.
+     * Chamado apenas sob a trava do histórico.
+     */
+    private MappedByteBuffer segmentoParaGravar(int posicao) {
+        int indice = posicao / REGISTROS_POR_SEGMENTO;
+        MappedByteBuffer[] atuais = segmentos;
+        if (indice < atuais.length) return atuais[indice];
+        long tamanhoDoSegmento = (long) REGISTROS_POR_SEGMENTO * TAMANHO_DO_REGISTRO;
+        try {
+            if (canal == null) {
+                canal = abrirArquivo();
+            }
+            MappedByteBuffer novo = canal.map(FileChannel.MapMode.READ_WRITE, indice * tamanhoDoSegmento, tamanhoDoSegmento);
+            MappedByteBuffer[] ampliados = Arrays.copyOf(atuais, indice + 1);
+            ampliados[indice] = novo;
+            segmentos = ampliados;
+            return novo;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Não foi possível ampliar o arquivo do histórico.", e);
+        }
+    }
+
+    private FileChannel abrirArquivo() throws IOException {
+        Path destino = arquivo;
+        if (temporario) {
+            destino = Files.createTempFile("historico-", ".bin");
+            destino.toFile().deleteOnExit();
+            arquivoTemporario = destino;
+        }
+        return FileChannel.open(destino, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING,
+                StandardOpenOption.READ, StandardOpenOption.WRITE);
+    }
+}
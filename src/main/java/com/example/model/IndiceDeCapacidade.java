@@ -0,0 +1,216 @@
+package com.example.model;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.RandomAccess;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Índice dos garçons que ainda possuem vagas para atendimentos individuais e em grupo.
+ * <p>
+ * Mantém dois conjuntos de garçons disponíveis, atualizados a cada notificação de {@link OuvinteDoGarcom},
+ * de forma que a distribuição de atendimentos não precise percorrer todos os garçons do restaurante.
+ * Cada conjunto é um mapa de bits indexado pela ordem de registro do garçom: incluir ou retirar um garçom
+ * altera um único bit, em tempo constante, sem copiar o conjunto.
+ * </p>
+ * <p>
+ * A consulta devolve um instantâneo imutável, montado somente na primeira consulta após uma alteração. Montá-lo
+ * copia o mapa de bits, uma palavra para cada 64 garçons registrados, e não as referências dos garçons; o primeiro
+ * disponível é localizado na montagem, de modo que {@code get(0)} é imediato. As demais posições são resolvidas
+ * percorrendo as palavras do mapa. A consulta de um instantâneo já montado não usa travas e pode ser feita por
+ * vários terminais ao mesmo tempo.
+ * </p>
+ * <p>
+ * Os garçons disponíveis ficam sempre na ordem em que foram registrados no restaurante, como na varredura da lista
+ * de garçons, independentemente de quantas vezes cada um saiu e voltou ao índice.
+ * </p>
+ *
+ * <p><b>Uso típico:</b></p>
+ * <ol>
+ *   <li>Registrar o índice como ouvinte de cada garçom adicionado ao restaurante.</li>
+ *   <li>Consultar os garçons disponíveis ao distribuir um atendimento.</li>
+ * </ol>
+ *
+ * @author Ana Luiza Freitas Brito Siqueira
+ * @author Bruno Campos Penha
+ * @author Grazielly de Sousa Barros
+ * @author João Gabriel Oliveira Magalhães
+ * @author João Vitor Moreira Lemos
+ * @author Robert Alves Guimarães
+ * @author Vinicius D’Oliveira Rocha
+ * @version 1.0
+ */
+class IndiceDeCapacidade implements OuvinteDoGarcom {
+    private final Map<Garcom, Integer> ordemDeRegistro = new ConcurrentHashMap<>();
+    /** Garçons pela ordem de registro; só recebe acréscimos e é trocado por uma cópia maior quando enche */
+    private volatile Garcom[] porOrdem = new Garcom[8];
+    private final Disponiveis comVagaIndividual = new Disponiveis();
+    private final Disponiveis comVagaGrupo = new Disponiveis();
+
+    /**
+     * Registra o garçom na próxima posição da ordem de registro, se ainda não estiver registrado.
+     * Garçons notificados sem registro prévio são registrados na primeira notificação.
+     *
+     * @param garcom garçom adicionado ao restaurante
+     */
+    synchronized void registrar(Garcom garcom) {
+        if (ordemDeRegistro.containsKey(garcom)) return;
+        int ordem = ordemDeRegistro.size();
+        Garcom[] atual = porOrdem;
+        if (ordem == atual.length) {
+            atual = Arrays.copyOf(atual, ordem * 2);
+        }
+        atual[ordem] = garcom;
+        porOrdem = atual;
+        ordemDeRegistro.put(garcom, ordem);
+    }
+
+    /**
+     * Atualiza a presença do garçom nos conjuntos de disponíveis conforme suas vagas atuais, em tempo constante.
+     *
+     * @param garcom garçom cujas filas foram alteradas
+     */
+    @Override
+    public void capacidadeAlterada(Garcom garcom) {
+        Integer ordem = ordemDeRegistro.get(garcom);
+        if (ordem == null) {
+            registrar(garcom);
+            ordem = ordemDeRegistro.get(garcom);
+        }
+        comVagaIndividual.atualizar(ordem, garcom.podeAtenderMaisClientesIndividuais());
+        comVagaGrupo.atualizar(ordem, garcom.podeAtenderMaisGrupos());
+    }
+
+    /**
+     * Retorna os garçons com vaga para atendimento individual.
+     *
+     * @return instantâneo somente leitura dos garçons disponíveis, na ordem de registro
+     */
+    List<Garcom> comVagaIndividual() {
+        return comVagaIndividual.listar();
+    }
+
+    /**
+     * Retorna os garçons com vaga para atendimento em grupo.
+     *
+     * @return instantâneo somente leitura dos garçons disponíveis, na ordem de registro
+     */
+    List<Garcom> comVagaGrupo() {
+        return comVagaGrupo.listar();
+    }
+
+    /**
+     * Conjunto de garçons disponíveis como mapa de bits pela ordem de registro.
+     * Alterações são serializadas e apenas descartam o instantâneo; o próximo leitor monta um novo.
+     */
+    private final class Disponiveis {
+        private long[] bits = new long[1];
+        private int quantidade;
+        /** Último instantâneo montado, ou {@code null} se o conjunto mudou desde então */
+        private volatile List<Garcom> instantaneo = List.of();
+
+        synchronized void atualizar(int ordem, boolean disponivel) {
+            int palavra = ordem >>> 6;
+            if (palavra >= bits.length) {
+                if (!disponivel) return;
+                bits = Arrays.copyOf(bits, Math.max(palavra + 1, bits.length * 2));
+            }
+            long mascara = 1L << ordem;
+            if (((bits[palavra] & mascara) != 0) == disponivel) return;
+            bits[palavra] ^= mascara;
+            quantidade += disponivel ? 1 : -1;
+            instantaneo = null;
+        }
+
+        List<Garcom> listar() {
+            List<Garcom> atual = instantaneo;
+            if (atual != null) return atual;
+            synchronized (this) {
+                if (instantaneo == null) {
+                    instantaneo = new Instantaneo(bits.clone(), quantidade, porOrdem);
+                }
+                return instantaneo;
+            }
+        }
+    }
+
+    /**
+     * Lista imutável dos garçons cujos bits estavam marcados no momento da cópia, na ordem de registro.
+     */
+    private static final class Instantaneo extends AbstractList<Garcom> implements RandomAccess {
+        private final long[] bits;
+        private final int tamanho;
+        private final Garcom[] porOrdem;
+        /** Ordem de registro do primeiro garçom disponível, ou -1 se não houver */
+        private final int primeira;
+
+        Instantaneo(long[] bits, int tamanho, Garcom[] porOrdem) {
+            this.bits = bits;
+            this.tamanho = tamanho;
+            this.porOrdem = porOrdem;
+            this.primeira = seguinte(0);
+        }
+
+        @Override
+        public Garcom get(int indice) {
+            Objects.checkIndex(indice, tamanho);
+            if (indice == 0) return porOrdem[primeira];
+            int restantes = indice;
+            for (int palavra = 0; ; palavra++) {
+                int marcados = Long.bitCount(bits[palavra]);
+                if (restantes < marcados) {
+                    long valor = bits[palavra];
+                    for (int i = 0; i < restantes; i++) {
+                        valor &= valor - 1;
+                    }
+                    return porOrdem[(palavra << 6) + Long.numberOfTrailingZeros(valor)];
+                }
+                restantes -= marcados;
+            }
+        }
+
+        @Override
+        public int size() {
+            return tamanho;
+        }
+
+        @Override
+        public Iterator<Garcom> iterator() {
+            return new Iterator<>() {
+                private int proxima = primeira;
+
+                @Override
+                public boolean hasNext() {
+                    return proxima >= 0;
+                }
+
+                @Override
+                public Garcom next() {
+                    if (proxima < 0) throw new NoSuchElementException();
+                    Garcom garcom = porOrdem[proxima];
+                    proxima = seguinte(proxima + 1);
+                    return garcom;
+                }
+            };
+        }
+
+        /**
+         * Retorna a ordem do primeiro bit marcado a partir da ordem informada, ou -1 se não houver.
+         */
+        private int seguinte(int ordem) {
+            int palavra = ordem >>> 6;
+            if (palavra >= bits.length) return -1;
+            long valor = bits[palavra] & (-1L << ordem);
+            while (valor == 0) {
+                if (++palavra == bits.length) return -1;
+                valor = bits[palavra];
+            }
+            return (palavra << 6) + Long.numberOfTrailingZeros(valor);
+        }
+    }
+}
@@ -0,0 +1,153 @@
+package com.example.model;
+
+import java.text.Normalizer;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * Índice de trigramas dos nomes dos itens do cardápio, usado pela {@link BuscaNoCardapio}.
+ * <p>
+ * Os nomes são "dobrados" antes de indexar: acentos e cedilhas são removidos e as letras passam a minúsculas, de
+ * modo que "Pão de Queijo" e "pao de queijo" sejam equivalentes. Cada sequência de três caracteres do nome dobrado
+ * aponta para a lista ordenada dos identificadores que a contêm. Uma consulta com três caracteres ou mais é
+ * respondida cruzando as listas dos seus trigramas, a partir da menor, e confirmando cada candidato no nome dobrado;
+ * consultas mais curtas percorrem os nomes dobrados, já calculados.
+ * </p>
+ * <p>
+ * Acréscimos e consultas são serializados pela trava do índice.
+ * </p>
+ *
+ * @author Ana Luiza Freitas Brito Siqueira
+ * @author Bruno Campos Penha
+ * @author Grazielly de Sousa Barros
+ * @author João Gabriel Oliveira Magalhães
+ * @author João Vitor Moreira Lemos
+ * @author Robert Alves Guimarães
+ * @author Vinicius D’Oliveira Rocha
+ * @version 1.0
+ */
+final class IndiceDeTrigramas {
+    private static final Pattern MARCAS = Pattern.compile("\\p{M}+");
+    private static final int[] NENHUM = new int[0];
+
+    /** Nome dobrado de cada identificador */
+    private String[] nomes = new String[16];
+    private int quantidade;
+    /** Identificadores, em ordem crescente, de cada trigrama */
+    private final Map<String, Postagens> postagens = new HashMap<>();
+
+    /**
+     * Lista crescente de identificadores de um trigrama.
+     */
+    private static final class Postagens {
+        int[] ids = new int[4];
+        int tamanho;
+
+        void adicionar(int id) {
+            // O mesmo trigrama pode aparecer mais de uma vez no nome
+            if (tamanho > 0 && ids[tamanho - 1] == id) return;
+            if (tamanho == ids.length) ids = Arrays.copyOf(ids, tamanho * 2);
+            ids[tamanho++] = id;
+        }
+    }
+
+    /**
+     * Indexa o nome do item com o identificador informado, que deve ser o próximo identificador do cardápio.
+     *
+     * @param id   identificador do item
+     * @param nome nome do item
+     */
+    synchronized void adicionar(int id, String nome) {
+        if (id != quantidade) throw new IllegalArgumentException("Identificador fora de ordem no índice: " + id);
+        String dobrado = dobrar(nome);
+        if (quantidade == nomes.length) nomes = Arrays.copyOf(nomes, quantidade * 2);
+        nomes[quantidade++] = dobrado;
+        for (int i = 0; i + 3 <= dobrado.length(); i++) {
+            postagens.computeIfAbsent(dobrado.substring(i, i + 3), t -> new Postagens()).adicionar(id);
+        }
+    }
+
+    /**
+     * Retorna os identificadores cujo nome dobrado contém a consulta já dobrada, em ordem crescente.
+     *
+     * @param consulta consulta dobrada (não vazia)
+     * @return identificadores encontrados
+     */
+    synchronized int[] buscar(String consulta) {
+        if (consulta.length() < 3) {
+            return filtrar(consulta, null, quantidade);
+        }
+        Postagens menor = null;
+        for (int i = 0; i + 3 <= consulta.length(); i++) {
+            Postagens atual = postagens.get(consulta.substring(i, i + 3));
+            if (atual == null) return NENHUM;
+            if (menor == null || atual.tamanho < menor.tamanho) menor = atual;
+        }
+        return filtrar(consulta, menor.ids, menor.tamanho);
+    }
+
+    /**
+     * Retorna, entre os candidatos, os identificadores cujo nome dobrado contém a consulta já dobrada.
+     *
+     * @param consulta   consulta dobrada
+     * @param candidatos identificadores candidatos, em ordem crescente
+     * @return identificadores encontrados, na ordem dos candidatos
+     */
+    synchronized int[] filtrar(String consulta, int[] candidatos) {
+        return filtrar(consulta, candidatos, candidatos.length);
+    }
+
+    /**
+     * Retorna o nome dobrado do identificador.
+     *
+     * @param id identificador do item
+     * @return nome dobrado
+     */
+    synchronized String nome(int id) {
+        return nomes[id];
+    }
+
+    /**
+     * Retorna a quantidade de nomes indexados.
+     *
+     * @return quantidade de itens
+     */
+    synchronized int tamanho() {
+        return quantidade;
+    }
+
+    /**
+     * Filtra os candidatos (ou todos os identificadores, se {@code candidatos} for nulo) pelo nome dobrado.
+     */
+    private int[] filtrar(String consulta, int[] candidatos, int total) {
+        int[] encontrados = new int[total];
+        int tamanho = 0;
+        for (int i = 0; i < total; i++) {
+            int id = candidatos != null ? candidatos[i] : i;
+            if (nomes[id].contains(consulta)) {
+                encontrados[tamanho++] = id;
+            }
+        }
+        return tamanho == total ? encontrados : Arrays.copyOf(encontrados, tamanho);
+    }
+
+    /**
+     * Remove acentos e cedilhas e converte para minúsculas, como em "Maçã Açaí" para "maca acai".
+     *
+     * @param texto texto a ser dobrado
+     * @return texto dobrado
+     */
+    static String dobrar(String texto) {
+        String minusculo = texto.strip().toLowerCase(Locale.ROOT);
+        // Apenas texto com caracteres fora do ASCII precisa da decomposição
+        for (int i = 0; i < minusculo.length(); i++) {
+            if (minusculo.charAt(i) > 0x7F) {
+                return MARCAS.matcher(Normalizer.normalize(minusculo, Normalizer.Form.NFD)).replaceAll("");
+            }
+        }
+        return minusculo;
+    }
+}
@@ -1,6 +1,7 @@
 package com.example.model;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
 /**
@@ -8,16 +9,27 @@ import java.util.List;
  * <p>
  * Armazena informações como nome, quantidade, preço e observações do item.
  * </p>
+ * <p>
+ * O preço é guardado em centavos ({@code long}), de modo que subtotais e totais sejam somas exatas de inteiros,
+ * sem os erros de arredondamento do {@code double}. O construtor com preço em reais arredonda para o centavo mais
+ * próximo; {@link #emCentavos(String, int, long)} recebe o valor já em centavos.
+ * </p>
+ * <p>
+ * Nome e preço ficam em um {@link ModeloDeItem} imutável. Os itens de pedido criados a partir de um item do
+ * cardápio com {@link #ItemPedido(ModeloDeItem, int)} compartilham o modelo dele, e cada linha do pedido guarda
+ * apenas o modelo, a quantidade e as observações. A lista de observações só é criada na primeira observação
+ * adicionada; até lá, {@link #getObservacoes()} devolve uma lista vazia compartilhada.
+ * </p>
  *
  * <p><b>Exceções possíveis:</b></p>
  * <ul>
- *   <li>{@link IllegalArgumentException} - Lançada ao criar um item com nome nulo ou vazio, quantidade menor que 1 ou preço negativo.</li>
- *   <li>{@link NullPointerException} - Lançada ao adicionar uma observação nula.</li>
+ *   <li>{@link IllegalArgumentException} - Lançada ao criar um item com nome nulo ou vazio, quantidade menor que 1 ou preço negativo (ou NaN).</li>
+ *   <li>{@link NullPointerException} - Lançada ao criar um item com modelo nulo ou ao adicionar uma observação nula.</li>
  * </ul>
  *
  * <p><b>Uso típico:</b></p>
  * <ol>
- *   <li>Instanciar um item de pedido com nome, quantidade e preço válidos.</li>
+ *   <li>Instanciar um item de pedido com nome, quantidade e preço válidos, ou com o modelo de um item do cardápio e a quantidade.</li>
  *   <li>Adicionar observações conforme necessário.</li>
  *   <li>Calcular o subtotal do item.</li>
  * </ol>
@@ -32,9 +44,11 @@ import java.util.List;
  * @version 1.0
  */
 public class ItemPedido {
-    private String nome;
-    private int quantidade;
-    private double preco;
+    private static final List<ObservacaoDoPedido> SEM_OBSERVACOES = Collections.emptyList();
+
+    private ModeloDeItem modelo;
+    private final int quantidade;
+    /** Observações do item, ou {@code null} até a primeira ser adicionada */
     private List<ObservacaoDoPedido> observacoes;
 
     /**
@@ -42,17 +56,62 @@ public class ItemPedido {
      *
      * @param nome      nome do item (não pode ser nulo ou vazio)
      * @param quantidade quantidade do item (deve ser maior que zero)
-     * @param preco     preço unitário do item (não pode ser negativo)
+     * @param preco     preço unitário do item, em reais, arredondado para o centavo (não pode ser negativo)
      * @throws IllegalArgumentException se nome for nulo/vazio, quantidade menor que 1 ou preço negativo
      */
     public ItemPedido(String nome, int quantidade, double preco) {
-        if (nome == null || nome.isBlank()) throw new IllegalArgumentException("Nome do item não pode ser nulo ou vazio.");
+        this(new ModeloDeItem(ModeloDeItem.SEM_IDENTIFICADOR, nome, paraCentavos(preco)), quantidade);
+    }
+
+    /**
+     * Construtor do ItemPedido a partir de um modelo, normalmente o de um item do cardápio, que é compartilhado.
+     *
+     * @param modelo     modelo com nome e preço do item (não pode ser nulo)
+     * @param quantidade quantidade do item (deve ser maior que zero)
+     * @throws NullPointerException     se o modelo for nulo
+     * @throws IllegalArgumentException se a quantidade for menor que 1
+     */
+    public ItemPedido(ModeloDeItem modelo, int quantidade) {
+        if (modelo == null) throw new NullPointerException("Modelo do item não pode ser nulo.");
         if (quantidade < 1) throw new IllegalArgumentException("Quantidade deve ser maior que zero.");
-        if (preco < 0) throw new IllegalArgumentException("Preço não pode ser negativo.");
-        this.nome = nome;
+        this.modelo = modelo;
         this.quantidade = quantidade;
-        this.preco = preco;
-        this.observacoes = new ArrayList<>();
+    }
+
+    /**
+     * Cria um item com o preço unitário já em centavos.
+     *
+     * @param nome            nome do item (não pode ser nulo ou vazio)
+     * @param quantidade      quantidade do item (deve ser maior que zero)
+     * @param precoEmCentavos preço unitário do item, em centavos (não pode ser negativo)
+     * @return novo item
+     * @throws IllegalArgumentException se nome for nulo/vazio, quantidade menor que 1 ou preço negativo
+     */
+    public static ItemPedido emCentavos(String nome, int quantidade, long precoEmCentavos) {
+        return new ItemPedido(new ModeloDeItem(ModeloDeItem.SEM_IDENTIFICADOR, nome, precoEmCentavos), quantidade);
+    }
+
+    /**
+     * Converte um valor em reais para centavos, arredondando para o centavo mais próximo.
+     *
+     * @param reais valor em reais (não pode ser negativo nem NaN)
+     * @return valor em centavos
+     * @throws IllegalArgumentException se o valor for negativo ou NaN
+     */
+    static long paraCentavos(double reais) {
+        if (!(reais >= 0)) throw new IllegalArgumentException("Preço não pode ser negativo.");
+        return Math.round(reais * 100);
+    }
+
+    /**
+     * Associa o item ao identificador recebido no cardápio, se ainda não tiver um.
+     *
+     * @param id identificador do item no cardápio
+     */
+    void associarAoCardapio(int id) {
+        if (modelo.getId() == ModeloDeItem.SEM_IDENTIFICADOR) {
+            modelo = modelo.comIdentificador(id);
+        }
     }
 
     /**
@@ -63,20 +122,34 @@ public class ItemPedido {
      */
     public void adicionarObservacao(ObservacaoDoPedido obs) {
         if (obs == null) throw new NullPointerException("Observação não pode ser nula.");
+        if (observacoes == null) observacoes = new ArrayList<>(2);
         observacoes.add(obs);
     }
 
     /**
      * Calcula o subtotal do item (quantidade x preço).
      *
-     * @return subtotal do item
+     * @return subtotal do item, em reais
      */
     public double calcularSubtotal() {
-        return quantidade * preco;
+        return calcularSubtotalEmCentavos() / 100.0;
+    }
+
+    /**
+     * Calcula o subtotal exato do item (quantidade x preço), em centavos.
+     *
+     * @return subtotal do item, em centavos
+     */
+    public long calcularSubtotalEmCentavos() {
+        return quantidade * modelo.getPrecoEmCentavos();
+    }
+
+    public ModeloDeItem getModelo() {
+        return modelo;
     }
 
     public String getNome() {
-        return nome;
+        return modelo.getNome();
     }
 
     public int getQuantidade() {
@@ -84,11 +157,19 @@ public class ItemPedido {
     }
 
     public double getPreco() {
-        return preco;
+        return modelo.getPreco();
+    }
+
+    public long getPrecoEmCentavos() {
+        return modelo.getPrecoEmCentavos();
     }
 
+    /**
+     * Retorna as observações do item, na ordem em que foram adicionadas.
+     *
+     * @return observações do item (vazia e somente de leitura se não houver nenhuma)
+     */
     public List<ObservacaoDoPedido> getObservacoes() {
-        return observacoes;
+        return observacoes != null ? observacoes : SEM_OBSERVACOES;
     }
 }
-
@@ -0,0 +1,74 @@
+package com.example.model;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Lista somente de acréscimo que oferece uma visão imutável reutilizada entre leituras.
+ * <p>
+ * Cada alteração incrementa a versão da lista. A visão devolvida por {@link #visao()} é uma cópia imutável marcada
+ * com a versão em que foi criada, e só é recriada na primeira leitura após uma alteração: leituras repetidas sem
+ * alterações intermediárias devolvem a mesma instância, sem alocar. Várias alterações seguidas custam uma única
+ * cópia na leitura seguinte.
+ * </p>
+ * <p>
+ * Alterações são serializadas pela trava da própria lista; leituras sem alterações pendentes não travam.
+ * </p>
+ *
+ * <p><b>Exceções possíveis:</b></p>
+ * <ul>
+ *   <li>{@link NullPointerException} - Lançada ao adicionar um elemento nulo.</li>
+ * </ul>
+ *
+ * @param <T> tipo dos elementos
+ *
+ * @author Ana Luiza Freitas Brito Siqueira
+ * @author Bruno Campos Penha
+ * @author Grazielly de Sousa Barros
+ * @author João Gabriel Oliveira Magalhães
+ * @author João Vitor Moreira Lemos
+ * @author Robert Alves Guimarães
+ * @author Vinicius D’Oliveira Rocha
+ * @version 1.0
+ */
+final class ListaVersionada<T> {
+
+    /** Cópia imutável dos elementos e a versão da lista em que foi criada */
+    private record Visao<T>(long versao, List<T> elementos) {
+    }
+
+    private final List<T> elementos = new ArrayList<>();
+    /** Incrementada a cada alteração, sob a trava da lista */
+    private volatile long versao;
+    private volatile Visao<T> visao = new Visao<>(0, List.of());
+
+    /**
+     * Adiciona um elemento ao final da lista.
+     *
+     * @param elemento elemento a ser adicionado (não pode ser nulo)
+     * @throws NullPointerException se o elemento for nulo
+     */
+    synchronized void adicionar(T elemento) {
+        if (elemento == null) throw new NullPointerException("Elemento não pode ser nulo.");
+        elementos.add(elemento);
+        versao++;
+    }
+
+    /**
+     * Retorna a visão imutável dos elementos, recriando-a apenas se a lista foi alterada desde a última leitura.
+     *
+     * @return lista imutável com os elementos na ordem em que foram adicionados
+     */
+    List<T> visao() {
+        Visao<T> atual = visao;
+        if (atual.versao() == versao) return atual.elementos();
+        synchronized (this) {
+            atual = visao;
+            if (atual.versao() != versao) {
+                atual = new Visao<>(versao, List.copyOf(elementos));
+                visao = atual;
+            }
+            return atual.elementos();
+        }
+    }
+}
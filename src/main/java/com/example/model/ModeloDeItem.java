@@ -0,0 +1,86 @@
+package com.example.model;
+
+/**
+ * Modelo imutável de um item: nome, preço unitário em centavos e identificador no cardápio.
+ * <p>
+ * Cada item do cardápio tem um único modelo, compartilhado por todos os itens de pedido criados a partir dele com
+ * {@link ItemPedido#ItemPedido(ModeloDeItem, int)}. Assim, cada linha de pedido guarda apenas a referência ao
+ * modelo, a quantidade e as observações, em vez de repetir nome e preço. Itens criados fora do cardápio recebem um
+ * modelo próprio, sem identificador.
+ * </p>
+ *
+ * <p><b>Exceções possíveis:</b></p>
+ * <ul>
+ *   <li>{@link IllegalArgumentException} - Lançada ao criar um modelo com nome nulo ou vazio ou preço negativo.</li>
+ * </ul>
+ *
+ * @author Ana Luiza Freitas Brito Siqueira
+ * @author Bruno Campos Penha
+ * @author Grazielly de Sousa Barros
+ * @author João Gabriel Oliveira Magalhães
+ * @author João Vitor Moreira Lemos
+ * @author Robert Alves Guimarães
+ * @author Vinicius D’Oliveira Rocha
+ * @version 1.0
+ */
+public final class ModeloDeItem {
+    /** Identificador dos modelos que não pertencem ao cardápio */
+    public static final int SEM_IDENTIFICADOR = -1;
+
+    private final int id;
+    private final String nome;
+    private final long precoEmCentavos;
+
+    /**
+     * Construtor do ModeloDeItem.
+     *
+     * @param id              identificador no cardápio, ou {@link #SEM_IDENTIFICADOR}
+     * @param nome            nome do item (não pode ser nulo ou vazio)
+     * @param precoEmCentavos preço unitário, em centavos (não pode ser negativo)
+     * @throws IllegalArgumentException se nome for nulo/vazio ou preço negativo
+     */
+    ModeloDeItem(int id, String nome, long precoEmCentavos) {
+        if (nome == null || nome.isBlank()) throw new IllegalArgumentException("Nome do item não pode ser nulo ou vazio.");
+        if (precoEmCentavos < 0) throw new IllegalArgumentException("Preço não pode ser negativo.");
+        this.id = id;
+        this.nome = nome;
+        this.precoEmCentavos = precoEmCentavos;
+    }
+
+    /**
+     * Retorna um modelo com os mesmos nome e preço e o identificador informado.
+     *
+     * @param id identificador no cardápio
+     * @return novo modelo
+     */
+    ModeloDeItem comIdentificador(int id) {
+        return new ModeloDeItem(id, nome, precoEmCentavos);
+    }
+
+    /**
+     * Indica se o modelo tem exatamente o nome e o preço informados.
+     *
+     * @param nome            nome do item
+     * @param precoEmCentavos preço unitário, em centavos
+     * @return true se nome e preço forem iguais
+     */
+    boolean tem(String nome, long precoEmCentavos) {
+        return this.precoEmCentavos == precoEmCentavos && this.nome.equals(nome);
+    }
+
+    public int getId() {
+        return id;
+    }
+
+    public String getNome() {
+        return nome;
+    }
+
+    public long getPrecoEmCentavos() {
+        return precoEmCentavos;
+    }
+
+    public double getPreco() {
+        return precoEmCentavos / 100.0;
+    }
+}
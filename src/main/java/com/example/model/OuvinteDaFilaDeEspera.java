@@ -0,0 +1,33 @@
+package com.example.model;
+
+/**
+ * Interface interna para observar as entradas e saídas da {@link FilaDeEspera}.
+ * <p>
+ * Permite que o {@link Restaurante} repasse as alterações da fila de espera geral ao seu {@link OuvinteDoRestaurante}.
+ * </p>
+ *
+ * @author Ana Luiza Freitas Brito Siqueira
+ * @author Bruno Campos Penha
+ * @author Grazielly de Sousa Barros
+ * @author João Gabriel Oliveira Magalhães
+ * @author João Vitor Moreira Lemos
+ * @author Robert Alves Guimarães
+ * @author Vinicius D’Oliveira Rocha
+ * @version 1.0
+ */
+interface OuvinteDaFilaDeEspera {
+    /**
+     * Notifica que um cliente ou grupo entrou na fila.
+     *
+     * @param atendivel cliente ou grupo
+     * @param devolvido true se foi devolvido ao início da fila após uma tentativa de atendimento
+     */
+    void entrou(Atendivel atendivel, boolean devolvido);
+
+    /**
+     * Notifica que um cliente ou grupo saiu da fila.
+     *
+     * @param atendivel cliente ou grupo
+     */
+    void saiu(Atendivel atendivel);
+}
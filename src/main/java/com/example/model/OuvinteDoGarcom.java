@@ -0,0 +1,53 @@
+package com.example.model;
+
+/**
+ * Interface interna para observar mudanças no estado de um {@link Garcom}.
+ * <p>
+ * Permite que o {@link Restaurante} mantenha seus índices atualizados sempre que um garçom
+ * inicia ou remove atendimentos, inclusive quando os métodos do garçom são chamados diretamente
+ * pelos controladores.
+ * </p>
+ *
+ * <p><b>Uso típico:</b></p>
+ * <ol>
+ *   <li>Registrar o ouvinte no garçom ao adicioná-lo ao restaurante.</li>
+ *   <li>Receber as notificações após cada alteração nas filas do garçom.</li>
+ * </ol>
+ *
+ * @author Ana Luiza Freitas Brito Siqueira
+ * @author Bruno Campos Penha
+ * @author Grazielly de Sousa Barros
+ * @author João Gabriel Oliveira Magalhães
+ * @author João Vitor Moreira Lemos
+ * @author Robert Alves Guimarães
+ * @author Vinicius D’Oliveira Rocha
+ * @version 1.0
+ */
+interface OuvinteDoGarcom {
+    /**
+     * Notifica que a quantidade de atendimentos do garçom foi alterada.
+     *
+     * @param garcom garçom cujas filas foram alteradas
+     */
+    void capacidadeAlterada(Garcom garcom);
+
+    /**
+     * Notifica que o garçom iniciou um novo atendimento.
+     * A implementação padrão não faz nada.
+     *
+     * @param garcom      garçom responsável
+     * @param atendimento atendimento criado
+     */
+    default void atendimentoIniciado(Garcom garcom, Atendimento atendimento) {
+    }
+
+    /**
+     * Notifica que um atendimento ainda não finalizado foi descartado das filas do garçom.
+     * A implementação padrão não faz nada.
+     *
+     * @param garcom      garçom responsável
+     * @param atendimento atendimento descartado
+     */
+    default void atendimentoDescartado(Garcom garcom, Atendimento atendimento) {
+    }
+}
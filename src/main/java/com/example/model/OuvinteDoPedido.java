@@ -0,0 +1,45 @@
+package com.example.model;
+
+/**
+ * Interface interna para observar os itens adicionados e removidos de um {@link Pedido} e as observações
+ * acrescentadas aos seus itens.
+ * <p>
+ * Permite que o {@link Restaurante} repasse as alterações dos pedidos ao seu {@link OuvinteDoRestaurante},
+ * mesmo quando os itens são incluídos diretamente pelos controladores.
+ * </p>
+ *
+ * @author Ana Luiza Freitas Brito Siqueira
+ * @author Bruno Campos Penha
+ * @author Grazielly de Sousa Barros
+ * @author João Gabriel Oliveira Magalhães
+ * @author João Vitor Moreira Lemos
+ * @author Robert Alves Guimarães
+ * @author Vinicius D’Oliveira Rocha
+ * @version 1.0
+ */
+interface OuvinteDoPedido {
+    /**
+     * Notifica que um item foi adicionado ao pedido.
+     *
+     * @param pedido pedido alterado
+     * @param item   item adicionado
+     */
+    void itemAdicionado(Pedido pedido, ItemPedido item);
+
+    /**
+     * Notifica que um item foi removido do pedido.
+     *
+     * @param pedido pedido alterado
+     * @param item   item removido
+     */
+    void itemRemovido(Pedido pedido, ItemPedido item);
+
+    /**
+     * Notifica que uma observação foi adicionada a um item do pedido.
+     *
+     * @param pedido     pedido alterado
+     * @param item       item que recebeu a observação, já com ela
+     * @param observacao observação adicionada
+     */
+    void observacaoAdicionada(Pedido pedido, ItemPedido item, ObservacaoDoPedido observacao);
+}
@@ -0,0 +1,119 @@
+package com.example.model;
+
+/**
+ * Interface para observar os eventos de domínio de um {@link Restaurante}.
+ * <p>
+ * Recebe cada alteração relevante do estado do restaurante (garçom adicionado, entrada e saída da fila de espera,
+ * atendimento iniciado, item incluído ou removido do pedido, observação adicionada a um item, atendimento finalizado ou
+ * descartado), permitindo registrá-las
+ * de forma incremental, por exemplo em um diário de eventos, sem regravar todo o estado.
+ * Todos os métodos têm implementação padrão vazia.
+ * </p>
+ * <p>
+ * As notificações podem vir de várias threads e, em geral, são feitas enquanto a trava do garçom
+ * envolvido está mantida; as implementações devem ser rápidas e seguras para uso concorrente.
+ * </p>
+ *
+ * <p><b>Uso típico:</b></p>
+ * <ol>
+ *   <li>Registrar o ouvinte com {@link Restaurante#setOuvinte(OuvinteDoRestaurante)}.</li>
+ *   <li>Receber as notificações à medida que o restaurante é utilizado.</li>
+ * </ol>
+ *
+ * @author Ana Luiza Freitas Brito Siqueira
+ * @author Bruno Campos Penha
+ * @author Grazielly de Sousa Barros
+ * @author João Gabriel Oliveira Magalhães
+ * @author João Vitor Moreira Lemos
+ * @author Robert Alves Guimarães
+ * @author Vinicius D’Oliveira Rocha
+ * @version 1.0
+ */
+public interface OuvinteDoRestaurante {
+    /**
+     * Notifica que um garçom foi adicionado ao restaurante.
+     * Os atendimentos que o garçom já possuía são notificados em seguida por {@link #atendimentoIniciado}.
+     *
+     * @param garcom garçom adicionado
+     */
+    default void garcomAdicionado(Garcom garcom) {
+    }
+
+    /**
+     * Notifica que um cliente ou grupo entrou na fila de espera geral do restaurante.
+     *
+     * @param atendivel cliente ou grupo
+     * @param devolvido true se foi devolvido ao início da fila após uma tentativa de atendimento
+     */
+    default void entrouNaFilaDeEspera(Atendivel atendivel, boolean devolvido) {
+    }
+
+    /**
+     * Notifica que um cliente ou grupo saiu da fila de espera geral do restaurante.
+     *
+     * @param atendivel cliente ou grupo
+     */
+    default void saiuDaFilaDeEspera(Atendivel atendivel) {
+    }
+
+    /**
+     * Notifica que um garçom do restaurante iniciou um atendimento.
+     *
+     * @param garcom      garçom responsável
+     * @param atendimento atendimento iniciado, com os itens que o pedido já possuir
+     */
+    default void atendimentoIniciado(Garcom garcom, Atendimento atendimento) {
+    }
+
+    /**
+     * Notifica que um item foi adicionado ao pedido de um atendimento.
+     *
+     * @param atendimento atendimento cujo pedido foi alterado
+     * @param item        item adicionado
+     */
+    default void itemAdicionado(Atendimento atendimento, ItemPedido item) {
+    }
+
+    /**
+     * Notifica que um item foi removido do pedido de um atendimento.
+     *
+     * @param atendimento atendimento cujo pedido foi alterado
+     * @param item        item removido
+     */
+    default void itemRemovido(Atendimento atendimento, ItemPedido item) {
+    }
+
+    /**
+     * Notifica que uma observação foi adicionada a um item do pedido de um atendimento.
+     *
+     * @param atendimento atendimento cujo pedido foi alterado
+     * @param item        item que recebeu a observação, já com ela
+     * @param observacao  observação adicionada
+     */
+    default void observacaoAdicionada(Atendimento atendimento, ItemPedido item, ObservacaoDoPedido observacao) {
+    }
+
+    /**
+     * Notifica que um atendimento foi registrado como finalizado no histórico.
+     *
+     * @param atendimento atendimento finalizado
+     */
+    default void atendimentoFinalizado(Atendimento atendimento) {
+    }
+
+    /**
+     * Notifica que um atendimento ainda não finalizado foi descartado das filas de um garçom.
+     *
+     * @param atendimento atendimento descartado
+     */
+    default void atendimentoDescartado(Atendimento atendimento) {
+    }
+
+    /**
+     * Notifica que o turno do restaurante foi encerrado.
+     *
+     * @param restaurante restaurante cujo turno foi encerrado
+     */
+    default void turnoEncerrado(Restaurante restaurante) {
+    }
+}
@@ -1,17 +1,29 @@
 package com.example.model;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * Classe que representa um pedido realizado no restaurante.
  * <p>
  * Armazena uma lista de itens do pedido e fornece métodos para manipulação e cálculo do valor total.
  * </p>
+ * <p>
+ * O total, em centavos, é mantido a cada item adicionado ou removido, de modo que consultá-lo não percorre os
+ * itens nem cria objetos, e é exato. Por isso os itens são alterados somente por {@link #adicionarItem(ItemPedido)}
+ * e {@link #removerItem(ItemPedido)}; a lista de {@link #getItens()} é uma visão somente de leitura. As observações
+ * de um item já incluído são acrescentadas por {@link #adicionarObservacao(ItemPedido, ObservacaoDoPedido)}, para
+ * que o ouvinte do pedido também as receba.
+ * </p>
  *
  * <p><b>Exceções possíveis:</b></p>
  * <ul>
- *   <li>{@link NullPointerException} - Lançada ao tentar adicionar ou remover um item nulo.</li>
+ *   <li>{@link NullPointerException} - Lançada ao tentar adicionar ou remover um item nulo, ou adicionar uma
+ *   observação nula.</li>
+ *   <li>{@link IllegalArgumentException} - Lançada ao criar um pedido com identificador menor que 1 ou ao adicionar
+ *   uma observação a um item que não pertence ao pedido.</li>
  * </ul>
  *
  * <p><b>Uso típico:</b></p>
@@ -31,17 +43,49 @@ import java.util.List;
  * @version 1.0
  */
 public class Pedido {
-    private static int contador = 0;
+    private static final AtomicInteger contador = new AtomicInteger();
     private int id;
     private List<ItemPedido> itens;
+    /** Visão somente de leitura dos itens, criada uma única vez */
+    private List<ItemPedido> visaoDosItens;
+    /** Soma dos subtotais dos itens, em centavos */
+    private long totalEmCentavos;
+    /** Ouvinte notificado a cada item adicionado ou removido (não é persistido) */
+    private transient OuvinteDoPedido ouvinte;
 
     /**
      * Construtor do Pedido.
      * Inicializa o pedido com um identificador único e uma lista vazia de itens.
      */
     public Pedido() {
-        this.id = ++contador;
+        this.id = contador.incrementAndGet();
+        this.itens = new ArrayList<>();
+        this.visaoDosItens = Collections.unmodifiableList(itens);
+    }
+
+    /**
+     * Construtor do Pedido com identificador já conhecido, como ao recuperar o estado salvo.
+     * Os próximos pedidos criados recebem identificadores maiores que o informado.
+     *
+     * @param id identificador do pedido (maior que zero)
+     * @throws IllegalArgumentException se o identificador for menor que 1
+     */
+    public Pedido(int id) {
+        if (id < 1) throw new IllegalArgumentException("Identificador do pedido deve ser maior que zero.");
+        reservarAte(id);
+        this.id = id;
         this.itens = new ArrayList<>();
+        this.visaoDosItens = Collections.unmodifiableList(itens);
+    }
+
+    /**
+     * Garante que os próximos pedidos criados recebam identificadores maiores que o informado, como ao recuperar
+     * registros do histórico sem recriar os pedidos.
+     *
+     * @param id identificador já usado por um pedido
+     */
+    public static void reservarAte(int id) {
+        contador.accumulateAndGet(id, Math::max);
     }
 
     /**
@@ -54,12 +98,12 @@ public class Pedido {
     }
 
     /**
-     * Retorna a lista de itens do pedido.
+     * Retorna a lista de itens do pedido, somente de leitura, que acompanha os itens adicionados e removidos.
      *
      * @return lista de itens
      */
     public List<ItemPedido> getItens() {
-        return itens;
+        return visaoDosItens;
     }
 
     /**
@@ -71,6 +115,8 @@ public class Pedido {
     public void adicionarItem(ItemPedido item) {
         if (item == null) throw new NullPointerException("Item do pedido não pode ser nulo.");
         itens.add(item);
+        totalEmCentavos += item.calcularSubtotalEmCentavos();
+        if (ouvinte != null) ouvinte.itemAdicionado(this, item);
     }
 
     /**
@@ -81,17 +127,51 @@ public class Pedido {
      */
     public void removerItem(ItemPedido item) {
         if (item == null) throw new NullPointerException("Item do pedido não pode ser nulo.");
-        itens.remove(item);
+        if (itens.remove(item)) {
+            totalEmCentavos -= item.calcularSubtotalEmCentavos();
+            if (ouvinte != null) ouvinte.itemRemovido(this, item);
+        }
     }
 
     /**
-     * Calcula o valor total do pedido somando o subtotal de todos os itens.
+     * Adiciona uma observação a um item já incluído no pedido.
      *
-     * @return valor total do pedido
+     * @param item       item do pedido (não pode ser nulo)
+     * @param observacao observação a ser adicionada (não pode ser nula)
+     * @throws NullPointerException     se o item ou a observação forem nulos
+     * @throws IllegalArgumentException se o item não pertencer ao pedido
+     */
+    public void adicionarObservacao(ItemPedido item, ObservacaoDoPedido observacao) {
+        if (item == null) throw new NullPointerException("Item do pedido não pode ser nulo.");
+        if (!itens.contains(item)) throw new IllegalArgumentException("Item não pertence ao pedido.");
+        item.adicionarObservacao(observacao);
+        if (ouvinte != null) ouvinte.observacaoAdicionada(this, item, observacao);
+    }
+
+    /**
+     * Define o ouvinte notificado sempre que os itens do pedido forem alterados.
+     *
+     * @param ouvinte ouvinte a ser notificado (pode ser nulo)
+     */
+    void setOuvinte(OuvinteDoPedido ouvinte) {
+        this.ouvinte = ouvinte;
+    }
+
+    /**
+     * Retorna o valor total do pedido, a soma do subtotal de todos os itens.
+     *
+     * @return valor total do pedido, em reais
      */
     public double calcularTotal() {
-        return itens.stream()
-                .mapToDouble(ItemPedido::calcularSubtotal)
-                .sum();
+        return totalEmCentavos / 100.0;
+    }
+
+    /**
+     * Retorna o valor total exato do pedido, a soma do subtotal de todos os itens, em centavos.
+     *
+     * @return valor total do pedido, em centavos
+     */
+    public long getTotalEmCentavos() {
+        return totalEmCentavos;
     }
 }
@@ -1,21 +1,31 @@
 package com.example.model;
 
+import com.example.model.distribuicao.EstrategiaDistribuicao;
+import com.example.model.distribuicao.PrimeiroDisponivel;
 import com.example.util.Turno;
+import com.example.util.collections.MapaIntObjeto;
 import com.example.util.persistence.Persistencia;
 
-import java.util.ArrayList;
 import java.util.List;
-import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.StampedLock;
 
 /**
  * Classe que representa o restaurante e centraliza a gestão de garçons, cardápio, atendimentos e fila de espera.
  * <p>
  * Responsável por distribuir atendimentos, gerenciar turnos, registrar históricos e controlar entidades principais.
  * </p>
+ * <p>
+ * Uma mesma instância pode ser usada por vários terminais ao mesmo tempo. Os identificadores são gerados
+ * atomicamente, cada garçom trava apenas as próprias filas e as consultas de garçons, cardápio e garçons
+ * disponíveis não usam travas; a consulta de pedidos usa a trava de leitura do índice de pedidos, compartilhada
+ * entre consultas concorrentes. Nenhuma trava do restaurante é mantida enquanto se aguarda a trava de um garçom,
+ * evitando impasses.
+ * </p>
  *
  * <p><b>Exceções possíveis:</b></p>
  * <ul>
- *   <li>{@link IllegalArgumentException} - Lançada ao criar um restaurante com nome nulo ou vazio, ao adicionar garçom ou item nulo, ao iniciar turno nulo ou ao distribuir tipo de atendível desconhecido.</li>
+ *   <li>{@link IllegalArgumentException} - Lançada ao criar um restaurante com nome nulo ou vazio, ao adicionar garçom ou item nulo, ao iniciar turno nulo, ao definir estratégia de distribuição ou ouvinte nulos ou ao distribuir tipo de atendível desconhecido.</li>
  * </ul>
  *
  * <p><b>Uso típico:</b></p>
@@ -37,16 +47,31 @@ import java.util.Optional;
  */
 public class Restaurante {
     private final String nome;
-    private final List<Garcom> garcons;
-    private final List<ItemPedido> cardapio;
-    private final List<Atendimento> historicoAtendimentos;
-    private Turno turnoAtual;
+    private final ListaVersionada<Garcom> garcons;
+    private final Cardapio cardapio;
+    private final HistoricoDeAtendimentos historico;
+    private volatile Turno turnoAtual;
 
-    private int nextGarcomId = 1;
-    private int nextClienteId = 1;
-    private int nextGrupoId = 1;
+    private final AtomicInteger nextGarcomId = new AtomicInteger(1);
+    private final AtomicInteger nextClienteId = new AtomicInteger(1);
+    private final AtomicInteger nextGrupoId = new AtomicInteger(1);
 
-    private final List<Atendivel> filaDeEsperaGeral;
+    private final FilaDeEspera filaDeEsperaGeral;
+
+    /** Índice dos garçons com vagas livres, usado na distribuição de atendimentos */
+    private final IndiceDeCapacidade indiceDeCapacidade;
+    /** Índice dos atendimentos ativos e dos finalizados ainda em memória pelo identificador do pedido */
+    private final MapaIntObjeto<Atendimento> atendimentosPorPedido;
+    /** Trava do índice de pedidos, que não é sincronizado: consultas usam a trava de leitura e mudanças a de escrita */
+    private final StampedLock travaPedidos;
+    /** Índice dos garçons pelo identificador, substituído por inteiro a cada novo garçom */
+    private volatile MapaIntObjeto<Garcom> garconsPorId;
+    /** Ouvinte registrado nos garçons, nos pedidos e na fila de espera para manter os índices atualizados */
+    private final OuvinteDosGarcons ouvinteDosGarcons;
+    /** Ouvinte externo notificado dos eventos de domínio, ou {@code null} se não houver */
+    private volatile OuvinteDoRestaurante ouvinte;
+    /** Estratégia usada para escolher o garçom entre os que possuem vaga */
+    private volatile EstrategiaDistribuicao estrategiaDistribuicao;
 
     /**
      * Construtor do Restaurante.
@@ -59,10 +84,16 @@ public class Restaurante {
             throw new IllegalArgumentException("Nome do restaurante não pode ser nulo ou vazio.");
         }
         this.nome = nome;
-        this.garcons = new ArrayList<>();
-        this.cardapio = new ArrayList<>();
-        this.historicoAtendimentos = new ArrayList<>();
-        this.filaDeEsperaGeral = new ArrayList<>();
+        this.garcons = new ListaVersionada<>();
+        this.cardapio = new Cardapio();
+        this.historico = new HistoricoDeAtendimentos();
+        this.indiceDeCapacidade = new IndiceDeCapacidade();
+        this.atendimentosPorPedido = new MapaIntObjeto<>();
+        this.travaPedidos = new StampedLock();
+        this.garconsPorId = new MapaIntObjeto<>();
+        this.ouvinteDosGarcons = new OuvinteDosGarcons();
+        this.filaDeEsperaGeral = new FilaDeEspera(ouvinteDosGarcons);
+        this.estrategiaDistribuicao = new PrimeiroDisponivel();
     }
 
     /**
@@ -74,123 +105,232 @@ public class Restaurante {
     public void iniciarTurno(Turno turno) {
         if (turno == null) throw new IllegalArgumentException("Turno não pode ser nulo.");
         this.turnoAtual = turno;
-        for (Garcom g : garcons) {
+        for (Garcom g : garcons.visao()) {
             g.setTurnoAtual(turno);
         }
     }
 
     /**
-     * Encerra o turno do restaurante e de todos os garçons, salvando os dados dos garçons.
+     * Encerra o turno do restaurante e de todos os garçons.
+     * <p>
+     * Com um {@link OuvinteDoRestaurante} registrado, os dados já foram registrados de forma incremental e
+     * o ouvinte é apenas notificado do encerramento; caso contrário, os dados dos garçons são salvos por inteiro,
+     * com a escrita do arquivo feita em segundo plano ({@link Persistencia#salvarGarcons(List)}).
+     * </p>
      */
     public void encerrarTurno() {
-        for (Garcom g : garcons) {
+        for (Garcom g : garcons.visao()) {
             g.setTurnoAtual(null);
         }
         this.turnoAtual = null;
-        Persistencia.salvarGarcons(garcons);
+        OuvinteDoRestaurante atual = ouvinte;
+        if (atual != null) {
+            atual.turnoEncerrado(this);
+        } else {
+            Persistencia.salvarGarcons(garcons.visao());
+        }
     }
 
     /**
      * Adiciona um garçom ao restaurante.
+     * Os próximos identificadores de garçom gerados serão maiores que o do garçom adicionado.
      *
      * @param garcom garçom a ser adicionado (não pode ser nulo)
      * @throws IllegalArgumentException se o garçom for nulo
      */
     public void adicionarGarcom(Garcom garcom) {
         if (garcom == null) throw new IllegalArgumentException("Garçom não pode ser nulo.");
-        garcons.add(garcom);
+        reservarAte(nextGarcomId, garcom.getId());
+        synchronized (garcons) {
+            garcons.adicionar(garcom);
+            indiceDeCapacidade.registrar(garcom);
+            List<Garcom> todos = garcons.visao();
+            MapaIntObjeto<Garcom> novoIndice = new MapaIntObjeto<>(todos.size());
+            for (Garcom g : todos) {
+                novoIndice.putIfAbsent(g.getId(), g);
+            }
+            garconsPorId = novoIndice;
+        }
+        synchronized (garcom) {
+            garcom.setOuvinte(ouvinteDosGarcons);
+            indiceDeCapacidade.capacidadeAlterada(garcom);
+            OuvinteDoRestaurante atual = ouvinte;
+            if (atual != null) atual.garcomAdicionado(garcom);
+            garcom.getFilaAtendimentoIndividual().getFila().forEach(a -> ouvinteDosGarcons.atendimentoIniciado(garcom, a));
+            garcom.getFilaAtendimentoGrupo().getFila().forEach(a -> ouvinteDosGarcons.atendimentoIniciado(garcom, a));
+        }
     }
 
     /**
      * Busca um garçom pelo seu identificador.
+     * Caso haja mais de um garçom com o mesmo id, retorna o primeiro adicionado.
      *
      * @param id identificador do garçom
      * @return garçom encontrado ou {@code null} se não existir
      */
     public Garcom buscarGarcomPorId(int id) {
-        return garcons.stream().filter(g -> g.getId() == id).findFirst().orElse(null);
+        return garconsPorId.get(id);
     }
 
     /**
      * Distribui um atendimento para um garçom disponível.
+     * <p>
+     * Os garçons com vaga são obtidos do índice de capacidade, sem percorrer a lista de garçons,
+     * e a escolha entre eles é feita pela {@link EstrategiaDistribuicao} configurada.
+     * </p>
      *
      * @param atendivel entidade a ser atendida (Cliente ou GrupoClientes)
      * @throws IllegalArgumentException se o tipo de atendível for desconhecido
      */
     public void distribuirAtendimento(Atendivel atendivel) {
-        if (atendivel instanceof Cliente cliente) {
-            for (Garcom g : garcons) {
-                if (g.podeAtenderMaisClientesIndividuais()) {
-                    g.atenderCliente(cliente);
-                    return;
-                }
+        List<Garcom> disponiveis = garconsComVaga(atendivel);
+        for (int tentativas = disponiveis.size(); tentativas >= 0 && !disponiveis.isEmpty(); tentativas--) {
+            Garcom g = estrategiaDistribuicao.escolherGarcom(disponiveis, atendivel);
+            if (g != null && atenderSePossivel(g, atendivel)) {
+                return;
             }
-        } else if (atendivel instanceof GrupoClientes grupo) {
-            for (Garcom g : garcons) {
-                if (g.podeAtenderMaisGrupos()) {
-                    g.atenderGrupo(grupo);
-                    return;
+            if (g != null) {
+                // Garçom lotado por outro terminal ou fila alterada sem notificação: corrige o índice e tenta novamente
+                synchronized (g) {
+                    indiceDeCapacidade.capacidadeAlterada(g);
                 }
+                disponiveis = garconsComVaga(atendivel);
             }
-        } else {
-            throw new IllegalArgumentException("Tipo de atendível desconhecido.");
         }
         System.out.println("Nenhum garçom disponível no momento para atender " + atendivel.getNome());
     }
 
     /**
-     * Registra um atendimento finalizado no histórico e remove das filas dos garçons.
+     * Retorna o instantâneo dos garçons com vaga para o tipo do atendível.
+     *
+     * @param atendivel cliente ou grupo a ser atendido
+     * @return garçons com vaga no momento da consulta
+     * @throws IllegalArgumentException se o tipo de atendível for desconhecido
+     */
+    private List<Garcom> garconsComVaga(Atendivel atendivel) {
+        if (atendivel instanceof Cliente) {
+            return indiceDeCapacidade.comVagaIndividual();
+        } else if (atendivel instanceof GrupoClientes) {
+            return indiceDeCapacidade.comVagaGrupo();
+        }
+        throw new IllegalArgumentException("Tipo de atendível desconhecido.");
+    }
+
+    /**
+     * Atribui o atendível ao garçom caso ele ainda tenha vaga para o tipo de atendimento.
+     * A verificação e a atribuição são feitas juntas, sob a trava do garçom.
+     *
+     * @param garcom    garçom escolhido
+     * @param atendivel cliente ou grupo a ser atendido
+     * @return true se o atendimento foi iniciado, false caso o garçom não tenha vaga
+     */
+    private boolean atenderSePossivel(Garcom garcom, Atendivel atendivel) {
+        if (atendivel instanceof Cliente cliente) return garcom.atenderCliente(cliente);
+        if (atendivel instanceof GrupoClientes grupo) return garcom.atenderGrupo(grupo);
+        return false;
+    }
+
+    /**
+     * Registra um atendimento finalizado no histórico e remove da fila do garçom responsável, localizado pelo
+     * identificador gravado no atendimento, sem percorrer os demais garçons.
      *
      * @param atendimento atendimento finalizado (pode ser nulo, nesse caso nada acontece)
      */
     public void registrarAtendimentoFinalizado(Atendimento atendimento) {
-        if (atendimento != null) {
-            historicoAtendimentos.add(atendimento);
+        if (atendimento == null) return;
+        indexarAtendimento(atendimento);
+        Atendimento descartado = historico.adicionar(atendimento);
+        if (descartado != null) desindexarAtendimento(descartado);
+        OuvinteDoRestaurante atual = ouvinte;
+        if (atual != null) atual.atendimentoFinalizado(atendimento);
+        // O atendimento só pode estar na fila do garçom que o iniciou ou retomou
+        Garcom g = garconsPorId.get(atendimento.getGarcomId());
+        if (g != null && removerDaFilaDoGarcom(g, atendimento)) {
+            estrategiaDistribuicao.atendimentoFinalizado(g, atendimento);
+            if (atendimento instanceof AtendimentoIndividual individual) {
+                System.out.println("Atendimento individual de " + individual.getCliente().getNome() + " finalizado e removido da fila do garçom " + g.getNome());
+            } else if (atendimento instanceof AtendimentoGrupo grupo) {
+                System.out.println("Atendimento de grupo " + grupo.getGrupo().getNomeGrupo() + " finalizado e removido da fila do garçom " + g.getNome());
+            }
         }
-        for (Garcom g : garcons) {
-            if (atendimento instanceof AtendimentoIndividual && g.getFilaAtendimentoIndividual().getFila().contains(atendimento)) {
-                g.removerAtendimentoFinalizado(atendimento);
-                System.out.println("Atendimento individual de " + ((AtendimentoIndividual) atendimento).getCliente().getNome() + " finalizado e removido da fila do garçom " + g.getNome());
-                return;
-            } else if (atendimento instanceof AtendimentoGrupo && g.getFilaAtendimentoGrupo().getFila().contains(atendimento)) {
-                g.removerAtendimentoFinalizado(atendimento);
-                System.out.println("Atendimento de grupo " + ((AtendimentoGrupo) atendimento).getGrupo().getNomeGrupo() + " finalizado e removido da fila do garçom " + g.getNome());
-                return;
+    }
+
+    /**
+     * Remove o atendimento da fila correspondente do garçom, caso esteja nela.
+     * A verificação e a remoção são feitas sob a trava do garçom.
+     *
+     * @param garcom      garçom cujas filas serão verificadas
+     * @param atendimento atendimento finalizado
+     * @return true se o atendimento estava na fila do garçom e foi removido
+     */
+    private boolean removerDaFilaDoGarcom(Garcom garcom, Atendimento atendimento) {
+        synchronized (garcom) {
+            boolean naFila = atendimento instanceof AtendimentoIndividual && garcom.getFilaAtendimentoIndividual().getFila().contains(atendimento)
+                    || atendimento instanceof AtendimentoGrupo && garcom.getFilaAtendimentoGrupo().getFila().contains(atendimento);
+            if (naFila) {
+                garcom.removerAtendimentoFinalizado(atendimento);
             }
+            return naFila;
         }
     }
 
     /**
-     * Busca um pedido pelo seu identificador, procurando primeiro no histórico e depois nas filas ativas dos garçons.
+     * Busca um pedido pelo seu identificador, tanto no histórico recente quanto nas filas ativas dos garçons.
+     * <p>
+     * A consulta é feita no índice de pedidos em tempo constante. Pedidos finalizados que já saíram da memória
+     * existem apenas como registros e são encontrados por {@link HistoricoDeAtendimentos#buscarPosicao(int)}.
+     * </p>
      *
      * @param pedidoId identificador do pedido
      * @return pedido encontrado ou {@code null} se não existir
      */
     public Pedido buscarPedidoPorId(int pedidoId) {
-        // 1. Buscar nos atendimentos finalizados
-        Optional<Atendimento> atendimentoHistorico = historicoAtendimentos.stream()
-                .filter(a -> a.getPedido().getId() == pedidoId)
-                .findFirst();
-        if (atendimentoHistorico.isPresent()) {
-            return atendimentoHistorico.get().getPedido();
+        Atendimento atendimento = buscarAtendimentoPorPedidoId(pedidoId);
+        return atendimento != null ? atendimento.getPedido() : null;
+    }
+
+    /**
+     * Busca o atendimento associado a um pedido, tanto no histórico recente (em memória) quanto nas filas ativas dos garçons.
+     * Pedidos que existem apenas como registros do histórico são encontrados por {@link HistoricoDeAtendimentos#buscarPosicao(int)}.
+     *
+     * @param pedidoId identificador do pedido
+     * @return atendimento encontrado ou {@code null} se não existir
+     */
+    public Atendimento buscarAtendimentoPorPedidoId(int pedidoId) {
+        long marca = travaPedidos.readLock();
+        try {
+            return atendimentosPorPedido.get(pedidoId);
+        } finally {
+            travaPedidos.unlockRead(marca);
         }
+    }
 
-        for (Garcom garcom : garcons) {
-            Optional<Atendimento> atendimentoIndividualAtivo = garcom.getFilaAtendimentoIndividual().getFila().stream()
-                    .filter(a -> a.getPedido().getId() == pedidoId)
-                    .findFirst();
-            if (atendimentoIndividualAtivo.isPresent()) {
-                return atendimentoIndividualAtivo.get().getPedido();
-            }
+    /**
+     * Adiciona o atendimento ao índice de pedidos, caso ainda não esteja indexado.
+     *
+     * @param atendimento atendimento a ser indexado
+     */
+    private void indexarAtendimento(Atendimento atendimento) {
+        long marca = travaPedidos.writeLock();
+        try {
+            atendimentosPorPedido.putIfAbsent(atendimento.getPedido().getId(), atendimento);
+        } finally {
+            travaPedidos.unlockWrite(marca);
+        }
+    }
 
-            Optional<Atendimento> atendimentoGrupoAtivo = garcom.getFilaAtendimentoGrupo().getFila().stream()
-                    .filter(a -> a.getPedido().getId() == pedidoId)
-                    .findFirst();
-            if (atendimentoGrupoAtivo.isPresent()) {
-                return atendimentoGrupoAtivo.get().getPedido();
-            }
+    /**
+     * Remove o atendimento do índice de pedidos, caso ainda seja o atendimento indexado para o seu pedido.
+     *
+     * @param atendimento atendimento a ser removido do índice
+     */
+    private void desindexarAtendimento(Atendimento atendimento) {
+        long marca = travaPedidos.writeLock();
+        try {
+            atendimentosPorPedido.remove(atendimento.getPedido().getId(), atendimento);
+        } finally {
+            travaPedidos.unlockWrite(marca);
         }
-        return null; // Pedido não encontrado
     }
 
     /**
@@ -201,21 +341,65 @@ public class Restaurante {
      * @return garçom correspondente ou {@code null} se não encontrado
      */
     public Garcom validarLoginGarcom(int id, String nome) {
-        Optional<Garcom> garcom = garcons.stream()
-                .filter(g -> g.getId() == id && g.getNome().equalsIgnoreCase(nome))
-                .findFirst();
-        return garcom.orElse(null);
+        Garcom garcom = garconsPorId.get(id);
+        return garcom != null && garcom.getNome().equalsIgnoreCase(nome) ? garcom : null;
     }
 
     /**
      * Adiciona um item ao cardápio do restaurante.
      *
      * @param item item a ser adicionado (não pode ser nulo)
+     * @return identificador estável do item no cardápio (a sua posição em {@link #getCardapio()})
      * @throws IllegalArgumentException se o item for nulo
      */
-    public void adicionarAoCardapio(ItemPedido item) {
+    public int adicionarAoCardapio(ItemPedido item) {
         if (item == null) throw new IllegalArgumentException("Item do cardápio não pode ser nulo.");
-        cardapio.add(item);
+        return cardapio.adicionarItem(item);
+    }
+
+    /**
+     * Busca um item do cardápio pelo identificador, em tempo constante.
+     *
+     * @param id identificador do item (a sua posição em {@link #getCardapio()})
+     * @return item do cardápio, ou {@code null} se não existir
+     */
+    public ItemPedido buscarItemDoCardapio(int id) {
+        return cardapio.buscarItem(id);
+    }
+
+    /**
+     * Busca um item do cardápio pelo nome, sem diferenciar maiúsculas de minúsculas, em tempo constante.
+     *
+     * @param nome nome do item
+     * @return primeiro item com o nome, ou {@code null} se não existir
+     */
+    public ItemPedido buscarItemDoCardapio(String nome) {
+        return cardapio.buscarItem(nome);
+    }
+
+    /**
+     * Cria um item de pedido com os dados informados, compartilhando o modelo do item do cardápio de mesmo nome e
+     * preço, se existir, como ao recuperar pedidos salvos.
+     *
+     * @param nome            nome do item (não pode ser nulo ou vazio)
+     * @param quantidade      quantidade do item (deve ser maior que zero)
+     * @param precoEmCentavos preço unitário, em centavos (não pode ser negativo)
+     * @return novo item de pedido
+     * @throws IllegalArgumentException se nome for nulo/vazio, quantidade menor que 1 ou preço negativo
+     */
+    public ItemPedido novoItemDoPedido(String nome, int quantidade, long precoEmCentavos) {
+        ModeloDeItem modelo = cardapio.buscarModelo(nome, precoEmCentavos);
+        return modelo != null ? new ItemPedido(modelo, quantidade) : ItemPedido.emCentavos(nome, quantidade, precoEmCentavos);
+    }
+
+    /**
+     * Cria uma busca incremental no cardápio por parte do nome dos itens, sem diferenciar acentos nem maiúsculas
+     * de minúsculas, com os resultados ordenados por relevância.
+     *
+     * @return nova busca no cardápio
+     */
+    public BuscaNoCardapio novaBuscaNoCardapio() {
+        return cardapio.novaBusca();
     }
 
     /**
@@ -224,7 +408,7 @@ public class Restaurante {
      * @return novo id de garçom
      */
     public int gerarNovoGarcomId() {
-        return nextGarcomId++;
+        return nextGarcomId.getAndIncrement();
     }
 
     /**
@@ -233,7 +417,7 @@ public class Restaurante {
      * @return novo id de cliente
      */
     public int gerarNovoClienteId() {
-        return nextClienteId++;
+        return nextClienteId.getAndIncrement();
     }
 
     /**
@@ -242,7 +426,55 @@ public class Restaurante {
      * @return novo id de grupo
      */
     public int gerarNovoGrupoId() {
-        return nextGrupoId++;
+        return nextGrupoId.getAndIncrement();
+    }
+
+    /**
+     * Garante que os próximos identificadores gerados pelo contador sejam maiores que o informado.
+     *
+     * @param contador contador de identificadores
+     * @param id       identificador já em uso
+     */
+    private static void reservarAte(AtomicInteger contador, int id) {
+        contador.accumulateAndGet(id + 1, Math::max);
+    }
+
+    /**
+     * Reserva os identificadores do cliente ou do grupo e de seus membros, já em uso por estarem no restaurante.
+     *
+     * @param atendivel cliente ou grupo
+     */
+    private void reservarIds(Atendivel atendivel) {
+        if (atendivel instanceof Cliente cliente) {
+            reservarAte(nextClienteId, cliente.getId());
+        } else if (atendivel instanceof GrupoClientes grupo) {
+            reservarAte(nextGrupoId, grupo.getId());
+            for (Cliente membro : grupo.getClientes()) {
+                reservarAte(nextClienteId, membro.getId());
+            }
+        }
+    }
+
+    /**
+     * Define a estratégia usada para escolher o garçom de cada novo atendimento.
+     *
+     * @param estrategiaDistribuicao estratégia de distribuição (não pode ser nula)
+     * @throws IllegalArgumentException se a estratégia for nula
+     */
+    public void setEstrategiaDistribuicao(EstrategiaDistribuicao estrategiaDistribuicao) {
+        if (estrategiaDistribuicao == null) throw new IllegalArgumentException("Estratégia de distribuição não pode ser nula.");
+        this.estrategiaDistribuicao = estrategiaDistribuicao;
+    }
+
+    /**
+     * Define o ouvinte notificado dos eventos de domínio do restaurante.
+     *
+     * @param ouvinte ouvinte a ser notificado (não pode ser nulo)
+     * @throws IllegalArgumentException se o ouvinte for nulo
+     */
+    public void setOuvinte(OuvinteDoRestaurante ouvinte) {
+        if (ouvinte == null) throw new IllegalArgumentException("Ouvinte do restaurante não pode ser nulo.");
+        this.ouvinte = ouvinte;
     }
 
     // Getters
@@ -258,29 +490,56 @@ public class Restaurante {
 
     /**
      * Retorna a lista de garçons do restaurante.
+     * <p>
+     * A lista é uma visão imutável, recriada somente quando um garçom é adicionado; chamadas repetidas sem
+     * alterações devolvem a mesma instância, sem copiar.
+     * </p>
      *
-     * @return lista de garçons
+     * @return lista imutável de garçons
      */
     public List<Garcom> getGarcons() {
-        return new ArrayList<>(garcons);
+        return garcons.visao();
     }
 
     /**
-     * Retorna o cardápio do restaurante.
+     * Retorna o cardápio do restaurante. A posição de cada item na lista é o seu identificador no cardápio.
+     * <p>
+     * A lista é uma visão imutável, recriada somente quando um item é adicionado; chamadas repetidas sem
+     * alterações devolvem a mesma instância, sem copiar.
+     * </p>
      *
-     * @return lista de itens do cardápio
+     * @return lista imutável de itens do cardápio
      */
     public List<ItemPedido> getCardapio() {
-        return new ArrayList<>(cardapio);
+        return cardapio.getItens();
     }
 
     /**
-     * Retorna o histórico de atendimentos finalizados.
+     * Retorna os atendimentos finalizados mais recentes, mantidos em memória como objetos completos.
+     * O histórico completo, em registros, é obtido por {@link #getHistorico()}.
      *
-     * @return lista de atendimentos finalizados
+     * @return lista imutável dos atendimentos finalizados recentes, do mais antigo para o mais novo
      */
     public List<Atendimento> getHistoricoAtendimentos() {
-        return new ArrayList<>(historicoAtendimentos);
+        return historico.getRecentes();
+    }
+
+    /**
+     * Retorna o histórico completo de atendimentos finalizados, gravado fora do heap.
+     *
+     * @return histórico de atendimentos
+     */
+    public HistoricoDeAtendimentos getHistorico() {
+        return historico;
+    }
+
+    /**
+     * Retorna a estratégia de distribuição de atendimentos em uso.
+     *
+     * @return estratégia de distribuição
+     */
+    public EstrategiaDistribuicao getEstrategiaDistribuicao() {
+        return estrategiaDistribuicao;
     }
 
     /**
@@ -293,11 +552,81 @@ public class Restaurante {
     }
 
     /**
-     * Retorna a fila de espera geral do restaurante.
+     * Retorna a fila de espera geral do restaurante, segura para uso por vários terminais.
      *
-     * @return lista de entidades aguardando atendimento
+     * @return fila de entidades aguardando atendimento
      */
-    public List<Atendivel> getFilaDeEsperaGeral() {
+    public FilaDeEspera getFilaDeEsperaGeral() {
         return filaDeEsperaGeral;
     }
-}
\ No newline at end of file
+
+    /**
+     * Ouvinte registrado em cada garçom, em cada pedido e na fila de espera do restaurante, mantendo o índice
+     * de capacidade, o índice de pedidos e os contadores de identificadores atualizados e repassando os eventos
+     * ao {@link OuvinteDoRestaurante}.
+     */
+    private class OuvinteDosGarcons implements OuvinteDoGarcom, OuvinteDoPedido, OuvinteDaFilaDeEspera {
+        @Override
+        public void capacidadeAlterada(Garcom garcom) {
+            indiceDeCapacidade.capacidadeAlterada(garcom);
+        }
+
+        @Override
+        public void atendimentoIniciado(Garcom garcom, Atendimento atendimento) {
+            if (atendimento.getGarcomId() == 0) {
+                atendimento.setGarcomId(garcom.getId());
+            }
+            indexarAtendimento(atendimento);
+            if (atendimento instanceof AtendimentoIndividual individual) {
+                reservarIds(individual.getCliente());
+            } else if (atendimento instanceof AtendimentoGrupo grupo) {
+                reservarIds(grupo.getGrupo());
+            }
+            atendimento.getPedido().setOuvinte(this);
+            OuvinteDoRestaurante atual = ouvinte;
+            if (atual != null) atual.atendimentoIniciado(garcom, atendimento);
+        }
+
+        @Override
+        public void atendimentoDescartado(Garcom garcom, Atendimento atendimento) {
+            desindexarAtendimento(atendimento);
+            atendimento.getPedido().setOuvinte(null);
+            OuvinteDoRestaurante atual = ouvinte;
+            if (atual != null) atual.atendimentoDescartado(atendimento);
+        }
+
+        @Override
+        public void itemAdicionado(Pedido pedido, ItemPedido item) {
+            OuvinteDoRestaurante atual = ouvinte;
+            Atendimento atendimento = buscarAtendimentoPorPedidoId(pedido.getId());
+            if (atual != null && atendimento != null) atual.itemAdicionado(atendimento, item);
+        }
+
+        @Override
+        public void itemRemovido(Pedido pedido, ItemPedido item) {
+            OuvinteDoRestaurante atual = ouvinte;
+            Atendimento atendimento = buscarAtendimentoPorPedidoId(pedido.getId());
+            if (atual != null && atendimento != null) atual.itemRemovido(atendimento, item);
+        }
+
+        @Override
+        public void observacaoAdicionada(Pedido pedido, ItemPedido item, ObservacaoDoPedido observacao) {
+            OuvinteDoRestaurante atual = ouvinte;
+            Atendimento atendimento = buscarAtendimentoPorPedidoId(pedido.getId());
+            if (atual != null && atendimento != null) atual.observacaoAdicionada(atendimento, item, observacao);
+        }
+
+        @Override
+        public void entrou(Atendivel atendivel, boolean devolvido) {
+            reservarIds(atendivel);
+            OuvinteDoRestaurante atual = ouvinte;
+            if (atual != null) atual.entrouNaFilaDeEspera(atendivel, devolvido);
+        }
+
+        @Override
+        public void saiu(Atendivel atendivel) {
+            OuvinteDoRestaurante atual = ouvinte;
+            if (atual != null) atual.saiuDaFilaDeEspera(atendivel);
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package com.example.model.distribuicao;
+
+import com.example.model.Atendivel;
+import com.example.model.Garcom;
+
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Estratégia de distribuição "poder de duas escolhas": sorteia dois garçons disponíveis distintos e escolhe o menos
+ * ocupado.
+ * <p>
+ * Equilibra a carga quase tão bem quanto {@link MenosOcupado}, mas consulta a ocupação de apenas dois garçons.
+ * </p>
+ *
+ * @author Ana Luiza Freitas Brito Siqueira
+ * @author Bruno Campos Penha
+ * @author Grazielly de Sousa Barros
+ * @author João Gabriel Oliveira Magalhães
+ * @author João Vitor Moreira Lemos
+ * @author Robert Alves Guimarães
+ * @author Vinicius D’Oliveira Rocha
+ * @version 1.0
+ */
+public class DuasEscolhasAleatorias implements EstrategiaDistribuicao {
+    private final Random random;
+
+    /**
+     * Construtor com gerador aleatório padrão.
+     */
+    public DuasEscolhasAleatorias() {
+        this(new Random());
+    }
+
+    /**
+     * Construtor com gerador aleatório informado (útil para simulações reprodutíveis).
+     *
+     * @param random gerador de números aleatórios (não pode ser nulo)
+     * @throws IllegalArgumentException se o gerador for nulo
+     */
+    public DuasEscolhasAleatorias(Random random) {
+        if (random == null) throw new IllegalArgumentException("Gerador aleatório não pode ser nulo.");
+        this.random = random;
+    }
+
+    @Override
+    public Garcom escolherGarcom(List<Garcom> disponiveis, Atendivel atendivel) {
+        int tamanho = disponiveis.size();
+        int indice = random.nextInt(tamanho);
+        Garcom primeiro = disponiveis.get(indice);
+        if (tamanho == 1) return primeiro;
+        // O segundo sorteio exclui o primeiro, para que sejam sempre dois garçons distintos
+        Garcom segundo = disponiveis.get((indice + 1 + random.nextInt(tamanho - 1)) % tamanho);
+        return EstrategiaDistribuicao.ocupacao(segundo, atendivel) < EstrategiaDistribuicao.ocupacao(primeiro, atendivel)
+                ? segundo : primeiro;
+    }
+}
@@ -0,0 +1,77 @@
+package com.example.model.distribuicao;
+
+import com.example.model.Atendimento;
+import com.example.model.Atendivel;
+import com.example.model.Garcom;
+import com.example.model.GrupoClientes;
+
+import java.util.List;
+
+/**
+ * Interface que define a estratégia usada pelo restaurante para escolher o garçom de um novo atendimento.
+ * <p>
+ * O {@link com.example.model.Restaurante} entrega à estratégia apenas os garçons que ainda possuem vaga
+ * para o tipo de atendimento solicitado. A estratégia decide qual deles recebe o cliente ou grupo.
+ * </p>
+ * <p>
+ * Como vários terminais podem distribuir atendimentos ao mesmo tempo, as implementações devem ser
+ * seguras para uso concorrente.
+ * </p>
+ *
+ * <p><b>Implementações disponíveis:</b></p>
+ * <ul>
+ *   <li>{@link PrimeiroDisponivel} - primeiro garçom com vaga (padrão).</li>
+ *   <li>{@link MenosOcupado} - garçom com menos atendimentos na fila correspondente.</li>
+ *   <li>{@link RodizioCircular} - alterna entre os garçons disponíveis.</li>
+ *   <li>{@link DuasEscolhasAleatorias} - sorteia dois garçons e escolhe o menos ocupado.</li>
+ *   <li>{@link PonderadaPorTempoDeAtendimento} - considera a ocupação e o tempo médio histórico de cada garçom.</li>
+ * </ul>
+ *
+ * <p><b>Uso típico:</b></p>
+ * <ol>
+ *   <li>Definir a estratégia com {@link com.example.model.Restaurante#setEstrategiaDistribuicao(EstrategiaDistribuicao)}.</li>
+ *   <li>Distribuir atendimentos normalmente pelo restaurante.</li>
+ * </ol>
+ *
+ * @author Ana Luiza Freitas Brito Siqueira
+ * @author Bruno Campos Penha
+ * @author Grazielly de Sousa Barros
+ * @author João Gabriel Oliveira Magalhães
+ * @author João Vitor Moreira Lemos
+ * @author Robert Alves Guimarães
+ * @author Vinicius D’Oliveira Rocha
+ * @version 1.0
+ */
+public interface EstrategiaDistribuicao {
+    /**
+     * Escolhe o garçom que receberá o atendimento.
+     *
+     * @param disponiveis garçons com vaga para o atendimento (não vazia, somente leitura)
+     * @param atendivel   cliente ou grupo a ser atendido
+     * @return garçom escolhido, pertencente a {@code disponiveis}
+     */
+    Garcom escolherGarcom(List<Garcom> disponiveis, Atendivel atendivel);
+
+    /**
+     * Notifica a estratégia de que um atendimento do garçom foi finalizado.
+     * A implementação padrão não faz nada.
+     *
+     * @param garcom      garçom responsável pelo atendimento
+     * @param atendimento atendimento finalizado
+     */
+    default void atendimentoFinalizado(Garcom garcom, Atendimento atendimento) {
+    }
+
+    /**
+     * Retorna a quantidade de atendimentos do garçom na fila correspondente ao tipo de atendível.
+     *
+     * @param garcom    garçom consultado
+     * @param atendivel cliente ou grupo a ser atendido
+     * @return tamanho da fila individual ou de grupos do garçom
+     */
+    static int ocupacao(Garcom garcom, Atendivel atendivel) {
+        return atendivel instanceof GrupoClientes
+                ? garcom.getFilaAtendimentoGrupo().tamanho()
+                : garcom.getFilaAtendimentoIndividual().tamanho();
+    }
+}
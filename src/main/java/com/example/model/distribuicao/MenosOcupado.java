@@ -0,0 +1,37 @@
+package com.example.model.distribuicao;
+
+import com.example.model.Atendivel;
+import com.example.model.Garcom;
+
+import java.util.List;
+
+/**
+ * Estratégia de distribuição que escolhe o garçom com menos atendimentos na fila correspondente.
+ * <p>
+ * Em caso de empate, mantém o primeiro garçom encontrado.
+ * </p>
+ *
+ * @author Ana Luiza Freitas Brito Siqueira
+ * @author Bruno Campos Penha
+ * @author Grazielly de Sousa Barros
+ * @author João Gabriel Oliveira Magalhães
+ * @author João Vitor Moreira Lemos
+ * @author Robert Alves Guimarães
+ * @author Vinicius D’Oliveira Rocha
+ * @version 1.0
+ */
+public class MenosOcupado implements EstrategiaDistribuicao {
+    @Override
+    public Garcom escolherGarcom(List<Garcom> disponiveis, Atendivel atendivel) {
+        Garcom escolhido = null;
+        int menorOcupacao = Integer.MAX_VALUE;
+        for (Garcom garcom : disponiveis) {
+            int ocupacao = EstrategiaDistribuicao.ocupacao(garcom, atendivel);
+            if (ocupacao < menorOcupacao) {
+                menorOcupacao = ocupacao;
+                escolhido = garcom;
+            }
+        }
+        return escolhido;
+    }
+}
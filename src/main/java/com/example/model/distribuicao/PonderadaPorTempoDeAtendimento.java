@@ -0,0 +1,74 @@
+package com.example.model.distribuicao;
+
+import com.example.model.Atendimento;
+import com.example.model.Atendivel;
+import com.example.model.Garcom;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Estratégia de distribuição ponderada pelo tempo médio histórico de atendimento de cada garçom.
+ * <p>
+ * Escolhe o garçom com menor tempo previsto para concluir seus atendimentos, calculado como
+ * (ocupação + 1) multiplicado pelo seu tempo médio de atendimento. Garçons sem histórico
+ * utilizam a média geral do restaurante.
+ * </p>
+ *
+ * @author Ana Luiza Freitas Brito Siqueira
+ * @author Bruno Campos Penha
+ * @author Grazielly de Sousa Barros
+ * @author João Gabriel Oliveira Magalhães
+ * @author João Vitor Moreira Lemos
+ * @author Robert Alves Guimarães
+ * @author Vinicius D’Oliveira Rocha
+ * @version 1.0
+ */
+public class PonderadaPorTempoDeAtendimento implements EstrategiaDistribuicao {
+    /** Soma e quantidade por garçom; cada par é substituído por inteiro, nunca alterado */
+    private final Map<Garcom, long[]> historicoPorGarcom = new ConcurrentHashMap<>();
+    private final LongAdder somaGeralNanos = new LongAdder();
+    private final LongAdder quantidadeGeral = new LongAdder();
+
+    @Override
+    public Garcom escolherGarcom(List<Garcom> disponiveis, Atendivel atendivel) {
+        long quantidade = quantidadeGeral.sum();
+        double mediaGeral = quantidade == 0 ? 1.0 : (double) somaGeralNanos.sum() / quantidade;
+        Garcom escolhido = null;
+        double menorPrevisao = Double.MAX_VALUE;
+        for (Garcom garcom : disponiveis) {
+            double previsao = (EstrategiaDistribuicao.ocupacao(garcom, atendivel) + 1) * tempoMedio(garcom, mediaGeral);
+            if (previsao < menorPrevisao) {
+                menorPrevisao = previsao;
+                escolhido = garcom;
+            }
+        }
+        return escolhido;
+    }
+
+    @Override
+    public void atendimentoFinalizado(Garcom garcom, Atendimento atendimento) {
+        Duration tempo = atendimento.getTempoDeAtendimento();
+        if (tempo == null) return;
+        long nanos = tempo.toNanos();
+        historicoPorGarcom.merge(garcom, new long[] {nanos, 1}, (a, b) -> new long[] {a[0] + b[0], a[1] + b[1]});
+        somaGeralNanos.add(nanos);
+        quantidadeGeral.increment();
+    }
+
+    /**
+     * Retorna o tempo médio de atendimento do garçom, em nanossegundos.
+     *
+     * @param garcom     garçom consultado
+     * @param mediaGeral média geral usada quando o garçom não possui histórico
+     * @return tempo médio de atendimento
+     */
+    private double tempoMedio(Garcom garcom, double mediaGeral) {
+        long[] historico = historicoPorGarcom.get(garcom);
+        double media = historico == null ? mediaGeral : (double) historico[0] / historico[1];
+        return Math.max(1.0, media);
+    }
+}
@@ -0,0 +1,29 @@
+package com.example.model.distribuicao;
+
+import com.example.model.Atendivel;
+import com.example.model.Garcom;
+
+import java.util.List;
+
+/**
+ * Estratégia de distribuição que escolhe o primeiro garçom com vaga, na ordem em que os garçons foram adicionados
+ * ao restaurante.
+ * <p>
+ * É a estratégia padrão do restaurante e executa em tempo constante.
+ * </p>
+ *
+ * @author Ana Luiza Freitas Brito Siqueira
+ * @author Bruno Campos Penha
+ * @author Grazielly de Sousa Barros
+ * @author João Gabriel Oliveira Magalhães
+ * @author João Vitor Moreira Lemos
+ * @author Robert Alves Guimarães
+ * @author Vinicius D’Oliveira Rocha
+ * @version 1.0
+ */
+public class PrimeiroDisponivel implements EstrategiaDistribuicao {
+    @Override
+    public Garcom escolherGarcom(List<Garcom> disponiveis, Atendivel atendivel) {
+        return disponiveis.get(0);
+    }
+}
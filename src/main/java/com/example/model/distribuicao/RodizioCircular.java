@@ -0,0 +1,28 @@
+package com.example.model.distribuicao;
+
+import com.example.model.Atendivel;
+import com.example.model.Garcom;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Estratégia de distribuição em rodízio, que alterna entre os garçons disponíveis a cada atendimento.
+ *
+ * @author Ana Luiza Freitas Brito Siqueira
+ * @author Bruno Campos Penha
+ * @author Grazielly de Sousa Barros
+ * @author João Gabriel Oliveira Magalhães
+ * @author João Vitor Moreira Lemos
+ * @author Robert Alves Guimarães
+ * @author Vinicius D’Oliveira Rocha
+ * @version 1.0
+ */
+public class RodizioCircular implements EstrategiaDistribuicao {
+    private final AtomicInteger cursor = new AtomicInteger();
+
+    @Override
+    public Garcom escolherGarcom(List<Garcom> disponiveis, Atendivel atendivel) {
+        return disponiveis.get(Math.floorMod(cursor.getAndIncrement(), disponiveis.size()));
+    }
+}
@@ -0,0 +1,259 @@
+package com.example.util.collections;
+
+import java.util.Arrays;
+
+/**
+ * Mapa de chaves {@code int} para objetos, com endereçamento aberto e sondagem linear.
+ * <p>
+ * Armazena as chaves em um vetor de {@code int}, sem criar objetos {@link Integer} para cada entrada,
+ * o que reduz o consumo de memória e o trabalho do coletor de lixo em relação a um
+ * {@code HashMap<Integer, V>}. Consultas, inserções e remoções executam em tempo constante esperado.
+ * </p>
+ *
+ * <p><b>Exceções possíveis:</b></p>
+ * <ul>
+ *   <li>{@link NullPointerException} - Lançada ao tentar inserir um valor nulo.</li>
+ *   <li>{@link IllegalArgumentException} - Lançada ao criar o mapa com capacidade inicial negativa.</li>
+ * </ul>
+ *
+ * <p><b>Observações:</b></p>
+ * <ul>
+ *   <li>Posições vazias são identificadas por valor nulo; por isso valores nulos não são aceitos.</li>
+ *   <li>A remoção reposiciona as entradas seguintes, sem deixar marcadores de remoção na tabela.</li>
+ *   <li>A classe não é sincronizada.</li>
+ * </ul>
+ *
+ * @param <V> tipo dos valores armazenados
+ *
+ * @author Ana Luiza Freitas Brito Siqueira
+ * @author Bruno Campos Penha
+ * @author Grazielly de Sousa Barros
+ * @author João Gabriel Oliveira Magalhães
+ * @author João Vitor Moreira Lemos
+ * @author Robert Alves Guimarães
+ * @author Vinicius D’Oliveira Rocha
+ * @version 1.0
+ */
+public class MapaIntObjeto<V> {
+    /** Ocupação máxima da tabela antes de dobrar a capacidade */
+    private static final float FATOR_DE_CARGA = 0.7f;
+
+    private int[] chaves;
+    private Object[] valores;
+    private int mascara;
+    private int limite;
+    private int tamanho;
+
+    /**
+     * Construtor com capacidade inicial padrão.
+     */
+    public MapaIntObjeto() {
+        this(16);
+    }
+
+    /**
+     * Construtor com capacidade inicial informada.
+     *
+     * @param capacidadeInicial quantidade de entradas esperada (não pode ser negativa)
+     * @throws IllegalArgumentException se a capacidade for negativa
+     */
+    public MapaIntObjeto(int capacidadeInicial) {
+        if (capacidadeInicial < 0) throw new IllegalArgumentException("Capacidade inicial não pode ser negativa.");
+        alocar(capacidadeDaTabela(capacidadeInicial));
+    }
+
+    /**
+     * Retorna o valor associado à chave.
+     *
+     * @param chave chave procurada
+     * @return valor associado ou {@code null} se a chave não existir
+     */
+    @SuppressWarnings("unchecked")
+    public V get(int chave) {
+        int i = posicao(chave);
+        Object valor;
+        while ((valor = valores[i]) != null) {
+            if (chaves[i] == chave) return (V) valor;
+            i = (i + 1) & mascara;
+        }
+        return null;
+    }
+
+    /**
+     * Verifica se a chave existe no mapa.
+     *
+     * @param chave chave procurada
+     * @return true se existir, false caso contrário
+     */
+    public boolean containsKey(int chave) {
+        return get(chave) != null;
+    }
+
+    /**
+     * Associa o valor à chave, substituindo o valor anterior se existir.
+     *
+     * @param chave chave
+     * @param valor valor (não pode ser nulo)
+     * @return valor anterior ou {@code null} se a chave não existia
+     * @throws NullPointerException se o valor for nulo
+     */
+    public V put(int chave, V valor) {
+        return inserir(chave, valor, true);
+    }
+
+    /**
+     * Associa o valor à chave somente se ela ainda não existir.
+     *
+     * @param chave chave
+     * @param valor valor (não pode ser nulo)
+     * @return valor já existente ou {@code null} se o valor foi inserido
+     * @throws NullPointerException se o valor for nulo
+     */
+    public V putIfAbsent(int chave, V valor) {
+        return inserir(chave, valor, false);
+    }
+
+    /**
+     * Remove a chave do mapa.
+     *
+     * @param chave chave a ser removida
+     * @return valor removido ou {@code null} se a chave não existia
+     */
+    @SuppressWarnings("unchecked")
+    public V remove(int chave) {
+        int i = localizar(chave);
+        if (i < 0) return null;
+        V anterior = (V) valores[i];
+        removerPosicao(i);
+        return anterior;
+    }
+
+    /**
+     * Remove a chave somente se ela estiver associada ao valor informado (comparação por identidade).
+     *
+     * @param chave chave a ser removida
+     * @param valor valor esperado
+     * @return true se a entrada foi removida, false caso contrário
+     */
+    public boolean remove(int chave, Object valor) {
+        int i = localizar(chave);
+        if (i < 0 || valores[i] != valor) return false;
+        removerPosicao(i);
+        return true;
+    }
+
+    /**
+     * Retorna a quantidade de entradas do mapa.
+     *
+     * @return quantidade de entradas
+     */
+    public int size() {
+        return tamanho;
+    }
+
+    /**
+     * Verifica se o mapa está vazio.
+     *
+     * @return true se não houver entradas, false caso contrário
+     */
+    public boolean isEmpty() {
+        return tamanho == 0;
+    }
+
+    /**
+     * Remove todas as entradas, mantendo a capacidade atual.
+     */
+    public void clear() {
+        Arrays.fill(valores, null);
+        tamanho = 0;
+    }
+
+    private V inserir(int chave, V valor, boolean substituir) {
+        if (valor == null) throw new NullPointerException("Valor não pode ser nulo.");
+        int i = posicao(chave);
+        Object atual;
+        while ((atual = valores[i]) != null) {
+            if (chaves[i] == chave) {
+                if (substituir) valores[i] = valor;
+                @SuppressWarnings("unchecked")
+                V anterior = (V) atual;
+                return anterior;
+            }
+            i = (i + 1) & mascara;
+        }
+        chaves[i] = chave;
+        valores[i] = valor;
+        if (++tamanho > limite) {
+            redimensionar(chaves.length << 1);
+        }
+        return null;
+    }
+
+    private int localizar(int chave) {
+        int i = posicao(chave);
+        while (valores[i] != null) {
+            if (chaves[i] == chave) return i;
+            i = (i + 1) & mascara;
+        }
+        return -1;
+    }
+
+    /**
+     * Esvazia a posição e desloca para trás as entradas seguintes do mesmo agrupamento,
+     * mantendo a sequência de sondagem sem lacunas.
+     */
+    private void removerPosicao(int livre) {
+        valores[livre] = null;
+        tamanho--;
+        int i = livre;
+        while (true) {
+            i = (i + 1) & mascara;
+            if (valores[i] == null) return;
+            int ideal = posicao(chaves[i]);
+            // A entrada só pode ocupar a lacuna se sua posição ideal não estiver entre a lacuna e ela
+            boolean podeMover = livre <= i
+                    ? (ideal <= livre || ideal > i)
+                    : (ideal <= livre && ideal > i);
+            if (podeMover) {
+                chaves[livre] = chaves[i];
+                valores[livre] = valores[i];
+                valores[i] = null;
+                livre = i;
+            }
+        }
+    }
+
+    private void redimensionar(int novaCapacidade) {
+        int[] chavesAntigas = chaves;
+        Object[] valoresAntigos = valores;
+        alocar(novaCapacidade);
+        for (int j = 0; j < valoresAntigos.length; j++) {
+            Object valor = valoresAntigos[j];
+            if (valor != null) {
+                int i = posicao(chavesAntigas[j]);
+                while (valores[i] != null) {
+                    i = (i + 1) & mascara;
+                }
+                chaves[i] = chavesAntigas[j];
+                valores[i] = valor;
+            }
+        }
+    }
+
+    private void alocar(int capacidade) {
+        chaves = new int[capacidade];
+        valores = new Object[capacidade];
+        mascara = capacidade - 1;
+        limite = (int) (capacidade * FATOR_DE_CARGA);
+    }
+
+    private int posicao(int chave) {
+        int h = chave * 0x9E3779B9;
+        return (h ^ (h >>> 16)) & mascara;
+    }
+
+    private static int capacidadeDaTabela(int entradas) {
+        int necessaria = (int) Math.ceil(Math.max(entradas, 2) / FATOR_DE_CARGA);
+        return Integer.highestOneBit(necessaria - 1) << 1;
+    }
+}
@@ -0,0 +1,286 @@
+package com.example.util.persistence;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.example.model.Atendimento;
+import com.example.model.AtendimentoGrupo;
+import com.example.model.AtendimentoIndividual;
+import com.example.model.Cliente;
+import com.example.model.GrupoClientes;
+import com.example.model.Pedido;
+import com.example.util.TipoCliente;
+import com.google.gson.JsonParseException;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+
+/**
+ * Adaptador Gson de {@link Atendimento} escrito à mão sobre a API de fluxo.
+ * <p>
+ * Grava o cliente (atendimento individual) ou o grupo (atendimento em grupo), o pedido, os tempos, o status,
+ * os horários e o garçom responsável, no mesmo formato da serialização por reflexão. Ao ler, o tipo do atendimento
+ * é identificado pela presença de {@code cliente} ou {@code grupo}, o que a reflexão não consegue fazer com uma
+ * classe abstrata. O início e o fim são reaplicados pelos métodos do próprio atendimento, de modo que o status
+ * e os tempos ficam coerentes com os horários gravados.
+ * </p>
+ *
+ * <p><b>Exceções possíveis:</b></p>
+ * <ul>
+ *   <li>{@link JsonParseException} - Lançada ao ler um atendimento sem cliente, grupo ou pedido.</li>
+ *   <li>{@link IllegalArgumentException} - Lançada ao ler um cliente sem nome ou tipo ou um grupo sem nome.</li>
+ *   <li>{@link java.time.format.DateTimeParseException} - Lançada ao ler um horário ou duração inválidos.</li>
+ * </ul>
+ *
+ * @author Ana Luiza Freitas Brito Siqueira
+ * @author Bruno Campos Penha
+ * @author Grazielly de Sousa Barros
+ * @author João Gabriel Oliveira Magalhães
+ * @author João Vitor Moreira Lemos
+ * @author Robert Alves Guimarães
+ * @author Vinicius D’Oliveira Rocha
+ * @version 1.0
+ */
+class AtendimentoAdapter extends TypeAdapter<Atendimento> {
+    private final PedidoAdapter pedidoAdapter;
+
+    /**
+     * Construtor do adaptador de atendimentos.
+     *
+     * @param pedidoAdapter adaptador usado para o pedido do atendimento e os pedidos dos grupos
+     */
+    AtendimentoAdapter(PedidoAdapter pedidoAdapter) {
+        this.pedidoAdapter = pedidoAdapter;
+    }
+
+    @Override
+    public void write(JsonWriter saida, Atendimento atendimento) throws IOException {
+        if (atendimento == null) {
+            saida.nullValue();
+            return;
+        }
+        saida.beginObject();
+        if (atendimento instanceof AtendimentoIndividual individual) {
+            saida.name("cliente");
+            escreverCliente(saida, individual.getCliente());
+        } else if (atendimento instanceof AtendimentoGrupo emGrupo) {
+            saida.name("grupo");
+            escreverGrupo(saida, emGrupo.getGrupo());
+        }
+        saida.name("pedido");
+        pedidoAdapter.write(saida, atendimento.getPedido());
+        escreverSePresente(saida, "tempoDeEspera", atendimento.getTempoDeEspera());
+        escreverSePresente(saida, "tempoDeAtendimento", atendimento.getTempoDeAtendimento());
+        saida.name("status").value(atendimento.getStatus().name());
+        escreverSePresente(saida, "inicio", atendimento.getInicio());
+        escreverSePresente(saida, "fim", atendimento.getFim());
+        saida.name("garcomId").value(atendimento.getGarcomId());
+        saida.endObject();
+    }
+
+    @Override
+    public Atendimento read(JsonReader entrada) throws IOException {
+        if (entrada.peek() == JsonToken.NULL) {
+            entrada.nextNull();
+            return null;
+        }
+        Cliente cliente = null;
+        GrupoClientes grupo = null;
+        Pedido pedido = null;
+        Duration tempoDeEspera = null;
+        LocalTime inicio = null;
+        LocalTime fim = null;
+        entrada.beginObject();
+        while (entrada.hasNext()) {
+            switch (entrada.nextName()) {
+                case "cliente" -> cliente = lerCliente(entrada);
+                case "grupo" -> grupo = lerGrupo(entrada);
+                case "pedido" -> pedido = pedidoAdapter.read(entrada);
+                case "tempoDeEspera" -> tempoDeEspera = lerDuracao(entrada);
+                case "inicio" -> inicio = lerHorario(entrada);
+                case "fim" -> fim = lerHorario(entrada);
+                default -> entrada.skipValue();
+            }
+        }
+        entrada.endObject();
+        if (pedido == null) throw new JsonParseException("Atendimento sem pedido" + entrada);
+
+        Atendimento atendimento;
+        LocalTime chegada;
+        if (cliente != null) {
+            atendimento = new AtendimentoIndividual(cliente, pedido);
+            chegada = cliente.getHoraChegada();
+        } else if (grupo != null) {
+            atendimento = new AtendimentoGrupo(grupo, pedido);
+            chegada = grupo.getHoraChegada();
+        } else {
+            throw new JsonParseException("Atendimento sem cliente ou grupo" + entrada);
+        }
+        if (inicio != null) {
+            // O tempo de espera gravado prevalece sobre a hora de chegada, que pode ter sido alterada depois
+            if (tempoDeEspera != null) chegada = inicio.minus(tempoDeEspera);
+            atendimento.iniciarAtendimento(chegada != null ? chegada : inicio, inicio);
+            if (fim != null) atendimento.finalizarAtendimento(fim);
+        }
+        return atendimento;
+    }
+
+    // Clientes e grupos
+
+    private void escreverCliente(JsonWriter saida, Cliente cliente) throws IOException {
+        saida.beginObject();
+        saida.name("id").value(cliente.getId());
+        saida.name("nome").value(cliente.getNome());
+        if (cliente.getTipoCliente() != null) saida.name("tipo").value(cliente.getTipoCliente().name());
+        saida.name("preferencias").beginArray();
+        for (String preferencia : cliente.getPreferencias()) {
+            saida.value(preferencia);
+        }
+        saida.endArray();
+        escreverSePresente(saida, "horaChegada", cliente.getHoraChegada());
+        if (cliente.getObservacoesGerais() != null) saida.name("observacoesGerais").value(cliente.getObservacoesGerais());
+        saida.endObject();
+    }
+
+    private Cliente lerCliente(JsonReader entrada) throws IOException {
+        if (entrada.peek() == JsonToken.NULL) {
+            entrada.nextNull();
+            return null;
+        }
+        int id = 0;
+        String nome = null;
+        TipoCliente tipo = null;
+        List<String> preferencias = new ArrayList<>();
+        LocalTime horaChegada = null;
+        String observacoesGerais = null;
+        entrada.beginObject();
+        while (entrada.hasNext()) {
+            switch (entrada.nextName()) {
+                case "id" -> id = entrada.nextInt();
+                case "nome" -> nome = lerTexto(entrada);
+                case "tipo" -> {
+                    String nomeDoTipo = lerTexto(entrada);
+                    tipo = nomeDoTipo != null ? TipoCliente.valueOf(nomeDoTipo) : null;
+                }
+                case "preferencias" -> lerTextos(entrada, preferencias);
+                case "horaChegada" -> horaChegada = lerHorario(entrada);
+                case "observacoesGerais" -> observacoesGerais = lerTexto(entrada);
+                default -> entrada.skipValue();
+            }
+        }
+        entrada.endObject();
+        Cliente cliente = new Cliente(id, nome, tipo);
+        for (String preferencia : preferencias) {
+            cliente.adicionarPreferencia(preferencia);
+        }
+        cliente.setHoraChegada(horaChegada);
+        if (observacoesGerais != null) cliente.setObservacoesGerais(observacoesGerais);
+        return cliente;
+    }
+
+    private void escreverGrupo(JsonWriter saida, GrupoClientes grupo) throws IOException {
+        saida.beginObject();
+        saida.name("id").value(grupo.getId());
+        saida.name("nomeGrupo").value(grupo.getNomeGrupo());
+        saida.name("clientes").beginArray();
+        for (Cliente cliente : grupo.getClientes()) {
+            escreverCliente(saida, cliente);
+        }
+        saida.endArray();
+        saida.name("pedidos").beginArray();
+        for (Pedido pedido : grupo.getPedidos()) {
+            pedidoAdapter.write(saida, pedido);
+        }
+        saida.endArray();
+        escreverSePresente(saida, "horaChegada", grupo.getHoraChegada());
+        if (grupo.getObservacoesGerais() != null) saida.name("observacoesGerais").value(grupo.getObservacoesGerais());
+        saida.endObject();
+    }
+
+    private GrupoClientes lerGrupo(JsonReader entrada) throws IOException {
+        if (entrada.peek() == JsonToken.NULL) {
+            entrada.nextNull();
+            return null;
+        }
+        int id = 0;
+        String nomeGrupo = null;
+        List<Cliente> clientes = new ArrayList<>();
+        List<Pedido> pedidos = new ArrayList<>();
+        LocalTime horaChegada = null;
+        String observacoesGerais = null;
+        entrada.beginObject();
+        while (entrada.hasNext()) {
+            switch (entrada.nextName()) {
+                case "id" -> id = entrada.nextInt();
+                case "nomeGrupo" -> nomeGrupo = lerTexto(entrada);
+                case "clientes" -> {
+                    entrada.beginArray();
+                    while (entrada.hasNext()) {
+                        Cliente cliente = lerCliente(entrada);
+                        if (cliente != null) clientes.add(cliente);
+                    }
+                    entrada.endArray();
+                }
+                case "pedidos" -> {
+                    entrada.beginArray();
+                    while (entrada.hasNext()) {
+                        Pedido pedido = pedidoAdapter.read(entrada);
+                        if (pedido != null) pedidos.add(pedido);
+                    }
+                    entrada.endArray();
+                }
+                case "horaChegada" -> horaChegada = lerHorario(entrada);
+                case "observacoesGerais" -> observacoesGerais = lerTexto(entrada);
+                default -> entrada.skipValue();
+            }
+        }
+        entrada.endObject();
+        GrupoClientes grupo = new GrupoClientes(id, nomeGrupo);
+        clientes.forEach(grupo::adicionarCliente);
+        pedidos.forEach(grupo::adicionarPedido);
+        grupo.setHoraChegada(horaChegada);
+        if (observacoesGerais != null) grupo.setObservacoesGerais(observacoesGerais);
+        return grupo;
+    }
+
+    // Valores simples, no mesmo formato dos adaptadores de Persistencia
+
+    private static void escreverSePresente(JsonWriter saida, String nome, Object valor) throws IOException {
+        if (valor != null) saida.name(nome).value(valor.toString());
+    }
+
+    private static String lerTexto(JsonReader entrada) throws IOException {
+        if (entrada.peek() == JsonToken.NULL) {
+            entrada.nextNull();
+            return null;
+        }
+        return entrada.nextString();
+    }
+
+    private static void lerTextos(JsonReader entrada, List<String> destino) throws IOException {
+        if (entrada.peek() == JsonToken.NULL) {
+            entrada.nextNull();
+            return;
+        }
+        entrada.beginArray();
+        while (entrada.hasNext()) {
+            String texto = lerTexto(entrada);
+            if (texto != null) destino.add(texto);
+        }
+        entrada.endArray();
+    }
+
+    private static LocalTime lerHorario(JsonReader entrada) throws IOException {
+        String texto = lerTexto(entrada);
+        return texto != null ? LocalTime.parse(texto) : null;
+    }
+
+    private static Duration lerDuracao(JsonReader entrada) throws IOException {
+        String texto = lerTexto(entrada);
+        return texto != null ? Duration.parse(texto) : null;
+    }
+}
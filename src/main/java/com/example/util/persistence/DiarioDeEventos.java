@@ -0,0 +1,592 @@
+package com.example.util.persistence;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+import com.example.model.Atendimento;
+import com.example.model.Atendivel;
+import com.example.model.Garcom;
+import com.example.model.ItemPedido;
+import com.example.model.ObservacaoDoPedido;
+import com.example.model.OuvinteDoRestaurante;
+import com.example.model.Restaurante;
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParseException;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+
+/**
+ * Diário de eventos somente de acréscimo, usado para persistir o restaurante de forma incremental.
+ * <p>
+ * Registrado como {@link OuvinteDoRestaurante}, converte cada alteração em um {@link EventoDoDiario} e o acrescenta
+ * ao final do arquivo {@code diario-N.jsonl}, um evento JSON por linha. O custo de cada gravação é proporcional
+ * às alterações, e não ao tamanho do estado. Os eventos são acumulados em memória e gravados em lotes, com uma única
+ * sincronização em disco ({@code fsync}) por lote.
+ * </p>
+ * <p>
+ * Periodicamente, no encerramento do turno, o diário é compactado: o estado atual é gravado como um instantâneo
+ * binário {@code instantaneo-(N+1).bin} ({@link InstantaneoBinario}), trocado atomicamente, e um novo diário vazio
+ * {@code diario-(N+1).jsonl} passa a receber os eventos seguintes. O encerramento do turno apenas captura o
+ * instantâneo em memória; a gravação em disco e a troca de arquivos são feitas em segundo plano por uma
+ * {@link GravacaoEmSegundoPlano}, sem bloquear a thread da interface. Eventos gravados no diário antigo depois da
+ * captura são copiados para o novo diário, sincronizado em disco antes da troca do instantâneo. O estado é sempre
+ * o instantâneo mais recente seguido do diário de mesma geração. Uma linha incompleta deixada por uma queda é descartada ao reabrir o diário.
+ * </p>
+ *
+ * <p><b>Exceções possíveis:</b></p>
+ * <ul>
+ *   <li>{@link IllegalArgumentException} - Lançada ao criar o diário com diretório nulo, tamanho de lote ou limite de compactação
+ *   menores que 1, ou ao compactar um restaurante nulo.</li>
+ *   <li>{@link IOException} - Lançada ao criar ou abrir os arquivos do diário e ao ler eventos gravados.</li>
+ * </ul>
+ * Erros de gravação durante o uso são exibidos no console, como em {@link Persistencia}, e os eventos pendentes
+ * são mantidos para a próxima tentativa.
+ *
+ * <p><b>Uso típico:</b></p>
+ * <ol>
+ *   <li>Abrir o diário em um diretório e registrá-lo com {@link Restaurante#setOuvinte(OuvinteDoRestaurante)}.</li>
+ *   <li>Usar o restaurante normalmente; os eventos são gravados em lotes.</li>
+ *   <li>Chamar {@link #sincronizar()} ou {@link #close()} para gravar os eventos pendentes e concluir as
+ *   compactações em segundo plano.</li>
+ * </ol>
+ *
+ * @author Ana Luiza Freitas Brito Siqueira
+ * @author Bruno Campos Penha
+ * @author Grazielly de Sousa Barros
+ * @author João Gabriel Oliveira Magalhães
+ * @author João Vitor Moreira Lemos
+ * @author Robert Alves Guimarães
+ * @author Vinicius D’Oliveira Rocha
+ * @version 1.0
+ */
+public class DiarioDeEventos implements OuvinteDoRestaurante, Closeable {
+    /** Quantidade padrão de eventos acumulados antes de cada gravação em disco */
+    public static final int TAMANHO_DO_LOTE_PADRAO = 64;
+    /** Quantidade padrão de eventos no diário a partir da qual o encerramento do turno compacta o diário */
+    public static final int EVENTOS_PARA_COMPACTAR_PADRAO = 10_000;
+
+    private static final Pattern ARQUIVO_DO_INSTANTANEO = Pattern.compile("instantaneo-(\\d+)\\.bin");
+    private static final Pattern ARQUIVO_DO_DIARIO = Pattern.compile("diario-(\\d+)\\.jsonl");
+    private static final Map<String, Class<? extends EventoDoDiario>> TIPOS = Map.of(
+            "GarcomAdicionado", EventoDoDiario.GarcomAdicionado.class,
+            "EntrouNaFilaDeEspera", EventoDoDiario.EntrouNaFilaDeEspera.class,
+            "SaiuDaFilaDeEspera", EventoDoDiario.SaiuDaFilaDeEspera.class,
+            "AtendimentoIniciado", EventoDoDiario.AtendimentoIniciado.class,
+            "ItemAdicionado", EventoDoDiario.ItemAdicionado.class,
+            "ItemRemovido", EventoDoDiario.ItemRemovido.class,
+            "ObservacaoAdicionada", EventoDoDiario.ObservacaoAdicionada.class,
+            "AtendimentoFinalizado", EventoDoDiario.AtendimentoFinalizado.class,
+            "AtendimentoDescartado", EventoDoDiario.AtendimentoDescartado.class);
+
+    private static final Gson gson = new GsonBuilder()
+            .registerTypeAdapter(Duration.class, new Persistencia.DurationAdapter())
+            .registerTypeAdapter(LocalTime.class, new AdaptadorDeHorario().nullSafe())
+            .create();
+
+    private final Path diretorio;
+    private final int tamanhoDoLote;
+    private final int eventosParaCompactar;
+    private final ByteArrayOutputStream pendentes;
+    private final GravacaoEmSegundoPlano gravacao;
+    /** Serializa as compactações; adquirida sempre antes da trava do diário */
+    private final Object travaDeCompactacao = new Object();
+    private int eventosPendentes;
+    private long eventosDesdeCompactacao;
+    private long geracao;
+    private FileChannel canal;
+
+    /**
+     * Abre o diário no diretório informado, com tamanho de lote e limite de compactação padrão.
+     *
+     * @param diretorio diretório dos arquivos do diário (criado se não existir)
+     * @throws IOException se o diretório ou o arquivo do diário não puderem ser abertos
+     * @throws IllegalArgumentException se o diretório for nulo
+     */
+    public DiarioDeEventos(Path diretorio) throws IOException {
+        this(diretorio, TAMANHO_DO_LOTE_PADRAO, EVENTOS_PARA_COMPACTAR_PADRAO);
+    }
+
+    /**
+     * Abre o diário no diretório informado, continuando a geração mais recente encontrada.
+     *
+     * @param diretorio            diretório dos arquivos do diário (criado se não existir)
+     * @param tamanhoDoLote        eventos acumulados antes de cada gravação em disco (mínimo 1)
+     * @param eventosParaCompactar eventos no diário a partir dos quais o encerramento do turno compacta (mínimo 1)
+     * @throws IOException se o diretório ou o arquivo do diário não puderem ser abertos
+     * @throws IllegalArgumentException se o diretório for nulo ou algum limite for menor que 1
+     */
+    public DiarioDeEventos(Path diretorio, int tamanhoDoLote, int eventosParaCompactar) throws IOException {
+        if (diretorio == null) throw new IllegalArgumentException("Diretório do diário não pode ser nulo.");
+        if (tamanhoDoLote < 1) throw new IllegalArgumentException("Tamanho do lote deve ser maior que zero.");
+        if (eventosParaCompactar < 1) throw new IllegalArgumentException("Limite de compactação deve ser maior que zero.");
+        this.diretorio = diretorio;
+        this.tamanhoDoLote = tamanhoDoLote;
+        this.eventosParaCompactar = eventosParaCompactar;
+        this.pendentes = new ByteArrayOutputStream();
+        Files.createDirectories(diretorio);
+        this.geracao = geracaoMaisRecente(diretorio);
+        descartarCompactacaoInterrompida(diretorio, geracao);
+        this.canal = abrirDiario(arquivoDoDiario(diretorio, geracao));
+        this.gravacao = new GravacaoEmSegundoPlano("compactacao-" + diretorio.getFileName());
+        this.gravacao.esvaziarAoEncerrar();
+    }
+
+    /**
+     * Acrescenta um evento ao diário. O evento é gravado em disco quando o lote estiver completo.
+     *
+     * @param evento evento a ser registrado (não pode ser nulo)
+     * @throws NullPointerException se o evento for nulo
+     */
+    public synchronized void registrar(EventoDoDiario evento) {
+        if (evento == null) throw new NullPointerException("Evento não pode ser nulo.");
+        byte[] linha = paraLinha(evento);
+        pendentes.write(linha, 0, linha.length);
+        eventosPendentes++;
+        eventosDesdeCompactacao++;
+        if (eventosPendentes >= tamanhoDoLote) {
+            gravarPendentes();
+        }
+    }
+
+    /**
+     * Conclui as compactações agendadas, grava em disco os eventos pendentes e sincroniza o arquivo.
+     */
+    public void sincronizar() {
+        gravacao.esvaziar();
+        synchronized (this) {
+            gravarPendentes();
+        }
+    }
+
+    /**
+     * Compacta o diário: grava o estado atual do restaurante como um novo instantâneo e inicia um diário vazio.
+     * Retorna após a troca dos arquivos.
+     * <p>
+     * Deve ser chamado com o restaurante em repouso (como no encerramento do turno), para que nenhuma alteração
+     * em andamento fique de fora do instantâneo ou seja registrada em dobro.
+     * </p>
+     *
+     * @param restaurante restaurante cujo estado será gravado (não pode ser nulo)
+     * @throws IllegalArgumentException se o restaurante for nulo
+     */
+    public void compactar(Restaurante restaurante) {
+        if (restaurante == null) throw new IllegalArgumentException("Restaurante não pode ser nulo.");
+        synchronized (travaDeCompactacao) {
+            Compactacao compactacao;
+            synchronized (this) {
+                compactacao = capturar(restaurante);
+            }
+            if (compactacao != null) concluir(compactacao);
+        }
+    }
+
+    /**
+     * Retorna a geração atual do diário.
+     *
+     * @return número da geração (0 antes da primeira compactação)
+     */
+    public synchronized long getGeracao() {
+        return geracao;
+    }
+
+    /**
+     * Retorna o arquivo do diário da geração atual.
+     *
+     * @return caminho do arquivo do diário
+     */
+    public synchronized Path getArquivoDoDiario() {
+        return arquivoDoDiario(diretorio, geracao);
+    }
+
+    /**
+     * Grava os eventos pendentes e fecha o arquivo do diário.
+     *
+     * @throws IOException se o arquivo não puder ser fechado
+     */
+    @Override
+    public void close() throws IOException {
+        gravacao.close();
+        synchronized (this) {
+            gravarPendentes();
+            canal.close();
+        }
+    }
+
+    // Ouvinte do restaurante
+
+    @Override
+    public void garcomAdicionado(Garcom garcom) {
+        registrar(new EventoDoDiario.GarcomAdicionado(garcom.getId(), garcom.getNome()));
+    }
+
+    @Override
+    public void entrouNaFilaDeEspera(Atendivel atendivel, boolean devolvido) {
+        registrar(EventoDoDiario.EntrouNaFilaDeEspera.de(atendivel, devolvido));
+    }
+
+    @Override
+    public void saiuDaFilaDeEspera(Atendivel atendivel) {
+        registrar(EventoDoDiario.SaiuDaFilaDeEspera.de(atendivel));
+    }
+
+    @Override
+    public void atendimentoIniciado(Garcom garcom, Atendimento atendimento) {
+        registrar(EventoDoDiario.AtendimentoIniciado.de(atendimento));
+    }
+
+    @Override
+    public void itemAdicionado(Atendimento atendimento, ItemPedido item) {
+        registrar(new EventoDoDiario.ItemAdicionado(atendimento.getPedido().getId(), EventoDoDiario.ItemRegistrado.de(item)));
+    }
+
+    @Override
+    public void itemRemovido(Atendimento atendimento, ItemPedido item) {
+        registrar(new EventoDoDiario.ItemRemovido(atendimento.getPedido().getId(), EventoDoDiario.ItemRegistrado.de(item)));
+    }
+
+    @Override
+    public void observacaoAdicionada(Atendimento atendimento, ItemPedido item, ObservacaoDoPedido observacao) {
+        registrar(EventoDoDiario.ObservacaoAdicionada.de(atendimento.getPedido().getId(), item));
+    }
+
+    @Override
+    public void atendimentoFinalizado(Atendimento atendimento) {
+        registrar(new EventoDoDiario.AtendimentoFinalizado(atendimento.getPedido().getId(), atendimento.getFim()));
+    }
+
+    @Override
+    public void atendimentoDescartado(Atendimento atendimento) {
+        registrar(new EventoDoDiario.AtendimentoDescartado(atendimento.getPedido().getId()));
+    }
+
+    /**
+     * Grava os eventos pendentes e, se o diário tiver atingido o limite, captura o estado do restaurante e agenda
+     * a compactação em segundo plano. Compactações ainda não iniciadas são substituídas pela mais recente.
+     *
+     * @param restaurante restaurante cujo turno foi encerrado
+     */
+    @Override
+    public synchronized void turnoEncerrado(Restaurante restaurante) {
+        gravarPendentes();
+        if (eventosDesdeCompactacao >= eventosParaCompactar) {
+            Compactacao compactacao = capturar(restaurante);
+            if (compactacao != null) {
+                gravacao.agendar("compactacao", () -> {
+                    synchronized (travaDeCompactacao) {
+                        concluir(compactacao);
+                    }
+                });
+            }
+        }
+    }
+
+    // Leitura
+
+    /**
+     * Lê os eventos gravados em um arquivo do diário.
+     * Uma última linha incompleta, deixada por uma gravação interrompida, é ignorada.
+     *
+     * @param arquivo arquivo a ser lido
+     * @return eventos na ordem em que foram gravados
+     * @throws IOException se o arquivo não puder ser lido ou contiver um evento inválido
+     */
+    public static List<EventoDoDiario> lerEventos(Path arquivo) throws IOException {
+        List<EventoDoDiario> eventos = new ArrayList<>();
+        lerEventos(arquivo, eventos::add);
+        return eventos;
+    }
+
+    /**
+     * Lê os eventos gravados em um arquivo, entregando-os um a um ao consumidor, sem manter o arquivo em memória.
+     * Uma última linha incompleta, deixada por uma gravação interrompida, é ignorada.
+     *
+     * @param arquivo    arquivo a ser lido
+     * @param consumidor consumidor de cada evento, na ordem em que foram gravados
+     * @throws IOException se o arquivo não puder ser lido ou contiver um evento inválido
+     */
+    static void lerEventos(Path arquivo, Consumer<EventoDoDiario> consumidor) throws IOException {
+        try (FileChannel canal = FileChannel.open(arquivo, StandardOpenOption.READ)) {
+            InputStream entrada = limitar(Channels.newInputStream(canal), fimDaUltimaLinhaCompleta(canal));
+            JsonReader leitor = new JsonReader(new BufferedReader(new InputStreamReader(entrada, StandardCharsets.UTF_8), 1 << 16));
+            // Um evento JSON por linha: o modo tolerante permite ler vários objetos seguidos com o mesmo leitor
+            leitor.setLenient(true);
+            while (leitor.peek() != JsonToken.END_DOCUMENT) {
+                consumidor.accept(lerEvento(leitor));
+            }
+        } catch (JsonParseException | IllegalStateException | NumberFormatException e) {
+            throw new IOException("Evento inválido no diário " + arquivo + ": " + e.getMessage(), e);
+        }
+    }
+
+    // Auxiliares
+
+    private static byte[] paraLinha(EventoDoDiario evento) {
+        JsonObject objeto = new JsonObject();
+        objeto.addProperty("tipo", evento.getClass().getSimpleName());
+        objeto.add("evento", gson.toJsonTree(evento));
+        return (gson.toJson(objeto) + "\n").getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Lê o próximo evento do diário. Como o tipo é sempre gravado antes do evento, o evento é lido
+     * diretamente do fluxo, sem montar a árvore JSON intermediária.
+     */
+    private static EventoDoDiario lerEvento(JsonReader leitor) throws IOException {
+        leitor.beginObject();
+        if (!"tipo".equals(leitor.nextName())) throw new IOException("Evento sem tipo no diário, em " + leitor.getPath());
+        String nomeDoTipo = leitor.nextString();
+        Class<? extends EventoDoDiario> tipo = TIPOS.get(nomeDoTipo);
+        if (tipo == null) throw new IOException("Tipo de evento desconhecido: " + nomeDoTipo + ", em " + leitor.getPath());
+        if (!"evento".equals(leitor.nextName())) throw new IOException("Evento ausente no diário, em " + leitor.getPath());
+        EventoDoDiario evento = gson.getAdapter(tipo).read(leitor);
+        if (evento == null) throw new IOException("Evento ausente no diário, em " + leitor.getPath());
+        leitor.endObject();
+        return evento;
+    }
+
+    /**
+     * Estado capturado para uma compactação: a geração compactada, a posição do diário no momento da captura e o
+     * instantâneo binário do restaurante.
+     */
+    private record Compactacao(long geracao, long posicaoNoDiario, byte[] instantaneo) {
+    }
+
+    /**
+     * Grava os eventos pendentes e captura o instantâneo do restaurante em memória.
+     * Chamado sob a trava do diário.
+     *
+     * @return estado capturado, ou {@code null} se a captura falhar
+     */
+    private Compactacao capturar(Restaurante restaurante) {
+        gravarPendentes();
+        try {
+            ByteArrayOutputStream instantaneo = new ByteArrayOutputStream(1 << 16);
+            InstantaneoBinario.gravar(restaurante, instantaneo);
+            return new Compactacao(geracao, canal.position(), instantaneo.toByteArray());
+        } catch (IOException e) {
+            System.err.println("Erro ao compactar diário de eventos: " + e.getMessage());
+            e.printStackTrace();
+            return null;
+        }
+    }
+
+    /**
+     * Grava o instantâneo capturado e passa a gravar no diário da geração seguinte, copiando para ele os eventos
+     * gravados no diário antigo depois da captura. Chamado sob a trava de compactação; a trava do diário só é mantida
+     * durante a troca, e não durante a gravação do instantâneo.
+     * <p>
+     * O novo diário é gravado e sincronizado antes de o instantâneo ser movido para o lugar definitivo. Até essa troca
+     * atômica, a geração recuperada continua sendo a antiga, com o diário completo; uma queda no meio do caminho deixa
+     * apenas um diário da geração seguinte sem instantâneo, descartado ao reabrir.
+     * </p>
+     */
+    private void concluir(Compactacao compactacao) {
+        synchronized (this) {
+            // Uma compactação mais recente já foi concluída
+            if (compactacao.geracao() != geracao) return;
+        }
+        long proxima = compactacao.geracao() + 1;
+        Path instantaneo = arquivoDoInstantaneo(diretorio, proxima);
+        Path temporario = diretorio.resolve(instantaneo.getFileName() + ".tmp");
+        Path novoDiario = arquivoDoDiario(diretorio, proxima);
+        try {
+            try (FileChannel saida = FileChannel.open(temporario, StandardOpenOption.CREATE,
+                    StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+                gravarTudo(saida, ByteBuffer.wrap(compactacao.instantaneo()));
+                saida.force(true);
+            }
+            synchronized (this) {
+                FileChannel novoCanal = FileChannel.open(novoDiario, StandardOpenOption.CREATE,
+                        StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.READ, StandardOpenOption.WRITE);
+                try {
+                    long posicao = compactacao.posicaoNoDiario();
+                    long fim = canal.size();
+                    while (posicao < fim) {
+                        posicao += canal.transferTo(posicao, fim - posicao, novoCanal);
+                    }
+                    novoCanal.force(false);
+                    Files.move(temporario, instantaneo, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+                } catch (IOException e) {
+                    novoCanal.close();
+                    Files.deleteIfExists(novoDiario);
+                    Files.deleteIfExists(temporario);
+                    throw e;
+                }
+                canal.close();
+                Files.deleteIfExists(arquivoDoDiario(diretorio, compactacao.geracao()));
+                Files.deleteIfExists(arquivoDoInstantaneo(diretorio, compactacao.geracao()));
+                canal = novoCanal;
+                geracao = proxima;
+                eventosDesdeCompactacao = 0;
+            }
+        } catch (IOException e) {
+            System.err.println("Erro ao compactar diário de eventos: " + e.getMessage());
+            e.printStackTrace();
+        }
+    }
+
+    private static void gravarTudo(FileChannel saida, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            saida.write(buffer);
+        }
+    }
+
+    /**
+     * Grava os eventos pendentes no diário e sincroniza o arquivo em disco.
+     * Em caso de erro, o trecho não gravado permanece pendente.
+     */
+    private void gravarPendentes() {
+        if (pendentes.size() == 0) return;
+        ByteBuffer buffer = ByteBuffer.wrap(pendentes.toByteArray());
+        try {
+            while (buffer.hasRemaining()) {
+                canal.write(buffer);
+            }
+            canal.force(false);
+        } catch (IOException e) {
+            System.err.println("Erro ao gravar diário de eventos: " + e.getMessage());
+            e.printStackTrace();
+        } finally {
+            byte[] restante = new byte[buffer.remaining()];
+            buffer.get(restante);
+            pendentes.reset();
+            pendentes.write(restante, 0, restante.length);
+            if (restante.length == 0) {
+                eventosPendentes = 0;
+            }
+        }
+    }
+
+    /**
+     * Abre o arquivo do diário para acréscimo, descartando uma última linha incompleta.
+     */
+    private static FileChannel abrirDiario(Path arquivo) throws IOException {
+        FileChannel canal = FileChannel.open(arquivo, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        long fimCompleto = fimDaUltimaLinhaCompleta(canal);
+        canal.truncate(fimCompleto);
+        canal.position(fimCompleto);
+        return canal;
+    }
+
+    /**
+     * Retorna a posição logo após o último {@code '\n'} do arquivo, ou 0 se não houver linha completa.
+     */
+    private static long fimDaUltimaLinhaCompleta(FileChannel canal) throws IOException {
+        long fimCompleto = canal.size();
+        ByteBuffer umByte = ByteBuffer.allocate(1);
+        while (fimCompleto > 0) {
+            umByte.clear();
+            canal.read(umByte, fimCompleto - 1);
+            if (umByte.get(0) == '\n') break;
+            fimCompleto--;
+        }
+        return fimCompleto;
+    }
+
+    /**
+     * Limita a leitura do fluxo aos primeiros bytes informados.
+     */
+    private static InputStream limitar(InputStream entrada, long limite) {
+        return new FilterInputStream(entrada) {
+            private long restante = limite;
+
+            @Override
+            public int read() throws IOException {
+                if (restante <= 0) return -1;
+                int b = super.read();
+                if (b >= 0) restante--;
+                return b;
+            }
+
+            @Override
+            public int read(byte[] destino, int deslocamento, int tamanho) throws IOException {
+                if (restante <= 0) return -1;
+                int lidos = super.read(destino, deslocamento, (int) Math.min(tamanho, restante));
+                if (lidos > 0) restante -= lidos;
+                return lidos;
+            }
+        };
+    }
+
+    /**
+     * Retorna a geração mais recente com instantâneo gravado, ou 0 se não houver nenhum.
+     * Diários de gerações seguintes sem instantâneo, deixados por uma compactação interrompida, são ignorados.
+     */
+    static long geracaoMaisRecente(Path diretorio) throws IOException {
+        long maior = 0;
+        try (Stream<Path> arquivos = Files.list(diretorio)) {
+            for (Path arquivo : (Iterable<Path>) arquivos::iterator) {
+                Matcher m = ARQUIVO_DO_INSTANTANEO.matcher(arquivo.getFileName().toString());
+                if (m.matches()) {
+                    maior = Math.max(maior, Long.parseLong(m.group(1)));
+                }
+            }
+        }
+        return maior;
+    }
+
+    /**
+     * Apaga os diários de gerações posteriores à informada, deixados por uma compactação interrompida antes da troca
+     * do instantâneo. Todos os eventos deles também estão no diário da geração informada.
+     */
+    private static void descartarCompactacaoInterrompida(Path diretorio, long geracao) throws IOException {
+        try (Stream<Path> arquivos = Files.list(diretorio)) {
+            for (Path arquivo : (Iterable<Path>) arquivos::iterator) {
+                Matcher m = ARQUIVO_DO_DIARIO.matcher(arquivo.getFileName().toString());
+                if (m.matches() && Long.parseLong(m.group(1)) > geracao) {
+                    Files.delete(arquivo);
+                }
+            }
+        }
+    }
+
+    static Path arquivoDoDiario(Path diretorio, long geracao) {
+        return diretorio.resolve("diario-" + geracao + ".jsonl");
+    }
+
+    static Path arquivoDoInstantaneo(Path diretorio, long geracao) {
+        return diretorio.resolve("instantaneo-" + geracao + ".bin");
+    }
+
+    /**
+     * Adaptador de horários no mesmo formato de {@link Persistencia}, lido e gravado diretamente no fluxo JSON,
+     * sem a árvore intermediária criada pelos adaptadores de {@link Persistencia}.
+     */
+    private static class AdaptadorDeHorario extends TypeAdapter<LocalTime> {
+        @Override
+        public void write(JsonWriter saida, LocalTime horario) throws IOException {
+            saida.value(horario.toString());
+        }
+
+        @Override
+        public LocalTime read(JsonReader entrada) throws IOException {
+            return LocalTime.parse(entrada.nextString());
+        }
+    }
+}
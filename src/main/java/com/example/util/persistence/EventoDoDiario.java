@@ -0,0 +1,327 @@
+package com.example.util.persistence;
+
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.example.model.Atendimento;
+import com.example.model.AtendimentoGrupo;
+import com.example.model.AtendimentoIndividual;
+import com.example.model.Atendivel;
+import com.example.model.Cliente;
+import com.example.model.GrupoClientes;
+import com.example.model.ItemPedido;
+import com.example.model.ObservacaoDoPedido;
+import com.example.model.Restaurante;
+import com.example.util.TipoCliente;
+
+/**
+ * Eventos de domínio gravados no {@link DiarioDeEventos}.
+ * <p>
+ * Cada evento é um registro imutável com apenas dados simples (identificadores, textos e horários),
+ * suficiente para reconstruir o estado do restaurante reaplicando os eventos em ordem.
+ * Os instantâneos gerados pela compactação do diário usam os mesmos eventos.
+ * </p>
+ *
+ * <p><b>Eventos disponíveis:</b></p>
+ * <ul>
+ *   <li>{@link GarcomAdicionado} - garçom incluído no restaurante.</li>
+ *   <li>{@link EntrouNaFilaDeEspera} e {@link SaiuDaFilaDeEspera} - alterações na fila de espera geral.</li>
+ *   <li>{@link AtendimentoIniciado} - cliente ou grupo atribuído a um garçom, com os itens já existentes no pedido.</li>
+ *   <li>{@link ItemAdicionado} e {@link ItemRemovido} - alterações nos itens de um pedido.</li>
+ *   <li>{@link ObservacaoAdicionada} - observação acrescentada a um item que já estava no pedido.</li>
+ *   <li>{@link AtendimentoFinalizado} - atendimento registrado no histórico.</li>
+ *   <li>{@link AtendimentoDescartado} - atendimento removido sem ser finalizado.</li>
+ * </ul>
+ *
+ * @author Ana Luiza Freitas Brito Siqueira
+ * @author Bruno Campos Penha
+ * @author Grazielly de Sousa Barros
+ * @author João Gabriel Oliveira Magalhães
+ * @author João Vitor Moreira Lemos
+ * @author Robert Alves Guimarães
+ * @author Vinicius D’Oliveira Rocha
+ * @version 1.0
+ */
+public sealed interface EventoDoDiario {
+
+    /**
+     * Garçom incluído no restaurante.
+     *
+     * @param garcomId identificador do garçom
+     * @param nome     nome do garçom
+     */
+    record GarcomAdicionado(int garcomId, String nome) implements EventoDoDiario {
+    }
+
+    /**
+     * Cliente ou grupo incluído na fila de espera geral.
+     *
+     * @param grupoId     identificador do grupo, ou 0 para cliente individual
+     * @param nomeGrupo   nome do grupo, ou {@code null} para cliente individual
+     * @param clientes    cliente ou membros do grupo
+     * @param horaChegada horário de chegada do cliente ou grupo
+     * @param devolvido   true se foi devolvido ao início da fila após uma tentativa de atendimento
+     */
+    record EntrouNaFilaDeEspera(int grupoId, String nomeGrupo, List<ClienteRegistrado> clientes, LocalTime horaChegada,
+                                boolean devolvido) implements EventoDoDiario {
+
+        /**
+         * Indica se a entrada é de um grupo de clientes.
+         *
+         * @return true para grupo, false para cliente individual
+         */
+        public boolean emGrupo() {
+            return nomeGrupo != null;
+        }
+
+        /**
+         * Cria o evento a partir de um cliente ou grupo.
+         *
+         * @param atendivel cliente ou grupo
+         * @param devolvido true se foi devolvido ao início da fila
+         * @return evento correspondente
+         * @throws IllegalArgumentException se o tipo de atendível for desconhecido
+         */
+        public static EntrouNaFilaDeEspera de(Atendivel atendivel, boolean devolvido) {
+            if (atendivel instanceof Cliente cliente) {
+                return new EntrouNaFilaDeEspera(0, null, List.of(ClienteRegistrado.de(cliente)), cliente.getHoraChegada(), devolvido);
+            }
+            if (atendivel instanceof GrupoClientes grupo) {
+                return new EntrouNaFilaDeEspera(grupo.getId(), grupo.getNomeGrupo(), ClienteRegistrado.de(grupo.getClientes()),
+                        grupo.getHoraChegada(), devolvido);
+            }
+            throw new IllegalArgumentException("Tipo de atendível desconhecido.");
+        }
+    }
+
+    /**
+     * Cliente ou grupo retirado da fila de espera geral.
+     *
+     * @param emGrupo true se for um grupo, false para cliente individual
+     * @param id      identificador do grupo ou do cliente
+     */
+    record SaiuDaFilaDeEspera(boolean emGrupo, int id) implements EventoDoDiario {
+
+        /**
+         * Cria o evento a partir de um cliente ou grupo.
+         *
+         * @param atendivel cliente ou grupo
+         * @return evento correspondente
+         * @throws IllegalArgumentException se o tipo de atendível for desconhecido
+         */
+        public static SaiuDaFilaDeEspera de(Atendivel atendivel) {
+            if (atendivel instanceof Cliente cliente) return new SaiuDaFilaDeEspera(false, cliente.getId());
+            if (atendivel instanceof GrupoClientes grupo) return new SaiuDaFilaDeEspera(true, grupo.getId());
+            throw new IllegalArgumentException("Tipo de atendível desconhecido.");
+        }
+    }
+
+    /**
+     * Atendimento iniciado por um garçom.
+     *
+     * @param garcomId    identificador do garçom responsável
+     * @param pedidoId    identificador do pedido do atendimento
+     * @param grupoId     identificador do grupo, ou 0 para atendimento individual
+     * @param nomeGrupo   nome do grupo, ou {@code null} para atendimento individual
+     * @param clientes    cliente atendido ou membros do grupo
+     * @param horaChegada horário de chegada do cliente ou grupo
+     * @param inicio      horário de início do atendimento
+     * @param fim         horário de término, se o atendimento já estiver finalizado, ou {@code null}
+     * @param itens       itens que o pedido já possuía
+     */
+    record AtendimentoIniciado(int garcomId, int pedidoId, int grupoId, String nomeGrupo, List<ClienteRegistrado> clientes,
+                               LocalTime horaChegada, LocalTime inicio, LocalTime fim, List<ItemRegistrado> itens)
+            implements EventoDoDiario {
+
+        /**
+         * Indica se o atendimento é de um grupo de clientes.
+         *
+         * @return true para atendimento em grupo, false para individual
+         */
+        public boolean emGrupo() {
+            return nomeGrupo != null;
+        }
+
+        /**
+         * Cria o evento a partir do estado atual de um atendimento.
+         *
+         * @param atendimento atendimento individual ou em grupo
+         * @return evento correspondente
+         * @throws IllegalArgumentException se o tipo de atendimento for desconhecido
+         */
+        public static AtendimentoIniciado de(Atendimento atendimento) {
+            List<ItemRegistrado> itens = new ArrayList<>();
+            for (ItemPedido item : atendimento.getPedido().getItens()) {
+                itens.add(ItemRegistrado.de(item));
+            }
+            if (atendimento instanceof AtendimentoIndividual individual) {
+                Cliente cliente = individual.getCliente();
+                return new AtendimentoIniciado(atendimento.getGarcomId(), atendimento.getPedido().getId(), 0, null,
+                        List.of(ClienteRegistrado.de(cliente)), cliente.getHoraChegada(), atendimento.getInicio(),
+                        atendimento.getFim(), itens);
+            }
+            if (atendimento instanceof AtendimentoGrupo emGrupo) {
+                GrupoClientes grupo = emGrupo.getGrupo();
+                return new AtendimentoIniciado(atendimento.getGarcomId(), atendimento.getPedido().getId(), grupo.getId(),
+                        grupo.getNomeGrupo(), ClienteRegistrado.de(grupo.getClientes()), grupo.getHoraChegada(), atendimento.getInicio(),
+                        atendimento.getFim(), itens);
+            }
+            throw new IllegalArgumentException("Tipo de atendimento desconhecido.");
+        }
+    }
+
+    /**
+     * Item incluído no pedido de um atendimento.
+     *
+     * @param pedidoId identificador do pedido
+     * @param item     item adicionado
+     */
+    record ItemAdicionado(int pedidoId, ItemRegistrado item) implements EventoDoDiario {
+    }
+
+    /**
+     * Item removido do pedido de um atendimento.
+     *
+     * @param pedidoId identificador do pedido
+     * @param item     item removido
+     */
+    record ItemRemovido(int pedidoId, ItemRegistrado item) implements EventoDoDiario {
+    }
+
+    /**
+     * Observação adicionada a um item que já estava no pedido de um atendimento.
+     * <p>
+     * O item é registrado como estava antes da observação, para ser encontrado no pedido recriado da mesma forma
+     * que em {@link ItemRemovido}.
+     * </p>
+     *
+     * @param pedidoId   identificador do pedido
+     * @param item       item antes da observação
+     * @param observacao descrição da observação adicionada
+     */
+    record ObservacaoAdicionada(int pedidoId, ItemRegistrado item, String observacao) implements EventoDoDiario {
+
+        /**
+         * Cria o evento a partir do item que acabou de receber a observação, a última da sua lista.
+         *
+         * @param pedidoId identificador do pedido
+         * @param item     item já com a observação
+         * @return evento correspondente
+         */
+        public static ObservacaoAdicionada de(int pedidoId, ItemPedido item) {
+            ItemRegistrado depois = ItemRegistrado.de(item);
+            List<String> observacoes = depois.observacoes();
+            ItemRegistrado antes = new ItemRegistrado(depois.nome(), depois.quantidade(), depois.preco(),
+                    List.copyOf(observacoes.subList(0, observacoes.size() - 1)));
+            return new ObservacaoAdicionada(pedidoId, antes, observacoes.get(observacoes.size() - 1));
+        }
+    }
+
+    /**
+     * Atendimento finalizado e registrado no histórico.
+     *
+     * @param pedidoId identificador do pedido
+     * @param fim      horário de término do atendimento
+     */
+    record AtendimentoFinalizado(int pedidoId, LocalTime fim) implements EventoDoDiario {
+    }
+
+    /**
+     * Atendimento removido das filas sem ser finalizado.
+     *
+     * @param pedidoId identificador do pedido
+     */
+    record AtendimentoDescartado(int pedidoId) implements EventoDoDiario {
+    }
+
+    /**
+     * Dados de um cliente registrados em um {@link AtendimentoIniciado}.
+     *
+     * @param id                identificador do cliente
+     * @param nome              nome do cliente
+     * @param tipo              tipo do cliente
+     * @param preferencias      preferências do cliente
+     * @param horaChegada       horário de chegada do cliente
+     * @param observacoesGerais observações gerais do cliente
+     */
+    record ClienteRegistrado(int id, String nome, TipoCliente tipo, List<String> preferencias, LocalTime horaChegada,
+                             String observacoesGerais) {
+
+        static ClienteRegistrado de(Cliente cliente) {
+            return new ClienteRegistrado(cliente.getId(), cliente.getNome(), cliente.getTipoCliente(),
+                    List.copyOf(cliente.getPreferencias()), cliente.getHoraChegada(), cliente.getObservacoesGerais());
+        }
+
+        static List<ClienteRegistrado> de(List<Cliente> clientes) {
+            List<ClienteRegistrado> registrados = new ArrayList<>(clientes.size());
+            for (Cliente cliente : clientes) {
+                registrados.add(de(cliente));
+            }
+            return registrados;
+        }
+
+        /**
+         * Recria o cliente registrado.
+         *
+         * @return novo cliente com os mesmos dados
+         */
+        Cliente paraCliente() {
+            Cliente cliente = new Cliente(id, nome, tipo);
+            if (preferencias != null) {
+                for (String preferencia : preferencias) {
+                    cliente.adicionarPreferencia(preferencia);
+                }
+            }
+            cliente.setHoraChegada(horaChegada);
+            cliente.setObservacoesGerais(observacoesGerais);
+            return cliente;
+        }
+    }
+
+    /**
+     * Dados de um item de pedido registrados nos eventos.
+     *
+     * @param nome        nome do item
+     * @param quantidade  quantidade pedida
+     * @param preco       preço unitário
+     * @param observacoes descrições das observações do item
+     */
+    record ItemRegistrado(String nome, int quantidade, double preco, List<String> observacoes) {
+
+        static ItemRegistrado de(ItemPedido item) {
+            List<String> observacoes = new ArrayList<>();
+            for (ObservacaoDoPedido observacao : item.getObservacoes()) {
+                observacoes.add(observacao.getDescricao());
+            }
+            return new ItemRegistrado(item.getNome(), item.getQuantidade(), item.getPreco(), observacoes);
+        }
+
+        /**
+         * Recria o item registrado, com suas observações, compartilhando o modelo do item do cardápio de mesmo
+         * nome e preço, se existir.
+         *
+         * @param restaurante restaurante cujo cardápio é consultado
+         * @return novo item com os mesmos dados
+         */
+        ItemPedido paraItem(Restaurante restaurante) {
+            ItemPedido item = restaurante.novoItemDoPedido(nome, quantidade, Math.round(preco * 100));
+            if (observacoes != null) {
+                for (String observacao : observacoes) {
+                    item.adicionarObservacao(new ObservacaoDoPedido(observacao));
+                }
+            }
+            return item;
+        }
+
+        /**
+         * Indica se o item de pedido possui os mesmos dados registrados.
+         *
+         * @param item item a ser comparado
+         * @return true se nome, quantidade, preço e observações forem iguais
+         */
+        boolean corresponde(ItemPedido item) {
+            return equals(de(item));
+        }
+    }
+}
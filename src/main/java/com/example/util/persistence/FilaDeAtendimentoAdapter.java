@@ -0,0 +1,101 @@
+package com.example.util.persistence;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.example.model.Atendimento;
+import com.example.model.FilaDeAtendimento;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+
+/**
+ * Adaptador Gson de {@link FilaDeAtendimento} escrito à mão sobre a API de fluxo.
+ * <p>
+ * Grava apenas os atendimentos da fila, em {@code {"fila": [...]}}, sem a estrutura interna do heap.
+ * Ao ler, também aceita o campo {@code heap} gravado pela serialização por reflexão, ignorando as posições vazias;
+ * a ordem da fila é refeita pela própria {@link FilaDeAtendimento} ao adicionar cada atendimento.
+ * </p>
+ *
+ * @author Ana Luiza Freitas Brito Siqueira
+ * @author Bruno Campos Penha
+ * @author Grazielly de Sousa Barros
+ * @author João Gabriel Oliveira Magalhães
+ * @author João Vitor Moreira Lemos
+ * @author Robert Alves Guimarães
+ * @author Vinicius D’Oliveira Rocha
+ * @version 1.0
+ */
+class FilaDeAtendimentoAdapter extends TypeAdapter<FilaDeAtendimento<?>> {
+    private final AtendimentoAdapter atendimentoAdapter;
+
+    /**
+     * Construtor do adaptador de filas de atendimento.
+     *
+     * @param atendimentoAdapter adaptador usado para cada atendimento da fila
+     */
+    FilaDeAtendimentoAdapter(AtendimentoAdapter atendimentoAdapter) {
+        this.atendimentoAdapter = atendimentoAdapter;
+    }
+
+    @Override
+    public void write(JsonWriter saida, FilaDeAtendimento<?> fila) throws IOException {
+        if (fila == null) {
+            saida.nullValue();
+            return;
+        }
+        saida.beginObject();
+        saida.name("fila").beginArray();
+        for (Atendimento atendimento : fila.getFila()) {
+            atendimentoAdapter.write(saida, atendimento);
+        }
+        saida.endArray();
+        saida.endObject();
+    }
+
+    @Override
+    public FilaDeAtendimento<?> read(JsonReader entrada) throws IOException {
+        if (entrada.peek() == JsonToken.NULL) {
+            entrada.nextNull();
+            return null;
+        }
+        FilaDeAtendimento<Atendimento> fila = new FilaDeAtendimento<>();
+        for (Atendimento atendimento : lerAtendimentos(entrada)) {
+            fila.adicionarAtendimento(atendimento);
+        }
+        return fila;
+    }
+
+    /**
+     * Lê os atendimentos de uma fila gravada, sem adicioná-los a nenhuma fila.
+     *
+     * @param entrada leitor posicionado no objeto da fila
+     * @return atendimentos lidos, possivelmente vazia
+     * @throws IOException se a leitura falhar
+     */
+    List<Atendimento> lerAtendimentos(JsonReader entrada) throws IOException {
+        List<Atendimento> atendimentos = new ArrayList<>();
+        if (entrada.peek() == JsonToken.NULL) {
+            entrada.nextNull();
+            return atendimentos;
+        }
+        entrada.beginObject();
+        while (entrada.hasNext()) {
+            String nome = entrada.nextName();
+            if ((nome.equals("fila") || nome.equals("heap")) && entrada.peek() == JsonToken.BEGIN_ARRAY) {
+                entrada.beginArray();
+                while (entrada.hasNext()) {
+                    Atendimento atendimento = atendimentoAdapter.read(entrada);
+                    if (atendimento != null) atendimentos.add(atendimento);
+                }
+                entrada.endArray();
+            } else {
+                entrada.skipValue();
+            }
+        }
+        entrada.endObject();
+        return atendimentos;
+    }
+}
@@ -0,0 +1,102 @@
+package com.example.util.persistence;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.example.model.Atendimento;
+import com.example.model.Garcom;
+import com.example.util.Turno;
+import com.google.gson.JsonParseException;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+
+/**
+ * Adaptador Gson de {@link Garcom} escrito à mão sobre a API de fluxo.
+ * <p>
+ * Grava o identificador, o nome, o turno (se houver) e as duas filas de atendimento do garçom, no mesmo formato
+ * da serialização por reflexão. Ao ler, cria o garçom pelo construtor e devolve os atendimentos às suas filas com
+ * {@link Garcom#retomarAtendimento(Atendimento)}, mantendo os índices e contadores internos coerentes.
+ * </p>
+ *
+ * <p><b>Exceções possíveis:</b></p>
+ * <ul>
+ *   <li>{@link JsonParseException} - Lançada ao ler um garçom sem nome.</li>
+ * </ul>
+ *
+ * @author Ana Luiza Freitas Brito Siqueira
+ * @author Bruno Campos Penha
+ * @author Grazielly de Sousa Barros
+ * @author João Gabriel Oliveira Magalhães
+ * @author João Vitor Moreira Lemos
+ * @author Robert Alves Guimarães
+ * @author Vinicius D’Oliveira Rocha
+ * @version 1.0
+ */
+class GarcomAdapter extends TypeAdapter<Garcom> {
+    private final FilaDeAtendimentoAdapter filaAdapter;
+
+    /**
+     * Construtor do adaptador de garçons.
+     *
+     * @param filaAdapter adaptador usado para as filas de atendimento do garçom
+     */
+    GarcomAdapter(FilaDeAtendimentoAdapter filaAdapter) {
+        this.filaAdapter = filaAdapter;
+    }
+
+    @Override
+    public void write(JsonWriter saida, Garcom garcom) throws IOException {
+        if (garcom == null) {
+            saida.nullValue();
+            return;
+        }
+        saida.beginObject();
+        saida.name("id").value(garcom.getId());
+        saida.name("nome").value(garcom.getNome());
+        Turno turno = garcom.getTurnoAtual();
+        if (turno != null) saida.name("turnoAtual").value(turno.name());
+        saida.name("filaAtendimentoIndividual");
+        filaAdapter.write(saida, garcom.getFilaAtendimentoIndividual());
+        saida.name("filaAtendimentoGrupo");
+        filaAdapter.write(saida, garcom.getFilaAtendimentoGrupo());
+        saida.endObject();
+    }
+
+    @Override
+    public Garcom read(JsonReader entrada) throws IOException {
+        if (entrada.peek() == JsonToken.NULL) {
+            entrada.nextNull();
+            return null;
+        }
+        int id = 0;
+        String nome = null;
+        Turno turno = null;
+        List<Atendimento> atendimentos = new ArrayList<>();
+        entrada.beginObject();
+        while (entrada.hasNext()) {
+            switch (entrada.nextName()) {
+                case "id" -> id = entrada.nextInt();
+                case "nome" -> nome = entrada.nextString();
+                case "turnoAtual" -> {
+                    if (entrada.peek() == JsonToken.NULL) {
+                        entrada.nextNull();
+                    } else {
+                        turno = Turno.valueOf(entrada.nextString());
+                    }
+                }
+                case "filaAtendimentoIndividual", "filaAtendimentoGrupo" -> atendimentos.addAll(filaAdapter.lerAtendimentos(entrada));
+                default -> entrada.skipValue();
+            }
+        }
+        entrada.endObject();
+        if (nome == null) throw new JsonParseException("Garçom sem nome" + entrada);
+        Garcom garcom = new Garcom(id, nome, turno);
+        for (Atendimento atendimento : atendimentos) {
+            garcom.retomarAtendimento(atendimento);
+        }
+        return garcom;
+    }
+}
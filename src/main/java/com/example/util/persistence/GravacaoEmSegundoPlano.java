@@ -0,0 +1,248 @@
+package com.example.util.persistence;
+
+import java.io.Closeable;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+
+/**
+ * Serviço de gravação em segundo plano ("write-behind"), executado por uma thread virtual dedicada.
+ * <p>
+ * Cada gravação é agendada com uma chave, como o caminho do arquivo gravado, e executada pela thread gravadora na
+ * ordem em que as chaves foram agendadas. Enquanto uma gravação aguarda na fila, um novo agendamento com a mesma
+ * chave apenas substitui a tarefa pendente: gravações repetidas do mesmo arquivo são coalescidas e somente o estado
+ * mais recente é gravado. A fila é limitada; se a thread gravadora estiver atrasada, {@link #agendar(String, Runnable)}
+ * bloqueia até haver espaço, em vez de acumular estados em memória sem limite.
+ * </p>
+ * <p>
+ * As tarefas devem receber o estado já capturado (por exemplo, o texto JSON a ser gravado), para que a thread
+ * gravadora nunca leia objetos do modelo que estão sendo alterados por outra thread.
+ * </p>
+ *
+ * <p><b>Exceções possíveis:</b></p>
+ * <ul>
+ *   <li>{@link IllegalArgumentException} - Lançada ao criar o serviço com nome nulo ou capacidade menor que 1.</li>
+ *   <li>{@link NullPointerException} - Lançada ao agendar uma chave ou tarefa nula.</li>
+ *   <li>{@link IllegalStateException} - Lançada ao agendar uma gravação depois de {@link #close()}.</li>
+ * </ul>
+ * Erros lançados pelas tarefas são exibidos no console, como em {@link Persistencia}, e não interrompem as
+ * gravações seguintes.
+ *
+ * <p><b>Uso típico:</b></p>
+ * <ol>
+ *   <li>Criar o serviço e, se desejado, chamar {@link #esvaziarAoEncerrar()} para gravar tudo ao encerrar a JVM.</li>
+ *   <li>Agendar gravações com {@link #agendar(String, Runnable)} a partir de qualquer thread.</li>
+ *   <li>Chamar {@link #esvaziar()} para aguardar as gravações agendadas, ou {@link #close()} ao encerrar.</li>
+ * </ol>
+ *
+ * @author Ana Luiza Freitas Brito Siqueira
+ * @author Bruno Campos Penha
+ * @author Grazielly de Sousa Barros
+ * @author João Gabriel Oliveira Magalhães
+ * @author João Vitor Moreira Lemos
+ * @author Robert Alves Guimarães
+ * @author Vinicius D’Oliveira Rocha
+ * @version 1.0
+ */
+public class GravacaoEmSegundoPlano implements Closeable {
+    /** Quantidade padrão de gravações distintas aguardando na fila */
+    public static final int CAPACIDADE_PADRAO = 64;
+
+    /** Marca de fim da fila, comparada por identidade para não colidir com chaves agendadas */
+    private static final String FIM = new String("fim");
+
+    private final BlockingQueue<String> fila;
+    /** Tarefa pendente de cada chave na fila; protegido pela própria trava */
+    private final Map<String, Runnable> pendentes = new HashMap<>();
+    private final Thread gravador;
+    private long coalescidas;
+    private long esvaziamentos;
+    private boolean encerrada;
+    private Thread ganchoDeEncerramento;
+
+    /**
+     * Cria o serviço com a capacidade padrão.
+     *
+     * @param nome nome da thread gravadora (não pode ser nulo)
+     * @throws IllegalArgumentException se o nome for nulo
+     */
+    public GravacaoEmSegundoPlano(String nome) {
+        this(nome, CAPACIDADE_PADRAO);
+    }
+
+    /**
+     * Cria o serviço e inicia a thread virtual gravadora.
+     *
+     * @param nome       nome da thread gravadora (não pode ser nulo)
+     * @param capacidade quantidade máxima de gravações distintas aguardando na fila (mínimo 1)
+     * @throws IllegalArgumentException se o nome for nulo ou a capacidade for menor que 1
+     */
+    public GravacaoEmSegundoPlano(String nome, int capacidade) {
+        if (nome == null) throw new IllegalArgumentException("Nome da gravação não pode ser nulo.");
+        if (capacidade < 1) throw new IllegalArgumentException("Capacidade deve ser maior que zero.");
+        this.fila = new ArrayBlockingQueue<>(capacidade);
+        this.gravador = Thread.ofVirtual().name(nome).start(this::executar);
+    }
+
+    /**
+     * Agenda uma gravação. Se já houver uma gravação pendente com a mesma chave, ela é substituída pela nova,
+     * mantendo a posição original na fila.
+     * <p>
+     * Bloqueia enquanto a fila estiver cheia. Se o serviço for encerrado durante a espera, a gravação é recusada
+     * com {@link IllegalStateException}; toda gravação aceita é executada antes de {@link #close()} retornar.
+     * </p>
+     *
+     * @param chave    identificação do que será gravado, como o caminho do arquivo (não pode ser nula)
+     * @param gravacao tarefa de gravação (não pode ser nula)
+     * @throws NullPointerException  se a chave ou a tarefa forem nulas
+     * @throws IllegalStateException se o serviço já tiver sido encerrado
+     */
+    public void agendar(String chave, Runnable gravacao) {
+        if (chave == null) throw new NullPointerException("Chave da gravação não pode ser nula.");
+        if (gravacao == null) throw new NullPointerException("Gravação não pode ser nula.");
+        boolean interrompida = false;
+        synchronized (pendentes) {
+            // A chave entra na fila sob a mesma trava que close() usa para marcar o encerramento: uma gravação aceita
+            // nunca fica atrás do fim da fila
+            while (true) {
+                if (encerrada) throw new IllegalStateException("Gravação em segundo plano já foi encerrada.");
+                if (pendentes.replace(chave, gravacao) != null) {
+                    coalescidas++;
+                    break;
+                }
+                if (fila.offer(chave)) {
+                    pendentes.put(chave, gravacao);
+                    break;
+                }
+                try {
+                    pendentes.wait();
+                } catch (InterruptedException e) {
+                    interrompida = true;
+                    break;
+                }
+            }
+        }
+        if (interrompida) Thread.currentThread().interrupt();
+    }
+
+    /**
+     * Aguarda a execução de todas as gravações agendadas até o momento.
+     * Retorna imediatamente se chamado pela própria thread gravadora ou após o encerramento.
+     */
+    public void esvaziar() {
+        if (Thread.currentThread() == gravador) return;
+        CountDownLatch concluido = new CountDownLatch(1);
+        String chave;
+        synchronized (pendentes) {
+            if (encerrada) return;
+            chave = "\0esvaziar-" + ++esvaziamentos;
+        }
+        try {
+            agendar(chave, concluido::countDown);
+        } catch (IllegalStateException e) {
+            return;
+        }
+        boolean interrompida = false;
+        while (true) {
+            try {
+                concluido.await();
+                break;
+            } catch (InterruptedException e) {
+                interrompida = true;
+            }
+        }
+        if (interrompida) Thread.currentThread().interrupt();
+    }
+
+    /**
+     * Retorna quantas gravações foram coalescidas com uma gravação pendente de mesma chave.
+     *
+     * @return quantidade de gravações substituídas antes de serem executadas
+     */
+    public long getCoalescidas() {
+        synchronized (pendentes) {
+            return coalescidas;
+        }
+    }
+
+    /**
+     * Registra um gancho de encerramento da JVM que executa as gravações pendentes antes de sair.
+     * O gancho é removido por {@link #close()}.
+     */
+    public void esvaziarAoEncerrar() {
+        synchronized (pendentes) {
+            if (encerrada || ganchoDeEncerramento != null) return;
+            ganchoDeEncerramento = new Thread(this::close, gravador.getName() + "-encerramento");
+        }
+        Runtime.getRuntime().addShutdownHook(ganchoDeEncerramento);
+    }
+
+    /**
+     * Executa as gravações pendentes e encerra a thread gravadora, aguardando o seu término.
+     * Chamadas repetidas não têm efeito.
+     */
+    @Override
+    public void close() {
+        Thread gancho;
+        synchronized (pendentes) {
+            if (encerrada) return;
+            encerrada = true;
+            gancho = ganchoDeEncerramento;
+            // Nenhuma chave entra na fila depois desta marca; se a fila estiver cheia, a thread gravadora a esvazia
+            // e termina sem precisar dela
+            fila.offer(FIM);
+            pendentes.notifyAll();
+        }
+        boolean interrompida = false;
+        if (Thread.currentThread() != gravador) {
+            while (gravador.isAlive()) {
+                try {
+                    gravador.join();
+                } catch (InterruptedException e) {
+                    interrompida = true;
+                }
+            }
+        }
+        if (interrompida) Thread.currentThread().interrupt();
+        if (gancho != null && Thread.currentThread() != gancho) {
+            try {
+                Runtime.getRuntime().removeShutdownHook(gancho);
+            } catch (IllegalStateException e) {
+                // A JVM já está encerrando
+            }
+        }
+    }
+
+    /**
+     * Laço da thread gravadora: retira cada chave da fila e executa a tarefa pendente mais recente dessa chave,
+     * até a fila estar vazia depois do encerramento.
+     */
+    private void executar() {
+        while (true) {
+            synchronized (pendentes) {
+                if (encerrada && fila.isEmpty()) return;
+            }
+            String chave;
+            try {
+                chave = fila.take();
+            } catch (InterruptedException e) {
+                continue;
+            }
+            if (chave == FIM) continue;
+            Runnable gravacao;
+            synchronized (pendentes) {
+                gravacao = pendentes.remove(chave);
+                pendentes.notifyAll();
+            }
+            if (gravacao == null) continue;
+            try {
+                gravacao.run();
+            } catch (RuntimeException e) {
+                System.err.println("Erro na gravação em segundo plano (" + chave + "): " + e.getMessage());
+                e.printStackTrace();
+            }
+        }
+    }
+}
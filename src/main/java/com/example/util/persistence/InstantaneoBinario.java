@@ -0,0 +1,520 @@
+package com.example.util.persistence;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.DateTimeException;
+import java.time.Duration;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import com.example.model.Atendimento;
+import com.example.model.AtendimentoGrupo;
+import com.example.model.AtendimentoIndividual;
+import com.example.model.Atendivel;
+import com.example.model.Cliente;
+import com.example.model.FilaDeEspera;
+import com.example.model.Garcom;
+import com.example.model.GrupoClientes;
+import com.example.model.HistoricoDeAtendimentos;
+import com.example.model.ItemPedido;
+import com.example.model.ObservacaoDoPedido;
+import com.example.model.Pedido;
+import com.example.model.Restaurante;
+import com.example.util.TipoCliente;
+import com.example.util.Turno;
+
+/**
+ * Codificador binário e versionado do estado completo do {@link Restaurante}.
+ * <p>
+ * Grava o cardápio, os garçons, o histórico, os atendimentos em andamento e a fila de espera geral em um formato
+ * compacto: horários como nanossegundos do dia ({@code long}, {@code -1} para ausente), durações como
+ * nanossegundos ({@code long}) e os nomes dos itens e as observações dos pedidos em uma tabela de textos no
+ * início do arquivo, referenciados por índice. Como os mesmos itens do cardápio se repetem em quase todos os pedidos,
+ * cada nome é gravado uma única vez.
+ * </p>
+ * <p>
+ * O histórico é gravado como os registros de largura fixa do {@link HistoricoDeAtendimentos}, seguidos dos
+ * atendimentos recentes completos. Os preços dos itens são gravados em centavos ({@code long}).
+ * </p>
+ * <p>
+ * O arquivo começa com uma assinatura e um número de versão; versões diferentes de {@link #VERSAO} são rejeitadas.
+ * É o formato dos instantâneos do {@link DiarioDeEventos}. O JSON de {@link Persistencia} continua sendo o formato
+ * de exportação legível.
+ * </p>
+ * <p>
+ * A leitura reaplica o estado pelos mesmos métodos usados pelo {@link RecuperadorDeEstado}, de modo que status,
+ * tempos, índices e identificadores reservados ficam coerentes. Itens do cardápio com nomes já existentes, garçons,
+ * atendimentos e clientes na fila de espera já presentes no restaurante não são recriados.
+ * </p>
+ *
+ * <p><b>Exceções possíveis:</b></p>
+ * <ul>
+ *   <li>{@link IllegalArgumentException} - Lançada ao gravar ou carregar com restaurante, fluxo ou arquivo nulos.</li>
+ *   <li>{@link IOException} - Lançada em erros de leitura ou gravação, ao ler um arquivo que não é um instantâneo
+ *   binário, de versão não suportada ou truncado.</li>
+ * </ul>
+ *
+ * <p><b>Uso típico:</b></p>
+ * <ol>
+ *   <li>Gravar o estado com {@link #gravar(Restaurante, OutputStream)}.</li>
+ *   <li>Em um novo restaurante, carregá-lo com {@link #carregar(Path, Restaurante)} antes de registrar o ouvinte.</li>
+ * </ol>
+ *
+ * @author Ana Luiza Freitas Brito Siqueira
+ * @author Bruno Campos Penha
+ * @author Grazielly de Sousa Barros
+ * @author João Gabriel Oliveira Magalhães
+ * @author João Vitor Moreira Lemos
+ * @author Robert Alves Guimarães
+ * @author Vinicius D’Oliveira Rocha
+ * @version 1.0
+ */
+public class InstantaneoBinario {
+    /** Assinatura no início de todo instantâneo binário ("REST" em ASCII) */
+    public static final int ASSINATURA = 0x52455354;
+    /** Versão do formato gravada por esta classe */
+    public static final short VERSAO = 1;
+
+    private static final long HORARIO_AUSENTE = -1L;
+    private static final long DURACAO_AUSENTE = Long.MIN_VALUE;
+    private static final byte INDIVIDUAL = 0;
+    private static final byte GRUPO = 1;
+
+    private InstantaneoBinario() {
+    }
+
+    /**
+     * Grava o estado atual do restaurante no fluxo. O fluxo não é fechado.
+     * Deve ser chamado com o restaurante em repouso, como na compactação do diário.
+     *
+     * @param restaurante restaurante a ser gravado
+     * @param saida       fluxo de destino
+     * @throws IOException se o fluxo não puder ser gravado
+     * @throws IllegalArgumentException se o restaurante ou o fluxo forem nulos
+     */
+    public static void gravar(Restaurante restaurante, OutputStream saida) throws IOException {
+        if (restaurante == null) throw new IllegalArgumentException("Restaurante não pode ser nulo.");
+        if (saida == null) throw new IllegalArgumentException("Fluxo de saída não pode ser nulo.");
+        Gravador gravador = new Gravador();
+        gravador.gravarEstado(restaurante);
+
+        DataOutputStream dados = new DataOutputStream(saida);
+        dados.writeInt(ASSINATURA);
+        dados.writeShort(VERSAO);
+        dados.writeInt(gravador.textos.size());
+        for (String texto : gravador.textos.keySet()) {
+            dados.writeUTF(texto);
+        }
+        gravador.corpo.writeTo(dados);
+        dados.flush();
+    }
+
+    /**
+     * Carrega no restaurante o instantâneo gravado no arquivo.
+     *
+     * @param arquivo     arquivo do instantâneo
+     * @param restaurante restaurante que receberá o estado, sem ouvinte registrado
+     * @return quantidade de itens do cardápio, garçons, registros do histórico, atendimentos e clientes na fila de espera carregados
+     * @throws IOException se o arquivo não puder ser lido ou não for um instantâneo válido
+     * @throws IllegalArgumentException se o arquivo ou o restaurante forem nulos
+     */
+    public static int carregar(Path arquivo, Restaurante restaurante) throws IOException {
+        if (arquivo == null) throw new IllegalArgumentException("Arquivo do instantâneo não pode ser nulo.");
+        try (InputStream entrada = Files.newInputStream(arquivo)) {
+            return carregar(entrada, restaurante);
+        }
+    }
+
+    /**
+     * Carrega no restaurante o instantâneo lido do fluxo. O fluxo não é fechado.
+     *
+     * @param entrada     fluxo com o instantâneo
+     * @param restaurante restaurante que receberá o estado, sem ouvinte registrado
+     * @return quantidade de itens do cardápio, garçons, registros do histórico, atendimentos e clientes na fila de espera carregados
+     * @throws IOException se o fluxo não puder ser lido ou não contiver um instantâneo válido
+     * @throws IllegalArgumentException se o fluxo ou o restaurante forem nulos
+     */
+    public static int carregar(InputStream entrada, Restaurante restaurante) throws IOException {
+        if (entrada == null) throw new IllegalArgumentException("Fluxo de entrada não pode ser nulo.");
+        if (restaurante == null) throw new IllegalArgumentException("Restaurante não pode ser nulo.");
+        DataInputStream dados = new DataInputStream(new BufferedInputStream(entrada, 1 << 16));
+        if (dados.readInt() != ASSINATURA) throw new IOException("Arquivo não é um instantâneo binário do restaurante.");
+        short versao = dados.readShort();
+        if (versao != VERSAO) throw new IOException("Versão de instantâneo não suportada: " + versao);
+        try {
+            return new Leitor(dados, restaurante).lerEstado();
+        } catch (IllegalArgumentException | IndexOutOfBoundsException | DateTimeException e) {
+            throw new IOException("Instantâneo binário inválido: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Grava o corpo do instantâneo em memória, montando a tabela de textos ao longo da gravação.
+     */
+    private static class Gravador {
+        /** Textos na ordem do primeiro uso, com seus índices */
+        private final Map<String, Integer> textos = new LinkedHashMap<>();
+        private final ByteArrayOutputStream corpo = new ByteArrayOutputStream(1 << 16);
+        private final DataOutputStream saida = new DataOutputStream(corpo);
+
+        void gravarEstado(Restaurante restaurante) throws IOException {
+            List<ItemPedido> cardapio = restaurante.getCardapio();
+            saida.writeInt(cardapio.size());
+            for (ItemPedido item : cardapio) {
+                gravarItem(item);
+            }
+
+            List<Garcom> garcons = restaurante.getGarcons();
+            saida.writeInt(garcons.size());
+            for (Garcom garcom : garcons) {
+                saida.writeInt(garcom.getId());
+                saida.writeUTF(garcom.getNome());
+                saida.writeByte(garcom.getTurnoAtual() != null ? garcom.getTurnoAtual().ordinal() : -1);
+            }
+
+            // Histórico: os registros de largura fixa e, em seguida, os atendimentos recentes completos
+            HistoricoDeAtendimentos historico = restaurante.getHistorico();
+            List<Atendimento> recentes = historico.getRecentes();
+            Set<Integer> pedidosRecentes = new HashSet<>();
+            for (Atendimento atendimento : recentes) {
+                pedidosRecentes.add(atendimento.getPedido().getId());
+            }
+            int registros = historico.tamanho();
+            List<Integer> posicoes = new ArrayList<>(registros);
+            for (int i = 0; i < registros; i++) {
+                if (!pedidosRecentes.contains(historico.getPedidoId(i))) posicoes.add(i);
+            }
+            saida.writeInt(posicoes.size());
+            for (int i : posicoes) {
+                saida.writeInt(historico.getPedidoId(i));
+                saida.writeInt(historico.getGarcomId(i));
+                gravarHorario(historico.getInicio(i));
+                gravarHorario(historico.getFim(i));
+                Duration espera = historico.getTempoDeEspera(i);
+                saida.writeLong(espera != null ? espera.toNanos() : DURACAO_AUSENTE);
+                saida.writeLong(historico.getTotalEmCentavos(i));
+                saida.writeInt(historico.getQuantidadeDeItens(i));
+            }
+            saida.writeInt(recentes.size());
+            for (Atendimento atendimento : recentes) {
+                gravarAtendimento(atendimento);
+            }
+
+            List<Atendimento> emAndamento = new ArrayList<>();
+            for (Garcom garcom : garcons) {
+                emAndamento.addAll(garcom.getFilaAtendimentoIndividual().getFila());
+                emAndamento.addAll(garcom.getFilaAtendimentoGrupo().getFila());
+            }
+            saida.writeInt(emAndamento.size());
+            for (Atendimento atendimento : emAndamento) {
+                gravarAtendimento(atendimento);
+            }
+
+            List<Atendivel> espera = restaurante.getFilaDeEsperaGeral().listar();
+            saida.writeInt(espera.size());
+            for (Atendivel atendivel : espera) {
+                if (atendivel instanceof GrupoClientes grupo) {
+                    saida.writeByte(GRUPO);
+                    gravarGrupo(grupo);
+                } else {
+                    saida.writeByte(INDIVIDUAL);
+                    gravarCliente((Cliente) atendivel);
+                }
+            }
+            saida.flush();
+        }
+
+        private void gravarAtendimento(Atendimento atendimento) throws IOException {
+            if (atendimento instanceof AtendimentoGrupo emGrupo) {
+                saida.writeByte(GRUPO);
+                gravarGrupo(emGrupo.getGrupo());
+            } else {
+                saida.writeByte(INDIVIDUAL);
+                gravarCliente(((AtendimentoIndividual) atendimento).getCliente());
+            }
+            gravarPedido(atendimento.getPedido());
+            saida.writeInt(atendimento.getGarcomId());
+            gravarHorario(atendimento.getInicio());
+            gravarHorario(atendimento.getFim());
+            Duration espera = atendimento.getTempoDeEspera();
+            saida.writeLong(espera != null ? espera.toNanos() : DURACAO_AUSENTE);
+        }
+
+        private void gravarCliente(Cliente cliente) throws IOException {
+            saida.writeInt(cliente.getId());
+            saida.writeUTF(cliente.getNome());
+            saida.writeByte(cliente.getTipoCliente().ordinal());
+            List<String> preferencias = cliente.getPreferencias();
+            saida.writeInt(preferencias.size());
+            for (String preferencia : preferencias) {
+                saida.writeUTF(preferencia);
+            }
+            gravarHorario(cliente.getHoraChegada());
+            gravarTextoOpcional(cliente.getObservacoesGerais());
+        }
+
+        private void gravarGrupo(GrupoClientes grupo) throws IOException {
+            saida.writeInt(grupo.getId());
+            saida.writeUTF(grupo.getNomeGrupo());
+            saida.writeInt(grupo.getClientes().size());
+            for (Cliente cliente : grupo.getClientes()) {
+                gravarCliente(cliente);
+            }
+            saida.writeInt(grupo.getPedidos().size());
+            for (Pedido pedido : grupo.getPedidos()) {
+                gravarPedido(pedido);
+            }
+            gravarHorario(grupo.getHoraChegada());
+            gravarTextoOpcional(grupo.getObservacoesGerais());
+        }
+
+        private void gravarPedido(Pedido pedido) throws IOException {
+            saida.writeInt(pedido.getId());
+            List<ItemPedido> itens = pedido.getItens();
+            saida.writeInt(itens.size());
+            for (ItemPedido item : itens) {
+                gravarItem(item);
+            }
+        }
+
+        private void gravarItem(ItemPedido item) throws IOException {
+            saida.writeInt(indiceDoTexto(item.getNome()));
+            saida.writeInt(item.getQuantidade());
+            saida.writeLong(item.getPrecoEmCentavos());
+            List<ObservacaoDoPedido> observacoes = item.getObservacoes();
+            saida.writeInt(observacoes.size());
+            for (ObservacaoDoPedido observacao : observacoes) {
+                saida.writeInt(indiceDoTexto(observacao.getDescricao()));
+            }
+        }
+
+        private void gravarHorario(LocalTime horario) throws IOException {
+            saida.writeLong(horario != null ? horario.toNanoOfDay() : HORARIO_AUSENTE);
+        }
+
+        private void gravarTextoOpcional(String texto) throws IOException {
+            saida.writeBoolean(texto != null);
+            if (texto != null) saida.writeUTF(texto);
+        }
+
+        private int indiceDoTexto(String texto) {
+            return textos.computeIfAbsent(texto, t -> textos.size());
+        }
+    }
+
+    /**
+     * Lê o corpo do instantâneo e reaplica o estado no restaurante.
+     */
+    private static class Leitor {
+        private final DataInputStream entrada;
+        private final Restaurante restaurante;
+        private String[] textos;
+        private int carregados;
+
+        Leitor(DataInputStream entrada, Restaurante restaurante) {
+            this.entrada = entrada;
+            this.restaurante = restaurante;
+        }
+
+        int lerEstado() throws IOException {
+            textos = new String[contagem()];
+            for (int i = 0; i < textos.length; i++) {
+                textos[i] = entrada.readUTF();
+            }
+
+            for (int i = contagem(); i > 0; i--) {
+                ItemPedido item = lerItem();
+                if (restaurante.buscarItemDoCardapio(item.getNome()) == null) {
+                    restaurante.adicionarAoCardapio(item);
+                    carregados++;
+                }
+            }
+
+            for (int i = contagem(); i > 0; i--) {
+                int id = entrada.readInt();
+                String nome = entrada.readUTF();
+                byte turno = entrada.readByte();
+                if (restaurante.buscarGarcomPorId(id) == null) {
+                    restaurante.adicionarGarcom(new Garcom(id, nome, turno >= 0 ? Turno.values()[turno] : null));
+                    carregados++;
+                }
+            }
+
+            lerRegistrosDoHistorico();
+            for (int i = contagem(); i > 0; i--) {
+                Atendimento atendimento = lerAtendimento();
+                if (atendimento != null) {
+                    restaurante.registrarAtendimentoFinalizado(atendimento);
+                }
+            }
+            for (int i = contagem(); i > 0; i--) {
+                lerAtendimento();
+            }
+
+            FilaDeEspera fila = restaurante.getFilaDeEsperaGeral();
+            Set<Integer> clientesNaFila = new HashSet<>();
+            Set<Integer> gruposNaFila = new HashSet<>();
+            for (Atendivel atendivel : fila.listar()) {
+                if (atendivel instanceof GrupoClientes grupo) {
+                    gruposNaFila.add(grupo.getId());
+                } else {
+                    clientesNaFila.add(((Cliente) atendivel).getId());
+                }
+            }
+            for (int i = contagem(); i > 0; i--) {
+                if (entrada.readByte() == GRUPO) {
+                    GrupoClientes grupo = lerGrupo();
+                    if (gruposNaFila.add(grupo.getId())) {
+                        fila.adicionar(grupo);
+                        carregados++;
+                    }
+                } else {
+                    Cliente cliente = lerCliente();
+                    if (clientesNaFila.add(cliente.getId())) {
+                        fila.adicionar(cliente);
+                        carregados++;
+                    }
+                }
+            }
+            return carregados;
+        }
+
+        /**
+         * Lê os registros de largura fixa do histórico, acrescentando os de pedidos ainda não registrados.
+         * Como esses pedidos não são recriados, o contador de pedidos é avançado até o maior identificador lido,
+         * para que nenhum novo pedido reutilize o identificador de um pedido do histórico.
+         */
+        private void lerRegistrosDoHistorico() throws IOException {
+            HistoricoDeAtendimentos historico = restaurante.getHistorico();
+            Set<Integer> registrados = new HashSet<>();
+            for (int i = 0; i < historico.tamanho(); i++) {
+                registrados.add(historico.getPedidoId(i));
+            }
+            int maiorPedidoId = 0;
+            for (int i = contagem(); i > 0; i--) {
+                int pedidoId = entrada.readInt();
+                maiorPedidoId = Math.max(maiorPedidoId, pedidoId);
+                int garcomId = entrada.readInt();
+                LocalTime inicio = lerHorario();
+                LocalTime fim = lerHorario();
+                long espera = entrada.readLong();
+                long totalEmCentavos = entrada.readLong();
+                int quantidadeDeItens = entrada.readInt();
+                if (registrados.add(pedidoId)) {
+                    historico.adicionarRegistro(pedidoId, garcomId, inicio, fim,
+                            espera != DURACAO_AUSENTE ? Duration.ofNanos(espera) : null, totalEmCentavos, quantidadeDeItens);
+                    carregados++;
+                }
+            }
+            Pedido.reservarAte(maiorPedidoId);
+        }
+
+        /**
+         * Lê um atendimento e o devolve à fila do seu garçom.
+         *
+         * @return atendimento recriado, ou {@code null} se o pedido já existir no restaurante
+         */
+        private Atendimento lerAtendimento() throws IOException {
+            byte tipo = entrada.readByte();
+            Atendivel atendivel = tipo == GRUPO ? lerGrupo() : lerCliente();
+            Pedido pedido = lerPedido();
+            int garcomId = entrada.readInt();
+            LocalTime inicio = lerHorario();
+            LocalTime fim = lerHorario();
+            long espera = entrada.readLong();
+            if (restaurante.buscarAtendimentoPorPedidoId(pedido.getId()) != null) return null;
+
+            Atendimento atendimento = tipo == GRUPO
+                    ? new AtendimentoGrupo((GrupoClientes) atendivel, pedido)
+                    : new AtendimentoIndividual((Cliente) atendivel, pedido);
+            if (inicio != null) {
+                LocalTime chegada = espera != DURACAO_AUSENTE ? inicio.minusNanos(espera) : inicio;
+                atendimento.iniciarAtendimento(chegada, inicio);
+                if (fim != null) {
+                    atendimento.finalizarAtendimento(fim);
+                }
+            }
+            Garcom garcom = restaurante.buscarGarcomPorId(garcomId);
+            if (garcom != null) {
+                garcom.retomarAtendimento(atendimento);
+            }
+            carregados++;
+            return atendimento;
+        }
+
+        private Cliente lerCliente() throws IOException {
+            int id = entrada.readInt();
+            String nome = entrada.readUTF();
+            Cliente cliente = new Cliente(id, nome, TipoCliente.values()[entrada.readByte()]);
+            for (int i = contagem(); i > 0; i--) {
+                cliente.adicionarPreferencia(entrada.readUTF());
+            }
+            cliente.setHoraChegada(lerHorario());
+            cliente.setObservacoesGerais(lerTextoOpcional());
+            return cliente;
+        }
+
+        private GrupoClientes lerGrupo() throws IOException {
+            GrupoClientes grupo = new GrupoClientes(entrada.readInt(), entrada.readUTF());
+            for (int i = contagem(); i > 0; i--) {
+                grupo.adicionarCliente(lerCliente());
+            }
+            for (int i = contagem(); i > 0; i--) {
+                grupo.adicionarPedido(lerPedido());
+            }
+            grupo.setHoraChegada(lerHorario());
+            grupo.setObservacoesGerais(lerTextoOpcional());
+            return grupo;
+        }
+
+        private Pedido lerPedido() throws IOException {
+            int id = entrada.readInt();
+            Pedido pedido = id > 0 ? new Pedido(id) : new Pedido();
+            for (int i = contagem(); i > 0; i--) {
+                pedido.adicionarItem(lerItem());
+            }
+            return pedido;
+        }
+
+        private ItemPedido lerItem() throws IOException {
+            String nome = textos[entrada.readInt()];
+            int quantidade = entrada.readInt();
+            long precoEmCentavos = entrada.readLong();
+            ItemPedido item = restaurante.novoItemDoPedido(nome, quantidade, precoEmCentavos);
+            for (int i = contagem(); i > 0; i--) {
+                item.adicionarObservacao(new ObservacaoDoPedido(textos[entrada.readInt()]));
+            }
+            return item;
+        }
+
+        private LocalTime lerHorario() throws IOException {
+            long nanos = entrada.readLong();
+            return nanos == HORARIO_AUSENTE ? null : LocalTime.ofNanoOfDay(nanos);
+        }
+
+        private String lerTextoOpcional() throws IOException {
+            return entrada.readBoolean() ? entrada.readUTF() : null;
+        }
+
+        /**
+         * Lê uma quantidade de elementos, rejeitando valores negativos de um arquivo corrompido.
+         */
+        private int contagem() throws IOException {
+            int quantidade = entrada.readInt();
+            if (quantidade < 0) throw new IOException("Quantidade inválida no instantâneo binário: " + quantidade);
+            return quantidade;
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package com.example.util.persistence;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.example.model.ItemPedido;
+import com.example.model.ObservacaoDoPedido;
+import com.google.gson.JsonParseException;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+
+/**
+ * Adaptador Gson de {@link ItemPedido} escrito à mão sobre a API de fluxo ({@link JsonReader} e {@link JsonWriter}).
+ * <p>
+ * Grava o mesmo formato que a serialização por reflexão ({@code nome}, {@code quantidade}, {@code preco} e
+ * {@code observacoes} com a {@code descricao} de cada observação), sem reflexão nem árvore JSON intermediária.
+ * Campos desconhecidos são ignorados.
+ * </p>
+ *
+ * <p><b>Exceções possíveis:</b></p>
+ * <ul>
+ *   <li>{@link JsonParseException} - Lançada ao ler um item sem nome.</li>
+ *   <li>{@link IllegalArgumentException} - Lançada ao ler um item com quantidade ou preço inválidos.</li>
+ * </ul>
+ *
+ * @author Ana Luiza Freitas Brito Siqueira
+ * @author Bruno Campos Penha
+ * @author Grazielly de Sousa Barros
+ * @author João Gabriel Oliveira Magalhães
+ * @author João Vitor Moreira Lemos
+ * @author Robert Alves Guimarães
+ * @author Vinicius D’Oliveira Rocha
+ * @version 1.0
+ */
+class ItemPedidoAdapter extends TypeAdapter<ItemPedido> {
+
+    @Override
+    public void write(JsonWriter saida, ItemPedido item) throws IOException {
+        if (item == null) {
+            saida.nullValue();
+            return;
+        }
+        saida.beginObject();
+        saida.name("nome").value(item.getNome());
+        saida.name("quantidade").value(item.getQuantidade());
+        saida.name("preco").value(item.getPreco());
+        saida.name("observacoes").beginArray();
+        for (ObservacaoDoPedido observacao : item.getObservacoes()) {
+            saida.beginObject();
+            saida.name("descricao").value(observacao.getDescricao());
+            saida.endObject();
+        }
+        saida.endArray();
+        saida.endObject();
+    }
+
+    @Override
+    public ItemPedido read(JsonReader entrada) throws IOException {
+        if (entrada.peek() == JsonToken.NULL) {
+            entrada.nextNull();
+            return null;
+        }
+        String nome = null;
+        int quantidade = 1;
+        double preco = 0;
+        List<String> observacoes = new ArrayList<>();
+        entrada.beginObject();
+        while (entrada.hasNext()) {
+            switch (entrada.nextName()) {
+                case "nome" -> nome = entrada.nextString();
+                case "quantidade" -> quantidade = entrada.nextInt();
+                case "preco" -> preco = entrada.nextDouble();
+                case "observacoes" -> lerObservacoes(entrada, observacoes);
+                default -> entrada.skipValue();
+            }
+        }
+        entrada.endObject();
+        if (nome == null) throw new JsonParseException("Item de pedido sem nome" + entrada);
+        ItemPedido item = new ItemPedido(nome, quantidade, preco);
+        for (String descricao : observacoes) {
+            item.adicionarObservacao(new ObservacaoDoPedido(descricao));
+        }
+        return item;
+    }
+
+    private static void lerObservacoes(JsonReader entrada, List<String> observacoes) throws IOException {
+        if (entrada.peek() == JsonToken.NULL) {
+            entrada.nextNull();
+            return;
+        }
+        entrada.beginArray();
+        while (entrada.hasNext()) {
+            if (entrada.peek() == JsonToken.NULL) {
+                entrada.nextNull();
+                continue;
+            }
+            entrada.beginObject();
+            while (entrada.hasNext()) {
+                if ("descricao".equals(entrada.nextName()) && entrada.peek() == JsonToken.STRING) {
+                    observacoes.add(entrada.nextString());
+                } else {
+                    entrada.skipValue();
+                }
+            }
+            entrada.endObject();
+        }
+        entrada.endArray();
+    }
+}
@@ -0,0 +1,95 @@
+package com.example.util.persistence;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.example.model.ItemPedido;
+import com.example.model.Pedido;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+
+/**
+ * Adaptador Gson de {@link Pedido} escrito à mão sobre a API de fluxo.
+ * <p>
+ * Grava o identificador e os itens do pedido, no mesmo formato da serialização por reflexão. Ao ler, o pedido
+ * mantém o identificador gravado (os próximos pedidos criados recebem identificadores maiores); um pedido sem
+ * identificador recebe um novo.
+ * </p>
+ *
+ * @author Ana Luiza Freitas Brito Siqueira
+ * @author Bruno Campos Penha
+ * @author Grazielly de Sousa Barros
+ * @author João Gabriel Oliveira Magalhães
+ * @author João Vitor Moreira Lemos
+ * @author Robert Alves Guimarães
+ * @author Vinicius D’Oliveira Rocha
+ * @version 1.0
+ */
+class PedidoAdapter extends TypeAdapter<Pedido> {
+    private final ItemPedidoAdapter itemAdapter;
+
+    /**
+     * Construtor do adaptador de pedidos.
+     *
+     * @param itemAdapter adaptador usado para os itens do pedido
+     */
+    PedidoAdapter(ItemPedidoAdapter itemAdapter) {
+        this.itemAdapter = itemAdapter;
+    }
+
+    @Override
+    public void write(JsonWriter saida, Pedido pedido) throws IOException {
+        if (pedido == null) {
+            saida.nullValue();
+            return;
+        }
+        saida.beginObject();
+        saida.name("id").value(pedido.getId());
+        saida.name("itens").beginArray();
+        for (ItemPedido item : pedido.getItens()) {
+            itemAdapter.write(saida, item);
+        }
+        saida.endArray();
+        saida.endObject();
+    }
+
+    @Override
+    public Pedido read(JsonReader entrada) throws IOException {
+        if (entrada.peek() == JsonToken.NULL) {
+            entrada.nextNull();
+            return null;
+        }
+        int id = 0;
+        List<ItemPedido> itens = new ArrayList<>();
+        entrada.beginObject();
+        while (entrada.hasNext()) {
+            switch (entrada.nextName()) {
+                case "id" -> id = entrada.nextInt();
+                case "itens" -> lerItens(entrada, itens);
+                default -> entrada.skipValue();
+            }
+        }
+        entrada.endObject();
+        Pedido pedido = id > 0 ? new Pedido(id) : new Pedido();
+        for (ItemPedido item : itens) {
+            pedido.adicionarItem(item);
+        }
+        return pedido;
+    }
+
+    private void lerItens(JsonReader entrada, List<ItemPedido> itens) throws IOException {
+        if (entrada.peek() == JsonToken.NULL) {
+            entrada.nextNull();
+            return;
+        }
+        entrada.beginArray();
+        while (entrada.hasNext()) {
+            ItemPedido item = itemAdapter.read(entrada);
+            if (item != null) itens.add(item);
+        }
+        entrada.endArray();
+    }
+}
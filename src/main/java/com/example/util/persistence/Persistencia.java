@@ -1,14 +1,32 @@
 package com.example.util.persistence;
 
 import java.io.FileReader;
-import java.io.FileWriter;
 import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
 import java.time.Duration;
 import java.time.LocalTime;
 import java.util.ArrayList;
 import java.util.List;
 
+import com.example.model.Atendimento;
+import com.example.model.AtendimentoGrupo;
+import com.example.model.AtendimentoIndividual;
+import com.example.model.Cliente;
+import com.example.model.FilaDeAtendimento;
 import com.example.model.Garcom;
+import com.example.model.GrupoClientes;
+import com.example.model.ItemPedido;
+import com.example.model.ObservacaoDoPedido;
+import com.example.model.Pedido;
 import com.google.gson.*;
 import com.google.gson.reflect.TypeToken;
 
@@ -18,6 +36,18 @@ import com.google.gson.reflect.TypeToken;
  * Permite salvar e carregar a lista de garçons do sistema utilizando a biblioteca Gson.
  * Trata exceções de IO e exibe mensagens apropriadas no console.
  * </p>
+ * <p>
+ * Garçons, filas de atendimento, atendimentos, pedidos e itens são lidos e gravados por adaptadores escritos
+ * à mão sobre a API de fluxo do Gson ({@link GarcomAdapter} e os adaptadores de que depende), sem reflexão.
+ * O formato do arquivo é o mesmo da serialização por reflexão, e arquivos antigos continuam sendo lidos.
+ * </p>
+ * <p>
+ * A gravação é feita em segundo plano ({@link GravacaoEmSegundoPlano}): a thread que chama
+ * {@link #salvarGarcons(List)} apenas copia o estado dos garçons, cada um sob a sua trava, e a thread gravadora
+ * monta o JSON a partir da cópia. O JSON é escrito num arquivo temporário, que substitui {@code garcons.json} de
+ * forma atômica; uma queda no meio da gravação deixa o arquivo anterior intacto. Gravações repetidas antes de a
+ * anterior chegar ao disco são coalescidas, e as pendentes são concluídas ao encerrar a aplicação.
+ * </p>
  *
  * <b>Principais responsabilidades:</b>
  * <ul>
@@ -28,9 +58,9 @@ import com.google.gson.reflect.TypeToken;
  *
  * <b>Dependências:</b>
  * <ul>
- *   <li>Modelos: Garcom.</li>
+ *   <li>Modelos: Garcom, FilaDeAtendimento, Atendimento, Pedido e ItemPedido.</li>
  *   <li>Biblioteca: Gson.</li>
- *   <li>Java: FileWriter, FileReader, IOException, List.</li>
+ *   <li>Java: FileChannel, Files, FileReader, IOException, List.</li>
  * </ul>
  *
  * @author Ana Luiza Freitas Brito Siqueira
@@ -46,7 +76,13 @@ public class Persistencia {
     /** Caminho do arquivo JSON utilizado para persistência dos garçons */
     private static final String CAMINHO_ARQUIVO = "garcons.json";
 
-    private static class DurationAdapter implements JsonSerializer<Duration>, JsonDeserializer<Duration> {
+    /** Gravação em segundo plano do arquivo, criada na primeira gravação */
+    private static GravacaoEmSegundoPlano gravacao;
+
+    /** Ordena os salvamentos concorrentes: cada cópia é agendada na ordem em que foi tirada */
+    private static final Object TRAVA_DE_SALVAMENTO = new Object();
+
+    static class DurationAdapter implements JsonSerializer<Duration>, JsonDeserializer<Duration> {
         /**
          * Adaptador personalizado para serializar e desserializar objetos do tipo Duration com Gson.
          * Converte Duration para String no formato ISO-8601 ao serializar e reconstrói o objeto ao desserializar.
@@ -65,7 +101,7 @@ public class Persistencia {
      * Adaptador personalizado para serializar e desserializar objetos do tipo LocalTime com Gson.
      * Converte LocalTime para String no formato padrão ao serializar e reconstrói o objeto ao desserializar.
      */
-    private static class LocalTimeAdapter implements JsonSerializer<LocalTime>, JsonDeserializer<LocalTime> {
+    static class LocalTimeAdapter implements JsonSerializer<LocalTime>, JsonDeserializer<LocalTime> {
         @Override
         public JsonElement serialize(LocalTime src, java.lang.reflect.Type typeOfSrc, JsonSerializationContext context) {
             return new JsonPrimitive(src.toString());
@@ -81,38 +117,178 @@ public class Persistencia {
      * Instância de Gson configurada com adaptadores para Duration e LocalTime,
      * permitindo a correta serialização e desserialização desses tipos.
      */
-    private static final Gson gson = new GsonBuilder()
-            .registerTypeAdapter(Duration.class, new DurationAdapter())
-            .registerTypeAdapter(LocalTime.class, new LocalTimeAdapter())
-            .create();
+    private static final Gson gson = criarGson();
+
+    /**
+     * Cria a instância de Gson com os adaptadores de fluxo do modelo e os adaptadores de Duration e LocalTime.
+     *
+     * @return Gson configurado
+     */
+    private static Gson criarGson() {
+        ItemPedidoAdapter itemAdapter = new ItemPedidoAdapter();
+        PedidoAdapter pedidoAdapter = new PedidoAdapter(itemAdapter);
+        AtendimentoAdapter atendimentoAdapter = new AtendimentoAdapter(pedidoAdapter);
+        FilaDeAtendimentoAdapter filaAdapter = new FilaDeAtendimentoAdapter(atendimentoAdapter);
+        return new GsonBuilder()
+                .registerTypeAdapter(Duration.class, new DurationAdapter())
+                .registerTypeAdapter(LocalTime.class, new LocalTimeAdapter())
+                .registerTypeAdapter(Garcom.class, new GarcomAdapter(filaAdapter))
+                .registerTypeHierarchyAdapter(FilaDeAtendimento.class, filaAdapter)
+                .registerTypeHierarchyAdapter(Atendimento.class, atendimentoAdapter)
+                .registerTypeAdapter(Pedido.class, pedidoAdapter)
+                .registerTypeAdapter(ItemPedido.class, itemAdapter)
+                .create();
+    }
 
     /**
-     * Salva a lista de garçons no arquivo JSON.
+     * Salva a lista de garçons no arquivo JSON, em segundo plano.
+     * <p>
+     * O estado atual dos garçons é copiado imediatamente; a montagem do JSON e a escrita no arquivo são agendadas e
+     * não bloqueiam a thread que chama (como a thread da interface). Use {@link #aguardarGravacoes()} para esperar
+     * que o arquivo esteja gravado.
+     * </p>
      * Trata exceções de IO e exibe mensagens de erro no console.
      *
      * @param garcons Lista de garçons a ser salva
      */
     public static void salvarGarcons(List<Garcom> garcons) {
-        try (FileWriter writer = new FileWriter(CAMINHO_ARQUIVO)) {
-            gson.toJson(garcons, writer);
-        } catch (IOException e) {
+        // Copiar e agendar sob a mesma trava: uma cópia mais antiga nunca é agendada depois de uma mais recente
+        synchronized (TRAVA_DE_SALVAMENTO) {
+            List<Garcom> copia;
+            try {
+                copia = copiarGarcons(garcons);
+            } catch (Exception e) {
+                System.err.println("Erro inesperado ao salvar garçons: " + e.getMessage());
+                e.printStackTrace();
+                return;
+            }
+            gravacao().agendar(CAMINHO_ARQUIVO, () -> gravarArquivo(copia));
+        }
+    }
+
+    /**
+     * Aguarda a conclusão das gravações de garçons agendadas até o momento.
+     */
+    public static void aguardarGravacoes() {
+        GravacaoEmSegundoPlano atual;
+        synchronized (Persistencia.class) {
+            atual = gravacao;
+        }
+        if (atual != null) atual.esvaziar();
+    }
+
+    private static synchronized GravacaoEmSegundoPlano gravacao() {
+        if (gravacao == null) {
+            gravacao = new GravacaoEmSegundoPlano("gravacao-garcons");
+            gravacao.esvaziarAoEncerrar();
+        }
+        return gravacao;
+    }
+
+    /**
+     * Monta o JSON da cópia num arquivo temporário e o move sobre o arquivo de garçons. Executado pela thread
+     * gravadora.
+     */
+    private static void gravarArquivo(List<Garcom> copia) {
+        Path destino = Path.of(CAMINHO_ARQUIVO);
+        Path temporario = Path.of(CAMINHO_ARQUIVO + ".tmp");
+        try {
+            try (FileChannel saida = FileChannel.open(temporario, StandardOpenOption.CREATE,
+                    StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+                Writer writer = Channels.newWriter(saida, StandardCharsets.UTF_8);
+                escreverGarcons(copia, writer);
+                writer.flush();
+                saida.force(true);
+            }
+            try {
+                Files.move(temporario, destino, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temporario, destino, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } catch (IOException | JsonIOException e) {
             System.err.println("Erro ao salvar garçons: " + e.getMessage());
             e.printStackTrace();
-        } catch (Exception e) {
-            System.err.println("Erro inesperado ao salvar garçons: " + e.getMessage());
-            e.printStackTrace();
         }
     }
 
     /**
-     * Carrega a lista de garçons do arquivo JSON.
+     * Copia os garçons, com as filas, atendimentos, clientes, grupos, pedidos e itens, em objetos que não são
+     * compartilhados com o restante da aplicação. Cada garçom é copiado sob a sua trava, como nas mudanças das
+     * suas filas; a cópia pode então ser serializada em outra thread.
+     *
+     * @param garcons garçons a serem copiados
+     * @return cópias dos garçons, na mesma ordem
+     */
+    static List<Garcom> copiarGarcons(List<Garcom> garcons) {
+        List<Garcom> copias = new ArrayList<>(garcons.size());
+        for (Garcom garcom : garcons) {
+            synchronized (garcom) {
+                Garcom copia = new Garcom(garcom.getId(), garcom.getNome(), garcom.getTurnoAtual());
+                for (Atendimento atendimento : garcom.getFilaAtendimentoIndividual().getFila()) {
+                    copia.retomarAtendimento(copiarAtendimento(atendimento));
+                }
+                for (Atendimento atendimento : garcom.getFilaAtendimentoGrupo().getFila()) {
+                    copia.retomarAtendimento(copiarAtendimento(atendimento));
+                }
+                copias.add(copia);
+            }
+        }
+        return copias;
+    }
+
+    private static Atendimento copiarAtendimento(Atendimento atendimento) {
+        Atendimento copia;
+        if (atendimento instanceof AtendimentoGrupo emGrupo) {
+            copia = new AtendimentoGrupo(copiarGrupo(emGrupo.getGrupo()), copiarPedido(atendimento.getPedido()));
+        } else {
+            Cliente cliente = ((AtendimentoIndividual) atendimento).getCliente();
+            copia = new AtendimentoIndividual(EventoDoDiario.ClienteRegistrado.de(cliente).paraCliente(),
+                    copiarPedido(atendimento.getPedido()));
+        }
+        LocalTime inicio = atendimento.getInicio();
+        if (inicio != null) {
+            Duration tempoDeEspera = atendimento.getTempoDeEspera();
+            copia.iniciarAtendimento(tempoDeEspera != null ? inicio.minus(tempoDeEspera) : inicio, inicio);
+            if (atendimento.getFim() != null) copia.finalizarAtendimento(atendimento.getFim());
+        }
+        return copia;
+    }
+
+    private static GrupoClientes copiarGrupo(GrupoClientes grupo) {
+        GrupoClientes copia = new GrupoClientes(grupo.getId(), grupo.getNomeGrupo());
+        for (Cliente cliente : grupo.getClientes()) {
+            copia.adicionarCliente(EventoDoDiario.ClienteRegistrado.de(cliente).paraCliente());
+        }
+        for (Pedido pedido : grupo.getPedidos()) {
+            copia.adicionarPedido(copiarPedido(pedido));
+        }
+        copia.setHoraChegada(grupo.getHoraChegada());
+        copia.setObservacoesGerais(grupo.getObservacoesGerais());
+        return copia;
+    }
+
+    private static Pedido copiarPedido(Pedido pedido) {
+        Pedido copia = new Pedido(pedido.getId());
+        for (ItemPedido item : pedido.getItens()) {
+            ItemPedido itemCopiado = new ItemPedido(item.getModelo(), item.getQuantidade());
+            for (ObservacaoDoPedido observacao : item.getObservacoes()) {
+                itemCopiado.adicionarObservacao(observacao);
+            }
+            copia.adicionarItem(itemCopiado);
+        }
+        return copia;
+    }
+
+    /**
+     * Carrega a lista de garçons do arquivo JSON, após concluir as gravações pendentes.
      * Trata exceções de IO e retorna uma lista vazia em caso de erro.
      *
      * @return Lista de garçons carregada do arquivo, ou lista vazia se houver erro
      */
     public static List<Garcom> carregarGarcons() {
+        aguardarGravacoes();
         try (FileReader reader = new FileReader(CAMINHO_ARQUIVO)) {
-            return gson.fromJson(reader, new TypeToken<List<Garcom>>(){}.getType());
+            return lerGarcons(reader);
         } catch (IOException e) {
             System.err.println("Erro ao carregar garçons: " + e.getMessage());
             // Retorna lista vazia se o arquivo não existir ou não puder ser lido
@@ -122,4 +298,27 @@ public class Persistencia {
             return new ArrayList<>();
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * Grava a lista de garçons em JSON no destino informado.
+     *
+     * @param garcons Lista de garçons a ser gravada
+     * @param writer  Destino do JSON
+     * @throws com.google.gson.JsonIOException se a gravação falhar
+     */
+    static void escreverGarcons(List<Garcom> garcons, Writer writer) {
+        gson.toJson(garcons, new TypeToken<List<Garcom>>(){}.getType(), writer);
+    }
+
+    /**
+     * Lê uma lista de garçons em JSON da origem informada.
+     *
+     * @param reader Origem do JSON
+     * @return Lista de garçons lida, ou lista vazia se a origem estiver vazia
+     * @throws JsonParseException se o JSON for inválido
+     */
+    static List<Garcom> lerGarcons(Reader reader) {
+        List<Garcom> garcons = gson.fromJson(reader, new TypeToken<List<Garcom>>(){}.getType());
+        return garcons != null ? garcons : new ArrayList<>();
+    }
+}
@@ -0,0 +1,286 @@
+package com.example.util.persistence;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalTime;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+import com.example.model.Atendimento;
+import com.example.model.AtendimentoGrupo;
+import com.example.model.AtendimentoIndividual;
+import com.example.model.Atendivel;
+import com.example.model.Cliente;
+import com.example.model.FilaDeEspera;
+import com.example.model.Garcom;
+import com.example.model.GrupoClientes;
+import com.example.model.HistoricoDeAtendimentos;
+import com.example.model.ItemPedido;
+import com.example.model.ObservacaoDoPedido;
+import com.example.model.Pedido;
+import com.example.model.Restaurante;
+
+/**
+ * Recupera o estado do restaurante a partir dos arquivos do {@link DiarioDeEventos}.
+ * <p>
+ * Carrega o instantâneo binário mais recente ({@link InstantaneoBinario}) e, em seguida, reaplica em ordem os eventos
+ * do diário da mesma geração para reconstruir os garçons, os atendimentos em andamento, a fila de espera geral e o
+ * histórico. Cada evento é lido e aplicado em sequência, sem carregar o arquivo inteiro em memória.
+ * </p>
+ * <p>
+ * A reaplicação tolera eventos já aplicados: garçons, atendimentos e clientes na fila de espera já existentes não são recriados, os itens
+ * só são alterados nos pedidos recriados pela própria recuperação (inclusive os do instantâneo) e eventos de pedidos inexistentes são ignorados. Uma última linha incompleta, deixada por uma queda durante a gravação, é ignorada.
+ * A recuperação deve ser feita antes de registrar o diário como ouvinte do restaurante, para que os eventos
+ * reaplicados não sejam gravados novamente.
+ * </p>
+ *
+ * <p><b>Exceções possíveis:</b></p>
+ * <ul>
+ *   <li>{@link IllegalArgumentException} - Lançada ao recuperar com diretório ou restaurante nulos.</li>
+ *   <li>{@link IOException} - Lançada se os arquivos não puderem ser lidos ou contiverem um evento inválido.</li>
+ * </ul>
+ *
+ * <p><b>Uso típico:</b></p>
+ * <ol>
+ *   <li>Criar o restaurante vazio.</li>
+ *   <li>Chamar {@link #recuperar(Path, Restaurante)} com o diretório do diário.</li>
+ *   <li>Abrir o {@link DiarioDeEventos} no mesmo diretório e registrá-lo como ouvinte do restaurante.</li>
+ * </ol>
+ *
+ * @author Ana Luiza Freitas Brito Siqueira
+ * @author Bruno Campos Penha
+ * @author Grazielly de Sousa Barros
+ * @author João Gabriel Oliveira Magalhães
+ * @author João Vitor Moreira Lemos
+ * @author Robert Alves Guimarães
+ * @author Vinicius D’Oliveira Rocha
+ * @version 1.0
+ */
+public class RecuperadorDeEstado {
+    private final Restaurante restaurante;
+    /** Clientes individuais recriados que ainda não foram atendidos, pelo identificador */
+    private final Map<Integer, Cliente> clientes;
+    /** Grupos recriados que ainda não foram atendidos, pelo identificador */
+    private final Map<Integer, GrupoClientes> grupos;
+    /** Pedidos já registrados no histórico */
+    private final Set<Integer> finalizados;
+    /** Pedidos recriados nesta recuperação, os únicos que recebem os eventos de itens */
+    private final Set<Integer> recriados;
+    private int aplicados;
+
+    private RecuperadorDeEstado(Restaurante restaurante) {
+        this.restaurante = restaurante;
+        this.clientes = new HashMap<>();
+        this.grupos = new HashMap<>();
+        this.finalizados = new HashSet<>();
+        this.recriados = new HashSet<>();
+        HistoricoDeAtendimentos historico = restaurante.getHistorico();
+        for (int i = 0; i < historico.tamanho(); i++) {
+            finalizados.add(historico.getPedidoId(i));
+        }
+        for (Atendivel atendivel : restaurante.getFilaDeEsperaGeral().listar()) {
+            if (atendivel instanceof Cliente cliente) {
+                clientes.put(cliente.getId(), cliente);
+            } else if (atendivel instanceof GrupoClientes grupo) {
+                grupos.put(grupo.getId(), grupo);
+            }
+        }
+    }
+
+    /**
+     * Recupera o estado gravado no diretório do diário, reaplicando-o no restaurante.
+     * Se o diretório não existir ou estiver vazio, nada é alterado.
+     *
+     * @param diretorio   diretório dos arquivos do diário
+     * @param restaurante restaurante a ser reconstruído, sem ouvinte registrado
+     * @return quantidade de registros do instantâneo carregados e de eventos reaplicados
+     * @throws IOException se os arquivos não puderem ser lidos ou contiverem um instantâneo ou evento inválidos
+     * @throws IllegalArgumentException se o diretório ou o restaurante forem nulos
+     */
+    public static int recuperar(Path diretorio, Restaurante restaurante) throws IOException {
+        if (diretorio == null) throw new IllegalArgumentException("Diretório do diário não pode ser nulo.");
+        if (restaurante == null) throw new IllegalArgumentException("Restaurante não pode ser nulo.");
+        if (!Files.isDirectory(diretorio)) return 0;
+        long geracao = DiarioDeEventos.geracaoMaisRecente(diretorio);
+        int carregados = 0;
+        Set<Integer> pedidosAnteriores = pedidosEmAndamento(restaurante);
+        Path instantaneo = DiarioDeEventos.arquivoDoInstantaneo(diretorio, geracao);
+        if (Files.exists(instantaneo)) {
+            carregados = InstantaneoBinario.carregar(instantaneo, restaurante);
+        }
+        RecuperadorDeEstado recuperador = new RecuperadorDeEstado(restaurante);
+        // Os pedidos em andamento vindos do instantâneo recebem os eventos de itens do diário
+        for (int pedidoId : pedidosEmAndamento(restaurante)) {
+            if (!pedidosAnteriores.contains(pedidoId)) recuperador.recriados.add(pedidoId);
+        }
+        Path diario = DiarioDeEventos.arquivoDoDiario(diretorio, geracao);
+        if (Files.exists(diario)) {
+            DiarioDeEventos.lerEventos(diario, recuperador::aplicar);
+        }
+        return carregados + recuperador.aplicados;
+    }
+
+    /**
+     * Retorna os identificadores dos pedidos em andamento nas filas dos garçons.
+     */
+    private static Set<Integer> pedidosEmAndamento(Restaurante restaurante) {
+        Set<Integer> pedidos = new HashSet<>();
+        for (Garcom garcom : restaurante.getGarcons()) {
+            garcom.getFilaAtendimentoIndividual().getFila().forEach(a -> pedidos.add(a.getPedido().getId()));
+            garcom.getFilaAtendimentoGrupo().getFila().forEach(a -> pedidos.add(a.getPedido().getId()));
+        }
+        return pedidos;
+    }
+
+    /**
+     * Reaplica um evento no restaurante.
+     *
+     * @param evento evento lido do diário
+     */
+    private void aplicar(EventoDoDiario evento) {
+        boolean aplicado = switch (evento) {
+            case EventoDoDiario.GarcomAdicionado e -> garcomAdicionado(e);
+            case EventoDoDiario.EntrouNaFilaDeEspera e -> entrouNaFilaDeEspera(e);
+            case EventoDoDiario.SaiuDaFilaDeEspera e -> saiuDaFilaDeEspera(e);
+            case EventoDoDiario.AtendimentoIniciado e -> atendimentoIniciado(e);
+            case EventoDoDiario.ItemAdicionado e -> itemAdicionado(e);
+            case EventoDoDiario.ItemRemovido e -> itemRemovido(e);
+            case EventoDoDiario.ObservacaoAdicionada e -> observacaoAdicionada(e);
+            case EventoDoDiario.AtendimentoFinalizado e -> atendimentoFinalizado(e);
+            case EventoDoDiario.AtendimentoDescartado e -> atendimentoDescartado(e);
+        };
+        if (aplicado) aplicados++;
+    }
+
+    private boolean garcomAdicionado(EventoDoDiario.GarcomAdicionado evento) {
+        if (restaurante.buscarGarcomPorId(evento.garcomId()) != null) return false;
+        restaurante.adicionarGarcom(new Garcom(evento.garcomId(), evento.nome(), restaurante.getTurnoAtual()));
+        return true;
+    }
+
+    private boolean entrouNaFilaDeEspera(EventoDoDiario.EntrouNaFilaDeEspera evento) {
+        FilaDeEspera fila = restaurante.getFilaDeEsperaGeral();
+        Atendivel atendivel = evento.emGrupo()
+                ? obterGrupo(evento.grupoId(), evento.nomeGrupo(), evento.clientes(), evento.horaChegada())
+                : obterCliente(evento.clientes().get(0));
+        if (fila.contem(atendivel)) return false;
+        if (evento.devolvido()) {
+            fila.devolverAoInicio(atendivel);
+        } else {
+            fila.adicionar(atendivel);
+        }
+        return true;
+    }
+
+    private boolean saiuDaFilaDeEspera(EventoDoDiario.SaiuDaFilaDeEspera evento) {
+        Atendivel atendivel = evento.emGrupo() ? grupos.get(evento.id()) : clientes.get(evento.id());
+        return atendivel != null && restaurante.getFilaDeEsperaGeral().remover(atendivel);
+    }
+
+    private boolean atendimentoIniciado(EventoDoDiario.AtendimentoIniciado evento) {
+        if (finalizados.contains(evento.pedidoId()) || restaurante.buscarAtendimentoPorPedidoId(evento.pedidoId()) != null) return false;
+        Garcom garcom = restaurante.buscarGarcomPorId(evento.garcomId());
+        if (garcom == null) return false;
+        Pedido pedido = new Pedido(evento.pedidoId());
+        for (EventoDoDiario.ItemRegistrado item : evento.itens()) {
+            pedido.adicionarItem(item.paraItem(restaurante));
+        }
+        Atendimento atendimento;
+        if (evento.emGrupo()) {
+            GrupoClientes grupo = obterGrupo(evento.grupoId(), evento.nomeGrupo(), evento.clientes(), evento.horaChegada());
+            restaurante.getFilaDeEsperaGeral().remover(grupo);
+            grupos.remove(evento.grupoId());
+            atendimento = new AtendimentoGrupo(grupo, pedido);
+        } else {
+            Cliente cliente = obterCliente(evento.clientes().get(0));
+            restaurante.getFilaDeEsperaGeral().remover(cliente);
+            clientes.remove(cliente.getId());
+            atendimento = new AtendimentoIndividual(cliente, pedido);
+        }
+        LocalTime chegada = evento.horaChegada() != null ? evento.horaChegada() : evento.inicio();
+        atendimento.iniciarAtendimento(chegada, evento.inicio());
+        if (evento.fim() != null) {
+            atendimento.finalizarAtendimento(evento.fim());
+        }
+        garcom.retomarAtendimento(atendimento);
+        recriados.add(evento.pedidoId());
+        return true;
+    }
+
+    private boolean itemAdicionado(EventoDoDiario.ItemAdicionado evento) {
+        if (!recriados.contains(evento.pedidoId()) || finalizados.contains(evento.pedidoId())) return false;
+        Pedido pedido = restaurante.buscarPedidoPorId(evento.pedidoId());
+        if (pedido == null) return false;
+        pedido.adicionarItem(evento.item().paraItem(restaurante));
+        return true;
+    }
+
+    private boolean itemRemovido(EventoDoDiario.ItemRemovido evento) {
+        if (!recriados.contains(evento.pedidoId()) || finalizados.contains(evento.pedidoId())) return false;
+        Pedido pedido = restaurante.buscarPedidoPorId(evento.pedidoId());
+        if (pedido == null) return false;
+        for (ItemPedido item : pedido.getItens()) {
+            if (evento.item().corresponde(item)) {
+                pedido.removerItem(item);
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean observacaoAdicionada(EventoDoDiario.ObservacaoAdicionada evento) {
+        if (!recriados.contains(evento.pedidoId()) || finalizados.contains(evento.pedidoId())) return false;
+        Pedido pedido = restaurante.buscarPedidoPorId(evento.pedidoId());
+        if (pedido == null) return false;
+        for (ItemPedido item : pedido.getItens()) {
+            if (evento.item().corresponde(item)) {
+                pedido.adicionarObservacao(item, new ObservacaoDoPedido(evento.observacao()));
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean atendimentoFinalizado(EventoDoDiario.AtendimentoFinalizado evento) {
+        Atendimento atendimento = restaurante.buscarAtendimentoPorPedidoId(evento.pedidoId());
+        if (atendimento == null || !finalizados.add(evento.pedidoId())) return false;
+        if (atendimento.getFim() == null) {
+            atendimento.finalizarAtendimento(evento.fim() != null ? evento.fim() : atendimento.getInicio());
+        }
+        restaurante.registrarAtendimentoFinalizado(atendimento);
+        return true;
+    }
+
+    private boolean atendimentoDescartado(EventoDoDiario.AtendimentoDescartado evento) {
+        Atendimento atendimento = restaurante.buscarAtendimentoPorPedidoId(evento.pedidoId());
+        if (atendimento == null || finalizados.contains(evento.pedidoId())) return false;
+        Garcom garcom = restaurante.buscarGarcomPorId(atendimento.getGarcomId());
+        if (garcom == null) return false;
+        garcom.descartarAtendimento(atendimento);
+        return true;
+    }
+
+    /**
+     * Retorna o cliente já recriado com o identificador registrado ou recria-o.
+     */
+    private Cliente obterCliente(EventoDoDiario.ClienteRegistrado registrado) {
+        return clientes.computeIfAbsent(registrado.id(), id -> registrado.paraCliente());
+    }
+
+    /**
+     * Retorna o grupo já recriado com o identificador informado ou recria-o com seus membros.
+     */
+    private GrupoClientes obterGrupo(int id, String nome, Iterable<EventoDoDiario.ClienteRegistrado> membros, LocalTime horaChegada) {
+        return grupos.computeIfAbsent(id, chave -> {
+            GrupoClientes grupo = new GrupoClientes(id, nome);
+            for (EventoDoDiario.ClienteRegistrado membro : membros) {
+                grupo.adicionarCliente(membro.paraCliente());
+            }
+            grupo.setHoraChegada(horaChegada);
+            return grupo;
+        });
+    }
+}
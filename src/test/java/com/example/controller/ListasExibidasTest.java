@@ -0,0 +1,121 @@
+package com.example.controller;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+
+/**
+ * Classe de teste unitário para as {@link ListasExibidas}.
+ * <p>
+ * Este teste usa apenas as coleções observáveis do JavaFX, sem iniciar a interface gráfica, e registra cada evento
+ * de alteração recebido pela lista exibida.
+ * </p>
+ *
+ * <b>Cobertura dos testes:</b>
+ * <ul>
+ *   <li>Um objeto que entra, sai ou é trocado gera uma única inserção, remoção ou substituição, na posição correta.</li>
+ *   <li>Listas já iguais não geram eventos; listas diferentes terminam iguais à lista atual.</li>
+ *   <li>Objetos iguais, mas não idênticos, são tratados como objetos distintos.</li>
+ *   <li>Atualizar um objeto gera uma substituição somente na sua linha.</li>
+ *   <li>A posição do objeto selecionado confere primeiro a linha selecionada e, se ela estiver desatualizada, procura
+ *   o objeto por identidade; remover o selecionado gera uma única remoção.</li>
+ * </ul>
+ *
+ * @author Ana Luiza Freitas Brito Siqueira
+ * @author Bruno Campos Penha
+ * @author Grazielly de Sousa Barros
+ * @author João Gabriel Oliveira Magalhães
+ * @author João Vitor Moreira Lemos
+ * @author Robert Alves Guimarães
+ * @author Vinicius D’Oliveira Rocha
+ * @version 1.0
+ */
+class ListasExibidasTest {
+
+    private ObservableList<String> exibidos;
+    private List<String> eventos;
+
+    @BeforeEach
+    void setUp() {
+        exibidos = FXCollections.observableArrayList(List.of("a", "b", "c", "d"));
+        eventos = new ArrayList<>();
+        exibidos.addListener((ListChangeListener<String>) mudanca -> {
+            while (mudanca.next()) {
+                if (mudanca.wasReplaced()) {
+                    eventos.add("substituiu " + mudanca.getFrom());
+                } else if (mudanca.wasAdded()) {
+                    eventos.add("adicionou " + mudanca.getFrom() + " " + mudanca.getAddedSubList());
+                } else if (mudanca.wasRemoved()) {
+                    eventos.add("removeu " + mudanca.getFrom() + " " + mudanca.getRemoved());
+                }
+            }
+        });
+    }
+
+    @Test
+    void entradaOuSaidaGeraUmUnicoEvento() {
+        ListasExibidas.sincronizar(exibidos, List.of("a", "c", "d"));
+        assertEquals(List.of("removeu 1 [b]"), eventos);
+
+        eventos.clear();
+        ListasExibidas.sincronizar(exibidos, List.of("a", "c", "d", "e"));
+        assertEquals(List.of("adicionou 3 [e]"), eventos);
+
+        eventos.clear();
+        ListasExibidas.sincronizar(exibidos, List.of("x", "a", "c", "d", "e"));
+        assertEquals(List.of("adicionou 0 [x]"), eventos);
+    }
+
+    @Test
+    void sincronizaListasIguaisEDiferentes() {
+        ListasExibidas.sincronizar(exibidos, List.of("a", "b", "c", "d"));
+        assertTrue(eventos.isEmpty());
+
+        ListasExibidas.sincronizar(exibidos, List.of("d", "c"));
+        assertEquals(List.of("d", "c"), exibidos);
+        ListasExibidas.sincronizar(exibidos, List.of());
+        assertTrue(exibidos.isEmpty());
+        ListasExibidas.sincronizar(exibidos, List.of("a", "b"));
+        assertEquals(List.of("a", "b"), exibidos);
+    }
+
+    @Test
+    void comparaObjetosPorIdentidade() {
+        String copia = new String("b");
+        ListasExibidas.sincronizar(exibidos, List.of("a", copia, "c", "d"));
+        assertEquals(List.of("substituiu 1"), eventos);
+        assertTrue(exibidos.get(1) == copia);
+    }
+
+    @Test
+    void atualizarSubstituiSomenteALinhaDoObjeto() {
+        assertTrue(ListasExibidas.atualizar(exibidos, "c"));
+        assertEquals(List.of("substituiu 2"), eventos);
+        assertFalse(ListasExibidas.atualizar(exibidos, new String("c")));
+        assertEquals(List.of("a", "b", "c", "d"), exibidos);
+    }
+
+    @Test
+    void resolveERemoveOSelecionadoPorIdentidade() {
+        String copia = new String("c");
+        assertEquals(2, ListasExibidas.indiceDe(exibidos, 2, "c"));
+        assertEquals(2, ListasExibidas.indiceDe(exibidos, 0, "c"));
+        assertEquals(-1, ListasExibidas.indiceDe(exibidos, 2, copia));
+        assertEquals(-1, ListasExibidas.indiceDe(exibidos, 2, null));
+
+        assertFalse(ListasExibidas.remover(exibidos, 2, copia));
+        assertTrue(eventos.isEmpty());
+        assertTrue(ListasExibidas.remover(exibidos, 2, "c"));
+        assertEquals(List.of("removeu 2 [c]"), eventos);
+        assertEquals(List.of("a", "b", "d"), exibidos);
+    }
+}
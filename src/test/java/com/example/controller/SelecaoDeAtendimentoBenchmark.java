@@ -0,0 +1,122 @@
+package com.example.controller;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import com.example.model.Atendimento;
+import com.example.model.AtendimentoGrupo;
+import com.example.model.AtendimentoIndividual;
+import com.example.model.Cliente;
+import com.example.model.Pedido;
+import com.example.util.Status;
+import com.example.util.TipoCliente;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+
+/**
+ * Benchmark do clique em um atendimento da tela de atendimento: a resolução feita antes, que remontava o texto
+ * "nome - Status: X" de cada atendimento e o comparava com o texto selecionado, contra a resolução por identidade
+ * de {@link ListasExibidas#indiceDe}, que confere a linha selecionada.
+ * <p>
+ * Para listas com 10, 100, mil e 10 mil atendimentos ativos (cada nome exibido pertence a dois clientes), simula
+ * cliques em linhas aleatórias; cada clique resolve o atendimento selecionado e remove a sua linha da lista exibida,
+ * que é recolocada para o próximo clique. Mede a mediana do tempo por clique, em microssegundos, após o aquecimento, e
+ * conta os cliques em que a comparação de textos resolveu outro atendimento de mesmo nome.
+ * </p>
+ *
+ * <p>Não é executado pelo {@code mvn test}; rode a classe {@code main} diretamente a partir do classpath de testes.</p>
+ *
+ * @author Ana Luiza Freitas Brito Siqueira
+ * @author Bruno Campos Penha
+ * @author Grazielly de Sousa Barros
+ * @author João Gabriel Oliveira Magalhães
+ * @author João Vitor Moreira Lemos
+ * @author Robert Alves Guimarães
+ * @author Vinicius D’Oliveira Rocha
+ * @version 1.0
+ */
+public class SelecaoDeAtendimentoBenchmark {
+
+    private static final int[] TAMANHOS = {10, 100, 1_000, 10_000};
+    private static final int CLIQUES = 1_000;
+    private static final int REPETICOES = 30;
+
+    private static final String[] NOMES = {"Ana", "Bruno", "Carla", "Daniel", "Eduarda", "Felipe", "Gabriela",
+            "Heitor", "Isabela", "João", "Larissa", "Marcos", "Natália", "Otávio", "Paula", "Rafael"};
+
+    public static void main(String[] args) {
+        System.out.printf("%8s %-10s %14s %10s%n", "itens", "seleção", "µs/clique", "trocados");
+        for (int tamanho : TAMANHOS) {
+            ObservableList<Atendimento> exibidos = criarAtendimentos(tamanho);
+            int[] linhas = new Random(42).ints(CLIQUES, 0, tamanho).toArray();
+            medir(tamanho, "texto", () -> clicarComTexto(exibidos, linhas));
+            medir(tamanho, "identidade", () -> clicarComIdentidade(exibidos, linhas));
+        }
+    }
+
+    private static void medir(int tamanho, String selecao, Cliques cliques) {
+        long[] tempos = new long[REPETICOES];
+        long trocados = 0;
+        for (int i = 0; i < 5; i++) {
+            trocados = cliques.clicar();
+        }
+        for (int i = 0; i < REPETICOES; i++) {
+            long inicio = System.nanoTime();
+            cliques.clicar();
+            tempos[i] = System.nanoTime() - inicio;
+        }
+        Arrays.sort(tempos);
+        System.out.printf("%8d %-10s %14.2f %10d%n", tamanho, selecao, tempos[REPETICOES / 2] / 1e3 / CLIQUES, trocados);
+    }
+
+    private interface Cliques {
+        /** Clica em todas as linhas e retorna quantos cliques resolveram outro atendimento */
+        long clicar();
+    }
+
+    private static long clicarComTexto(ObservableList<Atendimento> exibidos, int[] linhas) {
+        long trocados = 0;
+        for (int linha : linhas) {
+            Atendimento clicado = exibidos.get(linha);
+            String textoSelecionado = TelaAtendimentoController.descreverAtendimento(clicado);
+            Atendimento selecionado = exibidos.stream()
+                    .filter(at -> {
+                        String nomeExibido = at instanceof AtendimentoIndividual ?
+                                ((AtendimentoIndividual) at).getCliente().getNome() :
+                                ((AtendimentoGrupo) at).getGrupo().getNomeGrupo();
+                        String texto = nomeExibido + " - Status: " + at.getStatus();
+                        return texto.equals(textoSelecionado) && at.getStatus() != Status.FINALIZADO;
+                    })
+                    .findFirst()
+                    .orElse(null);
+            if (selecionado != clicado) trocados++;
+            int indice = exibidos.indexOf(selecionado);
+            exibidos.remove(indice);
+            exibidos.add(indice, selecionado);
+        }
+        return trocados;
+    }
+
+    private static long clicarComIdentidade(ObservableList<Atendimento> exibidos, int[] linhas) {
+        long trocados = 0;
+        for (int linha : linhas) {
+            Atendimento selecionado = exibidos.get(linha);
+            int indice = ListasExibidas.indiceDe(exibidos, linha, selecionado);
+            if (indice != linha) trocados++;
+            ListasExibidas.remover(exibidos, linha, selecionado);
+            exibidos.add(linha, selecionado);
+        }
+        return trocados;
+    }
+
+    private static ObservableList<Atendimento> criarAtendimentos(int tamanho) {
+        ObservableList<Atendimento> exibidos = FXCollections.observableArrayList();
+        for (int i = 0; i < tamanho; i++) {
+            Cliente cliente = new Cliente(i + 1, NOMES[i % NOMES.length] + " " + i / (2 * NOMES.length),
+                    TipoCliente.COMUM);
+            exibidos.add(new AtendimentoIndividual(cliente, new Pedido()));
+        }
+        return exibidos;
+    }
+}
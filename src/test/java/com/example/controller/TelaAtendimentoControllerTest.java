@@ -21,7 +21,10 @@ import com.example.util.TipoCliente;
  *   <li>Testa o cadastro de novos clientes na fila de espera geral do restaurante.</li>
  *   <li>Testa o cadastro de novos grupos e o correto atendimento pelo garçom.</li>
  *   <li>Testa a finalização de um atendimento de grupo, verificando a mudança de status.</li>
- *   <li>Testa a reordenação da fila de espera geral para priorizar clientes prioritários.</li>
+ *   <li>Testa que a fila de espera geral coloca clientes prioritários à frente sem reordenação manual.</li>
+ *   <li>Testa o texto exibido pelas células da fila de espera e dos atendimentos, que acompanha o status.</li>
+ *   <li>Testa que atendimentos de clientes com o mesmo nome, de texto idêntico na lista, são distinguidos por identidade.</li>
+ *   <li>Testa que finalizar um atendimento gera uma única remoção na lista exibida, sem reordenar as demais linhas.</li>
  * </ul>
  *
  * <b>Observações:</b>
@@ -81,10 +84,10 @@ public class TelaAtendimentoControllerTest {
     public void testCadastrarNovoCliente() {
         Cliente cliente = new Cliente(1, "Maria", TipoCliente.PRIORITARIO);
         // Simula fila de espera geral
-        restauranteMock.getFilaDeEsperaGeral().add(cliente);
+        restauranteMock.getFilaDeEsperaGeral().adicionar(cliente);
 
-        assertTrue(restauranteMock.getFilaDeEsperaGeral().contains(cliente));
-        assertEquals("Maria", restauranteMock.getFilaDeEsperaGeral().get(0).getNome());
+        assertTrue(restauranteMock.getFilaDeEsperaGeral().contem(cliente));
+        assertEquals("Maria", restauranteMock.getFilaDeEsperaGeral().consultarProximo().getNome());
     }
 
     /**
@@ -119,20 +122,88 @@ public class TelaAtendimentoControllerTest {
     }
 
     /**
-     * Testa a reordenação da fila de espera geral para priorizar clientes prioritários.
+     * Testa que a fila de espera geral coloca clientes prioritários à frente sem reordenação manual.
      */
     @Test
-    public void testReordenarFilaPorPrioridade() {
+    public void testFilaPriorizaClientesPrioritarios() {
         Cliente normal = new Cliente(1, "Cliente Normal", TipoCliente.COMUM);
         Cliente prioritario = new Cliente(2, "Cliente Prioritário", TipoCliente.PRIORITARIO);
 
-        restauranteMock.getFilaDeEsperaGeral().add(normal);
-        restauranteMock.getFilaDeEsperaGeral().add(prioritario);
+        restauranteMock.getFilaDeEsperaGeral().adicionar(normal);
+        restauranteMock.getFilaDeEsperaGeral().adicionar(prioritario);
 
-        // Reordenar: prioritários primeiro
-        restauranteMock.getFilaDeEsperaGeral().sort((a, b) -> (a.getTipoCliente() == TipoCliente.PRIORITARIO ? 0 : 1)
-                - (b.getTipoCliente() == TipoCliente.PRIORITARIO ? 0 : 1));
+        assertEquals(TipoCliente.PRIORITARIO, restauranteMock.getFilaDeEsperaGeral().consultarProximo().getTipoCliente());
+    }
+
+    /**
+     * Testa o texto exibido pelas células da fila de espera e dos atendimentos do garçom.
+     */
+    @Test
+    public void testDescricoesExibidasPelasCelulas() {
+        Cliente cliente = new Cliente(1, "Ana", TipoCliente.PRIORITARIO);
+        assertEquals("Ana (PRIORITARIO)", TelaAtendimentoController.descreverNaFila(cliente));
+
+        cliente.setHoraChegada(java.time.LocalTime.now());
+        garcomMock.atenderCliente(cliente);
+        Atendimento atendimento = garcomMock.getFilaAtendimentoIndividual().getFila().peek();
+        assertEquals("Ana - Status: " + Status.EM_ATENDIMENTO, TelaAtendimentoController.descreverAtendimento(atendimento));
+        atendimento.finalizarAtendimento();
+        assertEquals("Ana - Status: " + Status.FINALIZADO, TelaAtendimentoController.descreverAtendimento(atendimento));
+
+        GrupoClientes grupo = new GrupoClientes(2, "Mesa 4");
+        assertEquals("Mesa 4 (COMUM)", TelaAtendimentoController.descreverNaFila(grupo));
+    }
 
-        assertEquals(TipoCliente.PRIORITARIO, restauranteMock.getFilaDeEsperaGeral().get(0).getTipoCliente());
+    /**
+     * Testa que a seleção é resolvida por identidade quando dois clientes têm o mesmo nome.
+     */
+    @Test
+    public void testSelecaoDeClientesComOMesmoNome() {
+        for (int i = 0; i < 2; i++) {
+            Cliente cliente = new Cliente(i + 1, "Ana", TipoCliente.COMUM);
+            cliente.setHoraChegada(java.time.LocalTime.now());
+            garcomMock.atenderCliente(cliente);
+        }
+        javafx.collections.ObservableList<Atendimento> exibidos =
+                javafx.collections.FXCollections.observableArrayList(garcomMock.getFilaAtendimentoIndividual().getFila());
+        Atendimento segundo = exibidos.get(1);
+        assertEquals(TelaAtendimentoController.descreverAtendimento(exibidos.get(0)),
+                TelaAtendimentoController.descreverAtendimento(segundo));
+
+        assertEquals(1, ListasExibidas.indiceDe(exibidos, 1, segundo));
+        assertEquals(1, ListasExibidas.indiceDe(exibidos, 0, segundo));
+        Atendimento primeiro = exibidos.get(0);
+        assertTrue(ListasExibidas.remover(exibidos, 1, segundo));
+        assertEquals(1, exibidos.size());
+        assertSame(primeiro, exibidos.get(0));
+    }
+
+    /**
+     * Testa que finalizar um atendimento do meio da fila remove só a sua linha e mantém a ordem das demais.
+     */
+    @Test
+    public void testFinalizarAtendimentoNaoReordenaAsLinhas() {
+        for (int i = 0; i < 5; i++) {
+            Cliente cliente = new Cliente(i + 1, "Cliente " + i, TipoCliente.COMUM);
+            cliente.setHoraChegada(java.time.LocalTime.now());
+            garcomMock.atenderCliente(cliente);
+        }
+        javafx.collections.ObservableList<Atendimento> exibidos = javafx.collections.FXCollections.observableArrayList();
+        ListasExibidas.sincronizar(exibidos, TelaAtendimentoController.listarAtendimentosAtivos(garcomMock));
+        java.util.List<Atendimento> esperados = new java.util.ArrayList<>(exibidos);
+        java.util.List<String> eventos = new java.util.ArrayList<>();
+        exibidos.addListener((javafx.collections.ListChangeListener<Atendimento>) mudanca -> {
+            while (mudanca.next()) {
+                eventos.add((mudanca.wasAdded() ? "adicionou " : "removeu ") + mudanca.getFrom());
+            }
+        });
+
+        Atendimento finalizado = esperados.remove(1);
+        finalizado.finalizarAtendimento();
+        restauranteMock.registrarAtendimentoFinalizado(finalizado);
+        ListasExibidas.sincronizar(exibidos, TelaAtendimentoController.listarAtendimentosAtivos(garcomMock));
+
+        assertEquals(java.util.List.of("removeu 1"), eventos);
+        assertEquals(esperados, exibidos);
     }
-}
\ No newline at end of file
+}
@@ -2,6 +2,7 @@ package com.example.controller;
 
 import com.example.model.Cliente;
 import com.example.model.GrupoClientes;
+import com.example.model.HistoricoDeAtendimentos;
 import com.example.model.Pedido;
 import com.example.model.Restaurante;
 import com.example.model.AtendimentoIndividual;
@@ -26,6 +27,7 @@ import static org.junit.jupiter.api.Assertions.*;
  *   <li>Registro de chegada de grupo de clientes na fila de espera geral do restaurante.</li>
  *   <li>Busca de pedido por ID inexistente (deve retornar null).</li>
  *   <li>Busca de pedido por ID existente (deve retornar o pedido correto).</li>
+ *   <li>Busca de pedido antigo, que existe apenas como registro do histórico, e o texto exibido para ele.</li>
  * </ul>
  *
  * <b>Observações:</b>
@@ -62,11 +64,11 @@ public class TelaClienteControllerTest {
 
         Cliente novoCliente = new Cliente(restaurante.gerarNovoClienteId(), nome, tipo);
         novoCliente.setHoraChegada(LocalTime.now());
-        restaurante.getFilaDeEsperaGeral().add(novoCliente);
+        restaurante.getFilaDeEsperaGeral().adicionar(novoCliente);
 
-        assertEquals(1, restaurante.getFilaDeEsperaGeral().size());
-        assertEquals("Maria", restaurante.getFilaDeEsperaGeral().get(0).getNome());
-        assertEquals(TipoCliente.PRIORITARIO, restaurante.getFilaDeEsperaGeral().get(0).getTipoCliente());
+        assertEquals(1, restaurante.getFilaDeEsperaGeral().tamanho());
+        assertEquals("Maria", restaurante.getFilaDeEsperaGeral().consultarProximo().getNome());
+        assertEquals(TipoCliente.PRIORITARIO, restaurante.getFilaDeEsperaGeral().consultarProximo().getTipoCliente());
     }
 
     /**
@@ -83,10 +85,10 @@ public class TelaClienteControllerTest {
             grupo.adicionarCliente(membro);
         }
         grupo.setHoraChegada(LocalTime.now());
-        restaurante.getFilaDeEsperaGeral().add(grupo);
+        restaurante.getFilaDeEsperaGeral().adicionar(grupo);
 
-        assertEquals(1, restaurante.getFilaDeEsperaGeral().size());
-        GrupoClientes grupoRegistrado = (GrupoClientes) restaurante.getFilaDeEsperaGeral().get(0);
+        assertEquals(1, restaurante.getFilaDeEsperaGeral().tamanho());
+        GrupoClientes grupoRegistrado = (GrupoClientes) restaurante.getFilaDeEsperaGeral().consultarProximo();
         assertEquals(nomeGrupo, grupoRegistrado.getNomeGrupo());
         assertEquals(numPessoas, grupoRegistrado.getClientes().size());
     }
@@ -132,4 +134,31 @@ public class TelaClienteControllerTest {
         assertNotNull(encontrado);
         assertEquals(atendimentoCriado.getPedido().getId(), encontrado.getId());
     }
-}
\ No newline at end of file
+
+    /**
+     * Testa a busca de um pedido antigo, que saiu da memória e existe apenas como registro do histórico.
+     */
+    @Test
+    public void testBuscarPedidoAntigoNoHistorico() {
+        com.example.model.Garcom garcom = new com.example.model.Garcom(1, "Garçom Teste", null);
+        restaurante.adicionarGarcom(garcom);
+        int antigo = 0;
+        for (int i = 0; i <= HistoricoDeAtendimentos.TAMANHO_DA_CAUDA_PADRAO; i++) {
+            Cliente cliente = new Cliente(restaurante.gerarNovoClienteId(), "Cliente " + i, TipoCliente.COMUM);
+            cliente.setHoraChegada(LocalTime.now());
+            garcom.atenderCliente(cliente);
+            AtendimentoIndividual atendimento = (AtendimentoIndividual) garcom.getFilaAtendimentoIndividual().getFila().peek();
+            atendimento.getPedido().adicionarItem(new com.example.model.ItemPedido("Suco", 2, 8.5));
+            atendimento.finalizarAtendimento();
+            restaurante.registrarAtendimentoFinalizado(atendimento);
+            if (i == 0) antigo = atendimento.getPedido().getId();
+        }
+
+        assertNull(restaurante.buscarPedidoPorId(antigo));
+        HistoricoDeAtendimentos historico = restaurante.getHistorico();
+        int posicao = historico.buscarPosicao(antigo);
+        assertEquals(0, posicao);
+        assertEquals("ID do Pedido: " + antigo + "\nItens: 1 (detalhes não disponíveis para pedidos antigos)\n\nTOTAL: R$ "
+                + String.format("%.2f", 17.0), TelaClienteController.descreverRegistro(historico, posicao));
+    }
+}
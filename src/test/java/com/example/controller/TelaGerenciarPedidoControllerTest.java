@@ -28,6 +28,7 @@ import com.example.util.Turno;
  *   <li>Adição de observação a um item do pedido.</li>
  *   <li>Cálculo do total do pedido com múltiplos itens.</li>
  *   <li>Verificação do estado inicial do pedido (vazio e total zero).</li>
+ *   <li>Texto exibido pela célula de um item do pedido, com e sem observações.</li>
  * </ul>
  *
  * <b>Observações:</b>
@@ -71,7 +72,7 @@ class TelaGerenciarPedidoControllerTest {
     void adicionarItemAoPedidoAdicionaCorretamente() {
         ItemPedido item = restaurante.getCardapio().get(0);
         int quantidade = 2;
-        ItemPedido itemParaPedido = new ItemPedido(item.getNome(), quantidade, item.getPreco());
+        ItemPedido itemParaPedido = new ItemPedido(item.getModelo(), quantidade);
         pedido.adicionarItem(itemParaPedido);
         // Verifica se o item foi adicionado corretamente
         assertTrue(pedido.getItens().contains(itemParaPedido));
@@ -110,4 +111,15 @@ class TelaGerenciarPedidoControllerTest {
         assertTrue(pedido.getItens().isEmpty());
         assertEquals(0.0, pedido.calcularTotal(), 0.01);
     }
-}
\ No newline at end of file
+
+    /**
+     * Testa o texto exibido pela célula de um item do pedido.
+     */
+    @Test
+    void descreveItemDoPedido() {
+        ItemPedido item = new ItemPedido("Suco", 2, 8.0);
+        assertEquals(String.format("Suco (x2) - R$ %.2f", 16.0), TelaGerenciarPedidoController.descreverItem(item));
+        item.adicionarObservacao(new ObservacaoDoPedido("Sem açúcar"));
+        assertEquals(String.format("Suco (x2) - R$ %.2f [Obs: Sem açúcar; ]", 16.0), TelaGerenciarPedidoController.descreverItem(item));
+    }
+}
@@ -0,0 +1,107 @@
+package com.example.model;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Benchmark do filtro do cardápio: a varredura com {@code toLowerCase().contains()} feita antes pelas telas a cada
+ * tecla, contra a {@link BuscaNoCardapio} incremental sobre o índice de trigramas.
+ * <p>
+ * Para cardápios com 500, 5 mil e 50 mil itens (nomes combinando pratos, variações e tamanhos, com acentos), simula a
+ * digitação de algumas consultas letra a letra e mede a mediana do tempo por tecla, em microssegundos, após o
+ * aquecimento. A varredura não ordena os resultados nem ignora acentos; a busca faz as duas coisas.
+ * </p>
+ *
+ * <p>Não é executado pelo {@code mvn test}; rode a classe {@code main} diretamente a partir do classpath de testes.</p>
+ *
+ * @author Ana Luiza Freitas Brito Siqueira
+ * @author Bruno Campos Penha
+ * @author Grazielly de Sousa Barros
+ * @author João Gabriel Oliveira Magalhães
+ * @author João Vitor Moreira Lemos
+ * @author Robert Alves Guimarães
+ * @author Vinicius D’Oliveira Rocha
+ * @version 1.0
+ */
+public class BuscaNoCardapioBenchmark {
+
+    private static final int[] TAMANHOS = {500, 5_000, 50_000};
+    private static final String[] CONSULTAS = {"pao de queijo", "lasanha", "suco de maca", "frango grelhado"};
+    private static final int REPETICOES = 30;
+
+    private static final String[] PRATOS = {"Pão de Queijo", "Lasanha Bolonhesa", "Suco de Maçã", "Açaí na Tigela",
+            "Frango Grelhado", "Filé à Parmegiana", "Salada Caesar", "Pastel de Carne", "Moqueca de Peixe",
+            "Feijoada Completa", "Coxinha de Frango", "Brigadeiro", "Pudim de Leite", "Caipirinha de Limão"};
+    private static final String[] VARIACOES = {"", " Especial", " da Casa", " Vegano", " sem Glúten", " Light",
+            " Tradicional", " Gourmet"};
+    private static final String[] TAMANHOS_DE_PORCAO = {"", " (P)", " (M)", " (G)", " Família"};
+
+    public static void main(String[] args) {
+        System.out.printf("%8s %-10s %14s%n", "itens", "filtro", "µs/tecla");
+        for (int tamanho : TAMANHOS) {
+            List<ItemPedido> itens = criarItens(tamanho);
+            Cardapio cardapio = new Cardapio();
+            itens.forEach(cardapio::adicionarItem);
+            medir(tamanho, "varredura", () -> digitarComVarredura(itens));
+            medir(tamanho, "índice", () -> digitarComBusca(cardapio.novaBusca()));
+        }
+    }
+
+    private static void medir(int tamanho, String filtro, Digitacao digitacao) {
+        long[] tempos = new long[REPETICOES];
+        long teclas = 0;
+        for (int i = 0; i < 5; i++) {
+            teclas = digitacao.digitar();
+        }
+        for (int i = 0; i < REPETICOES; i++) {
+            long inicio = System.nanoTime();
+            digitacao.digitar();
+            tempos[i] = System.nanoTime() - inicio;
+        }
+        Arrays.sort(tempos);
+        System.out.printf("%8d %-10s %14.1f%n", tamanho, filtro, tempos[REPETICOES / 2] / 1e3 / teclas);
+    }
+
+    private interface Digitacao {
+        /** Digita todas as consultas e retorna a quantidade de teclas */
+        long digitar();
+    }
+
+    private static long digitarComVarredura(List<ItemPedido> itens) {
+        long teclas = 0;
+        long encontrados = 0;
+        for (String consulta : CONSULTAS) {
+            for (int fim = 1; fim <= consulta.length(); fim++, teclas++) {
+                String filtro = consulta.substring(0, fim);
+                for (ItemPedido item : itens) {
+                    if (item.getNome().toLowerCase().contains(filtro.toLowerCase())) encontrados++;
+                }
+            }
+        }
+        return encontrados >= 0 ? teclas : 0;
+    }
+
+    private static long digitarComBusca(BuscaNoCardapio busca) {
+        long teclas = 0;
+        long encontrados = 0;
+        for (String consulta : CONSULTAS) {
+            for (int fim = 1; fim <= consulta.length(); fim++, teclas++) {
+                encontrados += busca.buscarIds(consulta.substring(0, fim)).length;
+            }
+        }
+        return encontrados >= 0 ? teclas : 0;
+    }
+
+    private static List<ItemPedido> criarItens(int tamanho) {
+        Random aleatorio = new Random(42);
+        List<ItemPedido> itens = new ArrayList<>(tamanho);
+        for (int i = 0; i < tamanho; i++) {
+            String nome = PRATOS[aleatorio.nextInt(PRATOS.length)] + VARIACOES[aleatorio.nextInt(VARIACOES.length)]
+                    + TAMANHOS_DE_PORCAO[aleatorio.nextInt(TAMANHOS_DE_PORCAO.length)] + " " + i;
+            itens.add(new ItemPedido(nome, 1, 10.0 + i % 90));
+        }
+        return itens;
+    }
+}
@@ -0,0 +1,106 @@
+package com.example.model;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Classe de teste unitário para a {@link BuscaNoCardapio} e o {@link IndiceDeTrigramas} que ela usa.
+ * <p>
+ * Este teste NÃO depende de JavaFX.
+ * </p>
+ *
+ * <b>Cobertura dos testes:</b>
+ * <ul>
+ *   <li>Nomes e consultas são comparados sem acentos, cedilhas e diferença entre maiúsculas e minúsculas.</li>
+ *   <li>Consultas curtas e longas encontram os itens que contêm o texto em qualquer posição.</li>
+ *   <li>Os resultados são ordenados: nome começando com a consulta, palavra começando com a consulta e demais.</li>
+ *   <li>Consulta vazia ou nula devolve todo o cardápio na ordem original.</li>
+ *   <li>Ao continuar digitando ou apagar, os resultados são os mesmos de uma busca nova.</li>
+ *   <li>Itens adicionados depois de uma consulta aparecem na consulta seguinte.</li>
+ * </ul>
+ *
+ * @author Ana Luiza Freitas Brito Siqueira
+ * @author Bruno Campos Penha
+ * @author Grazielly de Sousa Barros
+ * @author João Gabriel Oliveira Magalhães
+ * @author João Vitor Moreira Lemos
+ * @author Robert Alves Guimarães
+ * @author Vinicius D’Oliveira Rocha
+ * @version 1.0
+ */
+class BuscaNoCardapioTest {
+
+    private Cardapio cardapio;
+
+    @BeforeEach
+    void setUp() {
+        cardapio = new Cardapio();
+        for (String nome : List.of("Pão de Queijo", "Suco de Maçã", "Açaí na Tigela", "Lasanha Bolonhesa",
+                "Queijo Coalho", "Salada Caesar", "Pastel de Queijo", "Maçã do Amor")) {
+            cardapio.adicionarItem(new ItemPedido(nome, 1, 10.0));
+        }
+    }
+
+    @Test
+    void dobraAcentosCedilhasEMaiusculas() {
+        assertEquals("maca acai pao", IndiceDeTrigramas.dobrar("  Maçã AÇAÍ Pão "));
+        assertEquals("lasanha", IndiceDeTrigramas.dobrar("LASANHA"));
+        BuscaNoCardapio busca = cardapio.novaBusca();
+        assertEquals(List.of("Pão de Queijo"), nomes(busca.buscar("PAO")));
+        assertEquals(List.of("Maçã do Amor", "Suco de Maçã"), nomes(busca.buscar("maca")));
+        assertEquals(List.of("Açaí na Tigela"), nomes(busca.buscar("açai")));
+    }
+
+    @Test
+    void encontraConsultasCurtasELongasEmQualquerPosicao() {
+        BuscaNoCardapio busca = cardapio.novaBusca();
+        assertEquals(List.of("Salada Caesar", "Lasanha Bolonhesa"), nomes(busca.buscar("esa")));
+        assertEquals(List.of("Lasanha Bolonhesa"), nomes(busca.buscar("lonh")));
+        assertTrue(nomes(busca.buscar("z")).isEmpty());
+        assertTrue(nomes(busca.buscar("queijo minas")).isEmpty());
+        assertEquals(4, busca.buscar("s").size());
+    }
+
+    @Test
+    void ordenaPorRelevancia() {
+        BuscaNoCardapio busca = cardapio.novaBusca();
+        // Começa com "queijo", depois palavras que começam com "queijo", os nomes mais curtos primeiro
+        assertEquals(List.of("Queijo Coalho", "Pão de Queijo", "Pastel de Queijo"), nomes(busca.buscar("queijo")));
+        // "sa" no início do nome e no meio; "co" em início de palavra e no meio
+        assertEquals(List.of("Salada Caesar", "Lasanha Bolonhesa"), nomes(busca.buscar("sa")));
+        assertEquals(List.of("Queijo Coalho", "Suco de Maçã"), nomes(busca.buscar("co")));
+    }
+
+    @Test
+    void consultaVaziaDevolveTodoOCardapio() {
+        BuscaNoCardapio busca = cardapio.novaBusca();
+        assertArrayEquals(new int[] {0, 1, 2, 3, 4, 5, 6, 7}, busca.buscarIds(""));
+        assertArrayEquals(new int[] {0, 1, 2, 3, 4, 5, 6, 7}, busca.buscarIds(null));
+        assertEquals(cardapio.getItens(), busca.buscar("   "));
+    }
+
+    @Test
+    void resultadosIncrementaisIguaisAosDeUmaBuscaNova() {
+        BuscaNoCardapio incremental = cardapio.novaBusca();
+        for (String consulta : List.of("q", "qu", "que", "quei", "queij", "queijo", "queij", "que", "a", "ap", "apa")) {
+            assertArrayEquals(cardapio.novaBusca().buscarIds(consulta), incremental.buscarIds(consulta), consulta);
+        }
+    }
+
+    @Test
+    void itensAdicionadosAparecemNaConsultaSeguinte() {
+        BuscaNoCardapio busca = cardapio.novaBusca();
+        assertEquals(3, busca.buscar("queij").size());
+        cardapio.adicionarItem(new ItemPedido("Queijadinha", 1, 6.0));
+        assertEquals(List.of("Queijadinha", "Queijo Coalho", "Pão de Queijo", "Pastel de Queijo"), nomes(busca.buscar("queij")));
+    }
+
+    private static List<String> nomes(List<ItemPedido> itens) {
+        return itens.stream().map(ItemPedido::getNome).toList();
+    }
+}
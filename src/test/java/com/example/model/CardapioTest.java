@@ -3,6 +3,7 @@ package com.example.model;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -19,7 +20,10 @@ import org.junit.jupiter.api.Test;
  *   <li>Não permite adicionar item nulo ao cardápio.</li>
  *   <li>Adiciona item corretamente e permite buscá-lo pelo nome.</li>
  *   <li>Retorna null ao buscar item inexistente.</li>
- *   <li>A busca de item não diferencia maiúsculas de minúsculas.</li>
+ *   <li>A busca de item não diferencia maiúsculas de minúsculas nem espaços nas pontas.</li>
+ *   <li>Cada item recebe um identificador estável, igual à sua posição na lista de itens, e é buscado por ele.</li>
+ *   <li>Com nomes repetidos, a busca pelo nome encontra o primeiro item adicionado.</li>
+ *   <li>O modelo de um item é encontrado apenas com o mesmo nome e o mesmo preço.</li>
  * </ul>
  *
  * <b>Observações:</b>
@@ -82,4 +86,60 @@ class CardapioTest {
         assertNotNull(cardapio.buscarItem("suco"));
         assertNotNull(cardapio.buscarItem("SUCO"));
     }
-}
\ No newline at end of file
+
+    /**
+     * Testa se a busca ignora espaços nas pontas do nome.
+     */
+    @Test
+    void buscarItemIgnoraEspacosNasPontas() {
+        ItemPedido item = new ItemPedido(" Lasanha Bolonhesa ", 1, 38.0);
+        cardapio.adicionarItem(item);
+        assertSame(item, cardapio.buscarItem("lasanha bolonhesa"));
+        assertNull(cardapio.buscarItem(null));
+    }
+
+    /**
+     * Testa se os identificadores são estáveis e permitem buscar o item diretamente.
+     */
+    @Test
+    void identificadoresSaoEstaveisEBuscamOItem() {
+        ItemPedido pizza = new ItemPedido("Pizza", 1, 30.0);
+        ItemPedido suco = new ItemPedido("Suco", 1, 8.0);
+        assertEquals(0, cardapio.adicionarItem(pizza));
+        assertEquals(1, cardapio.adicionarItem(suco));
+
+        assertSame(pizza, cardapio.buscarItem(0));
+        assertSame(suco, cardapio.buscarItem(1));
+        assertSame(suco, cardapio.getItens().get(cardapio.buscarId("SUCO")));
+        assertNull(cardapio.buscarItem(2));
+        assertNull(cardapio.buscarItem(-1));
+        assertEquals(-1, cardapio.buscarId("Inexistente"));
+        assertThrows(UnsupportedOperationException.class, () -> cardapio.getItens().clear());
+    }
+
+    /**
+     * Testa se, com nomes repetidos, a busca pelo nome encontra o primeiro item adicionado.
+     */
+    @Test
+    void nomeRepetidoEncontraOPrimeiroItem() {
+        ItemPedido primeiro = new ItemPedido("Suco", 1, 8.0);
+        ItemPedido segundo = new ItemPedido("suco", 1, 9.0);
+        cardapio.adicionarItem(primeiro);
+        int idDoSegundo = cardapio.adicionarItem(segundo);
+        assertSame(primeiro, cardapio.buscarItem("Suco"));
+        assertSame(segundo, cardapio.buscarItem(idDoSegundo));
+    }
+
+    /**
+     * Testa se o modelo de um item é encontrado apenas com exatamente o mesmo nome e preço.
+     */
+    @Test
+    void buscaModeloPorNomeEPreco() {
+        ItemPedido suco = new ItemPedido("Suco", 1, 8.0);
+        cardapio.adicionarItem(suco);
+        assertSame(suco.getModelo(), cardapio.buscarModelo("Suco", 800));
+        assertNull(cardapio.buscarModelo("Suco", 850));
+        assertNull(cardapio.buscarModelo("SUCO", 800));
+        assertNull(cardapio.buscarModelo("Café", 800));
+    }
+}
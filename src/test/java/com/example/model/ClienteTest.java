@@ -1,10 +1,13 @@
 package com.example.model;
 
 import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import org.junit.jupiter.api.BeforeEach;
@@ -28,6 +31,8 @@ import com.example.util.TipoCliente;
  *   <li>Set e get da hora de chegada funcionam corretamente.</li>
  *   <li>Set e get de observações gerais funcionam corretamente.</li>
  *   <li>Lista de preferências é inicialmente vazia e não nula.</li>
+ *   <li>Clientes sem preferências compartilham a mesma lista vazia, somente de leitura.</li>
+ *   <li>Sem a lista de preferências criada no construtor, 1 milhão de clientes ocupam bem menos memória.</li>
  * </ul>
  *
  * <b>Observações:</b>
@@ -106,4 +111,59 @@ class ClienteTest {
         assertNotNull(cliente.getPreferencias());
         assertTrue(cliente.getPreferencias().isEmpty());
     }
-}
\ No newline at end of file
+
+    @Test
+    void clientesSemPreferenciasCompartilhamListaVazia() {
+        Cliente outro = new Cliente(2, "Maria", TipoCliente.COMUM);
+        assertSame(cliente.getPreferencias(), outro.getPreferencias());
+        assertThrows(UnsupportedOperationException.class, () -> outro.getPreferencias().add("Vegano"));
+        outro.removerPreferencia("Vegano");
+        outro.adicionarPreferencia("Vegano");
+        assertEquals(List.of("Vegano"), outro.getPreferencias());
+        assertTrue(cliente.getPreferencias().isEmpty());
+    }
+
+    @Test
+    void clientesSemPreferenciasOcupamMenosMemoria() {
+        final int clientes = 1_000_000;
+        Cliente[] criados = new Cliente[clientes];
+        List<?>[] listasVazias = new List<?>[clientes];
+
+        // Como antes: cada cliente levava uma lista de preferências vazia, criada no construtor
+        long antes = memoriaEmUso();
+        for (int i = 0; i < clientes; i++) {
+            criados[i] = new Cliente(i, "Membro", TipoCliente.COMUM);
+            listasVazias[i] = new ArrayList<String>();
+        }
+        long bytesAntes = memoriaEmUso() - antes;
+        assertEquals(clientes - 1, criados[clientes - 1].getId());
+        assertTrue(listasVazias[clientes - 1].isEmpty());
+        criados = new Cliente[clientes];
+        listasVazias = null;
+
+        antes = memoriaEmUso();
+        for (int i = 0; i < clientes; i++) {
+            criados[i] = new Cliente(i, "Membro", TipoCliente.COMUM);
+        }
+        long bytesDepois = memoriaEmUso() - antes;
+        assertEquals(clientes - 1, criados[clientes - 1].getId());
+
+        long porDezMilAntes = bytesAntes / (clientes / 10_000);
+        long porDezMilDepois = bytesDepois / (clientes / 10_000);
+        assertTrue(bytesDepois * 4 < bytesAntes * 3, () -> String.format(
+                "Clientes sem lista de preferências deveriam ocupar menos de três quartos da memória "
+                        + "(por 10 mil clientes: lista no construtor = %d bytes, lista sob demanda = %d bytes)",
+                porDezMilAntes, porDezMilDepois));
+    }
+
+    private static long memoriaEmUso() {
+        Runtime runtime = Runtime.getRuntime();
+        long usado = Long.MAX_VALUE;
+        // Repete a coleta até a medição estabilizar
+        for (int i = 0; i < 5; i++) {
+            System.gc();
+            usado = Math.min(usado, runtime.totalMemory() - runtime.freeMemory());
+        }
+        return usado;
+    }
+}
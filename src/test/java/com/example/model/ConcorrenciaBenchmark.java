@@ -0,0 +1,121 @@
+package com.example.model;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.example.model.distribuicao.EstrategiaDistribuicao;
+import com.example.model.distribuicao.MenosOcupado;
+import com.example.model.distribuicao.PrimeiroDisponivel;
+import com.example.util.Status;
+import com.example.util.TipoCliente;
+
+/**
+ * Benchmark de vazão do {@link Restaurante} usado por vários terminais ao mesmo tempo.
+ * <p>
+ * Cada thread simula um terminal que, em laço, distribui um novo cliente e finaliza o atendimento mais antigo
+ * de um garçom sorteado. São medidas as operações por segundo (uma distribuição mais uma tentativa de
+ * finalização) com 1, 2, 4 e 8 threads, após uma rodada de aquecimento.
+ * </p>
+ *
+ * <p>Não é executado pelo {@code mvn test}; rode a classe {@code main} diretamente a partir do classpath de testes.</p>
+ *
+ * @author Ana Luiza Freitas Brito Siqueira
+ * @author Bruno Campos Penha
+ * @author Grazielly de Sousa Barros
+ * @author João Gabriel Oliveira Magalhães
+ * @author João Vitor Moreira Lemos
+ * @author Robert Alves Guimarães
+ * @author Vinicius D’Oliveira Rocha
+ * @version 1.0
+ */
+public class ConcorrenciaBenchmark {
+
+    private static final int GARCONS = 16;
+    private static final long DURACAO_MS = 2_000;
+    private static final int[] THREADS = {1, 2, 4, 8};
+
+    public static void main(String[] args) throws Exception {
+        PrintStream saidaOriginal = System.out;
+        System.setOut(new PrintStream(OutputStream.nullOutputStream()));
+        try {
+            medir(new PrimeiroDisponivel(), 4, DURACAO_MS);
+            saidaOriginal.printf("%-20s %8s %14s %14s%n", "estratégia", "threads", "operações", "ops/s");
+            for (String nome : new String[] {"PrimeiroDisponivel", "MenosOcupado"}) {
+                for (int threads : THREADS) {
+                    EstrategiaDistribuicao estrategia = nome.equals("MenosOcupado") ? new MenosOcupado() : new PrimeiroDisponivel();
+                    long operacoes = medir(estrategia, threads, DURACAO_MS);
+                    saidaOriginal.printf("%-20s %8d %14d %14.0f%n", nome, threads, operacoes, operacoes * 1000.0 / DURACAO_MS);
+                }
+            }
+        } finally {
+            System.setOut(saidaOriginal);
+        }
+    }
+
+    private static long medir(EstrategiaDistribuicao estrategia, int threads, long duracaoMs) throws Exception {
+        Restaurante restaurante = new Restaurante("Benchmark");
+        restaurante.setEstrategiaDistribuicao(estrategia);
+        List<Garcom> garcons = new ArrayList<>();
+        for (int i = 0; i < GARCONS; i++) {
+            Garcom garcom = new Garcom(restaurante.gerarNovoGarcomId(), "Garçom" + i, null);
+            garcons.add(garcom);
+            restaurante.adicionarGarcom(garcom);
+        }
+
+        AtomicBoolean parar = new AtomicBoolean();
+        AtomicLong operacoes = new AtomicLong();
+        CountDownLatch largada = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        List<Future<?>> tarefas = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            tarefas.add(executor.submit(() -> {
+                largada.await();
+                ThreadLocalRandom aleatorio = ThreadLocalRandom.current();
+                long feitas = 0;
+                while (!parar.get()) {
+                    Cliente cliente = new Cliente(restaurante.gerarNovoClienteId(), "Cliente", TipoCliente.COMUM);
+                    cliente.setHoraChegada(LocalTime.now());
+                    restaurante.distribuirAtendimento(cliente);
+                    finalizarMaisAntigo(restaurante, garcons.get(aleatorio.nextInt(garcons.size())));
+                    feitas++;
+                }
+                operacoes.addAndGet(feitas);
+                return null;
+            }));
+        }
+        largada.countDown();
+        Thread.sleep(duracaoMs);
+        parar.set(true);
+        for (Future<?> tarefa : tarefas) {
+            tarefa.get();
+        }
+        executor.shutdown();
+        return operacoes.get();
+    }
+
+    /**
+     * Finaliza o atendimento em andamento mais antigo do garçom, se houver.
+     * A verificação do status sob a trava do garçom garante que apenas um terminal finalize cada atendimento.
+     */
+    private static void finalizarMaisAntigo(Restaurante restaurante, Garcom garcom) {
+        Atendimento atendimento;
+        synchronized (garcom) {
+            atendimento = garcom.getFilaAtendimentoIndividual().getFila().peek();
+            if (atendimento == null || atendimento.getStatus() == Status.FINALIZADO) {
+                return;
+            }
+            atendimento.finalizarAtendimento();
+        }
+        restaurante.registrarAtendimentoFinalizado(atendimento);
+    }
+}
@@ -0,0 +1,223 @@
+package com.example.model;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Random;
+import java.util.function.Supplier;
+
+import com.example.model.distribuicao.DuasEscolhasAleatorias;
+import com.example.model.distribuicao.EstrategiaDistribuicao;
+import com.example.model.distribuicao.MenosOcupado;
+import com.example.model.distribuicao.PonderadaPorTempoDeAtendimento;
+import com.example.model.distribuicao.PrimeiroDisponivel;
+import com.example.model.distribuicao.RodizioCircular;
+import com.example.util.TipoCliente;
+
+/**
+ * Benchmark que compara as estratégias de {@link EstrategiaDistribuicao} em uma simulação de eventos discretos.
+ * <p>
+ * Clientes chegam segundo um processo de Poisson e aguardam na fila geral até que algum garçom tenha vaga.
+ * Cada garçom tem uma velocidade própria e atende mais devagar quanto mais mesas possui, de modo que
+ * a estratégia de distribuição influencia diretamente o tempo de espera. O tempo de espera de cada cliente é lido
+ * de {@link Atendimento#getTempoDeEspera()}, com o relógio dos atendimentos controlado pela simulação.
+ * </p>
+ *
+ * <p>Não é executado pelo {@code mvn test}; rode a classe {@code main} diretamente a partir do classpath de testes.</p>
+ *
+ * @author Ana Luiza Freitas Brito Siqueira
+ * @author Bruno Campos Penha
+ * @author Grazielly de Sousa Barros
+ * @author João Gabriel Oliveira Magalhães
+ * @author João Vitor Moreira Lemos
+ * @author Robert Alves Guimarães
+ * @author Vinicius D’Oliveira Rocha
+ * @version 1.0
+ */
+public class DistribuicaoBenchmark {
+
+    private static final int GARCONS = 12;
+    private static final double MINUTOS_MEDIOS_ATENDIMENTO = 20.0;
+    private static final double ACRESCIMO_POR_MESA = 0.3;
+    private static final long DURACAO_SIMULACAO = Duration.ofHours(10).toNanos();
+    private static final LocalTime ABERTURA = LocalTime.of(8, 0);
+
+    public static void main(String[] args) {
+        double[] chegadasPorMinuto = {0.8, 1.2, 1.5};
+        Map<String, Supplier<EstrategiaDistribuicao>> estrategias = new LinkedHashMap<>();
+        estrategias.put("PrimeiroDisponivel", PrimeiroDisponivel::new);
+        estrategias.put("MenosOcupado", MenosOcupado::new);
+        estrategias.put("RodizioCircular", RodizioCircular::new);
+        estrategias.put("DuasEscolhasAleatorias", () -> new DuasEscolhasAleatorias(new Random(7)));
+        estrategias.put("PonderadaPorTempo", PonderadaPorTempoDeAtendimento::new);
+
+        PrintStream saidaOriginal = System.out;
+        try {
+            for (double taxa : chegadasPorMinuto) {
+                saidaOriginal.printf("%nChegadas por minuto: %.1f%n", taxa);
+                saidaOriginal.printf("%-24s %10s %12s %12s %10s%n", "estratégia", "clientes", "média (min)", "p99 (min)", "ms");
+                for (Map.Entry<String, Supplier<EstrategiaDistribuicao>> e : estrategias.entrySet()) {
+                    System.setOut(new PrintStream(OutputStream.nullOutputStream()));
+                    long inicio = System.nanoTime();
+                    double[] esperas = simular(e.getValue().get(), taxa, 2024);
+                    long ms = (System.nanoTime() - inicio) / 1_000_000;
+                    System.setOut(saidaOriginal);
+                    saidaOriginal.printf("%-24s %10d %12.2f %12.2f %10d%n",
+                            e.getKey(), esperas.length, media(esperas), percentil(esperas, 0.99), ms);
+                }
+            }
+        } finally {
+            System.setOut(saidaOriginal);
+            Atendimento.setRelogio(Clock.systemDefaultZone());
+        }
+    }
+
+    /**
+     * Executa uma simulação e retorna os tempos de espera, em minutos, dos clientes atendidos.
+     */
+    static double[] simular(EstrategiaDistribuicao estrategia, double chegadasPorMinuto, long semente) {
+        // Geradores separados para que todas as estratégias recebam o mesmo fluxo de chegadas
+        Random chegadas = new Random(semente);
+        Random servico = new Random(semente + 1);
+        RelogioSimulado relogio = new RelogioSimulado();
+        Atendimento.setRelogio(relogio);
+
+        Restaurante restaurante = new Restaurante("Simulação");
+        EstrategiaObservada observada = new EstrategiaObservada(estrategia);
+        restaurante.setEstrategiaDistribuicao(observada);
+        double[] fatorVelocidade = new double[GARCONS];
+        for (int i = 0; i < GARCONS; i++) {
+            restaurante.adicionarGarcom(new Garcom(i, "Garçom " + i, null));
+            fatorVelocidade[i] = 0.5 + 1.5 * i / (GARCONS - 1);
+        }
+
+        PriorityQueue<Evento> eventos = new PriorityQueue<>();
+        Deque<Cliente> filaGeral = new ArrayDeque<>();
+        List<Atendimento> atendidos = new ArrayList<>();
+        int capacidadeTotal = GARCONS * 5;
+        int ativos = 0;
+        int proximoId = 0;
+
+        eventos.add(new Evento((long) (exponencial(chegadas, 1.0 / chegadasPorMinuto) * 60e9), null));
+        while (!eventos.isEmpty()) {
+            Evento evento = eventos.poll();
+            relogio.nanos = evento.nanos;
+            if (evento.atendimento == null) {
+                if (evento.nanos > DURACAO_SIMULACAO) continue;
+                Cliente cliente = new Cliente(proximoId, "Cliente " + proximoId, TipoCliente.COMUM);
+                proximoId++;
+                cliente.setHoraChegada(LocalTime.now(relogio));
+                filaGeral.addLast(cliente);
+                eventos.add(new Evento(evento.nanos + (long) (exponencial(chegadas, 1.0 / chegadasPorMinuto) * 60e9), null));
+            } else {
+                evento.atendimento.finalizarAtendimento();
+                restaurante.registrarAtendimentoFinalizado(evento.atendimento);
+                ativos--;
+            }
+
+            while (!filaGeral.isEmpty() && ativos < capacidadeTotal) {
+                Cliente cliente = filaGeral.pollFirst();
+                restaurante.distribuirAtendimento(cliente);
+                Garcom garcom = observada.ultimoEscolhido;
+                Atendimento atendimento = localizar(garcom, cliente);
+                int mesas = garcom.getFilaAtendimentoIndividual().tamanho();
+                double minutos = exponencial(servico, MINUTOS_MEDIOS_ATENDIMENTO * fatorVelocidade[garcom.getId()])
+                        * (1 + ACRESCIMO_POR_MESA * (mesas - 1));
+                eventos.add(new Evento(evento.nanos + (long) (minutos * 60e9), atendimento));
+                atendidos.add(atendimento);
+                ativos++;
+            }
+        }
+
+        double[] esperas = new double[atendidos.size()];
+        for (int i = 0; i < esperas.length; i++) {
+            esperas[i] = atendidos.get(i).getTempoDeEspera().toNanos() / 60e9;
+        }
+        return esperas;
+    }
+
+    private static Atendimento localizar(Garcom garcom, Cliente cliente) {
+        for (Atendimento a : garcom.getFilaAtendimentoIndividual().getFila()) {
+            if (((AtendimentoIndividual) a).getCliente() == cliente) return a;
+        }
+        throw new IllegalStateException("Atendimento não encontrado para " + cliente.getNome());
+    }
+
+
+    private static double exponencial(Random random, double media) {
+        return -media * Math.log(1 - random.nextDouble());
+    }
+
+    private static double media(double[] valores) {
+        return Arrays.stream(valores).average().orElse(0);
+    }
+
+    private static double percentil(double[] valores, double p) {
+        if (valores.length == 0) return 0;
+        double[] ordenados = valores.clone();
+        Arrays.sort(ordenados);
+        return ordenados[(int) Math.min(ordenados.length - 1, Math.ceil(p * ordenados.length) - 1)];
+    }
+
+    /** Evento da simulação: chegada de cliente (sem atendimento) ou fim de atendimento. */
+    private record Evento(long nanos, Atendimento atendimento) implements Comparable<Evento> {
+        @Override
+        public int compareTo(Evento outro) {
+            return Long.compare(nanos, outro.nanos);
+        }
+    }
+
+    /** Decorador que registra o garçom escolhido pela estratégia real. */
+    private static class EstrategiaObservada implements EstrategiaDistribuicao {
+        private final EstrategiaDistribuicao estrategia;
+        private Garcom ultimoEscolhido;
+
+        EstrategiaObservada(EstrategiaDistribuicao estrategia) {
+            this.estrategia = estrategia;
+        }
+
+        @Override
+        public Garcom escolherGarcom(List<Garcom> disponiveis, Atendivel atendivel) {
+            ultimoEscolhido = estrategia.escolherGarcom(disponiveis, atendivel);
+            return ultimoEscolhido;
+        }
+
+        @Override
+        public void atendimentoFinalizado(Garcom garcom, Atendimento atendimento) {
+            estrategia.atendimentoFinalizado(garcom, atendimento);
+        }
+    }
+
+    /** Relógio controlado pela simulação, iniciando na abertura do restaurante. */
+    private static class RelogioSimulado extends Clock {
+        private long nanos;
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return Instant.EPOCH.plusSeconds(ABERTURA.toSecondOfDay()).plusNanos(nanos);
+        }
+    }
+}
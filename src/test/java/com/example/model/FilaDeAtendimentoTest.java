@@ -1,10 +1,15 @@
 package com.example.model;
 
 import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import org.junit.jupiter.api.BeforeEach;
@@ -26,8 +31,15 @@ import com.example.util.Status;
  *   <li>Remove atendimento da fila com prioridade correta.</li>
  *   <li>Remove atendimento específico corretamente.</li>
  *   <li>Conta apenas atendimentos ativos (não finalizados).</li>
+ *   <li>Contadores por status conferem com a recontagem completa após operações aleatórias.</li>
  *   <li>Limpa a fila corretamente.</li>
  *   <li>Reordena a fila mantendo todos os elementos.</li>
+ *   <li>Mantém a ordem por status e, no mesmo status, por ordem de entrada.</li>
+ *   <li>Lista os atendimentos em ordem de prioridade, sem reordenar os restantes após uma remoção.</li>
+ *   <li>Reposiciona automaticamente um atendimento quando seu status muda.</li>
+ *   <li>Não permite adicionar o mesmo atendimento em duas filas.</li>
+ *   <li>Sequência aleatória de inserções, remoções específicas e mudanças de status mantém a ordem de prioridade
+ *   sem reordenação manual.</li>
  * </ul>
  *
  * <b>Observações:</b>
@@ -123,6 +135,29 @@ class FilaDeAtendimentoTest {
         assertEquals(1, fila.contarAtendimentosAtivos());
     }
 
+    /**
+     * Testa se a contagem por status acompanha as mudanças de status e remoções.
+     */
+    @Test
+    void contarPorStatusAcompanhaMudancas() {
+        fila.adicionarAtendimento(atendimento1);
+        fila.adicionarAtendimento(atendimento2);
+        assertEquals(2, fila.contarPorStatus(Status.AGUARDANDO));
+
+        atendimento1.iniciarAtendimento(LocalTime.now());
+        assertEquals(1, fila.contarPorStatus(Status.AGUARDANDO));
+        assertEquals(1, fila.contarPorStatus(Status.EM_ATENDIMENTO));
+
+        fila.removerAtendimentoEspecifico(atendimento1);
+        atendimento1.finalizarAtendimento();
+        assertEquals(0, fila.contarPorStatus(Status.EM_ATENDIMENTO));
+        assertEquals(0, fila.contarPorStatus(Status.FINALIZADO));
+
+        fila.limparFila();
+        assertEquals(0, fila.contarPorStatus(Status.AGUARDANDO));
+        assertThrows(NullPointerException.class, () -> fila.contarPorStatus(null));
+    }
+
     /**
      * Testa se limpar a fila esvazia corretamente.
      */
@@ -146,4 +181,122 @@ class FilaDeAtendimentoTest {
         assertTrue(fila.getFila().contains(atendimento1));
         assertTrue(fila.getFila().contains(atendimento2));
     }
-}
\ No newline at end of file
+
+    /**
+     * Testa se a fila ordena por status e, no mesmo status, por ordem de entrada.
+     */
+    @Test
+    void ordenaPorStatusEOrdemDeEntrada() {
+        Atendimento emAtendimento = new AtendimentoConcreto(new Pedido());
+        emAtendimento.iniciarAtendimento(LocalTime.now());
+        fila.adicionarAtendimento(emAtendimento);
+        fila.adicionarAtendimento(atendimento1);
+        fila.adicionarAtendimento(atendimento2);
+
+        assertSame(atendimento1, fila.removerAtendimento());
+        assertSame(atendimento2, fila.removerAtendimento());
+        assertSame(emAtendimento, fila.removerAtendimento());
+        assertNull(fila.removerAtendimento());
+    }
+
+    /**
+     * Testa se a listagem segue a ordem de prioridade, mesmo depois de uma remoção reorganizar o heap.
+     */
+    @Test
+    void listarEmOrdemSegueAPrioridade() {
+        List<Atendimento> esperados = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            Atendimento atendimento = new AtendimentoConcreto(new Pedido());
+            fila.adicionarAtendimento(atendimento);
+            esperados.add(atendimento);
+        }
+        esperados.get(0).iniciarAtendimento(LocalTime.now());
+        esperados.add(esperados.remove(0));
+        assertEquals(esperados, fila.listarEmOrdem());
+
+        fila.removerAtendimentoEspecifico(esperados.remove(0));
+        assertEquals(esperados, fila.listarEmOrdem());
+    }
+
+    /**
+     * Testa se a mudança de status reposiciona o atendimento sem reordenar a fila manualmente.
+     */
+    @Test
+    void mudancaDeStatusReposicionaAtendimentoAutomaticamente() {
+        fila.adicionarAtendimento(atendimento1);
+        fila.adicionarAtendimento(atendimento2);
+        atendimento1.iniciarAtendimento(LocalTime.now());
+        assertSame(atendimento2, fila.getFila().peek());
+
+        atendimento2.iniciarAtendimento(LocalTime.now());
+        atendimento1.finalizarAtendimento();
+        assertSame(atendimento2, fila.removerAtendimento());
+        assertSame(atendimento1, fila.removerAtendimento());
+    }
+
+    /**
+     * Testa se um atendimento não pode pertencer a duas filas ao mesmo tempo.
+     */
+    @Test
+    void naoPermiteAtendimentoEmDuasFilas() {
+        FilaDeAtendimento<Atendimento> outra = new FilaDeAtendimento<>();
+        fila.adicionarAtendimento(atendimento1);
+        assertThrows(IllegalArgumentException.class, () -> outra.adicionarAtendimento(atendimento1));
+
+        fila.removerAtendimentoEspecifico(atendimento1);
+        outra.adicionarAtendimento(atendimento1);
+        assertTrue(outra.getFila().contains(atendimento1));
+        assertFalse(fila.getFila().contains(atendimento1));
+    }
+
+    /**
+     * Testa, com operações aleatórias, se a fila sempre devolve os atendimentos em ordem de prioridade.
+     */
+    @Test
+    void operacoesAleatoriasMantemOrdemDePrioridade() {
+        Random random = new Random(7);
+        List<Atendimento> presentes = new ArrayList<>();
+        for (int n = 0; n < 5_000; n++) {
+            int operacao = random.nextInt(4);
+            if (operacao == 0 || presentes.isEmpty()) {
+                Atendimento novo = new AtendimentoConcreto(new Pedido());
+                fila.adicionarAtendimento(novo);
+                presentes.add(novo);
+            } else if (operacao == 1) {
+                Atendimento removido = presentes.remove(random.nextInt(presentes.size()));
+                fila.removerAtendimentoEspecifico(removido);
+            } else {
+                Atendimento alterado = presentes.get(random.nextInt(presentes.size()));
+                if (alterado.getStatus() == Status.AGUARDANDO) {
+                    alterado.iniciarAtendimento(LocalTime.now());
+                } else if (alterado.getStatus() == Status.EM_ATENDIMENTO) {
+                    alterado.finalizarAtendimento();
+                }
+            }
+            assertEquals(presentes.size(), fila.tamanho());
+            assertContadoresConferem(presentes);
+        }
+
+        Atendimento anterior = null;
+        Atendimento atual;
+        while ((atual = fila.removerAtendimento()) != null) {
+            if (anterior != null) {
+                assertTrue(anterior.getStatus().ordinal() <= atual.getStatus().ordinal());
+            }
+            anterior = atual;
+        }
+    }
+
+    private void assertContadoresConferem(List<Atendimento> presentes) {
+        int ativos = 0;
+        for (Status status : Status.values()) {
+            int recontagem = 0;
+            for (Atendimento a : presentes) {
+                if (a.getStatus() == status) recontagem++;
+            }
+            assertEquals(recontagem, fila.contarPorStatus(status));
+            if (status != Status.FINALIZADO) ativos += recontagem;
+        }
+        assertEquals(ativos, fila.contarAtendimentosAtivos());
+    }
+}
@@ -0,0 +1,277 @@
+package com.example.model;
+
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.example.util.TipoCliente;
+
+/**
+ * Classe de teste unitário para a {@link FilaDeEspera}.
+ * <p>
+ * Este teste NÃO depende de JavaFX e cobre a ordem da fila e o uso simultâneo por várias threads.
+ * </p>
+ *
+ * <b>Cobertura dos testes:</b>
+ * <ul>
+ *   <li>Não permite adicionar ou devolver atendível nulo.</li>
+ *   <li>Retira na ordem de chegada quando todos têm a mesma prioridade.</li>
+ *   <li>Coloca prioritários à frente e ordena pelo horário de chegada, com horário ausente ao final.</li>
+ *   <li>Devolve ao início da fila, respeitando a prioridade.</li>
+ *   <li>Reposiciona um grupo que muda de prioridade enquanto espera, mantendo a ordem de chegada.</li>
+ *   <li>Retorna nulo ao retirar ou consultar fila vazia.</li>
+ *   <li>Listagem é uma cópia somente leitura.</li>
+ *   <li>Remove um atendível em qualquer posição e notifica o ouvinte das entradas e saídas.</li>
+ *   <li>Produtores e consumidores simultâneos não perdem nem duplicam clientes.</li>
+ * </ul>
+ *
+ * @author Ana Luiza Freitas Brito Siqueira
+ * @author Bruno Campos Penha
+ * @author Grazielly de Sousa Barros
+ * @author João Gabriel Oliveira Magalhães
+ * @author João Vitor Moreira Lemos
+ * @author Robert Alves Guimarães
+ * @author Vinicius D’Oliveira Rocha
+ * @version 1.0
+ */
+class FilaDeEsperaTest {
+    private FilaDeEspera fila;
+
+    @BeforeEach
+    void setUp() {
+        fila = new FilaDeEspera();
+    }
+
+    @Test
+    void naoPermiteAtendivelNulo() {
+        assertThrows(NullPointerException.class, () -> fila.adicionar(null));
+        assertThrows(NullPointerException.class, () -> fila.devolverAoInicio(null));
+        assertTrue(fila.estaVazia());
+    }
+
+    @Test
+    void retiraNaOrdemDeChegada() {
+        Cliente a = new Cliente(1, "Ana", TipoCliente.COMUM);
+        GrupoClientes b = new GrupoClientes(2, "Grupo B");
+        Cliente c = new Cliente(3, "Carla", TipoCliente.COMUM);
+        fila.adicionar(a);
+        fila.adicionar(b);
+        fila.adicionar(c);
+
+        assertEquals(3, fila.tamanho());
+        assertTrue(fila.contem(b));
+        assertSame(a, fila.consultarProximo());
+        assertSame(a, fila.retirarProximo());
+        assertSame(b, fila.retirarProximo());
+        assertSame(c, fila.retirarProximo());
+        assertEquals(0, fila.tamanho());
+    }
+
+    @Test
+    void ordenaPorPrioridadeEHorarioDeChegada() {
+        Cliente comumCedo = new Cliente(1, "Ana", TipoCliente.COMUM);
+        comumCedo.setHoraChegada(LocalTime.of(12, 0));
+        Cliente comumSemHora = new Cliente(2, "Bruno", TipoCliente.COMUM);
+        Cliente prioritarioTarde = new Cliente(3, "Carla", TipoCliente.PRIORITARIO);
+        prioritarioTarde.setHoraChegada(LocalTime.of(12, 30));
+        GrupoClientes grupoPrioritario = new GrupoClientes(4, "Grupo D");
+        grupoPrioritario.adicionarCliente(new Cliente(5, "Davi", TipoCliente.PRIORITARIO));
+        grupoPrioritario.setHoraChegada(LocalTime.of(12, 10));
+        Cliente comumTarde = new Cliente(6, "Eva", TipoCliente.COMUM);
+        comumTarde.setHoraChegada(LocalTime.of(12, 20));
+
+        fila.adicionar(comumSemHora);
+        fila.adicionar(comumTarde);
+        fila.adicionar(prioritarioTarde);
+        fila.adicionar(comumCedo);
+        fila.adicionar(grupoPrioritario);
+
+        assertSame(grupoPrioritario, fila.consultarProximo());
+        assertEquals(List.of(grupoPrioritario, prioritarioTarde, comumCedo, comumTarde, comumSemHora), fila.listar());
+    }
+
+    @Test
+    void grupoQueMudaDePrioridadeEReposicionado() {
+        Cliente prioritario = new Cliente(1, "Ana", TipoCliente.PRIORITARIO);
+        prioritario.setHoraChegada(LocalTime.of(12, 0));
+        Cliente prioritarioTarde = new Cliente(2, "Bruno", TipoCliente.PRIORITARIO);
+        prioritarioTarde.setHoraChegada(LocalTime.of(12, 30));
+        Cliente comum = new Cliente(3, "Carla", TipoCliente.COMUM);
+        comum.setHoraChegada(LocalTime.of(11, 0));
+        GrupoClientes grupo = new GrupoClientes(4, "Grupo D");
+        grupo.adicionarCliente(new Cliente(5, "Davi", TipoCliente.COMUM));
+        grupo.setHoraChegada(LocalTime.of(12, 10));
+        fila.adicionar(prioritarioTarde);
+        fila.adicionar(grupo);
+        fila.adicionar(prioritario);
+        fila.adicionar(comum);
+        assertFalse(fila.atualizarPrioridade(grupo));
+
+        Cliente membroPrioritario = new Cliente(6, "Eva", TipoCliente.PRIORITARIO);
+        grupo.adicionarCliente(membroPrioritario);
+        assertTrue(fila.atualizarPrioridade(grupo));
+        assertEquals(List.of(prioritario, grupo, prioritarioTarde, comum), fila.listar());
+        assertEquals(4, fila.tamanho());
+
+        grupo.removerCliente(membroPrioritario);
+        assertTrue(fila.atualizarPrioridade(grupo));
+        assertEquals(List.of(prioritario, prioritarioTarde, comum, grupo), fila.listar());
+        assertFalse(fila.atualizarPrioridade(new Cliente(7, "Fábio", TipoCliente.PRIORITARIO)));
+    }
+
+    @Test
+    void devolvidoVoltaAFrenteDaSuaPrioridade() {
+        Cliente prioritario = new Cliente(1, "Ana", TipoCliente.PRIORITARIO);
+        prioritario.setHoraChegada(LocalTime.of(12, 30));
+        Cliente comumCedo = new Cliente(2, "Bruno", TipoCliente.COMUM);
+        comumCedo.setHoraChegada(LocalTime.of(11, 0));
+        Cliente comumTarde = new Cliente(3, "Carla", TipoCliente.COMUM);
+        comumTarde.setHoraChegada(LocalTime.of(12, 0));
+        fila.adicionar(comumCedo);
+        fila.adicionar(comumTarde);
+
+        assertSame(comumCedo, fila.retirarProximo());
+        // O horário de chegada pode ter sido alterado ao tentar o atendimento
+        comumCedo.setHoraChegada(LocalTime.of(13, 0));
+        fila.devolverAoInicio(comumCedo);
+        fila.adicionar(prioritario);
+
+        assertEquals(List.of(prioritario, comumCedo, comumTarde), fila.listar());
+    }
+
+    @Test
+    void devolveAoInicio() {
+        Cliente a = new Cliente(1, "Ana", TipoCliente.COMUM);
+        Cliente b = new Cliente(2, "Bruno", TipoCliente.COMUM);
+        fila.adicionar(a);
+        fila.adicionar(b);
+
+        Cliente retirado = (Cliente) fila.retirarProximo();
+        fila.devolverAoInicio(retirado);
+
+        assertEquals(2, fila.tamanho());
+        assertSame(a, fila.retirarProximo());
+    }
+
+    @Test
+    void filaVaziaRetornaNulo() {
+        assertNull(fila.retirarProximo());
+        assertNull(fila.consultarProximo());
+        assertFalse(fila.contem(null));
+        assertEquals(0, fila.tamanho());
+    }
+
+    @Test
+    void listarRetornaCopiaSomenteLeitura() {
+        Cliente a = new Cliente(1, "Ana", TipoCliente.COMUM);
+        fila.adicionar(a);
+        List<Atendivel> copia = fila.listar();
+
+        fila.adicionar(new Cliente(2, "Bruno", TipoCliente.COMUM));
+
+        assertEquals(List.of(a), copia);
+        assertThrows(UnsupportedOperationException.class, () -> copia.add(a));
+    }
+
+    @Test
+    void removeEmQualquerPosicaoENotificaOuvinte() {
+        List<String> eventos = new ArrayList<>();
+        FilaDeEspera observada = new FilaDeEspera(new OuvinteDaFilaDeEspera() {
+            @Override
+            public void entrou(Atendivel atendivel, boolean devolvido) {
+                eventos.add("entrou " + atendivel.getNome() + (devolvido ? " devolvido" : ""));
+            }
+
+            @Override
+            public void saiu(Atendivel atendivel) {
+                eventos.add("saiu " + atendivel.getNome());
+            }
+        });
+        Cliente a = new Cliente(1, "Ana", TipoCliente.COMUM);
+        Cliente b = new Cliente(2, "Bruno", TipoCliente.COMUM);
+        observada.adicionar(a);
+        observada.adicionar(b);
+
+        assertTrue(observada.remover(b));
+        assertFalse(observada.remover(b));
+        assertFalse(observada.remover(null));
+        assertEquals(1, observada.tamanho());
+        observada.devolverAoInicio(observada.retirarProximo());
+
+        assertEquals(List.of("entrou Ana", "entrou Bruno", "saiu Bruno", "saiu Ana", "entrou Ana devolvido"), eventos);
+    }
+
+    @Test
+    void produtoresEConsumidoresSimultaneosNaoPerdemNemDuplicam() throws Exception {
+        final int produtores = 4;
+        final int consumidores = 4;
+        final int porProdutor = 20_000;
+        final int total = produtores * porProdutor;
+        AtomicIntegerArray vezesAtendido = new AtomicIntegerArray(total);
+        AtomicInteger atendidos = new AtomicInteger();
+        CountDownLatch largada = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(produtores + consumidores);
+        List<Future<?>> tarefas = new ArrayList<>();
+
+        for (int p = 0; p < produtores; p++) {
+            final int base = p * porProdutor;
+            tarefas.add(executor.submit(() -> {
+                largada.await();
+                for (int i = 0; i < porProdutor; i++) {
+                    fila.adicionar(new Cliente(base + i, "C" + (base + i), TipoCliente.COMUM));
+                }
+                return null;
+            }));
+        }
+        for (int c = 0; c < consumidores; c++) {
+            tarefas.add(executor.submit(() -> {
+                largada.await();
+                ThreadLocalRandom aleatorio = ThreadLocalRandom.current();
+                while (atendidos.get() < total) {
+                    Atendivel proximo = fila.retirarProximo();
+                    if (proximo == null) {
+                        Thread.onSpinWait();
+                        continue;
+                    }
+                    // Simula um garçom sem vaga devolvendo o cliente à fila
+                    if (aleatorio.nextInt(10) == 0) {
+                        fila.devolverAoInicio(proximo);
+                        continue;
+                    }
+                    vezesAtendido.incrementAndGet(((Cliente) proximo).getId());
+                    atendidos.incrementAndGet();
+                }
+                return null;
+            }));
+        }
+
+        largada.countDown();
+        for (Future<?> tarefa : tarefas) {
+            tarefa.get(60, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        for (int i = 0; i < total; i++) {
+            assertEquals(1, vezesAtendido.get(i), "Cliente " + i + " atendido " + vezesAtendido.get(i) + " vezes");
+        }
+        assertTrue(fila.estaVazia());
+        assertEquals(0, fila.tamanho());
+    }
+}
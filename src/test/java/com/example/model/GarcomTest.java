@@ -24,7 +24,8 @@ import com.example.util.Turno;
  * <b>Cobertura dos testes:</b>
  * <ul>
  *   <li>Validação do construtor para nome nulo ou vazio.</li>
- *   <li>Verifica se pode atender mais clientes individuais e grupos conforme o limite.</li>
+ *   <li>Verifica se pode atender mais clientes individuais e grupos conforme o limite, e se o atendimento
+ *   além do limite é recusado.</li>
  *   <li>Não permite atender cliente ou grupo nulo.</li>
  *   <li>Remove atendimento finalizado das filas corretamente.</li>
  *   <li>Limpa as filas de atendimento corretamente.</li>
@@ -70,9 +71,11 @@ class GarcomTest {
         for (int i = 0; i < 5; i++) {
             Cliente cliente = new Cliente(i, "Cliente" + i, TipoCliente.COMUM);
             cliente.setHoraChegada(LocalTime.now());
-            garcom.atenderCliente(cliente);
+            assertTrue(garcom.atenderCliente(cliente));
         }
         assertFalse(garcom.podeAtenderMaisClientesIndividuais());
+        assertFalse(garcom.atenderCliente(new Cliente(5, "Cliente5", TipoCliente.COMUM)));
+        assertEquals(5, garcom.getFilaAtendimentoIndividual().tamanho());
     }
 
     @Test
@@ -82,9 +85,11 @@ class GarcomTest {
         for (int i = 0; i < 3; i++) {
             GrupoClientes grupo = new GrupoClientes(i, "Grupo" + i);
             grupo.setHoraChegada(LocalTime.now());
-            garcom.atenderGrupo(grupo);
+            assertTrue(garcom.atenderGrupo(grupo));
         }
         assertFalse(garcom.podeAtenderMaisGrupos());
+        assertFalse(garcom.atenderGrupo(new GrupoClientes(3, "Grupo3")));
+        assertEquals(3, garcom.getFilaAtendimentoGrupo().tamanho());
     }
 
     @Test
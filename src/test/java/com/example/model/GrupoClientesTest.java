@@ -24,6 +24,11 @@ import static org.junit.jupiter.api.Assertions.*;
  *   <li>Getters de nome, tipo do grupo e preferências agregadas dos clientes.</li>
  *   <li>Definição e obtenção da hora de chegada do grupo.</li>
  *   <li>Definição e obtenção de observações gerais do grupo.</li>
+ *   <li>Grupos sem clientes ou pedidos compartilham listas vazias, e as listas devolvidas são sempre somente
+ *       de leitura.</li>
+ *   <li>Um cliente não entra em um segundo grupo sem antes sair do primeiro.</li>
+ *   <li>Tipo e preferências do grupo acompanham membros que entram e saem e preferências alteradas depois.</li>
+ *   <li>As preferências do grupo são a mesma lista imutável até a próxima mudança.</li>
  * </ul>
  *
  * <b>Observações:</b>
@@ -117,8 +122,8 @@ class GrupoClientesTest {
     void testGetPreferencias() {
         Cliente c1 = new Cliente(1, "João", TipoCliente.COMUM);
         Cliente c2 = new Cliente(2, "Maria", TipoCliente.COMUM);
-        c1.getPreferencias().add("Vegano");
-        c2.getPreferencias().add("Sem glúten");
+        c1.adicionarPreferencia("Vegano");
+        c2.adicionarPreferencia("Sem glúten");
         grupo.adicionarCliente(c1);
         grupo.adicionarCliente(c2);
         List<String> prefs = grupo.getPreferencias();
@@ -139,4 +144,86 @@ class GrupoClientesTest {
         grupo.setObservacoesGerais("Mesa perto da janela");
         assertEquals("Mesa perto da janela", grupo.getObservacoesGerais());
     }
-}
\ No newline at end of file
+
+    @Test
+    void testGruposVaziosCompartilhamListasVazias() {
+        GrupoClientes outro = new GrupoClientes(2, "Mesa 2");
+        assertSame(grupo.getClientes(), outro.getClientes());
+        assertSame(grupo.getPedidos(), outro.getPedidos());
+        assertThrows(UnsupportedOperationException.class, () -> outro.getPedidos().add(new Pedido()));
+        outro.removerPedido(new Pedido());
+        outro.adicionarCliente(new Cliente(1, "João", TipoCliente.COMUM));
+        outro.adicionarPedido(new Pedido());
+        assertEquals(1, outro.getClientes().size());
+        assertTrue(grupo.getClientes().isEmpty());
+        assertThrows(UnsupportedOperationException.class, () -> outro.getClientes().add(new Cliente(2, "Maria", TipoCliente.PRIORITARIO)));
+        assertThrows(UnsupportedOperationException.class, () -> outro.getPedidos().clear());
+        assertEquals(TipoCliente.COMUM, outro.getTipoCliente());
+    }
+
+    @Test
+    void testClienteNaoPertenceADoisGrupos() {
+        Cliente joao = new Cliente(1, "João", TipoCliente.PRIORITARIO);
+        GrupoClientes outro = new GrupoClientes(2, "Mesa 2");
+        grupo.adicionarCliente(joao);
+
+        assertThrows(IllegalArgumentException.class, () -> outro.adicionarCliente(joao));
+        assertThrows(IllegalArgumentException.class, () -> grupo.adicionarCliente(joao));
+        assertEquals(1, grupo.getClientes().size());
+        assertTrue(outro.getClientes().isEmpty());
+        assertEquals(TipoCliente.COMUM, outro.getTipoCliente());
+
+        grupo.removerCliente(joao);
+        outro.adicionarCliente(joao);
+        assertEquals(List.of(joao), outro.getClientes());
+        assertEquals(TipoCliente.COMUM, grupo.getTipoCliente());
+        assertEquals(TipoCliente.PRIORITARIO, outro.getTipoCliente());
+    }
+
+    @Test
+    void testAgregadosAcompanhamMembrosEPreferencias() {
+        Cliente joao = new Cliente(1, "João", TipoCliente.PRIORITARIO);
+        Cliente maria = new Cliente(2, "Maria", TipoCliente.COMUM);
+        maria.adicionarPreferencia("Vegano");
+        grupo.adicionarCliente(joao);
+        grupo.adicionarCliente(maria);
+        assertEquals(TipoCliente.PRIORITARIO, grupo.getTipoCliente());
+        assertTrue(grupo.temPreferencia("Vegano"));
+
+        // Preferências alteradas depois de entrar no grupo
+        joao.adicionarPreferencia("Vegano");
+        joao.adicionarPreferencia("Sem glúten");
+        assertEquals(List.of("Vegano", "Sem glúten"), grupo.getPreferencias());
+        maria.removerPreferencia("Vegano");
+        assertTrue(grupo.temPreferencia("Vegano"));
+        joao.removerPreferencia("Vegano");
+        assertFalse(grupo.temPreferencia("Vegano"));
+        assertEquals(List.of("Sem glúten"), grupo.getPreferencias());
+
+        grupo.removerCliente(joao);
+        assertEquals(TipoCliente.COMUM, grupo.getTipoCliente());
+        assertTrue(grupo.getPreferencias().isEmpty());
+        assertEquals(List.of(maria), grupo.getClientes());
+        // Fora do grupo, as preferências do cliente não alteram mais o grupo
+        joao.adicionarPreferencia("Picante");
+        assertFalse(grupo.temPreferencia("Picante"));
+        assertThrows(NullPointerException.class, () -> grupo.removerCliente(null));
+    }
+
+    @Test
+    void testPreferenciasSaoAMesmaListaAteAlteracao() {
+        Cliente joao = new Cliente(1, "João", TipoCliente.COMUM);
+        joao.adicionarPreferencia("Vegano");
+        grupo.adicionarCliente(joao);
+        List<String> preferencias = grupo.getPreferencias();
+        assertSame(preferencias, grupo.getPreferencias());
+        assertThrows(UnsupportedOperationException.class, () -> preferencias.add("Picante"));
+        // Um segundo membro com a mesma preferência não altera a lista
+        Cliente maria = new Cliente(2, "Maria", TipoCliente.COMUM);
+        maria.adicionarPreferencia("Vegano");
+        grupo.adicionarCliente(maria);
+        assertSame(preferencias, grupo.getPreferencias());
+        maria.adicionarPreferencia("Picante");
+        assertEquals(List.of("Vegano", "Picante"), grupo.getPreferencias());
+    }
+}
@@ -0,0 +1,127 @@
+package com.example.model;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.lang.ref.Reference;
+import java.time.Duration;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.DoubleSupplier;
+
+import com.example.util.TipoCliente;
+
+/**
+ * Benchmark do heap ocupado pelo histórico de atendimentos: lista de atendimentos completos, como o
+ * {@link Restaurante} mantinha, contra o {@link HistoricoDeAtendimentos} mapeado com a cauda padrão em memória.
+ * <p>
+ * Para 10 mil, 100 mil e 500 mil atendimentos finalizados (cada um com cliente e dois itens), mede o heap usado
+ * após a coleta de lixo com todo o histórico alcançável, e o tempo para calcular o tempo médio de espera
+ * percorrendo todo o histórico.
+ * </p>
+ *
+ * <p>Não é executado pelo {@code mvn test}; rode a classe {@code main} diretamente a partir do classpath de testes.</p>
+ *
+ * @author Ana Luiza Freitas Brito Siqueira
+ * @author Bruno Campos Penha
+ * @author Grazielly de Sousa Barros
+ * @author João Gabriel Oliveira Magalhães
+ * @author João Vitor Moreira Lemos
+ * @author Robert Alves Guimarães
+ * @author Vinicius D’Oliveira Rocha
+ * @version 1.0
+ */
+public class HistoricoBenchmark {
+
+    private static final int[] ATENDIMENTOS = {10_000, 100_000, 500_000};
+
+    public static void main(String[] args) {
+        PrintStream saidaOriginal = System.out;
+        System.setOut(new PrintStream(OutputStream.nullOutputStream()));
+        try {
+            saidaOriginal.printf("%12s %-10s %12s %14s%n", "atendimentos", "histórico", "heap MiB", "média ms");
+            for (int n : ATENDIMENTOS) {
+                medirLista(n, saidaOriginal);
+                medirMapeado(n, saidaOriginal);
+            }
+        } finally {
+            System.setOut(saidaOriginal);
+        }
+    }
+
+    private static void medirLista(int n, PrintStream saida) {
+        long base = heapUsado();
+        List<Atendimento> lista = new ArrayList<>();
+        for (int i = 1; i <= n; i++) {
+            lista.add(finalizado(i));
+        }
+        long heap = heapUsado() - base;
+        double ms = medir(() -> mediaDeEspera(lista));
+        saida.printf("%12d %-10s %12.1f %14.2f%n", n, "lista", heap / 1048576.0, ms);
+        Reference.reachabilityFence(lista);
+    }
+
+    private static void medirMapeado(int n, PrintStream saida) {
+        long base = heapUsado();
+        HistoricoDeAtendimentos historico = new HistoricoDeAtendimentos();
+        for (int i = 1; i <= n; i++) {
+            historico.adicionar(finalizado(i));
+        }
+        long heap = heapUsado() - base;
+        double ms = medir(() -> mediaDeEspera(historico));
+        saida.printf("%12d %-10s %12.1f %14.2f%n", n, "mapeado", heap / 1048576.0, ms);
+        Reference.reachabilityFence(historico);
+    }
+
+    private static double mediaDeEspera(List<Atendimento> lista) {
+        long soma = 0;
+        for (Atendimento atendimento : lista) {
+            soma += atendimento.getTempoDeEspera().toNanos();
+        }
+        return (double) soma / lista.size();
+    }
+
+    private static double mediaDeEspera(HistoricoDeAtendimentos historico) {
+        long soma = 0;
+        for (int i = 0; i < historico.tamanho(); i++) {
+            soma += historico.getTempoDeEspera(i).toNanos();
+        }
+        return (double) soma / historico.tamanho();
+    }
+
+    /**
+     * Executa a consulta algumas vezes para aquecer e retorna o menor tempo, em milissegundos.
+     */
+    private static double medir(DoubleSupplier consulta) {
+        long melhor = Long.MAX_VALUE;
+        double resultado = 0;
+        for (int i = 0; i < 20; i++) {
+            long inicio = System.nanoTime();
+            resultado += consulta.getAsDouble();
+            melhor = Math.min(melhor, System.nanoTime() - inicio);
+        }
+        if (resultado < 0) System.out.println(resultado);
+        return melhor / 1e6;
+    }
+
+    private static long heapUsado() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+
+    private static Atendimento finalizado(int i) {
+        Cliente cliente = new Cliente(i, "Cliente" + i, TipoCliente.COMUM);
+        cliente.setHoraChegada(LocalTime.of(11, 0));
+        Pedido pedido = new Pedido();
+        pedido.adicionarItem(new ItemPedido("Lasanha Bolonhesa", 1, 38.0));
+        pedido.adicionarItem(new ItemPedido("Refrigerante", 2, 7.5));
+        AtendimentoIndividual atendimento = new AtendimentoIndividual(cliente, pedido);
+        atendimento.setGarcomId(1 + i % 8);
+        atendimento.iniciarAtendimento(LocalTime.of(11, 0), LocalTime.of(11, 0).plus(Duration.ofSeconds(i % 600)));
+        atendimento.finalizarAtendimento(LocalTime.of(11, 40));
+        return atendimento;
+    }
+}
@@ -0,0 +1,174 @@
+package com.example.model;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.example.util.TipoCliente;
+
+/**
+ * Classe de teste unitário para o {@link HistoricoDeAtendimentos}.
+ * <p>
+ * Este teste NÃO depende de JavaFX e usa um diretório temporário para o arquivo mapeado.
+ * </p>
+ *
+ * <b>Cobertura dos testes:</b>
+ * <ul>
+ *   <li>Validação dos parâmetros do construtor, do atendimento adicionado e das posições consultadas.</li>
+ *   <li>Os campos de cada registro são lidos de volta, inclusive horários e tempos ausentes.</li>
+ *   <li>Somente a cauda configurada fica em memória, e o mais antigo é devolvido ao ser descartado.</li>
+ *   <li>O arquivo cresce em vários segmentos mapeados sem perder registros.</li>
+ *   <li>Um arquivo existente é recriado vazio.</li>
+ *   <li>Pedidos são encontrados pelo identificador, inclusive os que já saíram da cauda e depois de o índice
+ *       crescer; um pedido registrado de novo aponta para o registro mais recente.</li>
+ *   <li>Fechar o histórico o esvazia, apaga o arquivo temporário e impede novos acréscimos e consultas por
+ *       posição.</li>
+ * </ul>
+ *
+ * @author Ana Luiza Freitas Brito Siqueira
+ * @author Bruno Campos Penha
+ * @author Grazielly de Sousa Barros
+ * @author João Gabriel Oliveira Magalhães
+ * @author João Vitor Moreira Lemos
+ * @author Robert Alves Guimarães
+ * @author Vinicius D’Oliveira Rocha
+ * @version 1.0
+ */
+class HistoricoDeAtendimentosTest {
+
+    @TempDir
+    Path diretorio;
+
+    @Test
+    void validaParametros() {
+        assertThrows(IllegalArgumentException.class, () -> new HistoricoDeAtendimentos(null, 1));
+        assertThrows(IllegalArgumentException.class, () -> new HistoricoDeAtendimentos(diretorio.resolve("h.bin"), -1));
+        HistoricoDeAtendimentos historico = new HistoricoDeAtendimentos(diretorio.resolve("h.bin"), 1);
+        assertThrows(NullPointerException.class, () -> historico.adicionar(null));
+        assertThrows(IndexOutOfBoundsException.class, () -> historico.getPedidoId(0));
+        assertEquals(0, historico.tamanho());
+    }
+
+    @Test
+    void gravaELeCamposDoRegistro() {
+        HistoricoDeAtendimentos historico = new HistoricoDeAtendimentos(diretorio.resolve("h.bin"), 4);
+        Pedido pedido = new Pedido();
+        pedido.adicionarItem(new ItemPedido("Lasanha", 2, 35.5));
+        pedido.adicionarItem(new ItemPedido("Suco", 1, 8.0));
+        AtendimentoIndividual atendimento = new AtendimentoIndividual(new Cliente(1, "Ana", TipoCliente.COMUM), pedido);
+        atendimento.setGarcomId(7);
+        atendimento.iniciarAtendimento(LocalTime.of(19, 0), LocalTime.of(19, 10));
+        atendimento.finalizarAtendimento(LocalTime.of(19, 45, 30, 5));
+
+        assertNull(historico.adicionar(atendimento));
+        historico.adicionarRegistro(99, 3, null, null, null, 0, 0);
+
+        assertEquals(2, historico.tamanho());
+        assertEquals(pedido.getId(), historico.getPedidoId(0));
+        assertEquals(7, historico.getGarcomId(0));
+        assertEquals(LocalTime.of(19, 10), historico.getInicio(0));
+        assertEquals(LocalTime.of(19, 45, 30, 5), historico.getFim(0));
+        assertEquals(Duration.ofMinutes(10), historico.getTempoDeEspera(0));
+        assertEquals(7900, historico.getTotalEmCentavos(0));
+        assertEquals(2, historico.getQuantidadeDeItens(0));
+
+        assertEquals(99, historico.getPedidoId(1));
+        assertNull(historico.getInicio(1));
+        assertNull(historico.getFim(1));
+        assertNull(historico.getTempoDeEspera(1));
+        assertEquals(List.of(atendimento), historico.getRecentes());
+        assertThrows(IndexOutOfBoundsException.class, () -> historico.getGarcomId(2));
+    }
+
+    @Test
+    void mantemApenasACaudaEmMemoria() {
+        HistoricoDeAtendimentos historico = new HistoricoDeAtendimentos(diretorio.resolve("h.bin"), 2);
+        Atendimento primeiro = finalizado(1);
+        Atendimento segundo = finalizado(2);
+        Atendimento terceiro = finalizado(3);
+
+        assertNull(historico.adicionar(primeiro));
+        assertNull(historico.adicionar(segundo));
+        assertSame(primeiro, historico.adicionar(terceiro));
+
+        assertEquals(List.of(segundo, terceiro), historico.getRecentes());
+        assertEquals(3, historico.tamanho());
+        assertEquals(primeiro.getPedido().getId(), historico.getPedidoId(0));
+
+        HistoricoDeAtendimentos semCauda = new HistoricoDeAtendimentos(diretorio.resolve("s.bin"), 0);
+        assertSame(primeiro, semCauda.adicionar(primeiro));
+        assertTrue(semCauda.getRecentes().isEmpty());
+    }
+
+    @Test
+    void cresceEmVariosSegmentos() throws Exception {
+        Path arquivo = diretorio.resolve("h.bin");
+        Files.write(arquivo, new byte[] {1, 2, 3});
+        HistoricoDeAtendimentos historico = new HistoricoDeAtendimentos(arquivo, 0);
+        int total = HistoricoDeAtendimentos.REGISTROS_POR_SEGMENTO * 2 + 10;
+        for (int i = 1; i <= total; i++) {
+            historico.adicionarRegistro(i, i % 8, LocalTime.ofSecondOfDay(i % 86_400), null, Duration.ofSeconds(i), i * 100L, i % 5);
+        }
+
+        assertEquals(total, historico.tamanho());
+        for (int i = 0; i < total; i += 997) {
+            assertEquals(i + 1, historico.getPedidoId(i));
+            assertEquals(Duration.ofSeconds(i + 1), historico.getTempoDeEspera(i));
+            assertEquals((i + 1) * 100L, historico.getTotalEmCentavos(i));
+        }
+        assertEquals(total, historico.getPedidoId(total - 1));
+        assertTrue(Files.size(arquivo) >= (long) total * HistoricoDeAtendimentos.TAMANHO_DO_REGISTRO);
+    }
+
+    @Test
+    void buscaPosicaoInclusiveForaDaCauda() {
+        HistoricoDeAtendimentos historico = new HistoricoDeAtendimentos(diretorio.resolve("h.bin"), 1);
+        int total = HistoricoDeAtendimentos.REGISTROS_POR_SEGMENTO + 10;
+        for (int i = 1; i <= total; i++) {
+            historico.adicionarRegistro(1_000 + i, 1, null, null, null, i, 1);
+        }
+        Atendimento recente = finalizado(1);
+        historico.adicionar(recente);
+
+        assertEquals(0, historico.buscarPosicao(1_001));
+        assertEquals(total - 1, historico.buscarPosicao(1_000 + total));
+        assertEquals(total, historico.buscarPosicao(recente.getPedido().getId()));
+        assertEquals(-1, historico.buscarPosicao(1_000));
+
+        historico.adicionarRegistro(1_005, 2, null, null, null, 0, 0);
+        assertEquals(total + 1, historico.buscarPosicao(1_005));
+        assertEquals(1_005, historico.getPedidoId(historico.buscarPosicao(1_005)));
+    }
+
+    @Test
+    void fecharEsvaziaEImpedeNovosAcrescimos() throws Exception {
+        HistoricoDeAtendimentos historico = new HistoricoDeAtendimentos();
+        historico.adicionar(finalizado(1));
+        historico.close();
+        historico.close();
+
+        assertEquals(0, historico.tamanho());
+        assertTrue(historico.getRecentes().isEmpty());
+        assertEquals(-1, historico.buscarPosicao(1));
+        assertThrows(IndexOutOfBoundsException.class, () -> historico.getPedidoId(0));
+        assertThrows(IllegalStateException.class, () -> historico.adicionar(finalizado(2)));
+        assertThrows(IllegalStateException.class, () -> historico.adicionarRegistro(3, 1, null, null, null, 0, 0));
+    }
+
+    private static Atendimento finalizado(int id) {
+        AtendimentoIndividual atendimento = new AtendimentoIndividual(new Cliente(id, "Cliente" + id, TipoCliente.COMUM), new Pedido());
+        atendimento.iniciarAtendimento(LocalTime.of(12, 0), LocalTime.of(12, 5));
+        atendimento.finalizarAtendimento(LocalTime.of(12, 30));
+        return atendimento;
+    }
+}
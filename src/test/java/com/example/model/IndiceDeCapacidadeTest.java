@@ -0,0 +1,145 @@
+package com.example.model;
+
+import java.time.LocalTime;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.example.model.distribuicao.PrimeiroDisponivel;
+import com.example.util.TipoCliente;
+
+/**
+ * Classe de teste unitário para a lógica de negócio do {@link IndiceDeCapacidade}.
+ * <p>
+ * Este teste NÃO depende de JavaFX e cobre a manutenção do índice de garçons com vagas livres
+ * a partir das notificações enviadas pelo {@link Garcom}.
+ * </p>
+ *
+ * <b>Cobertura dos testes:</b>
+ * <ul>
+ *   <li>Garçom sem atendimentos aparece como disponível para individuais e grupos.</li>
+ *   <li>Garçom com limite atingido deixa de ser retornado pelo índice.</li>
+ *   <li>Garçom volta ao índice após remover um atendimento finalizado.</li>
+ *   <li>Garçom que sai e volta ao índice reassume sua posição na ordem de registro, e o primeiro disponível
+ *   continua sendo o primeiro registrado.</li>
+ *   <li>Com mais de 64 garçons, o instantâneo devolve por posição e por iteração os mesmos garçons, na ordem de
+ *   registro, e só é montado de novo depois de uma alteração.</li>
+ * </ul>
+ *
+ * @author Ana Luiza Freitas Brito Siqueira
+ * @author Bruno Campos Penha
+ * @author Grazielly de Sousa Barros
+ * @author João Gabriel Oliveira Magalhães
+ * @author João Vitor Moreira Lemos
+ * @author Robert Alves Guimarães
+ * @author Vinicius D’Oliveira Rocha
+ * @version 1.0
+ */
+class IndiceDeCapacidadeTest {
+
+    private IndiceDeCapacidade indice;
+    private Garcom garcom;
+
+    @BeforeEach
+    void setUp() {
+        indice = new IndiceDeCapacidade();
+        garcom = new Garcom(1, "Carlos", null);
+        garcom.setOuvinte(indice);
+        indice.capacidadeAlterada(garcom);
+    }
+
+    @Test
+    void garcomSemAtendimentosEstaDisponivel() {
+        assertSame(garcom, indice.comVagaIndividual().get(0));
+        assertSame(garcom, indice.comVagaGrupo().get(0));
+    }
+
+    @Test
+    void garcomLotadoSaiDoIndice() {
+        for (int i = 0; i < 5; i++) {
+            Cliente cliente = new Cliente(i, "Cliente" + i, TipoCliente.COMUM);
+            cliente.setHoraChegada(LocalTime.now());
+            garcom.atenderCliente(cliente);
+        }
+        assertTrue(indice.comVagaIndividual().isEmpty());
+        assertSame(garcom, indice.comVagaGrupo().get(0));
+    }
+
+    @Test
+    void garcomVoltaAoIndiceAposRemoverAtendimento() {
+        for (int i = 0; i < 3; i++) {
+            GrupoClientes grupo = new GrupoClientes(i, "Grupo" + i);
+            grupo.setHoraChegada(LocalTime.now());
+            garcom.atenderGrupo(grupo);
+        }
+        assertTrue(indice.comVagaGrupo().isEmpty());
+
+        garcom.removerAtendimentoFinalizado(garcom.getFilaAtendimentoGrupo().getFila().peek());
+        assertSame(garcom, indice.comVagaGrupo().get(0));
+    }
+
+    @Test
+    void garcomQueVoltaReassumeSuaPosicaoNaOrdemDeRegistro() {
+        Garcom segundo = new Garcom(2, "Denise", null);
+        Garcom terceiro = new Garcom(3, "Eva", null);
+        for (Garcom g : List.of(segundo, terceiro)) {
+            g.setOuvinte(indice);
+            indice.capacidadeAlterada(g);
+        }
+        for (int i = 0; i < 3; i++) {
+            GrupoClientes grupo = new GrupoClientes(i, "Grupo" + i);
+            grupo.setHoraChegada(LocalTime.now());
+            garcom.atenderGrupo(grupo);
+        }
+        assertEquals(List.of(segundo, terceiro), indice.comVagaGrupo());
+
+        garcom.removerAtendimentoFinalizado(garcom.getFilaAtendimentoGrupo().getFila().peek());
+        assertEquals(List.of(garcom, segundo, terceiro), indice.comVagaGrupo());
+        assertSame(garcom, new PrimeiroDisponivel().escolherGarcom(indice.comVagaGrupo(), new GrupoClientes(9, "Mesa 9")));
+    }
+
+    @Test
+    void instantaneoComMuitosGarconsSegueAOrdemDeRegistro() {
+        List<Garcom> esperados = new ArrayList<>(List.of(garcom));
+        for (int id = 2; id <= 150; id++) {
+            Garcom g = new Garcom(id, "Garçom " + id, null);
+            g.setOuvinte(indice);
+            indice.capacidadeAlterada(g);
+            esperados.add(g);
+        }
+        // Lota um garçom de cada três, espalhados pelas palavras do mapa de bits
+        for (int i = 0; i < esperados.size(); i += 3) {
+            Garcom g = esperados.get(i);
+            for (int j = 0; j < 3; j++) {
+                GrupoClientes grupo = new GrupoClientes(1000 * i + j, "Grupo" + j);
+                grupo.setHoraChegada(LocalTime.now());
+                g.atenderGrupo(grupo);
+            }
+        }
+        List<Garcom> comVaga = new ArrayList<>();
+        for (int i = 0; i < esperados.size(); i++) {
+            if (i % 3 != 0) comVaga.add(esperados.get(i));
+        }
+
+        List<Garcom> instantaneo = indice.comVagaGrupo();
+        assertEquals(comVaga, instantaneo);
+        for (int i = 0; i < comVaga.size(); i++) {
+            assertSame(comVaga.get(i), instantaneo.get(i));
+        }
+        assertSame(instantaneo, indice.comVagaGrupo());
+        assertEquals(esperados, indice.comVagaIndividual());
+
+        Garcom primeiro = esperados.get(0);
+        primeiro.removerAtendimentoFinalizado(primeiro.getFilaAtendimentoGrupo().getFila().peek());
+        assertNotSame(instantaneo, indice.comVagaGrupo());
+        assertSame(primeiro, indice.comVagaGrupo().get(0));
+        assertEquals(comVaga.size(), instantaneo.size());
+    }
+}
@@ -1,5 +1,7 @@
 package com.example.model;
 
+import java.util.Arrays;
+
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
@@ -17,6 +19,9 @@ import static org.junit.jupiter.api.Assertions.*;
  *   <li>Validação do construtor para nome, quantidade e preço inválidos.</li>
  *   <li>Adição de observação válida e rejeição de observação nula.</li>
  *   <li>Cálculo correto do subtotal do item.</li>
+ *   <li>Preço guardado em centavos exatos, arredondando valores em reais.</li>
+ *   <li>Itens criados a partir de um modelo do cardápio compartilham o modelo e não alocam observações vazias.</li>
+ *   <li>Com 200 mil linhas, itens que compartilham o modelo ocupam menos da metade da memória de cópias.</li>
  *   <li>Verifica se a lista de observações é inicialmente vazia.</li>
  * </ul>
  *
@@ -68,6 +73,8 @@ class ItemPedidoTest {
     @Test
     void testConstrutorPrecoInvalido() {
         assertThrows(IllegalArgumentException.class, () -> new ItemPedido("Pizza", 1, -5.0));
+        assertThrows(IllegalArgumentException.class, () -> new ItemPedido("Pizza", 1, Double.NaN));
+        assertThrows(IllegalArgumentException.class, () -> ItemPedido.emCentavos("Pizza", 1, -1));
     }
 
     @Test
@@ -87,4 +94,83 @@ class ItemPedidoTest {
     void testCalcularSubtotal() {
         assertEquals(60.0, item.calcularSubtotal(), 0.001);
     }
-}
\ No newline at end of file
+
+    @Test
+    void testPrecoEmCentavos() {
+        assertEquals(3000, item.getPrecoEmCentavos());
+        assertEquals(6000, item.calcularSubtotalEmCentavos());
+        // 0.1 + 0.2 em double é 0.30000000000000004; em centavos, o valor é exato
+        ItemPedido suco = new ItemPedido("Suco", 3, 0.1 + 0.2);
+        assertEquals(30, suco.getPrecoEmCentavos());
+        assertEquals(90, suco.calcularSubtotalEmCentavos());
+        assertEquals(0.9, suco.calcularSubtotal());
+        ItemPedido cafe = ItemPedido.emCentavos("Café", 2, 455);
+        assertEquals(4.55, cafe.getPreco());
+        assertEquals(910, cafe.calcularSubtotalEmCentavos());
+    }
+
+    @Test
+    void testItensCompartilhamOModeloDoCardapio() {
+        Cardapio cardapio = new Cardapio();
+        cardapio.adicionarItem(new ItemPedido("Suco", 1, 8.0));
+        ItemPedido doCardapio = new ItemPedido("Lasanha", 1, 42.5);
+        int id = cardapio.adicionarItem(doCardapio);
+        assertEquals(id, doCardapio.getModelo().getId());
+        assertEquals(ModeloDeItem.SEM_IDENTIFICADOR, item.getModelo().getId());
+
+        ItemPedido linha = new ItemPedido(doCardapio.getModelo(), 3);
+        assertSame(doCardapio.getModelo(), linha.getModelo());
+        assertEquals("Lasanha", linha.getNome());
+        assertEquals(12750, linha.calcularSubtotalEmCentavos());
+        assertThrows(NullPointerException.class, () -> new ItemPedido((ModeloDeItem) null, 1));
+        assertThrows(IllegalArgumentException.class, () -> new ItemPedido(doCardapio.getModelo(), 0));
+
+        // Sem observações, todos os itens devolvem a mesma lista vazia, somente de leitura
+        assertSame(item.getObservacoes(), linha.getObservacoes());
+        assertThrows(UnsupportedOperationException.class,
+                () -> linha.getObservacoes().add(new ObservacaoDoPedido("Sem cebola")));
+        linha.adicionarObservacao(new ObservacaoDoPedido("Sem cebola"));
+        assertEquals(1, linha.getObservacoes().size());
+        assertTrue(item.getObservacoes().isEmpty());
+    }
+
+    @Test
+    void testLinhasComModeloOcupamMenosMemoriaQueCopias() {
+        final int linhas = 200_000;
+        ItemPedido doCardapio = new ItemPedido("Filé à Parmegiana", 1, 54.9);
+        new Cardapio().adicionarItem(doCardapio);
+        ItemPedido[] pedidas = new ItemPedido[linhas];
+
+        // Como antes: cada linha copia o nome e o preço do item do cardápio
+        long antes = memoriaEmUso();
+        for (int i = 0; i < linhas; i++) {
+            pedidas[i] = new ItemPedido(new String(doCardapio.getNome()), 1 + i % 3, doCardapio.getPreco());
+        }
+        long bytesCopias = memoriaEmUso() - antes;
+        assertEquals(doCardapio.getNome(), pedidas[linhas - 1].getNome());
+        Arrays.fill(pedidas, null);
+
+        antes = memoriaEmUso();
+        for (int i = 0; i < linhas; i++) {
+            pedidas[i] = new ItemPedido(doCardapio.getModelo(), 1 + i % 3);
+        }
+        long bytesModelo = memoriaEmUso() - antes;
+        assertSame(doCardapio.getModelo(), pedidas[linhas - 1].getModelo());
+
+        assertTrue(bytesModelo * 2 < bytesCopias, () -> String.format(
+                "Linhas com modelo compartilhado deveriam ocupar menos da metade da memória das cópias "
+                        + "(por linha: cópia = %d bytes, modelo compartilhado = %d bytes)",
+                bytesCopias / linhas, bytesModelo / linhas));
+    }
+
+    private static long memoriaEmUso() {
+        Runtime runtime = Runtime.getRuntime();
+        long usado = Long.MAX_VALUE;
+        // Repete a coleta até a medição estabilizar
+        for (int i = 0; i < 5; i++) {
+            System.gc();
+            usado = Math.min(usado, runtime.totalMemory() - runtime.freeMemory());
+        }
+        return usado;
+    }
+}
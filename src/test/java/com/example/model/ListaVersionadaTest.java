@@ -0,0 +1,98 @@
+package com.example.model;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Classe de teste unitário para a {@link ListaVersionada}.
+ * <p>
+ * Este teste NÃO depende de JavaFX.
+ * </p>
+ *
+ * <b>Cobertura dos testes:</b>
+ * <ul>
+ *   <li>Não permite adicionar elemento nulo.</li>
+ *   <li>Leituras sem alteração devolvem a mesma visão imutável; uma alteração gera uma nova visão.</li>
+ *   <li>Visões antigas não enxergam alterações posteriores.</li>
+ *   <li>Leituras concorrentes com acréscimos sempre enxergam um prefixo completo da lista.</li>
+ * </ul>
+ *
+ * @author Ana Luiza Freitas Brito Siqueira
+ * @author Bruno Campos Penha
+ * @author Grazielly de Sousa Barros
+ * @author João Gabriel Oliveira Magalhães
+ * @author João Vitor Moreira Lemos
+ * @author Robert Alves Guimarães
+ * @author Vinicius D’Oliveira Rocha
+ * @version 1.0
+ */
+class ListaVersionadaTest {
+
+    @Test
+    void naoPermiteElementoNulo() {
+        ListaVersionada<String> lista = new ListaVersionada<>();
+        assertThrows(NullPointerException.class, () -> lista.adicionar(null));
+        assertTrue(lista.visao().isEmpty());
+    }
+
+    @Test
+    void reutilizaVisaoAteAProximaAlteracao() {
+        ListaVersionada<String> lista = new ListaVersionada<>();
+        lista.adicionar("a");
+        List<String> primeira = lista.visao();
+        assertSame(primeira, lista.visao());
+        assertThrows(UnsupportedOperationException.class, () -> primeira.add("x"));
+
+        lista.adicionar("b");
+        lista.adicionar("c");
+        List<String> segunda = lista.visao();
+        assertNotSame(primeira, segunda);
+        assertSame(segunda, lista.visao());
+        assertEquals(List.of("a"), primeira);
+        assertEquals(List.of("a", "b", "c"), segunda);
+    }
+
+    @Test
+    void leiturasConcorrentesEnxergamPrefixosCompletos() throws Exception {
+        ListaVersionada<Integer> lista = new ListaVersionada<>();
+        int total = 5_000;
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<?>> tarefas = new ArrayList<>();
+            tarefas.add(executor.submit(() -> {
+                for (int i = 0; i < total; i++) {
+                    lista.adicionar(i);
+                }
+            }));
+            for (int t = 0; t < 3; t++) {
+                tarefas.add(executor.submit(() -> {
+                    int anterior = 0;
+                    while (anterior < total) {
+                        List<Integer> visao = lista.visao();
+                        assertTrue(visao.size() >= anterior);
+                        if (!visao.isEmpty()) {
+                            assertEquals(visao.size() - 1, visao.get(visao.size() - 1));
+                        }
+                        anterior = visao.size();
+                    }
+                }));
+            }
+            for (Future<?> tarefa : tarefas) {
+                tarefa.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        assertEquals(total, lista.visao().size());
+    }
+}
@@ -20,6 +20,9 @@ import static org.junit.jupiter.api.Assertions.*;
  *   <li>Remoção de item do pedido e verificação da lista de itens.</li>
  *   <li>Não permite remover item nulo do pedido.</li>
  *   <li>Cálculo correto do total do pedido com e sem itens.</li>
+ *   <li>Total exato em centavos, acompanhando itens adicionados e removidos.</li>
+ *   <li>A lista de itens é somente de leitura.</li>
+ *   <li>Adição de observação a um item do pedido, recusando itens de fora do pedido.</li>
  * </ul>
  *
  * <b>Observações:</b>
@@ -89,4 +92,40 @@ class PedidoTest {
     void testCalcularTotalSemItens() {
         assertEquals(0.0, pedido.calcularTotal(), 0.001);
     }
-}
\ No newline at end of file
+
+    @Test
+    void testTotalEmCentavosAcompanhaItens() {
+        ItemPedido refrigerante = new ItemPedido("Refrigerante", 1, 0.1);
+        for (int i = 0; i < 9; i++) {
+            pedido.adicionarItem(new ItemPedido("Refrigerante", 1, 0.1));
+        }
+        pedido.adicionarItem(refrigerante);
+        // Somar 0.1 dez vezes em double dá 0.9999999999999999
+        assertEquals(100, pedido.getTotalEmCentavos());
+        assertEquals(1.0, pedido.calcularTotal());
+        pedido.removerItem(refrigerante);
+        assertEquals(90, pedido.getTotalEmCentavos());
+        pedido.removerItem(new ItemPedido("Pizza", 1, 30.0));
+        assertEquals(90, pedido.getTotalEmCentavos());
+    }
+
+    @Test
+    void testItensSomenteLeitura() {
+        assertSame(pedido.getItens(), pedido.getItens());
+        assertThrows(UnsupportedOperationException.class,
+                () -> pedido.getItens().add(new ItemPedido("Pizza", 1, 30.0)));
+    }
+
+    @Test
+    void testAdicionarObservacaoAoItem() {
+        ItemPedido item = new ItemPedido("Pizza", 1, 30.0);
+        pedido.adicionarItem(item);
+        pedido.adicionarObservacao(item, new ObservacaoDoPedido("Sem cebola"));
+        assertEquals("Sem cebola", item.getObservacoes().get(0).getDescricao());
+
+        assertThrows(NullPointerException.class, () -> pedido.adicionarObservacao(null, new ObservacaoDoPedido("x")));
+        assertThrows(NullPointerException.class, () -> pedido.adicionarObservacao(item, null));
+        assertThrows(IllegalArgumentException.class,
+                () -> pedido.adicionarObservacao(new ItemPedido("Suco", 1, 8.0), new ObservacaoDoPedido("Gelado")));
+    }
+}
@@ -1,15 +1,35 @@
 package com.example.model;
 
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import com.example.util.Status;
+import com.example.util.TipoCliente;
 import com.example.util.Turno;
 
 /**
@@ -25,12 +45,21 @@ import com.example.util.Turno;
  *   <li>Não permite adicionar garçom nulo.</li>
  *   <li>Adiciona garçom corretamente e permite buscar por ID.</li>
  *   <li>Não permite adicionar item nulo ao cardápio.</li>
- *   <li>Adiciona item ao cardápio corretamente.</li>
+ *   <li>Adiciona item ao cardápio corretamente e o busca pelo identificador ou pelo nome.</li>
+ *   <li>Garçons, cardápio e histórico recente são visões imutáveis reutilizadas até a próxima alteração.</li>
  *   <li>Não permite iniciar turno nulo.</li>
  *   <li>Inicia e encerra turno corretamente, propagando para os garçons.</li>
  *   <li>Geração sequencial de novos IDs para garçom, cliente e grupo.</li>
  *   <li>Validação de login de garçom por ID e nome.</li>
  *   <li>Retorno correto da fila de espera geral.</li>
+ *   <li>Busca de pedidos por ID em atendimentos ativos, finalizados e descartados.</li>
+ *   <li>Atendimentos finalizados antigos saem da memória e permanecem nos registros do histórico, onde continuam sendo
+ *   encontrados pelo identificador do pedido.</li>
+ *   <li>Distribuição de atendimentos apenas para garçons com vagas, inclusive após liberação de vaga.</li>
+ *   <li>Atendimentos finalizados saem apenas da fila do garçom responsável.</li>
+ *   <li>Notificação do ouvinte do restaurante, inclusive para atendimentos existentes do garçom adicionado.</li>
+ *   <li>Geração concorrente de IDs sem repetição.</li>
+ *   <li>Distribuição e finalização concorrentes respeitam os limites dos garçons e registram cada atendimento uma única vez.</li>
  * </ul>
  *
  * <b>Observações:</b>
@@ -76,6 +105,33 @@ class RestauranteTest {
         assertTrue(restaurante.getGarcons().contains(garcom));
     }
 
+    @Test
+    void consultasDevolvemAMesmaVisaoImutavelAteAlteracao() {
+        Garcom joao = new Garcom(1, "João", null);
+        restaurante.adicionarGarcom(joao);
+        restaurante.adicionarAoCardapio(new ItemPedido("Pizza", 1, 30.0));
+
+        List<Garcom> garcons = restaurante.getGarcons();
+        List<ItemPedido> cardapio = restaurante.getCardapio();
+        List<Atendimento> recentes = restaurante.getHistoricoAtendimentos();
+        assertSame(garcons, restaurante.getGarcons());
+        assertSame(cardapio, restaurante.getCardapio());
+        assertSame(recentes, restaurante.getHistoricoAtendimentos());
+        assertThrows(UnsupportedOperationException.class, () -> garcons.add(joao));
+        assertThrows(UnsupportedOperationException.class, () -> cardapio.clear());
+
+        Garcom maria = new Garcom(2, "Maria", null);
+        restaurante.adicionarGarcom(maria);
+        restaurante.adicionarAoCardapio(new ItemPedido("Suco", 1, 8.0));
+        restaurante.registrarAtendimentoFinalizado(new AtendimentoIndividual(novoCliente(1), new Pedido()));
+
+        assertEquals(List.of(joao), garcons);
+        assertEquals(List.of(joao, maria), restaurante.getGarcons());
+        assertEquals(2, restaurante.getCardapio().size());
+        assertEquals(1, restaurante.getHistoricoAtendimentos().size());
+        assertTrue(recentes.isEmpty());
+    }
+
     @Test
     void buscarGarcomPorIdRetornaCorretoOuNull() {
         Garcom garcom = new Garcom(10, "Maria", null);
@@ -96,6 +152,20 @@ class RestauranteTest {
         assertTrue(restaurante.getCardapio().contains(item));
     }
 
+    @Test
+    void buscaItemDoCardapioPorIdentificadorOuNome() {
+        ItemPedido pizza = new ItemPedido("Pizza", 1, 30.0);
+        ItemPedido suco = new ItemPedido("Suco de Laranja", 1, 8.0);
+        restaurante.adicionarAoCardapio(pizza);
+        int idDoSuco = restaurante.adicionarAoCardapio(suco);
+
+        assertSame(suco, restaurante.buscarItemDoCardapio(idDoSuco));
+        assertSame(suco, restaurante.getCardapio().get(idDoSuco));
+        assertSame(pizza, restaurante.buscarItemDoCardapio("PIZZA"));
+        assertNull(restaurante.buscarItemDoCardapio("Lasanha"));
+        assertNull(restaurante.buscarItemDoCardapio(5));
+    }
+
     @Test
     void iniciarTurnoNaoPermiteNulo() {
         assertThrows(IllegalArgumentException.class, () -> restaurante.iniciarTurno(null));
@@ -139,9 +209,278 @@ class RestauranteTest {
     }
 
     @Test
-    void getFilaDeEsperaGeralRetornaLista() {
-        List<Atendivel> fila = restaurante.getFilaDeEsperaGeral();
+    void getFilaDeEsperaGeralRetornaFilaVazia() {
+        FilaDeEspera fila = restaurante.getFilaDeEsperaGeral();
         assertNotNull(fila);
-        assertTrue(fila.isEmpty());
+        assertTrue(fila.estaVazia());
+    }
+
+    @Test
+    void distribuirAtendimentoUsaGarcomComVaga() {
+        Garcom joao = new Garcom(1, "João", null);
+        Garcom maria = new Garcom(2, "Maria", null);
+        restaurante.adicionarGarcom(joao);
+        restaurante.adicionarGarcom(maria);
+
+        for (int i = 0; i < 10; i++) {
+            restaurante.distribuirAtendimento(novoCliente(i));
+        }
+        assertEquals(5, joao.getFilaAtendimentoIndividual().tamanho());
+        assertEquals(5, maria.getFilaAtendimentoIndividual().tamanho());
+
+        // Sem vagas: o cliente não é atribuído a ninguém
+        restaurante.distribuirAtendimento(novoCliente(11));
+        assertEquals(5, joao.getFilaAtendimentoIndividual().tamanho());
+        assertEquals(5, maria.getFilaAtendimentoIndividual().tamanho());
+    }
+
+    @Test
+    void distribuirAtendimentoReaproveitaVagaLiberada() {
+        Garcom joao = new Garcom(1, "João", null);
+        restaurante.adicionarGarcom(joao);
+        for (int i = 0; i < 3; i++) {
+            GrupoClientes grupo = new GrupoClientes(i, "Grupo" + i);
+            grupo.setHoraChegada(LocalTime.now());
+            restaurante.distribuirAtendimento(grupo);
+        }
+        assertFalse(joao.podeAtenderMaisGrupos());
+
+        Atendimento atendimento = joao.getFilaAtendimentoGrupo().getFila().peek();
+        atendimento.finalizarAtendimento();
+        restaurante.registrarAtendimentoFinalizado(atendimento);
+
+        GrupoClientes novoGrupo = new GrupoClientes(10, "Grupo Novo");
+        novoGrupo.setHoraChegada(LocalTime.now());
+        restaurante.distribuirAtendimento(novoGrupo);
+        assertEquals(3, joao.getFilaAtendimentoGrupo().tamanho());
+    }
+
+    @Test
+    void registrarAtendimentoFinalizadoRemoveDaFilaDoGarcomResponsavel() {
+        Garcom joao = new Garcom(1, "João", null);
+        Garcom maria = new Garcom(2, "Maria", null);
+        restaurante.adicionarGarcom(joao);
+        restaurante.adicionarGarcom(maria);
+        joao.atenderCliente(novoCliente(1));
+        maria.atenderCliente(novoCliente(2));
+
+        Atendimento daMaria = maria.getFilaAtendimentoIndividual().getFila().peek();
+        daMaria.finalizarAtendimento();
+        restaurante.registrarAtendimentoFinalizado(daMaria);
+
+        assertEquals(0, maria.getFilaAtendimentoIndividual().tamanho());
+        assertEquals(1, joao.getFilaAtendimentoIndividual().tamanho());
+        assertSame(daMaria, restaurante.buscarAtendimentoPorPedidoId(daMaria.getPedido().getId()));
+    }
+
+    @Test
+    void distribuirAtendimentoConsideraAtendimentosFeitosDiretamentePeloGarcom() {
+        Garcom joao = new Garcom(1, "João", null);
+        Garcom maria = new Garcom(2, "Maria", null);
+        restaurante.adicionarGarcom(joao);
+        restaurante.adicionarGarcom(maria);
+        for (int i = 0; i < 5; i++) {
+            joao.atenderCliente(novoCliente(i));
+        }
+
+        restaurante.distribuirAtendimento(novoCliente(6));
+        assertEquals(5, joao.getFilaAtendimentoIndividual().tamanho());
+        assertEquals(1, maria.getFilaAtendimentoIndividual().tamanho());
+    }
+
+    @Test
+    void buscarPedidoPorIdEncontraAtendimentosAtivosEFinalizados() {
+        Garcom joao = new Garcom(1, "João", null);
+        restaurante.adicionarGarcom(joao);
+        joao.atenderCliente(novoCliente(1));
+        Atendimento ativo = joao.getFilaAtendimentoIndividual().getFila().peek();
+        int pedidoId = ativo.getPedido().getId();
+
+        assertSame(ativo.getPedido(), restaurante.buscarPedidoPorId(pedidoId));
+        assertSame(ativo, restaurante.buscarAtendimentoPorPedidoId(pedidoId));
+
+        ativo.finalizarAtendimento();
+        restaurante.registrarAtendimentoFinalizado(ativo);
+        assertSame(ativo.getPedido(), restaurante.buscarPedidoPorId(pedidoId));
+        assertNull(restaurante.buscarPedidoPorId(pedidoId + 1000));
+    }
+
+    @Test
+    void buscarPedidoPorIdIgnoraAtendimentosDescartados() {
+        Garcom joao = new Garcom(1, "João", null);
+        joao.atenderCliente(novoCliente(1));
+        int anteriorAoRestaurante = joao.getFilaAtendimentoIndividual().getFila().peek().getPedido().getId();
+        restaurante.adicionarGarcom(joao);
+        assertNotNull(restaurante.buscarPedidoPorId(anteriorAoRestaurante));
+
+        joao.limparFilasDeAtendimento();
+        assertNull(restaurante.buscarPedidoPorId(anteriorAoRestaurante));
+    }
+
+    @Test
+    void historicoAntigoSaiDaMemoriaEFicaNosRegistros() {
+        Garcom joao = new Garcom(1, "João", null);
+        restaurante.adicionarGarcom(joao);
+        List<Atendimento> finalizados = new ArrayList<>();
+        for (int i = 1; i <= HistoricoDeAtendimentos.TAMANHO_DA_CAUDA_PADRAO + 10; i++) {
+            joao.atenderCliente(novoCliente(i));
+            Atendimento atendimento = joao.getFilaAtendimentoIndividual().getFila().peek();
+            atendimento.getPedido().adicionarItem(new ItemPedido("Suco", 2, 8.0));
+            atendimento.finalizarAtendimento();
+            restaurante.registrarAtendimentoFinalizado(atendimento);
+            finalizados.add(atendimento);
+        }
+
+        HistoricoDeAtendimentos historico = restaurante.getHistorico();
+        assertEquals(finalizados.size(), historico.tamanho());
+        assertEquals(HistoricoDeAtendimentos.TAMANHO_DA_CAUDA_PADRAO, restaurante.getHistoricoAtendimentos().size());
+        Atendimento antigo = finalizados.get(0);
+        assertEquals(0, historico.buscarPosicao(antigo.getPedido().getId()));
+        assertEquals(antigo.getPedido().getId(), historico.getPedidoId(0));
+        assertEquals(1, historico.getGarcomId(0));
+        assertEquals(1600, historico.getTotalEmCentavos(0));
+        assertEquals(1, historico.getQuantidadeDeItens(0));
+        Atendimento recente = finalizados.get(finalizados.size() - 1);
+        assertSame(recente, restaurante.buscarAtendimentoPorPedidoId(recente.getPedido().getId()));
+    }
+
+    @Test
+    void setOuvinteNaoPermiteNulo() {
+        assertThrows(IllegalArgumentException.class, () -> restaurante.setOuvinte(null));
+    }
+
+    @Test
+    void ouvinteRecebeAtendimentosExistentesAoAdicionarGarcom() {
+        Garcom joao = new Garcom(1, "João", null);
+        joao.atenderCliente(novoCliente(1));
+        List<String> eventos = new ArrayList<>();
+        restaurante.setOuvinte(new OuvinteDoRestaurante() {
+            @Override
+            public void garcomAdicionado(Garcom garcom) {
+                eventos.add("garcom " + garcom.getId());
+            }
+
+            @Override
+            public void atendimentoIniciado(Garcom garcom, Atendimento atendimento) {
+                eventos.add("iniciado " + atendimento.getGarcomId());
+            }
+
+            @Override
+            public void itemAdicionado(Atendimento atendimento, ItemPedido item) {
+                eventos.add("item " + item.getNome());
+            }
+        });
+
+        restaurante.adicionarGarcom(joao);
+        joao.getFilaAtendimentoIndividual().getFila().peek().getPedido().adicionarItem(new ItemPedido("Suco", 1, 8.0));
+
+        assertEquals(List.of("garcom 1", "iniciado 1", "item Suco"), eventos);
+    }
+
+    @Test
+    void gerarIdsConcorrentementeNaoRepete() throws Exception {
+        final int threads = 8;
+        final int porThread = 10_000;
+        Set<Integer> ids = ConcurrentHashMap.newKeySet();
+        executarEmParalelo(threads, () -> {
+            for (int i = 0; i < porThread; i++) {
+                ids.add(restaurante.gerarNovoClienteId());
+            }
+        });
+        assertEquals(threads * porThread, ids.size());
+        assertEquals(threads * porThread + 1, restaurante.gerarNovoClienteId());
+    }
+
+    @Test
+    void distribuirEFinalizarConcorrentementeRespeitaLimites() throws Exception {
+        final int threads = 8;
+        final int operacoesPorThread = 2_000;
+        List<Garcom> garcons = new ArrayList<>();
+        for (int i = 1; i <= 6; i++) {
+            Garcom garcom = new Garcom(i, "Garçom" + i, null);
+            garcons.add(garcom);
+            restaurante.adicionarGarcom(garcom);
+        }
+        Set<Atendimento> reivindicados = ConcurrentHashMap.newKeySet();
+        AtomicInteger limiteExcedido = new AtomicInteger();
+
+        PrintStream saidaOriginal = System.out;
+        System.setOut(new PrintStream(OutputStream.nullOutputStream()));
+        try {
+            executarEmParalelo(threads, () -> {
+                ThreadLocalRandom aleatorio = ThreadLocalRandom.current();
+                for (int i = 0; i < operacoesPorThread; i++) {
+                    restaurante.distribuirAtendimento(novoCliente(restaurante.gerarNovoClienteId()));
+                    Garcom garcom = garcons.get(aleatorio.nextInt(garcons.size()));
+                    FilaDeAtendimento<AtendimentoIndividual> fila = garcom.getFilaAtendimentoIndividual();
+                    if (fila.tamanho() > 5) {
+                        limiteExcedido.incrementAndGet();
+                    }
+                    Atendimento atendimento = fila.getFila().peek();
+                    if (atendimento != null && atendimento.getStatus() != Status.FINALIZADO && reivindicados.add(atendimento)) {
+                        atendimento.finalizarAtendimento();
+                        restaurante.registrarAtendimentoFinalizado(atendimento);
+                    }
+                }
+            });
+        } finally {
+            System.setOut(saidaOriginal);
+        }
+
+        assertEquals(0, limiteExcedido.get());
+        HistoricoDeAtendimentos historico = restaurante.getHistorico();
+        assertEquals(reivindicados.size(), historico.tamanho());
+        Set<Integer> pedidosUnicos = new HashSet<>();
+        for (int i = 0; i < historico.tamanho(); i++) {
+            pedidosUnicos.add(historico.getPedidoId(i));
+        }
+        assertEquals(historico.tamanho(), pedidosUnicos.size());
+        List<Atendimento> recentes = restaurante.getHistoricoAtendimentos();
+        assertEquals(Math.min(reivindicados.size(), HistoricoDeAtendimentos.TAMANHO_DA_CAUDA_PADRAO), recentes.size());
+        Set<Atendimento> unicos = Collections.newSetFromMap(new IdentityHashMap<>());
+        unicos.addAll(recentes);
+        assertEquals(recentes.size(), unicos.size());
+        for (Atendimento atendimento : recentes) {
+            assertSame(atendimento, restaurante.buscarAtendimentoPorPedidoId(atendimento.getPedido().getId()));
+        }
+        for (Garcom garcom : garcons) {
+            FilaDeAtendimento<AtendimentoIndividual> fila = garcom.getFilaAtendimentoIndividual();
+            assertTrue(fila.tamanho() <= 5);
+            assertEquals(0, fila.contarPorStatus(Status.FINALIZADO));
+        }
+
+        // O índice de capacidade continua coerente: havendo vaga, o próximo cliente é atendido
+        boolean haVaga = garcons.stream().anyMatch(Garcom::podeAtenderMaisClientesIndividuais);
+        int ocupacaoAntes = garcons.stream().mapToInt(g -> g.getFilaAtendimentoIndividual().tamanho()).sum();
+        restaurante.distribuirAtendimento(novoCliente(restaurante.gerarNovoClienteId()));
+        int ocupacaoDepois = garcons.stream().mapToInt(g -> g.getFilaAtendimentoIndividual().tamanho()).sum();
+        assertEquals(haVaga ? ocupacaoAntes + 1 : ocupacaoAntes, ocupacaoDepois);
+    }
+
+    private void executarEmParalelo(int threads, Runnable tarefa) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch largada = new CountDownLatch(1);
+        List<Future<?>> tarefas = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            tarefas.add(executor.submit(() -> {
+                largada.await();
+                tarefa.run();
+                return null;
+            }));
+        }
+        largada.countDown();
+        try {
+            for (Future<?> f : tarefas) {
+                f.get(60, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private Cliente novoCliente(int id) {
+        Cliente cliente = new Cliente(id, "Cliente" + id, TipoCliente.COMUM);
+        cliente.setHoraChegada(LocalTime.now());
+        return cliente;
     }
-}
\ No newline at end of file
+}
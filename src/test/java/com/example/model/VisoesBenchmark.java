@@ -0,0 +1,101 @@
+package com.example.model;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.lang.management.ManagementFactory;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+import com.example.util.TipoCliente;
+
+/**
+ * Benchmark de alocação das consultas de garçons, cardápio e histórico recente do {@link Restaurante}.
+ * <p>
+ * Para restaurantes com 10, 100 e 1000 garçons e itens no cardápio (e a cauda padrão do histórico cheia), mede os
+ * bytes alocados pela thread em um milhão de leituras repetidas de cada consulta, sem alterações entre elas,
+ * comparando a visão imutável reutilizada com a cópia em {@link ArrayList} feita antes a cada chamada. A alocação
+ * é lida de {@code com.sun.management.ThreadMXBean#getCurrentThreadAllocatedBytes()}.
+ * </p>
+ *
+ * <p>Não é executado pelo {@code mvn test}; rode a classe {@code main} diretamente a partir do classpath de testes.</p>
+ *
+ * @author Ana Luiza Freitas Brito Siqueira
+ * @author Bruno Campos Penha
+ * @author Grazielly de Sousa Barros
+ * @author João Gabriel Oliveira Magalhães
+ * @author João Vitor Moreira Lemos
+ * @author Robert Alves Guimarães
+ * @author Vinicius D’Oliveira Rocha
+ * @version 1.0
+ */
+public class VisoesBenchmark {
+
+    private static final int[] TAMANHOS = {10, 100, 1000};
+    private static final int LEITURAS = 1_000_000;
+
+    private static final com.sun.management.ThreadMXBean THREADS =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    public static void main(String[] args) {
+        PrintStream saidaOriginal = System.out;
+        System.setOut(new PrintStream(OutputStream.nullOutputStream()));
+        try {
+            saidaOriginal.printf("%8s %-12s %-7s %16s %12s%n", "tamanho", "consulta", "leitura", "bytes/leitura", "ns/leitura");
+            for (int tamanho : TAMANHOS) {
+                Restaurante restaurante = criarRestaurante(tamanho);
+                medir(saidaOriginal, tamanho, "garçons", restaurante::getGarcons);
+                medir(saidaOriginal, tamanho, "cardápio", restaurante::getCardapio);
+                medir(saidaOriginal, tamanho, "histórico", restaurante::getHistoricoAtendimentos);
+            }
+        } finally {
+            System.setOut(saidaOriginal);
+        }
+    }
+
+    private static void medir(PrintStream saida, int tamanho, String consulta, Supplier<List<?>> visao) {
+        Supplier<List<?>> copia = () -> new ArrayList<>(visao.get());
+        // Aquecimento das duas formas antes de medir
+        ler(visao, LEITURAS);
+        ler(copia, LEITURAS / 10);
+        imprimir(saida, tamanho, consulta, "visão", visao);
+        imprimir(saida, tamanho, consulta, "cópia", copia);
+    }
+
+    private static void imprimir(PrintStream saida, int tamanho, String consulta, String leitura, Supplier<List<?>> fornecedor) {
+        long bytesAntes = THREADS.getCurrentThreadAllocatedBytes();
+        long inicio = System.nanoTime();
+        long soma = ler(fornecedor, LEITURAS);
+        long ns = System.nanoTime() - inicio;
+        long bytes = THREADS.getCurrentThreadAllocatedBytes() - bytesAntes;
+        saida.printf("%8d %-12s %-7s %16.1f %12.1f%n", tamanho, consulta, leitura,
+                (double) bytes / LEITURAS, (double) ns / LEITURAS);
+        if (soma < 0) System.out.println(soma);
+    }
+
+    private static long ler(Supplier<List<?>> fornecedor, int leituras) {
+        long soma = 0;
+        for (int i = 0; i < leituras; i++) {
+            soma += fornecedor.get().size();
+        }
+        return soma;
+    }
+
+    private static Restaurante criarRestaurante(int tamanho) {
+        Restaurante restaurante = new Restaurante("Benchmark");
+        for (int i = 1; i <= tamanho; i++) {
+            restaurante.adicionarGarcom(new Garcom(i, "Garçom" + i, null));
+            restaurante.adicionarAoCardapio(new ItemPedido("Item" + i, 1, 10.0 + i));
+        }
+        for (int i = 1; i <= HistoricoDeAtendimentos.TAMANHO_DA_CAUDA_PADRAO; i++) {
+            Cliente cliente = new Cliente(i, "Cliente" + i, TipoCliente.COMUM);
+            cliente.setHoraChegada(LocalTime.of(11, 0));
+            AtendimentoIndividual atendimento = new AtendimentoIndividual(cliente, new Pedido());
+            atendimento.iniciarAtendimento(LocalTime.of(11, 0), LocalTime.of(11, 5));
+            atendimento.finalizarAtendimento(LocalTime.of(11, 40));
+            restaurante.registrarAtendimentoFinalizado(atendimento);
+        }
+        return restaurante;
+    }
+}
@@ -0,0 +1,147 @@
+package com.example.model.distribuicao;
+
+import java.time.LocalTime;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.example.model.Atendimento;
+import com.example.model.Cliente;
+import com.example.model.Garcom;
+import com.example.model.GrupoClientes;
+import com.example.model.Restaurante;
+import com.example.util.TipoCliente;
+
+/**
+ * Classe de teste unitário para as implementações de {@link EstrategiaDistribuicao}.
+ * <p>
+ * Este teste NÃO depende de JavaFX e cobre a escolha de garçons feita por cada estratégia,
+ * tanto isoladamente quanto integrada ao {@link Restaurante}.
+ * </p>
+ *
+ * <b>Cobertura dos testes:</b>
+ * <ul>
+ *   <li>Primeiro disponível retorna o primeiro garçom da lista.</li>
+ *   <li>Menos ocupado escolhe o garçom com a menor fila correspondente ao tipo de atendível.</li>
+ *   <li>Rodízio alterna entre os garçons disponíveis.</li>
+ *   <li>Duas escolhas aleatórias nunca escolhe o garçom mais ocupado entre dois.</li>
+ *   <li>Ponderada por tempo evita o garçom com histórico de atendimentos mais lentos.</li>
+ *   <li>Restaurante não aceita estratégia nula e usa a estratégia configurada.</li>
+ * </ul>
+ *
+ * @author Ana Luiza Freitas Brito Siqueira
+ * @author Bruno Campos Penha
+ * @author Grazielly de Sousa Barros
+ * @author João Gabriel Oliveira Magalhães
+ * @author João Vitor Moreira Lemos
+ * @author Robert Alves Guimarães
+ * @author Vinicius D’Oliveira Rocha
+ * @version 1.0
+ */
+class EstrategiaDistribuicaoTest {
+
+    private Garcom ocupado;
+    private Garcom livre;
+    private Cliente cliente;
+
+    @BeforeEach
+    void setUp() {
+        ocupado = new Garcom(1, "Ocupado", null);
+        livre = new Garcom(2, "Livre", null);
+        for (int i = 0; i < 3; i++) {
+            ocupado.atenderCliente(novoCliente(i));
+        }
+        cliente = novoCliente(10);
+    }
+
+    @Test
+    void primeiroDisponivelRetornaPrimeiroDaLista() {
+        assertSame(ocupado, new PrimeiroDisponivel().escolherGarcom(List.of(ocupado, livre), cliente));
+    }
+
+    @Test
+    void menosOcupadoEscolheMenorFila() {
+        assertSame(livre, new MenosOcupado().escolherGarcom(List.of(ocupado, livre), cliente));
+    }
+
+    @Test
+    void menosOcupadoConsideraFilaDeGrupos() {
+        livre.atenderGrupo(novoGrupo(1));
+        GrupoClientes grupo = novoGrupo(2);
+        assertSame(ocupado, new MenosOcupado().escolherGarcom(List.of(ocupado, livre), grupo));
+    }
+
+    @Test
+    void rodizioAlternaEntreGarcons() {
+        RodizioCircular rodizio = new RodizioCircular();
+        List<Garcom> disponiveis = List.of(ocupado, livre);
+        assertSame(ocupado, rodizio.escolherGarcom(disponiveis, cliente));
+        assertSame(livre, rodizio.escolherGarcom(disponiveis, cliente));
+        assertSame(ocupado, rodizio.escolherGarcom(disponiveis, cliente));
+    }
+
+    @Test
+    void duasEscolhasNuncaPreferemOMaisOcupado() {
+        DuasEscolhasAleatorias estrategia = new DuasEscolhasAleatorias(new Random(42));
+        List<Garcom> disponiveis = List.of(ocupado, livre);
+        int escolhasDoOcupado = 0;
+        for (int i = 0; i < 200; i++) {
+            if (estrategia.escolherGarcom(disponiveis, cliente) == ocupado) escolhasDoOcupado++;
+        }
+        // Os dois sorteios são sempre garçons distintos: entre dois, o mais ocupado nunca é escolhido
+        assertEquals(0, escolhasDoOcupado);
+        assertThrows(IllegalArgumentException.class, () -> new DuasEscolhasAleatorias(null));
+    }
+
+    @Test
+    void ponderadaEvitaGarcomMaisLento() throws InterruptedException {
+        Garcom lento = new Garcom(3, "Lento", null);
+        Garcom rapido = new Garcom(4, "Rápido", null);
+        PonderadaPorTempoDeAtendimento estrategia = new PonderadaPorTempoDeAtendimento();
+
+        lento.atenderCliente(novoCliente(20));
+        Atendimento atendimentoLento = lento.getFilaAtendimentoIndividual().getFila().peek();
+        Thread.sleep(20);
+        atendimentoLento.finalizarAtendimento();
+        lento.removerAtendimentoFinalizado(atendimentoLento);
+        estrategia.atendimentoFinalizado(lento, atendimentoLento);
+
+        rapido.atenderCliente(novoCliente(21));
+        Atendimento atendimentoRapido = rapido.getFilaAtendimentoIndividual().getFila().peek();
+        atendimentoRapido.finalizarAtendimento();
+        rapido.removerAtendimentoFinalizado(atendimentoRapido);
+        estrategia.atendimentoFinalizado(rapido, atendimentoRapido);
+
+        assertSame(rapido, estrategia.escolherGarcom(List.of(lento, rapido), cliente));
+    }
+
+    @Test
+    void restauranteUsaEstrategiaConfigurada() {
+        Restaurante restaurante = new Restaurante("Teste");
+        restaurante.adicionarGarcom(ocupado);
+        restaurante.adicionarGarcom(livre);
+        assertThrows(IllegalArgumentException.class, () -> restaurante.setEstrategiaDistribuicao(null));
+
+        restaurante.setEstrategiaDistribuicao(new MenosOcupado());
+        restaurante.distribuirAtendimento(cliente);
+        assertEquals(1, livre.getFilaAtendimentoIndividual().tamanho());
+        assertEquals(3, ocupado.getFilaAtendimentoIndividual().tamanho());
+    }
+
+    private static Cliente novoCliente(int id) {
+        Cliente c = new Cliente(id, "Cliente" + id, TipoCliente.COMUM);
+        c.setHoraChegada(LocalTime.now());
+        return c;
+    }
+
+    private static GrupoClientes novoGrupo(int id) {
+        GrupoClientes g = new GrupoClientes(id, "Grupo" + id);
+        g.setHoraChegada(LocalTime.now());
+        return g;
+    }
+}
@@ -0,0 +1,159 @@
+package com.example.util.collections;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Classe de teste unitário para o {@link MapaIntObjeto}.
+ * <p>
+ * Este teste NÃO depende de JavaFX e cobre as operações do mapa de chaves {@code int},
+ * comparando-o com um {@link HashMap} tanto em comportamento quanto em consumo de memória.
+ * </p>
+ *
+ * <b>Cobertura dos testes:</b>
+ * <ul>
+ *   <li>Inserção, consulta, substituição e remoção de entradas, inclusive com chave zero e negativas.</li>
+ *   <li>Não permite valores nulos nem capacidade negativa.</li>
+ *   <li>Sequência aleatória de operações produz o mesmo resultado que um {@link HashMap}.</li>
+ *   <li>Com um milhão de entradas, ocupa menos da metade da memória de um {@code HashMap<Integer, Object>}.</li>
+ * </ul>
+ *
+ * @author Ana Luiza Freitas Brito Siqueira
+ * @author Bruno Campos Penha
+ * @author Grazielly de Sousa Barros
+ * @author João Gabriel Oliveira Magalhães
+ * @author João Vitor Moreira Lemos
+ * @author Robert Alves Guimarães
+ * @author Vinicius D’Oliveira Rocha
+ * @version 1.0
+ */
+class MapaIntObjetoTest {
+
+    private MapaIntObjeto<String> mapa;
+
+    @BeforeEach
+    void setUp() {
+        mapa = new MapaIntObjeto<>();
+    }
+
+    @Test
+    void putEGetFuncionamComQualquerChave() {
+        mapa.put(0, "zero");
+        mapa.put(-7, "negativo");
+        mapa.put(Integer.MAX_VALUE, "máximo");
+        assertEquals("zero", mapa.get(0));
+        assertEquals("negativo", mapa.get(-7));
+        assertEquals("máximo", mapa.get(Integer.MAX_VALUE));
+        assertNull(mapa.get(1));
+        assertEquals(3, mapa.size());
+    }
+
+    @Test
+    void putSubstituiEPutIfAbsentMantemValor() {
+        assertNull(mapa.put(1, "a"));
+        assertEquals("a", mapa.put(1, "b"));
+        assertEquals("b", mapa.putIfAbsent(1, "c"));
+        assertEquals("b", mapa.get(1));
+        assertEquals(1, mapa.size());
+    }
+
+    @Test
+    void removeRetiraEntrada() {
+        mapa.put(1, "a");
+        mapa.put(2, "b");
+        assertEquals("a", mapa.remove(1));
+        assertNull(mapa.remove(1));
+        assertFalse(mapa.containsKey(1));
+        assertTrue(mapa.containsKey(2));
+        assertEquals(1, mapa.size());
+    }
+
+    @Test
+    void removeCondicionalComparaIdentidade() {
+        String valor = "a";
+        mapa.put(1, valor);
+        assertFalse(mapa.remove(1, new String("a")));
+        assertTrue(mapa.remove(1, valor));
+        assertTrue(mapa.isEmpty());
+    }
+
+    @Test
+    void clearEsvaziaMapa() {
+        for (int i = 0; i < 100; i++) mapa.put(i, "v" + i);
+        mapa.clear();
+        assertTrue(mapa.isEmpty());
+        assertNull(mapa.get(50));
+    }
+
+    @Test
+    void naoPermiteValorNuloNemCapacidadeNegativa() {
+        assertThrows(NullPointerException.class, () -> mapa.put(1, null));
+        assertThrows(IllegalArgumentException.class, () -> new MapaIntObjeto<>(-1));
+    }
+
+    @Test
+    void operacoesAleatoriasEquivalemAoHashMap() {
+        Random random = new Random(123);
+        Map<Integer, String> esperado = new HashMap<>();
+        for (int n = 0; n < 200_000; n++) {
+            // Poucas chaves distintas para forçar colisões, remoções e reinserções
+            int chave = random.nextInt(2_000) - 1_000;
+            String valor = "v" + n;
+            switch (random.nextInt(3)) {
+                case 0 -> assertEquals(esperado.put(chave, valor), mapa.put(chave, valor));
+                case 1 -> assertEquals(esperado.remove(chave), mapa.remove(chave));
+                default -> assertEquals(esperado.get(chave), mapa.get(chave));
+            }
+            assertEquals(esperado.size(), mapa.size());
+        }
+        for (Map.Entry<Integer, String> e : esperado.entrySet()) {
+            assertSame(e.getValue(), mapa.get(e.getKey()));
+        }
+    }
+
+    @Test
+    void ocupaMenosMemoriaQueHashMapComUmMilhaoDeEntradas() {
+        final int entradas = 1_000_000;
+        Object valor = new Object();
+
+        long antes = memoriaEmUso();
+        Map<Integer, Object> hashMap = new HashMap<>();
+        for (int i = 0; i < entradas; i++) hashMap.put(i, valor);
+        long bytesHashMap = memoriaEmUso() - antes;
+        assertEquals(entradas, hashMap.size());
+        hashMap = null;
+
+        antes = memoriaEmUso();
+        MapaIntObjeto<Object> mapaPrimitivo = new MapaIntObjeto<>();
+        for (int i = 0; i < entradas; i++) mapaPrimitivo.put(i, valor);
+        long bytesMapa = memoriaEmUso() - antes;
+        assertEquals(entradas, mapaPrimitivo.size());
+
+        String medicao = "HashMap<Integer, Object> = " + bytesHashMap + " bytes, MapaIntObjeto = " + bytesMapa + " bytes";
+        // 8 bytes por posição (chave int e referência compacta), com a tabela ao menos 35% ocupada: até 24 bytes por entrada
+        assertTrue(bytesMapa <= 24L * entradas, () -> "MapaIntObjeto deveria ocupar até 24 bytes por entrada: " + medicao);
+        assertTrue(bytesMapa * 2 < bytesHashMap,
+                () -> "MapaIntObjeto deveria ocupar menos da metade da memória do HashMap: " + medicao);
+    }
+
+    private static long memoriaEmUso() {
+        Runtime runtime = Runtime.getRuntime();
+        long usado = Long.MAX_VALUE;
+        // Repete a coleta até a medição estabilizar
+        for (int i = 0; i < 5; i++) {
+            System.gc();
+            usado = Math.min(usado, runtime.totalMemory() - runtime.freeMemory());
+        }
+        return usado;
+    }
+}
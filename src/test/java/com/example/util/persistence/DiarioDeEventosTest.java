@@ -0,0 +1,296 @@
+package com.example.util.persistence;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.example.model.Atendimento;
+import com.example.model.Cliente;
+import com.example.model.Garcom;
+import com.example.model.GrupoClientes;
+import com.example.model.ItemPedido;
+import com.example.model.Restaurante;
+import com.example.util.TipoCliente;
+
+/**
+ * Classe de teste unitário para o {@link DiarioDeEventos}.
+ * <p>
+ * Este teste NÃO depende de JavaFX e usa um diretório temporário para os arquivos do diário.
+ * </p>
+ *
+ * <b>Cobertura dos testes:</b>
+ * <ul>
+ *   <li>Validação dos parâmetros do construtor.</li>
+ *   <li>Eventos só são gravados em disco ao completar o lote ou ao sincronizar.</li>
+ *   <li>Eventos gravados são lidos de volta na mesma ordem e com os mesmos dados.</li>
+ *   <li>Registrado no restaurante, grava garçons, atendimentos, itens, finalizações e descartes.</li>
+ *   <li>Encerrar o turno grava os pendentes sem reescrever o estado e compacta ao atingir o limite.</li>
+ *   <li>A compactação gera um instantâneo binário com o estado atual e inicia um novo diário vazio.</li>
+ *   <li>Eventos registrados enquanto a compactação é gravada em segundo plano ficam no novo diário.</li>
+ *   <li>Uma linha incompleta deixada por uma queda é descartada ao reabrir o diário.</li>
+ *   <li>Eventos sem tipo ou de tipo desconhecido são rejeitados com a posição do erro na mensagem.</li>
+ *   <li>Uma compactação interrompida antes da troca do instantâneo mantém a geração anterior, e o diário da geração
+ *   seguinte, sem instantâneo, é descartado ao reabrir.</li>
+ * </ul>
+ *
+ * @author Ana Luiza Freitas Brito Siqueira
+ * @author Bruno Campos Penha
+ * @author Grazielly de Sousa Barros
+ * @author João Gabriel Oliveira Magalhães
+ * @author João Vitor Moreira Lemos
+ * @author Robert Alves Guimarães
+ * @author Vinicius D’Oliveira Rocha
+ * @version 1.0
+ */
+class DiarioDeEventosTest {
+
+    @TempDir
+    Path diretorio;
+
+    @Test
+    void construtorValidaParametros() {
+        assertThrows(IllegalArgumentException.class, () -> new DiarioDeEventos(null));
+        assertThrows(IllegalArgumentException.class, () -> new DiarioDeEventos(diretorio, 0, 10));
+        assertThrows(IllegalArgumentException.class, () -> new DiarioDeEventos(diretorio, 10, 0));
+    }
+
+    @Test
+    void gravaApenasAoCompletarLoteOuSincronizar() throws IOException {
+        try (DiarioDeEventos diario = new DiarioDeEventos(diretorio, 3, 100)) {
+            diario.registrar(new EventoDoDiario.GarcomAdicionado(1, "João"));
+            diario.registrar(new EventoDoDiario.GarcomAdicionado(2, "Maria"));
+            assertEquals(0, Files.size(diario.getArquivoDoDiario()));
+
+            diario.registrar(new EventoDoDiario.AtendimentoDescartado(7));
+            assertEquals(3, DiarioDeEventos.lerEventos(diario.getArquivoDoDiario()).size());
+
+            diario.registrar(new EventoDoDiario.AtendimentoDescartado(8));
+            assertEquals(3, DiarioDeEventos.lerEventos(diario.getArquivoDoDiario()).size());
+            diario.sincronizar();
+            assertEquals(4, DiarioDeEventos.lerEventos(diario.getArquivoDoDiario()).size());
+        }
+    }
+
+    @Test
+    void leEventosNaMesmaOrdemEComOsMesmosDados() throws IOException {
+        EventoDoDiario.AtendimentoIniciado iniciado = new EventoDoDiario.AtendimentoIniciado(1, 42, 3, "Mesa 3",
+                List.of(new EventoDoDiario.ClienteRegistrado(5, "Ana", TipoCliente.PRIORITARIO, List.of("Suco"),
+                        LocalTime.of(12, 0), "Sem glúten")),
+                LocalTime.of(12, 0), LocalTime.of(12, 5), null,
+                List.of(new EventoDoDiario.ItemRegistrado("Lasanha", 2, 35.5, List.of("Sem queijo"))));
+        EventoDoDiario.AtendimentoFinalizado finalizado = new EventoDoDiario.AtendimentoFinalizado(42, LocalTime.of(12, 40));
+
+        Path arquivo;
+        try (DiarioDeEventos diario = new DiarioDeEventos(diretorio)) {
+            diario.registrar(iniciado);
+            diario.registrar(finalizado);
+            arquivo = diario.getArquivoDoDiario();
+        }
+
+        assertEquals(List.of(iniciado, finalizado), DiarioDeEventos.lerEventos(arquivo));
+    }
+
+    @Test
+    void registraEventosDoRestaurante() throws IOException {
+        Restaurante restaurante = new Restaurante("Teste");
+        Path arquivo;
+        try (DiarioDeEventos diario = new DiarioDeEventos(diretorio)) {
+            restaurante.setOuvinte(diario);
+            Garcom joao = new Garcom(1, "João", null);
+            restaurante.adicionarGarcom(joao);
+
+            restaurante.distribuirAtendimento(novoCliente(10));
+            Atendimento atendimento = joao.getFilaAtendimentoIndividual().getFila().peek();
+            ItemPedido item = new ItemPedido("Suco", 1, 8.0);
+            atendimento.getPedido().adicionarItem(item);
+            atendimento.getPedido().removerItem(item);
+            atendimento.getPedido().adicionarItem(new ItemPedido("Lasanha", 1, 35.0));
+            atendimento.finalizarAtendimento();
+            restaurante.registrarAtendimentoFinalizado(atendimento);
+
+            GrupoClientes grupo = new GrupoClientes(20, "Mesa 20");
+            grupo.adicionarCliente(novoCliente(21));
+            grupo.setHoraChegada(LocalTime.now());
+            restaurante.distribuirAtendimento(grupo);
+            joao.limparFilasDeAtendimento();
+            arquivo = diario.getArquivoDoDiario();
+        }
+
+        List<EventoDoDiario> eventos = DiarioDeEventos.lerEventos(arquivo);
+        assertEquals(8, eventos.size());
+        assertInstanceOf(EventoDoDiario.GarcomAdicionado.class, eventos.get(0));
+        EventoDoDiario.AtendimentoIniciado iniciado = assertInstanceOf(EventoDoDiario.AtendimentoIniciado.class, eventos.get(1));
+        assertEquals(1, iniciado.garcomId());
+        assertFalse(iniciado.emGrupo());
+        assertEquals(10, iniciado.clientes().get(0).id());
+        assertInstanceOf(EventoDoDiario.ItemAdicionado.class, eventos.get(2));
+        assertInstanceOf(EventoDoDiario.ItemRemovido.class, eventos.get(3));
+        assertEquals("Lasanha", assertInstanceOf(EventoDoDiario.ItemAdicionado.class, eventos.get(4)).item().nome());
+        assertEquals(iniciado.pedidoId(), assertInstanceOf(EventoDoDiario.AtendimentoFinalizado.class, eventos.get(5)).pedidoId());
+        EventoDoDiario.AtendimentoIniciado doGrupo = assertInstanceOf(EventoDoDiario.AtendimentoIniciado.class, eventos.get(6));
+        assertTrue(doGrupo.emGrupo());
+        assertEquals(doGrupo.pedidoId(), assertInstanceOf(EventoDoDiario.AtendimentoDescartado.class, eventos.get(7)).pedidoId());
+    }
+
+    @Test
+    void encerrarTurnoGravaPendentesECompactaAoAtingirLimite() throws IOException {
+        Restaurante restaurante = new Restaurante("Teste");
+        try (DiarioDeEventos diario = new DiarioDeEventos(diretorio, 100, 4)) {
+            restaurante.setOuvinte(diario);
+            Garcom joao = new Garcom(1, "João", null);
+            restaurante.adicionarGarcom(joao);
+            restaurante.distribuirAtendimento(novoCliente(10));
+
+            // Conclui gravações de outros testes, para comparar apenas o efeito deste encerramento
+            Persistencia.aguardarGravacoes();
+            Path garconsJson = Path.of("garcons.json");
+            String antes = Files.exists(garconsJson) ? Files.readString(garconsJson) : null;
+            restaurante.encerrarTurno();
+            assertEquals(0, diario.getGeracao());
+            assertEquals(2, DiarioDeEventos.lerEventos(diario.getArquivoDoDiario()).size());
+            // Com o diário registrado, o estado completo não é regravado
+            Persistencia.aguardarGravacoes();
+            assertEquals(antes, Files.exists(garconsJson) ? Files.readString(garconsJson) : null);
+
+            restaurante.distribuirAtendimento(novoCliente(11));
+            restaurante.distribuirAtendimento(novoCliente(12));
+            restaurante.encerrarTurno();
+            // A compactação é gravada em segundo plano
+            diario.sincronizar();
+            assertEquals(1, diario.getGeracao());
+            assertEquals(0, Files.size(diario.getArquivoDoDiario()));
+        }
+    }
+
+    @Test
+    void eventosRegistradosDuranteACompactacaoFicamNoNovoDiario() throws IOException {
+        Restaurante restaurante = new Restaurante("Teste");
+        try (DiarioDeEventos diario = new DiarioDeEventos(diretorio, 1, 1)) {
+            restaurante.setOuvinte(diario);
+            restaurante.adicionarGarcom(new Garcom(1, "João", null));
+            restaurante.encerrarTurno();
+            // Gravados no diário antigo ou pendentes enquanto a compactação agendada não termina
+            restaurante.adicionarGarcom(new Garcom(2, "Maria", null));
+            restaurante.adicionarGarcom(new Garcom(3, "Ana", null));
+            diario.sincronizar();
+
+            assertEquals(1, diario.getGeracao());
+            assertFalse(Files.exists(DiarioDeEventos.arquivoDoDiario(diretorio, 0)));
+            List<EventoDoDiario> eventos = DiarioDeEventos.lerEventos(diario.getArquivoDoDiario());
+            assertEquals(List.of(new EventoDoDiario.GarcomAdicionado(2, "Maria"), new EventoDoDiario.GarcomAdicionado(3, "Ana")), eventos);
+        }
+        Restaurante recuperado = new Restaurante("Recuperado");
+        RecuperadorDeEstado.recuperar(diretorio, recuperado);
+        assertEquals(3, recuperado.getGarcons().size());
+    }
+
+    @Test
+    void compactarGravaEstadoAtualEIniciaNovoDiario() throws IOException {
+        Restaurante restaurante = new Restaurante("Teste");
+        try (DiarioDeEventos diario = new DiarioDeEventos(diretorio)) {
+            restaurante.setOuvinte(diario);
+            Garcom joao = new Garcom(1, "João", null);
+            Garcom maria = new Garcom(2, "Maria", null);
+            restaurante.adicionarGarcom(joao);
+            restaurante.adicionarGarcom(maria);
+            for (int i = 0; i < 3; i++) {
+                restaurante.distribuirAtendimento(novoCliente(10 + i));
+            }
+            Atendimento finalizado = joao.getFilaAtendimentoIndividual().getFila().peek();
+            finalizado.getPedido().adicionarItem(new ItemPedido("Suco", 2, 8.0));
+            finalizado.finalizarAtendimento();
+            restaurante.registrarAtendimentoFinalizado(finalizado);
+            Path diarioAnterior = diario.getArquivoDoDiario();
+
+            diario.compactar(restaurante);
+
+            assertEquals(1, diario.getGeracao());
+            assertFalse(Files.exists(diarioAnterior));
+            assertEquals(0, Files.size(diario.getArquivoDoDiario()));
+            Restaurante instantaneo = new Restaurante("Instantâneo");
+            // 2 garçons + histórico + 2 atendimentos em andamento
+            assertEquals(5, InstantaneoBinario.carregar(DiarioDeEventos.arquivoDoInstantaneo(diretorio, 1), instantaneo));
+            assertEquals(2, instantaneo.getGarcons().size());
+            Atendimento doHistorico = instantaneo.getHistoricoAtendimentos().get(0);
+            assertEquals(finalizado.getPedido().getId(), doHistorico.getPedido().getId());
+            assertEquals(1, doHistorico.getPedido().getItens().size());
+
+            restaurante.distribuirAtendimento(novoCliente(20));
+            diario.sincronizar();
+            assertEquals(1, DiarioDeEventos.lerEventos(diario.getArquivoDoDiario()).size());
+        }
+    }
+
+    @Test
+    void descartaLinhaIncompletaAoReabrir() throws IOException {
+        Path arquivo;
+        try (DiarioDeEventos diario = new DiarioDeEventos(diretorio)) {
+            diario.registrar(new EventoDoDiario.GarcomAdicionado(1, "João"));
+            arquivo = diario.getArquivoDoDiario();
+        }
+        Files.writeString(arquivo, "{\"tipo\":\"GarcomAdic", StandardCharsets.UTF_8, StandardOpenOption.APPEND);
+        assertEquals(1, DiarioDeEventos.lerEventos(arquivo).size());
+
+        try (DiarioDeEventos diario = new DiarioDeEventos(diretorio)) {
+            diario.registrar(new EventoDoDiario.GarcomAdicionado(2, "Maria"));
+        }
+        assertEquals(List.of(new EventoDoDiario.GarcomAdicionado(1, "João"), new EventoDoDiario.GarcomAdicionado(2, "Maria")),
+                DiarioDeEventos.lerEventos(arquivo));
+    }
+
+    @Test
+    void rejeitaEventoSemTipoOuDeTipoDesconhecido() throws IOException {
+        Path arquivo = diretorio.resolve("invalido.jsonl");
+        Files.writeString(arquivo, "{\"evento\":{}}\n", StandardCharsets.UTF_8);
+        IOException semTipo = assertThrows(IOException.class, () -> DiarioDeEventos.lerEventos(arquivo));
+        assertEquals("Evento sem tipo no diário, em $.evento", semTipo.getMessage());
+
+        Files.writeString(arquivo, "{\"tipo\":\"Desconhecido\",\"evento\":{}}\n", StandardCharsets.UTF_8);
+        IOException desconhecido = assertThrows(IOException.class, () -> DiarioDeEventos.lerEventos(arquivo));
+        assertEquals("Tipo de evento desconhecido: Desconhecido, em $.tipo", desconhecido.getMessage());
+    }
+
+    @Test
+    void compactacaoInterrompidaMantemAGeracaoAnterior() throws IOException {
+        try (DiarioDeEventos diario = new DiarioDeEventos(diretorio, 1, 1)) {
+            diario.registrar(new EventoDoDiario.GarcomAdicionado(1, "João"));
+            diario.registrar(new EventoDoDiario.GarcomAdicionado(2, "Maria"));
+        }
+        // Queda depois de gravar o novo diário com os eventos posteriores à captura, mas antes da troca do instantâneo
+        Path novoDiario = DiarioDeEventos.arquivoDoDiario(diretorio, 1);
+        Files.copy(DiarioDeEventos.arquivoDoDiario(diretorio, 0), novoDiario);
+        Files.write(DiarioDeEventos.arquivoDoInstantaneo(diretorio, 1).resolveSibling("instantaneo-1.bin.tmp"), new byte[]{1});
+
+        Restaurante recuperado = new Restaurante("Recuperado");
+        assertEquals(2, RecuperadorDeEstado.recuperar(diretorio, recuperado));
+        assertEquals(2, recuperado.getGarcons().size());
+
+        try (DiarioDeEventos diario = new DiarioDeEventos(diretorio, 1, 1)) {
+            assertEquals(0, diario.getGeracao());
+            assertFalse(Files.exists(novoDiario));
+            diario.registrar(new EventoDoDiario.GarcomAdicionado(3, "Ana"));
+            diario.compactar(recuperado);
+            assertEquals(1, diario.getGeracao());
+        }
+        assertTrue(Files.exists(DiarioDeEventos.arquivoDoInstantaneo(diretorio, 1)));
+        assertFalse(Files.exists(DiarioDeEventos.arquivoDoDiario(diretorio, 0)));
+    }
+
+    private static Cliente novoCliente(int id) {
+        Cliente cliente = new Cliente(id, "Cliente" + id, TipoCliente.COMUM);
+        cliente.setHoraChegada(LocalTime.now());
+        return cliente;
+    }
+}
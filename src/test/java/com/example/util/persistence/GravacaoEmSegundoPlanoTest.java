@@ -0,0 +1,179 @@
+package com.example.util.persistence;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Classe de teste unitário para a {@link GravacaoEmSegundoPlano}.
+ * <p>
+ * Este teste NÃO depende de JavaFX nem grava arquivos: as gravações são tarefas que registram sua execução.
+ * </p>
+ *
+ * <b>Cobertura dos testes:</b>
+ * <ul>
+ *   <li>Validação dos parâmetros do construtor e do agendamento.</li>
+ *   <li>As gravações são executadas fora da thread que agenda, na ordem das chaves.</li>
+ *   <li>Gravações pendentes com a mesma chave são coalescidas e somente a mais recente é executada.</li>
+ *   <li>A fila é limitada: agendar bloqueia enquanto a thread gravadora estiver ocupada e a fila cheia.</li>
+ *   <li>Um erro em uma gravação não interrompe as seguintes.</li>
+ *   <li>Encerrar executa as pendentes e recusa novos agendamentos.</li>
+ * </ul>
+ *
+ * @author Ana Luiza Freitas Brito Siqueira
+ * @author Bruno Campos Penha
+ * @author Grazielly de Sousa Barros
+ * @author João Gabriel Oliveira Magalhães
+ * @author João Vitor Moreira Lemos
+ * @author Robert Alves Guimarães
+ * @author Vinicius D’Oliveira Rocha
+ * @version 1.0
+ */
+class GravacaoEmSegundoPlanoTest {
+
+    @Test
+    void validaParametros() {
+        assertThrows(IllegalArgumentException.class, () -> new GravacaoEmSegundoPlano(null));
+        assertThrows(IllegalArgumentException.class, () -> new GravacaoEmSegundoPlano("teste", 0));
+        try (GravacaoEmSegundoPlano gravacao = new GravacaoEmSegundoPlano("teste")) {
+            assertThrows(NullPointerException.class, () -> gravacao.agendar(null, () -> { }));
+            assertThrows(NullPointerException.class, () -> gravacao.agendar("a", null));
+        }
+    }
+
+    @Test
+    void executaForaDaThreadQueAgendaNaOrdemDasChaves() {
+        List<String> executadas = new CopyOnWriteArrayList<>();
+        List<Thread> threads = new CopyOnWriteArrayList<>();
+        try (GravacaoEmSegundoPlano gravacao = new GravacaoEmSegundoPlano("teste")) {
+            for (String chave : List.of("a", "b", "c")) {
+                gravacao.agendar(chave, () -> {
+                    executadas.add(chave);
+                    threads.add(Thread.currentThread());
+                });
+            }
+            gravacao.esvaziar();
+            assertEquals(List.of("a", "b", "c"), executadas);
+            assertTrue(threads.get(0).isVirtual());
+            assertNotSame(Thread.currentThread(), threads.get(0));
+        }
+    }
+
+    @Test
+    void coalesceGravacoesPendentesDaMesmaChave() throws InterruptedException {
+        List<String> executadas = new CopyOnWriteArrayList<>();
+        CountDownLatch liberar = new CountDownLatch(1);
+        try (GravacaoEmSegundoPlano gravacao = new GravacaoEmSegundoPlano("teste")) {
+            ocupar(gravacao, liberar);
+            for (int i = 1; i <= 5; i++) {
+                String versao = "arquivo v" + i;
+                gravacao.agendar("arquivo", () -> executadas.add(versao));
+            }
+            gravacao.agendar("outro", () -> executadas.add("outro"));
+            liberar.countDown();
+            gravacao.esvaziar();
+
+            assertEquals(List.of("arquivo v5", "outro"), executadas);
+            assertEquals(4, gravacao.getCoalescidas());
+        }
+    }
+
+    @Test
+    void bloqueiaAoAgendarComAFilaCheia() throws InterruptedException {
+        CountDownLatch liberar = new CountDownLatch(1);
+        CountDownLatch agendou = new CountDownLatch(1);
+        try (GravacaoEmSegundoPlano gravacao = new GravacaoEmSegundoPlano("teste", 1)) {
+            ocupar(gravacao, liberar);
+            gravacao.agendar("a", () -> { });
+            Thread produtor = Thread.ofVirtual().start(() -> {
+                gravacao.agendar("b", () -> { });
+                agendou.countDown();
+            });
+            assertFalse(agendou.await(200, TimeUnit.MILLISECONDS));
+
+            liberar.countDown();
+            assertTrue(agendou.await(5, TimeUnit.SECONDS));
+            produtor.join();
+        }
+    }
+
+    @Test
+    void erroEmUmaGravacaoNaoInterrompeAsSeguintes() {
+        List<String> executadas = new CopyOnWriteArrayList<>();
+        try (GravacaoEmSegundoPlano gravacao = new GravacaoEmSegundoPlano("teste")) {
+            gravacao.agendar("falha", () -> {
+                throw new IllegalStateException("falha simulada");
+            });
+            gravacao.agendar("ok", () -> executadas.add("ok"));
+            gravacao.esvaziar();
+            assertEquals(List.of("ok"), executadas);
+        }
+    }
+
+    @Test
+    void encerrarExecutaPendentesERecusaNovas() throws InterruptedException {
+        List<String> executadas = new CopyOnWriteArrayList<>();
+        CountDownLatch liberar = new CountDownLatch(1);
+        GravacaoEmSegundoPlano gravacao = new GravacaoEmSegundoPlano("teste");
+        gravacao.esvaziarAoEncerrar();
+        ocupar(gravacao, liberar);
+        gravacao.agendar("a", () -> executadas.add("a"));
+        liberar.countDown();
+        gravacao.close();
+
+        assertEquals(List.of("a"), executadas);
+        assertThrows(IllegalStateException.class, () -> gravacao.agendar("b", () -> { }));
+        gravacao.esvaziar();
+        gravacao.close();
+    }
+
+    @Test
+    void encerrarDuranteAgendamentoBloqueadoRecusaSemPerderAsAceitas() throws InterruptedException {
+        List<String> executadas = new CopyOnWriteArrayList<>();
+        CountDownLatch liberar = new CountDownLatch(1);
+        CountDownLatch recusada = new CountDownLatch(1);
+        GravacaoEmSegundoPlano gravacao = new GravacaoEmSegundoPlano("teste", 1);
+        ocupar(gravacao, liberar);
+        gravacao.agendar("a", () -> executadas.add("a"));
+        Thread produtor = Thread.ofVirtual().start(() -> {
+            try {
+                gravacao.agendar("b", () -> executadas.add("b"));
+            } catch (IllegalStateException e) {
+                recusada.countDown();
+            }
+        });
+        assertFalse(recusada.await(200, TimeUnit.MILLISECONDS));
+
+        Thread encerramento = Thread.ofVirtual().start(gravacao::close);
+        assertTrue(recusada.await(5, TimeUnit.SECONDS));
+        liberar.countDown();
+        encerramento.join();
+        produtor.join();
+
+        assertEquals(List.of("a"), executadas);
+    }
+
+    /**
+     * Mantém a thread gravadora ocupada até a liberação, para que as próximas gravações fiquem pendentes na fila.
+     */
+    private static void ocupar(GravacaoEmSegundoPlano gravacao, CountDownLatch liberar) throws InterruptedException {
+        CountDownLatch ocupada = new CountDownLatch(1);
+        gravacao.agendar("ocupar", () -> {
+            ocupada.countDown();
+            try {
+                liberar.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        assertTrue(ocupada.await(5, TimeUnit.SECONDS));
+    }
+}
@@ -0,0 +1,147 @@
+package com.example.util.persistence;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Stream;
+
+import com.example.model.Atendimento;
+import com.example.model.AtendimentoIndividual;
+import com.example.model.Cliente;
+import com.example.model.Garcom;
+import com.example.model.ItemPedido;
+import com.example.model.ObservacaoDoPedido;
+import com.example.model.Pedido;
+import com.example.model.Restaurante;
+import com.example.util.TipoCliente;
+
+/**
+ * Benchmark do instantâneo binário contra o mesmo estado gravado como eventos JSON no diário do
+ * {@link DiarioDeEventos}.
+ * <p>
+ * Para restaurantes com 1 mil, 10 mil e 100 mil atendimentos no histórico (cada um com dois itens do cardápio),
+ * distribuídos entre 8 garçons, grava o mesmo estado nos dois formatos e mede o tamanho do arquivo e a mediana
+ * de várias recuperações com {@link RecuperadorDeEstado#recuperar(Path, Restaurante)} em um restaurante vazio,
+ * após o aquecimento. O diário JSON contém um garçom adicionado por garçom e um início e uma finalização por
+ * atendimento.
+ * </p>
+ *
+ * <p>Não é executado pelo {@code mvn test}; rode a classe {@code main} diretamente a partir do classpath de testes.</p>
+ *
+ * @author Ana Luiza Freitas Brito Siqueira
+ * @author Bruno Campos Penha
+ * @author Grazielly de Sousa Barros
+ * @author João Gabriel Oliveira Magalhães
+ * @author João Vitor Moreira Lemos
+ * @author Robert Alves Guimarães
+ * @author Vinicius D’Oliveira Rocha
+ * @version 1.0
+ */
+public class InstantaneoBenchmark {
+
+    private static final int GARCONS = 8;
+    private static final int[] ATENDIMENTOS = {1_000, 10_000, 100_000};
+    private static final long ORCAMENTO_POR_MEDIDA_NS = 3_000_000_000L;
+
+    public static void main(String[] args) throws Exception {
+        PrintStream saidaOriginal = System.out;
+        System.setOut(new PrintStream(OutputStream.nullOutputStream()));
+        try {
+            medirCaso(10_000, null);
+            saidaOriginal.printf("%12s %-8s %12s %12s%n", "atendimentos", "formato", "KiB", "ms");
+            for (int atendimentos : ATENDIMENTOS) {
+                medirCaso(atendimentos, saidaOriginal);
+            }
+        } finally {
+            System.setOut(saidaOriginal);
+        }
+    }
+
+    private static void medirCaso(int atendimentos, PrintStream saida) throws IOException {
+        List<Atendimento> finalizados = new ArrayList<>();
+        Restaurante restaurante = criarRestaurante(atendimentos, finalizados);
+
+        Path json = Files.createTempDirectory("instantaneo-json");
+        try (DiarioDeEventos diario = new DiarioDeEventos(json, 1024, Integer.MAX_VALUE)) {
+            for (Garcom garcom : restaurante.getGarcons()) {
+                diario.registrar(new EventoDoDiario.GarcomAdicionado(garcom.getId(), garcom.getNome()));
+            }
+            for (Atendimento atendimento : finalizados) {
+                diario.registrar(EventoDoDiario.AtendimentoIniciado.de(atendimento));
+                diario.registrar(new EventoDoDiario.AtendimentoFinalizado(atendimento.getPedido().getId(), atendimento.getFim()));
+            }
+        }
+
+        Path binario = Files.createTempDirectory("instantaneo-binario");
+        try (OutputStream arquivo = Files.newOutputStream(DiarioDeEventos.arquivoDoInstantaneo(binario, 0))) {
+            InstantaneoBinario.gravar(restaurante, arquivo);
+        }
+
+        double msJson = mediana(json);
+        double msBinario = mediana(binario);
+        if (saida != null) {
+            saida.printf("%12d %-8s %12.1f %12.2f%n", atendimentos, "json",
+                    Files.size(DiarioDeEventos.arquivoDoDiario(json, 0)) / 1024.0, msJson);
+            saida.printf("%12d %-8s %12.1f %12.2f%n", atendimentos, "binário",
+                    Files.size(DiarioDeEventos.arquivoDoInstantaneo(binario, 0)) / 1024.0, msBinario);
+        }
+        apagar(json);
+        apagar(binario);
+    }
+
+    /**
+     * Recupera o diretório repetidamente dentro do orçamento de tempo e retorna a mediana, em milissegundos.
+     */
+    private static double mediana(Path diretorio) throws IOException {
+        List<Long> tempos = new ArrayList<>();
+        long limite = System.nanoTime() + ORCAMENTO_POR_MEDIDA_NS;
+        do {
+            Restaurante vazio = new Restaurante("Benchmark");
+            long inicio = System.nanoTime();
+            RecuperadorDeEstado.recuperar(diretorio, vazio);
+            tempos.add(System.nanoTime() - inicio);
+        } while (System.nanoTime() < limite && tempos.size() < 30);
+        long[] ordenados = tempos.stream().mapToLong(Long::longValue).toArray();
+        Arrays.sort(ordenados);
+        return ordenados[ordenados.length / 2] / 1e6;
+    }
+
+    private static Restaurante criarRestaurante(int atendimentos, List<Atendimento> finalizados) {
+        Restaurante restaurante = new Restaurante("Benchmark");
+        for (int g = 1; g <= GARCONS; g++) {
+            restaurante.adicionarGarcom(new Garcom(g, "Garçom" + g, null));
+        }
+        LocalTime chegada = LocalTime.of(11, 0);
+        for (int i = 1; i <= atendimentos; i++) {
+            Cliente cliente = new Cliente(i, "Cliente" + i, i % 5 == 0 ? TipoCliente.PRIORITARIO : TipoCliente.COMUM);
+            cliente.setHoraChegada(chegada);
+            Pedido pedido = new Pedido();
+            ItemPedido prato = new ItemPedido("Lasanha Bolonhesa", 1, 38.0);
+            prato.adicionarObservacao(new ObservacaoDoPedido("Sem queijo"));
+            pedido.adicionarItem(prato);
+            pedido.adicionarItem(new ItemPedido("Refrigerante", 2, 7.5));
+            AtendimentoIndividual atendimento = new AtendimentoIndividual(cliente, pedido);
+            atendimento.iniciarAtendimento(chegada, chegada.plusMinutes(2));
+            atendimento.finalizarAtendimento(chegada.plusMinutes(40));
+            restaurante.buscarGarcomPorId(1 + i % GARCONS).retomarAtendimento(atendimento);
+            restaurante.registrarAtendimentoFinalizado(atendimento);
+            finalizados.add(atendimento);
+        }
+        return restaurante;
+    }
+
+    private static void apagar(Path diretorio) throws IOException {
+        try (Stream<Path> arquivos = Files.walk(diretorio)) {
+            for (Path arquivo : (Iterable<Path>) arquivos.sorted(Comparator.reverseOrder())::iterator) {
+                Files.delete(arquivo);
+            }
+        }
+    }
+}
@@ -0,0 +1,246 @@
+package com.example.util.persistence;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalTime;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+
+import com.example.model.Atendimento;
+import com.example.model.AtendimentoGrupo;
+import com.example.model.AtendimentoIndividual;
+import com.example.model.Cliente;
+import com.example.model.Garcom;
+import com.example.model.GrupoClientes;
+import com.example.model.ItemPedido;
+import com.example.model.ObservacaoDoPedido;
+import com.example.model.Pedido;
+import com.example.model.Restaurante;
+import com.example.util.Status;
+import com.example.util.TipoCliente;
+import com.example.util.Turno;
+
+/**
+ * Classe de teste unitário para o {@link InstantaneoBinario}.
+ * <p>
+ * Este teste NÃO depende de JavaFX: os instantâneos são gravados e lidos em memória.
+ * </p>
+ *
+ * <b>Cobertura dos testes:</b>
+ * <ul>
+ *   <li>Cardápio, garçons, histórico, atendimentos em andamento e fila de espera são restaurados com os mesmos dados.</li>
+ *   <li>Os itens dos pedidos restaurados compartilham o modelo do item do cardápio de mesmo nome e preço.</li>
+ *   <li>Horários, tempos, status e observações ausentes são restaurados de forma coerente.</li>
+ *   <li>Nomes de itens repetidos são gravados uma única vez na tabela de textos.</li>
+ *   <li>Carregar o mesmo instantâneo duas vezes não duplica o estado e os novos identificadores não repetem os carregados.</li>
+ *   <li>Pedidos que voltam apenas como registros do histórico também avançam o contador de pedidos.</li>
+ *   <li>Arquivos que não são instantâneos, de outra versão ou truncados são rejeitados.</li>
+ * </ul>
+ *
+ * @author Ana Luiza Freitas Brito Siqueira
+ * @author Bruno Campos Penha
+ * @author Grazielly de Sousa Barros
+ * @author João Gabriel Oliveira Magalhães
+ * @author João Vitor Moreira Lemos
+ * @author Robert Alves Guimarães
+ * @author Vinicius D’Oliveira Rocha
+ * @version 1.0
+ */
+class InstantaneoBinarioTest {
+
+    @Test
+    void restauraEstadoCompleto() throws IOException {
+        Restaurante original = criarRestaurante();
+
+        Restaurante lido = new Restaurante("Teste");
+        assertEquals(9, InstantaneoBinario.carregar(new ByteArrayInputStream(gravar(original)), lido));
+
+        assertEquals(List.of("Lasanha", "Suco"), lido.getCardapio().stream().map(ItemPedido::getNome).toList());
+        assertEquals(35.5, lido.getCardapio().get(0).getPreco());
+        assertEquals(List.of("João", "Maria"), lido.getGarcons().stream().map(Garcom::getNome).toList());
+        assertEquals(Turno.NOITE, lido.buscarGarcomPorId(1).getTurnoAtual());
+        assertNull(lido.buscarGarcomPorId(2).getTurnoAtual());
+
+        Atendimento finalizado = lido.getHistoricoAtendimentos().get(0);
+        assertEquals(Status.FINALIZADO, finalizado.getStatus());
+        assertEquals(LocalTime.of(19, 5), finalizado.getInicio());
+        assertEquals(LocalTime.of(19, 40, 0, 123_456_789), finalizado.getFim());
+        assertEquals(Duration.ofMinutes(5), finalizado.getTempoDeEspera());
+        assertEquals(1, finalizado.getGarcomId());
+        assertTrue(lido.buscarGarcomPorId(1).getFilaAtendimentoIndividual().getFila().stream().noneMatch(a -> a == finalizado));
+
+        AtendimentoIndividual ativo = assertInstanceOf(AtendimentoIndividual.class,
+                lido.buscarGarcomPorId(1).getFilaAtendimentoIndividual().getFila().peek());
+        assertEquals(Status.EM_ATENDIMENTO, ativo.getStatus());
+        assertNull(ativo.getFim());
+        Cliente bruno = ativo.getCliente();
+        assertEquals(List.of(11, "Bruno", TipoCliente.PRIORITARIO, List.of("Suco"), LocalTime.of(19, 30)),
+                List.of(bruno.getId(), bruno.getNome(), bruno.getTipoCliente(), bruno.getPreferencias(), bruno.getHoraChegada()));
+        assertNull(bruno.getObservacoesGerais());
+        ItemPedido lasanha = ativo.getPedido().getItens().get(0);
+        assertEquals(List.of("Lasanha", 2, 35.5, "Sem queijo"),
+                List.of(lasanha.getNome(), lasanha.getQuantidade(), lasanha.getPreco(), lasanha.getObservacoes().get(0).getDescricao()));
+        // Os itens dos pedidos compartilham o modelo do item do cardápio
+        assertSame(lido.getCardapio().get(0).getModelo(), lasanha.getModelo());
+
+        AtendimentoGrupo emGrupo = assertInstanceOf(AtendimentoGrupo.class,
+                lido.buscarGarcomPorId(2).getFilaAtendimentoGrupo().getFila().peek());
+        assertEquals("Mesa 3", emGrupo.getGrupo().getNomeGrupo());
+        assertEquals(2, emGrupo.getGrupo().getClientes().size());
+        assertEquals(1, emGrupo.getGrupo().getPedidos().size());
+        assertEquals("Perto da janela", emGrupo.getGrupo().getObservacoesGerais());
+        assertNotNull(lido.buscarAtendimentoPorPedidoId(emGrupo.getPedido().getId()));
+
+        assertEquals(2, lido.getFilaDeEsperaGeral().tamanho());
+        assertEquals("Carla", lido.getFilaDeEsperaGeral().listar().get(0).getNome());
+        assertInstanceOf(GrupoClientes.class, lido.getFilaDeEsperaGeral().listar().get(1));
+    }
+
+    @Test
+    void gravaNomesRepetidosUmaUnicaVez() throws IOException {
+        Restaurante restaurante = new Restaurante("Teste");
+        Garcom garcom = new Garcom(1, "João", null);
+        restaurante.adicionarGarcom(garcom);
+        for (int i = 1; i <= 50; i++) {
+            Cliente cliente = new Cliente(i, "C" + i, TipoCliente.COMUM);
+            Pedido pedido = new Pedido();
+            pedido.adicionarItem(new ItemPedido("Nome de prato bem comprido", 1, 10.0));
+            AtendimentoIndividual atendimento = new AtendimentoIndividual(cliente, pedido);
+            atendimento.iniciarAtendimento(LocalTime.of(12, 0), LocalTime.of(12, 1));
+            garcom.retomarAtendimento(atendimento);
+        }
+
+        String conteudo = new String(gravar(restaurante), StandardCharsets.ISO_8859_1);
+        assertEquals(conteudo.indexOf("Nome de prato bem comprido"), conteudo.lastIndexOf("Nome de prato bem comprido"));
+    }
+
+    @Test
+    void carregarDuasVezesNaoDuplicaEstado() throws IOException {
+        byte[] instantaneo = gravar(criarRestaurante());
+        Restaurante lido = new Restaurante("Teste");
+        lido.adicionarAoCardapio(new ItemPedido("Lasanha", 1, 40.0));
+
+        InstantaneoBinario.carregar(new ByteArrayInputStream(instantaneo), lido);
+        assertEquals(0, InstantaneoBinario.carregar(new ByteArrayInputStream(instantaneo), lido));
+
+        assertEquals(2, lido.getCardapio().size());
+        assertEquals(40.0, lido.getCardapio().get(0).getPreco());
+        assertEquals(2, lido.getGarcons().size());
+        assertEquals(1, lido.getHistoricoAtendimentos().size());
+        assertEquals(1, lido.buscarGarcomPorId(1).getFilaAtendimentoIndividual().tamanho());
+        assertEquals(2, lido.getFilaDeEsperaGeral().tamanho());
+        assertTrue(lido.gerarNovoGarcomId() > 2);
+        assertTrue(lido.gerarNovoClienteId() > 21);
+        assertTrue(lido.gerarNovoGrupoId() > 4);
+        assertTrue(new Pedido().getId() > lido.buscarGarcomPorId(2).getFilaAtendimentoGrupo().getFila().peek().getPedido().getId());
+    }
+
+    @Test
+    void registrosDoHistoricoAvancamOContadorDePedidos() throws IOException {
+        Restaurante original = new Restaurante("Teste");
+        // Registro de um pedido cujo identificador nunca passou pelo contador deste processo
+        int pedidoId = new Pedido().getId() + 1_000;
+        original.getHistorico().adicionarRegistro(pedidoId, 1, LocalTime.of(19, 0), LocalTime.of(19, 30),
+                Duration.ofMinutes(2), 4_500, 3);
+        byte[] instantaneo = gravar(original);
+
+        Restaurante lido = new Restaurante("Teste");
+        assertEquals(1, InstantaneoBinario.carregar(new ByteArrayInputStream(instantaneo), lido));
+        assertEquals(pedidoId, lido.getHistorico().getPedidoId(0));
+        assertTrue(new Pedido().getId() > pedidoId);
+    }
+
+    @Test
+    void rejeitaArquivosInvalidos() throws IOException {
+        assertThrows(IllegalArgumentException.class, () -> InstantaneoBinario.gravar(null, new ByteArrayOutputStream()));
+        assertThrows(IllegalArgumentException.class, () -> InstantaneoBinario.carregar(new ByteArrayInputStream(new byte[0]), null));
+        assertThrows(IOException.class, () -> carregar("[{\"id\":1}]".getBytes(StandardCharsets.UTF_8)));
+
+        byte[] valido = gravar(criarRestaurante());
+        byte[] versaoNova = valido.clone();
+        ByteBuffer.wrap(versaoNova).putShort(4, (short) (InstantaneoBinario.VERSAO + 1));
+        assertThrows(IOException.class, () -> carregar(versaoNova));
+        byte[] versaoAnterior = valido.clone();
+        ByteBuffer.wrap(versaoAnterior).putShort(4, (short) (InstantaneoBinario.VERSAO - 1));
+        assertThrows(IOException.class, () -> carregar(versaoAnterior));
+
+        byte[] truncado = Arrays.copyOf(valido, valido.length / 2);
+        assertThrows(IOException.class, () -> carregar(truncado));
+    }
+
+    private static byte[] gravar(Restaurante restaurante) throws IOException {
+        ByteArrayOutputStream saida = new ByteArrayOutputStream();
+        InstantaneoBinario.gravar(restaurante, saida);
+        return saida.toByteArray();
+    }
+
+    private static int carregar(byte[] dados) throws IOException {
+        return InstantaneoBinario.carregar(new ByteArrayInputStream(dados), new Restaurante("Teste"));
+    }
+
+    /**
+     * Cria um restaurante com cardápio, dois garçons, um atendimento no histórico, um individual e um em grupo
+     * em andamento e um cliente e um grupo na fila de espera.
+     */
+    private static Restaurante criarRestaurante() {
+        Restaurante restaurante = new Restaurante("Teste");
+        restaurante.adicionarAoCardapio(new ItemPedido("Lasanha", 1, 35.5));
+        restaurante.adicionarAoCardapio(new ItemPedido("Suco", 1, 8.0));
+        Garcom joao = new Garcom(1, "João", Turno.NOITE);
+        Garcom maria = new Garcom(2, "Maria", null);
+        restaurante.adicionarGarcom(joao);
+        restaurante.adicionarGarcom(maria);
+
+        Cliente ana = new Cliente(10, "Ana", TipoCliente.COMUM);
+        ana.setHoraChegada(LocalTime.of(19, 0));
+        AtendimentoIndividual finalizado = new AtendimentoIndividual(ana, new Pedido());
+        finalizado.getPedido().adicionarItem(new ItemPedido("Suco", 1, 8.0));
+        finalizado.iniciarAtendimento(LocalTime.of(19, 0), LocalTime.of(19, 5));
+        finalizado.finalizarAtendimento(LocalTime.of(19, 40, 0, 123_456_789));
+        joao.retomarAtendimento(finalizado);
+        restaurante.registrarAtendimentoFinalizado(finalizado);
+
+        Cliente bruno = new Cliente(11, "Bruno", TipoCliente.PRIORITARIO);
+        bruno.adicionarPreferencia("Suco");
+        bruno.setHoraChegada(LocalTime.of(19, 30));
+        bruno.setObservacoesGerais(null);
+        ItemPedido lasanha = new ItemPedido("Lasanha", 2, 35.5);
+        lasanha.adicionarObservacao(new ObservacaoDoPedido("Sem queijo"));
+        AtendimentoIndividual ativo = new AtendimentoIndividual(bruno, new Pedido());
+        ativo.getPedido().adicionarItem(lasanha);
+        ativo.iniciarAtendimento(LocalTime.of(19, 30), LocalTime.of(19, 32));
+        joao.retomarAtendimento(ativo);
+
+        GrupoClientes mesa = new GrupoClientes(3, "Mesa 3");
+        mesa.adicionarCliente(new Cliente(12, "Davi", TipoCliente.COMUM));
+        mesa.adicionarCliente(new Cliente(13, "Eva", TipoCliente.COMUM));
+        mesa.adicionarPedido(new Pedido());
+        mesa.setHoraChegada(LocalTime.of(20, 0));
+        mesa.setObservacoesGerais("Perto da janela");
+        AtendimentoGrupo emGrupo = new AtendimentoGrupo(mesa, new Pedido());
+        emGrupo.iniciarAtendimento(LocalTime.of(20, 0), LocalTime.of(20, 10));
+        maria.retomarAtendimento(emGrupo);
+
+        Cliente carla = new Cliente(20, "Carla", TipoCliente.COMUM);
+        carla.setHoraChegada(LocalTime.of(20, 15));
+        restaurante.getFilaDeEsperaGeral().adicionar(carla);
+        GrupoClientes mesa4 = new GrupoClientes(4, "Mesa 4");
+        mesa4.adicionarCliente(new Cliente(21, "Fábio", TipoCliente.COMUM));
+        mesa4.setHoraChegada(LocalTime.of(20, 20));
+        restaurante.getFilaDeEsperaGeral().adicionar(mesa4);
+        return restaurante;
+    }
+}
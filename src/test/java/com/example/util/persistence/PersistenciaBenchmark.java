@@ -0,0 +1,133 @@
+package com.example.util.persistence;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.lang.reflect.Type;
+import java.time.Duration;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import com.example.model.AtendimentoIndividual;
+import com.example.model.Cliente;
+import com.example.model.Garcom;
+import com.example.model.ItemPedido;
+import com.example.model.ObservacaoDoPedido;
+import com.example.model.Pedido;
+import com.example.util.TipoCliente;
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.reflect.TypeToken;
+
+/**
+ * Benchmark da gravação e leitura de garçons em JSON: adaptadores de fluxo da {@link Persistencia}
+ * contra a serialização por reflexão usada anteriormente.
+ * <p>
+ * Para 100, 1 mil, 10 mil e 100 mil garçons, cada um com um atendimento em andamento e um pedido de dois itens,
+ * mede a mediana de várias rodadas de gravação e de leitura em memória (sem disco), após o aquecimento.
+ * A reflexão não consegue ler atendimentos, pois {@code Atendimento} é abstrata; por isso sua leitura é medida
+ * com garçons sem atendimentos, e a linha com atendimentos aparece como {@code n/d}.
+ * </p>
+ *
+ * <p>Não é executado pelo {@code mvn test}; rode a classe {@code main} diretamente a partir do classpath de testes.</p>
+ *
+ * @author Ana Luiza Freitas Brito Siqueira
+ * @author Bruno Campos Penha
+ * @author Grazielly de Sousa Barros
+ * @author João Gabriel Oliveira Magalhães
+ * @author João Vitor Moreira Lemos
+ * @author Robert Alves Guimarães
+ * @author Vinicius D’Oliveira Rocha
+ * @version 1.0
+ */
+public class PersistenciaBenchmark {
+
+    private static final int[] GARCONS = {100, 1_000, 10_000, 100_000};
+    private static final long ORCAMENTO_POR_MEDIDA_NS = 2_000_000_000L;
+    private static final Type LISTA_DE_GARCONS = new TypeToken<List<Garcom>>(){}.getType();
+
+    /** Serialização por reflexão, como a {@link Persistencia} fazia antes dos adaptadores de fluxo */
+    private static final Gson reflexao = new GsonBuilder()
+            .registerTypeAdapter(Duration.class, new Persistencia.DurationAdapter())
+            .registerTypeAdapter(LocalTime.class, new Persistencia.LocalTimeAdapter())
+            .create();
+
+    public static void main(String[] args) {
+        PrintStream saidaOriginal = System.out;
+        System.setOut(new PrintStream(OutputStream.nullOutputStream()));
+        try {
+            medirCaso(1_000, true);
+            medirCaso(1_000, false);
+        } finally {
+            System.setOut(saidaOriginal);
+        }
+        System.out.printf("%10s %-16s %12s %12s %12s %12s%n", "garçons", "dados", "KiB", "gravar ms", "ler ms", "caminho");
+        for (int n : GARCONS) {
+            for (boolean comAtendimentos : new boolean[] {true, false}) {
+                medirCaso(n, comAtendimentos);
+            }
+        }
+    }
+
+    private static void medirCaso(int n, boolean comAtendimentos) {
+        List<Garcom> garcons = criarGarcons(n, comAtendimentos);
+        String dados = comAtendimentos ? "com atendimento" : "sem atendimento";
+
+        String fluxo = gravarComFluxo(garcons);
+        double gravarFluxo = mediana(() -> gravarComFluxo(garcons));
+        double lerFluxo = mediana(() -> Persistencia.lerGarcons(new StringReader(fluxo)));
+        System.out.printf("%10d %-16s %12.1f %12.2f %12.2f %12s%n", n, dados, fluxo.length() / 1024.0, gravarFluxo, lerFluxo, "fluxo");
+
+        String refletido = reflexao.toJson(garcons, LISTA_DE_GARCONS);
+        double gravarReflexao = mediana(() -> reflexao.toJson(garcons, LISTA_DE_GARCONS));
+        String lerReflexao = comAtendimentos ? "n/d"
+                : String.format("%.2f", mediana(() -> reflexao.fromJson(refletido, LISTA_DE_GARCONS)));
+        System.out.printf("%10d %-16s %12.1f %12.2f %12s %12s%n", n, dados, refletido.length() / 1024.0, gravarReflexao, lerReflexao, "reflexão");
+    }
+
+    private static String gravarComFluxo(List<Garcom> garcons) {
+        StringWriter destino = new StringWriter();
+        Persistencia.escreverGarcons(garcons, destino);
+        return destino.toString();
+    }
+
+    /**
+     * Executa a operação repetidamente dentro do orçamento de tempo e retorna a mediana, em milissegundos.
+     */
+    private static double mediana(Runnable operacao) {
+        List<Long> tempos = new ArrayList<>();
+        long limite = System.nanoTime() + ORCAMENTO_POR_MEDIDA_NS;
+        do {
+            long inicio = System.nanoTime();
+            operacao.run();
+            tempos.add(System.nanoTime() - inicio);
+        } while (System.nanoTime() < limite && tempos.size() < 50);
+        long[] ordenados = tempos.stream().mapToLong(Long::longValue).toArray();
+        Arrays.sort(ordenados);
+        return ordenados[ordenados.length / 2] / 1e6;
+    }
+
+    private static List<Garcom> criarGarcons(int n, boolean comAtendimentos) {
+        List<Garcom> garcons = new ArrayList<>(n);
+        for (int i = 1; i <= n; i++) {
+            Garcom garcom = new Garcom(i, "Garçom" + i, null);
+            if (comAtendimentos) {
+                Cliente cliente = new Cliente(i, "Cliente" + i, i % 5 == 0 ? TipoCliente.PRIORITARIO : TipoCliente.COMUM);
+                cliente.setHoraChegada(LocalTime.of(12, 0));
+                Pedido pedido = new Pedido();
+                ItemPedido prato = new ItemPedido("Lasanha Bolonhesa", 1, 38.0);
+                prato.adicionarObservacao(new ObservacaoDoPedido("Sem queijo"));
+                pedido.adicionarItem(prato);
+                pedido.adicionarItem(new ItemPedido("Refrigerante", 2, 7.5));
+                AtendimentoIndividual atendimento = new AtendimentoIndividual(cliente, pedido);
+                atendimento.iniciarAtendimento(LocalTime.of(12, 0), LocalTime.of(12, 5));
+                garcom.retomarAtendimento(atendimento);
+            }
+            garcons.add(garcom);
+        }
+        return garcons;
+    }
+}
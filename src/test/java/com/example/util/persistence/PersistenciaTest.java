@@ -0,0 +1,192 @@
+package com.example.util.persistence;
+
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.time.Duration;
+import java.time.LocalTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+
+import com.example.model.Atendimento;
+import com.example.model.AtendimentoGrupo;
+import com.example.model.AtendimentoIndividual;
+import com.example.model.Cliente;
+import com.example.model.Garcom;
+import com.example.model.GrupoClientes;
+import com.example.model.ItemPedido;
+import com.example.model.ObservacaoDoPedido;
+import com.example.model.Pedido;
+import com.example.util.Status;
+import com.example.util.TipoCliente;
+import com.example.util.Turno;
+import com.google.gson.JsonParseException;
+
+/**
+ * Classe de teste unitário para a {@link Persistencia} e seus adaptadores de fluxo.
+ * <p>
+ * Este teste NÃO depende de JavaFX e não usa o arquivo {@code garcons.json}: a leitura e a gravação
+ * são feitas em memória.
+ * </p>
+ *
+ * <b>Cobertura dos testes:</b>
+ * <ul>
+ *   <li>Garçons com atendimentos individuais e em grupo são gravados e lidos com os mesmos dados.</li>
+ *   <li>Status, horários e tempos dos atendimentos são restaurados de forma coerente.</li>
+ *   <li>Pedidos lidos mantêm o identificador e os próximos pedidos não o repetem.</li>
+ *   <li>Arquivos no formato antigo ({@code fila} vazia ou {@code heap} com posições vazias) continuam sendo lidos.</li>
+ *   <li>Campos desconhecidos são ignorados e garçons sem nome são rejeitados.</li>
+ *   <li>A cópia usada na gravação em segundo plano não acompanha mudanças feitas depois nos garçons.</li>
+ * </ul>
+ *
+ * @author Ana Luiza Freitas Brito Siqueira
+ * @author Bruno Campos Penha
+ * @author Grazielly de Sousa Barros
+ * @author João Gabriel Oliveira Magalhães
+ * @author João Vitor Moreira Lemos
+ * @author Robert Alves Guimarães
+ * @author Vinicius D’Oliveira Rocha
+ * @version 1.0
+ */
+class PersistenciaTest {
+
+    @Test
+    void gravaELeGarconsComAtendimentos() {
+        Garcom joao = new Garcom(7, "João", Turno.NOITE);
+        Cliente ana = new Cliente(10, "Ana", TipoCliente.PRIORITARIO);
+        ana.adicionarPreferencia("Suco");
+        ana.setHoraChegada(LocalTime.of(19, 0));
+        ana.setObservacoesGerais("Mesa perto da janela");
+        Pedido pedido = new Pedido();
+        ItemPedido lasanha = new ItemPedido("Lasanha", 2, 35.5);
+        lasanha.adicionarObservacao(new ObservacaoDoPedido("Sem queijo"));
+        pedido.adicionarItem(lasanha);
+        AtendimentoIndividual individual = new AtendimentoIndividual(ana, pedido);
+        individual.iniciarAtendimento(LocalTime.of(19, 0), LocalTime.of(19, 10));
+        joao.retomarAtendimento(individual);
+
+        GrupoClientes grupo = new GrupoClientes(3, "Mesa 3");
+        grupo.adicionarCliente(new Cliente(11, "Bruno", TipoCliente.COMUM));
+        grupo.setHoraChegada(LocalTime.of(18, 0));
+        AtendimentoGrupo emGrupo = new AtendimentoGrupo(grupo, new Pedido());
+        emGrupo.iniciarAtendimento(LocalTime.of(18, 0), LocalTime.of(18, 5));
+        emGrupo.finalizarAtendimento(LocalTime.of(19, 30));
+        joao.retomarAtendimento(emGrupo);
+
+        List<Garcom> lidos = gravarELer(List.of(joao, new Garcom(8, "Maria", null)));
+
+        assertEquals(2, lidos.size());
+        Garcom lido = lidos.get(0);
+        assertEquals(7, lido.getId());
+        assertEquals("João", lido.getNome());
+        assertEquals(Turno.NOITE, lido.getTurnoAtual());
+        assertNull(lidos.get(1).getTurnoAtual());
+
+        AtendimentoIndividual individualLido = assertInstanceOf(AtendimentoIndividual.class,
+                lido.getFilaAtendimentoIndividual().getFila().peek());
+        assertEquals(Status.EM_ATENDIMENTO, individualLido.getStatus());
+        assertEquals(Duration.ofMinutes(10), individualLido.getTempoDeEspera());
+        assertEquals(7, individualLido.getGarcomId());
+        Cliente anaLida = individualLido.getCliente();
+        assertEquals(List.of(10, "Ana", TipoCliente.PRIORITARIO, List.of("Suco"), LocalTime.of(19, 0), "Mesa perto da janela"),
+                List.of(anaLida.getId(), anaLida.getNome(), anaLida.getTipoCliente(), anaLida.getPreferencias(),
+                        anaLida.getHoraChegada(), anaLida.getObservacoesGerais()));
+        assertEquals(pedido.getId(), individualLido.getPedido().getId());
+        ItemPedido itemLido = individualLido.getPedido().getItens().get(0);
+        assertEquals("Lasanha", itemLido.getNome());
+        assertEquals(2, itemLido.getQuantidade());
+        assertEquals(35.5, itemLido.getPreco());
+        assertEquals("Sem queijo", itemLido.getObservacoes().get(0).getDescricao());
+
+        AtendimentoGrupo grupoLido = assertInstanceOf(AtendimentoGrupo.class, lido.getFilaAtendimentoGrupo().getFila().peek());
+        assertEquals(Status.FINALIZADO, grupoLido.getStatus());
+        assertEquals(LocalTime.of(19, 30), grupoLido.getFim());
+        assertEquals(Duration.ofMinutes(85), grupoLido.getTempoDeAtendimento());
+        assertEquals("Mesa 3", grupoLido.getGrupo().getNomeGrupo());
+        assertEquals("Bruno", grupoLido.getGrupo().getClientes().get(0).getNome());
+    }
+
+    @Test
+    void pedidosLidosNaoRepetemIdentificador() {
+        Garcom garcom = new Garcom(1, "João", null);
+        Cliente cliente = new Cliente(1, "Ana", TipoCliente.COMUM);
+        cliente.setHoraChegada(LocalTime.of(12, 0));
+        garcom.atenderCliente(cliente);
+        String json = gravar(List.of(garcom)).replaceFirst("\"pedido\":\\{\"id\":\\d+", "\"pedido\":{\"id\":900000");
+
+        Atendimento lido = lerGarcons(json).get(0).getFilaAtendimentoIndividual().getFila().peek();
+
+        assertEquals(900000, lido.getPedido().getId());
+        assertTrue(new Pedido().getId() > 900000);
+    }
+
+    @Test
+    void leFormatosAntigos() {
+        List<Garcom> vazios = lerGarcons("[{\"id\":1,\"nome\":\"João\",\"filaAtendimentoIndividual\":{\"fila\":[]},"
+                + "\"filaAtendimentoGrupo\":{\"fila\":[]}}]");
+        assertEquals(1, vazios.size());
+        assertEquals(0, vazios.get(0).getFilaAtendimentoIndividual().tamanho());
+
+        String heap = "[{\"id\":2,\"nome\":\"Maria\",\"filaAtendimentoIndividual\":{\"heap\":[{\"cliente\":{\"id\":5,"
+                + "\"nome\":\"Ana\",\"tipo\":\"COMUM\",\"preferencias\":[],\"observacoesGerais\":\"\"},\"pedido\":{\"id\":3,"
+                + "\"itens\":[]},\"status\":\"AGUARDANDO\",\"garcomId\":2},null,null,null],\"tamanho\":1,\"proximaOrdem\":1,"
+                + "\"contagemPorStatus\":[1,0,0]},\"filaAtendimentoGrupo\":{\"heap\":[null,null],\"tamanho\":0}}]";
+        Garcom maria = lerGarcons(heap).get(0);
+        assertEquals(1, maria.getFilaAtendimentoIndividual().tamanho());
+        assertEquals(Status.AGUARDANDO, maria.getFilaAtendimentoIndividual().getFila().peek().getStatus());
+        assertEquals(0, maria.getFilaAtendimentoGrupo().tamanho());
+    }
+
+    @Test
+    void ignoraCamposDesconhecidosERejeitaGarcomSemNome() {
+        List<Garcom> lidos = lerGarcons("[{\"id\":1,\"nome\":\"João\",\"extra\":{\"a\":[1,2]},\"turnoAtual\":null}]");
+        assertEquals("João", lidos.get(0).getNome());
+        assertTrue(lerGarcons("").isEmpty());
+        assertThrows(JsonParseException.class, () -> lerGarcons("[{\"id\":1}]"));
+    }
+
+    @Test
+    void copiaDosGarconsNaoAcompanhaMudancasPosteriores() {
+        Garcom garcom = new Garcom(1, "João", Turno.NOITE);
+        Cliente ana = new Cliente(1, "Ana", TipoCliente.COMUM);
+        ana.setHoraChegada(LocalTime.of(12, 0));
+        garcom.atenderCliente(ana);
+        GrupoClientes grupo = new GrupoClientes(2, "Mesa 2");
+        grupo.adicionarCliente(new Cliente(2, "Bruno", TipoCliente.COMUM));
+        grupo.setHoraChegada(LocalTime.of(12, 5));
+        garcom.atenderGrupo(grupo);
+        String antes = gravar(List.of(garcom));
+
+        List<Garcom> copia = Persistencia.copiarGarcons(List.of(garcom));
+        garcom.getFilaAtendimentoIndividual().getFila().peek().getPedido().adicionarItem(new ItemPedido("Suco", 1, 8));
+        ana.adicionarPreferencia("Suco");
+        grupo.adicionarCliente(new Cliente(3, "Carla", TipoCliente.PRIORITARIO));
+        garcom.getFilaAtendimentoGrupo().getFila().peek().finalizarAtendimento();
+        Cliente davi = new Cliente(4, "Davi", TipoCliente.COMUM);
+        davi.setHoraChegada(LocalTime.of(12, 10));
+        garcom.atenderCliente(davi);
+
+        assertEquals(antes, gravar(copia));
+        assertNotEquals(antes, gravar(List.of(garcom)));
+    }
+
+    private static List<Garcom> gravarELer(List<Garcom> garcons) {
+        return lerGarcons(gravar(garcons));
+    }
+
+    private static String gravar(List<Garcom> garcons) {
+        StringWriter destino = new StringWriter();
+        Persistencia.escreverGarcons(garcons, destino);
+        return destino.toString();
+    }
+
+    private static List<Garcom> lerGarcons(String json) {
+        return Persistencia.lerGarcons(new StringReader(json));
+    }
+}
@@ -0,0 +1,102 @@
+package com.example.util.persistence;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalTime;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Stream;
+
+import com.example.model.Restaurante;
+import com.example.util.TipoCliente;
+
+/**
+ * Benchmark do tempo de recuperação do {@link Restaurante} a partir do {@link DiarioDeEventos}.
+ * <p>
+ * Gera diários com cerca de 10 mil, 100 mil e 1 milhão de eventos, simulando ciclos completos de atendimento
+ * (entrada e saída da fila de espera, início, dois itens e finalização) distribuídos entre 8 garçons, e mede
+ * o tempo de {@link RecuperadorDeEstado#recuperar(Path, Restaurante)} em um restaurante vazio, após uma rodada
+ * de aquecimento. Um dia movimentado de serviço gera da ordem de 10 mil eventos.
+ * </p>
+ *
+ * <p>Não é executado pelo {@code mvn test}; rode a classe {@code main} diretamente a partir do classpath de testes.</p>
+ *
+ * @author Ana Luiza Freitas Brito Siqueira
+ * @author Bruno Campos Penha
+ * @author Grazielly de Sousa Barros
+ * @author João Gabriel Oliveira Magalhães
+ * @author João Vitor Moreira Lemos
+ * @author Robert Alves Guimarães
+ * @author Vinicius D’Oliveira Rocha
+ * @version 1.0
+ */
+public class RecuperacaoBenchmark {
+
+    private static final int GARCONS = 8;
+    private static final int EVENTOS_POR_CICLO = 6;
+    private static final int[] EVENTOS = {10_000, 100_000, 1_000_000};
+
+    public static void main(String[] args) throws Exception {
+        PrintStream saidaOriginal = System.out;
+        System.setOut(new PrintStream(OutputStream.nullOutputStream()));
+        try {
+            Path aquecimento = gerarDiario(10_000);
+            for (int i = 0; i < 5; i++) {
+                RecuperadorDeEstado.recuperar(aquecimento, new Restaurante("Benchmark"));
+            }
+            apagar(aquecimento);
+
+            saidaOriginal.printf("%12s %12s %12s %14s%n", "eventos", "MiB", "ms", "eventos/s");
+            for (int eventos : EVENTOS) {
+                Path diretorio = gerarDiario(eventos);
+                long bytes = Files.size(DiarioDeEventos.arquivoDoDiario(diretorio, 0));
+                long inicio = System.nanoTime();
+                int aplicados = RecuperadorDeEstado.recuperar(diretorio, new Restaurante("Benchmark"));
+                long nanos = System.nanoTime() - inicio;
+                saidaOriginal.printf("%12d %12.1f %12.0f %14.0f%n", aplicados, bytes / 1048576.0, nanos / 1e6,
+                        aplicados * 1e9 / nanos);
+                apagar(diretorio);
+            }
+        } finally {
+            System.setOut(saidaOriginal);
+        }
+    }
+
+    /**
+     * Gera um diário com ciclos completos de atendimento até atingir a quantidade de eventos informada.
+     */
+    private static Path gerarDiario(int eventos) throws IOException {
+        Path diretorio = Files.createTempDirectory("recuperacao-benchmark");
+        try (DiarioDeEventos diario = new DiarioDeEventos(diretorio, 1024, Integer.MAX_VALUE)) {
+            for (int g = 1; g <= GARCONS; g++) {
+                diario.registrar(new EventoDoDiario.GarcomAdicionado(g, "Garçom" + g));
+            }
+            LocalTime chegada = LocalTime.of(11, 0);
+            for (int ciclo = 1; ciclo <= (eventos - GARCONS) / EVENTOS_POR_CICLO; ciclo++) {
+                List<EventoDoDiario.ClienteRegistrado> clientes = List.of(new EventoDoDiario.ClienteRegistrado(ciclo,
+                        "Cliente" + ciclo, TipoCliente.COMUM, List.of(), chegada, ""));
+                diario.registrar(new EventoDoDiario.EntrouNaFilaDeEspera(0, null, clientes, chegada, false));
+                diario.registrar(new EventoDoDiario.SaiuDaFilaDeEspera(false, ciclo));
+                diario.registrar(new EventoDoDiario.AtendimentoIniciado(1 + ciclo % GARCONS, ciclo, 0, null, clientes,
+                        chegada, chegada.plusMinutes(2), null, List.of()));
+                diario.registrar(new EventoDoDiario.ItemAdicionado(ciclo,
+                        new EventoDoDiario.ItemRegistrado("Lasanha Bolonhesa", 1, 38.0, List.of("Sem queijo"))));
+                diario.registrar(new EventoDoDiario.ItemAdicionado(ciclo,
+                        new EventoDoDiario.ItemRegistrado("Refrigerante", 2, 7.5, List.of())));
+                diario.registrar(new EventoDoDiario.AtendimentoFinalizado(ciclo, chegada.plusMinutes(40)));
+            }
+        }
+        return diretorio;
+    }
+
+    private static void apagar(Path diretorio) throws IOException {
+        try (Stream<Path> arquivos = Files.walk(diretorio)) {
+            for (Path arquivo : (Iterable<Path>) arquivos.sorted(Comparator.reverseOrder())::iterator) {
+                Files.delete(arquivo);
+            }
+        }
+    }
+}
@@ -0,0 +1,264 @@
+package com.example.util.persistence;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.example.model.Atendimento;
+import com.example.model.Atendivel;
+import com.example.model.Cliente;
+import com.example.model.Garcom;
+import com.example.model.GrupoClientes;
+import com.example.model.ItemPedido;
+import com.example.model.ObservacaoDoPedido;
+import com.example.model.Restaurante;
+import com.example.util.TipoCliente;
+
+/**
+ * Classe de teste unitário para o {@link RecuperadorDeEstado}.
+ * <p>
+ * Este teste NÃO depende de JavaFX e usa um diretório temporário para os arquivos do diário.
+ * </p>
+ *
+ * <b>Cobertura dos testes:</b>
+ * <ul>
+ *   <li>Validação dos parâmetros e diretório sem dados.</li>
+ *   <li>Recuperação apenas do diário: garçons, atendimentos em andamento com itens, histórico e fila de espera.</li>
+ *   <li>Recuperação do instantâneo seguido do diário de mesma geração.</li>
+ *   <li>Reaplicar o mesmo estado não duplica garçons, atendimentos ou clientes na fila.</li>
+ *   <li>Uma linha incompleta deixada por uma queda é ignorada.</li>
+ *   <li>Os identificadores gerados após a recuperação não repetem os recuperados.</li>
+ *   <li>Uma observação adicionada a um item já no pedido é recuperada, e o item ainda é removido depois dela.</li>
+ * </ul>
+ *
+ * @author Ana Luiza Freitas Brito Siqueira
+ * @author Bruno Campos Penha
+ * @author Grazielly de Sousa Barros
+ * @author João Gabriel Oliveira Magalhães
+ * @author João Vitor Moreira Lemos
+ * @author Robert Alves Guimarães
+ * @author Vinicius D’Oliveira Rocha
+ * @version 1.0
+ */
+class RecuperadorDeEstadoTest {
+
+    @TempDir
+    Path diretorio;
+
+    @Test
+    void recuperarValidaParametros() throws IOException {
+        Restaurante restaurante = new Restaurante("Teste");
+        assertThrows(IllegalArgumentException.class, () -> RecuperadorDeEstado.recuperar(null, restaurante));
+        assertThrows(IllegalArgumentException.class, () -> RecuperadorDeEstado.recuperar(diretorio, null));
+        assertEquals(0, RecuperadorDeEstado.recuperar(diretorio.resolve("inexistente"), restaurante));
+        assertEquals(0, RecuperadorDeEstado.recuperar(diretorio, restaurante));
+        assertTrue(restaurante.getGarcons().isEmpty());
+    }
+
+    @Test
+    void recuperaEstadoDoDiario() throws IOException {
+        int pedidoAtivo;
+        try (DiarioDeEventos diario = new DiarioDeEventos(diretorio)) {
+            pedidoAtivo = simularServico(diario);
+        }
+
+        Restaurante recuperado = new Restaurante("Teste");
+        assertTrue(RecuperadorDeEstado.recuperar(diretorio, recuperado) > 0);
+        verificarEstado(recuperado, pedidoAtivo);
+    }
+
+    @Test
+    void recuperaInstantaneoSeguidoDoDiario() throws IOException {
+        int pedidoAtivo;
+        try (DiarioDeEventos diario = new DiarioDeEventos(diretorio)) {
+            Restaurante restaurante = new Restaurante("Teste");
+            restaurante.setOuvinte(diario);
+            restaurante.adicionarGarcom(new Garcom(1, "João", null));
+            restaurante.getFilaDeEsperaGeral().adicionar(novoCliente(90, "Antigo"));
+            diario.compactar(restaurante);
+
+            // Continua no diário da nova geração
+            restaurante.adicionarGarcom(new Garcom(2, "Maria", null));
+            restaurante.getFilaDeEsperaGeral().retirarProximo();
+            Cliente cliente = novoCliente(10, "Ana");
+            restaurante.distribuirAtendimento(cliente);
+            Atendimento atendimento = restaurante.getGarcons().get(0).getFilaAtendimentoIndividual().getFila().peek();
+            atendimento.getPedido().adicionarItem(new ItemPedido("Suco", 2, 8.0));
+            pedidoAtivo = atendimento.getPedido().getId();
+        }
+
+        Restaurante recuperado = new Restaurante("Teste");
+        RecuperadorDeEstado.recuperar(diretorio, recuperado);
+        assertEquals(2, recuperado.getGarcons().size());
+        assertTrue(recuperado.getFilaDeEsperaGeral().estaVazia());
+        Atendimento atendimento = recuperado.buscarAtendimentoPorPedidoId(pedidoAtivo);
+        assertNotNull(atendimento);
+        assertEquals(1, atendimento.getGarcomId());
+        assertEquals("Suco", atendimento.getPedido().getItens().get(0).getNome());
+    }
+
+    @Test
+    void reaplicarNaoDuplicaEstado() throws IOException {
+        int pedidoAtivo;
+        try (DiarioDeEventos diario = new DiarioDeEventos(diretorio)) {
+            pedidoAtivo = simularServico(diario);
+        }
+
+        Restaurante recuperado = new Restaurante("Teste");
+        RecuperadorDeEstado.recuperar(diretorio, recuperado);
+        RecuperadorDeEstado.recuperar(diretorio, recuperado);
+        verificarEstado(recuperado, pedidoAtivo);
+    }
+
+    @Test
+    void ignoraLinhaIncompleta() throws IOException {
+        int pedidoAtivo;
+        Path arquivo;
+        try (DiarioDeEventos diario = new DiarioDeEventos(diretorio)) {
+            pedidoAtivo = simularServico(diario);
+            arquivo = diario.getArquivoDoDiario();
+        }
+        Files.writeString(arquivo, "{\"tipo\":\"AtendimentoDesc", StandardCharsets.UTF_8, StandardOpenOption.APPEND);
+
+        Restaurante recuperado = new Restaurante("Teste");
+        RecuperadorDeEstado.recuperar(diretorio, recuperado);
+        verificarEstado(recuperado, pedidoAtivo);
+    }
+
+    @Test
+    void novosIdentificadoresNaoRepetemOsRecuperados() throws IOException {
+        try (DiarioDeEventos diario = new DiarioDeEventos(diretorio)) {
+            simularServico(diario);
+        }
+
+        Restaurante recuperado = new Restaurante("Teste");
+        RecuperadorDeEstado.recuperar(diretorio, recuperado);
+        assertTrue(recuperado.gerarNovoGarcomId() > 2);
+        assertTrue(recuperado.gerarNovoClienteId() > 32);
+        assertTrue(recuperado.gerarNovoGrupoId() > 30);
+    }
+
+    @Test
+    void recuperaObservacaoAdicionadaERemocaoDoItemDepoisDela() throws IOException {
+        int pedidoId;
+        try (DiarioDeEventos diario = new DiarioDeEventos(diretorio)) {
+            Restaurante restaurante = new Restaurante("Teste");
+            restaurante.setOuvinte(diario);
+            restaurante.adicionarGarcom(new Garcom(1, "João", null));
+            restaurante.distribuirAtendimento(novoCliente(10, "Ana"));
+            Atendimento atendimento = restaurante.getGarcons().get(0).getFilaAtendimentoIndividual().getFila().peek();
+            pedidoId = atendimento.getPedido().getId();
+            ItemPedido pizza = new ItemPedido("Pizza", 1, 45.0);
+            ItemPedido suco = new ItemPedido("Suco", 2, 8.0);
+            atendimento.getPedido().adicionarItem(pizza);
+            atendimento.getPedido().adicionarItem(suco);
+            atendimento.getPedido().adicionarObservacao(pizza, new ObservacaoDoPedido("Sem cebola"));
+            atendimento.getPedido().adicionarObservacao(suco, new ObservacaoDoPedido("Sem gelo"));
+            atendimento.getPedido().removerItem(pizza);
+        }
+
+        Restaurante recuperado = new Restaurante("Teste");
+        RecuperadorDeEstado.recuperar(diretorio, recuperado);
+        Atendimento atendimento = recuperado.buscarAtendimentoPorPedidoId(pedidoId);
+        assertNotNull(atendimento);
+        assertEquals(1, atendimento.getPedido().getItens().size());
+        ItemPedido suco = atendimento.getPedido().getItens().get(0);
+        assertEquals("Suco", suco.getNome());
+        assertEquals(List.of("Sem gelo"), suco.getObservacoes().stream().map(ObservacaoDoPedido::getDescricao).toList());
+        assertEquals(1600, atendimento.getPedido().getTotalEmCentavos());
+    }
+
+    /**
+     * Simula um serviço com o diário registrado: dois garçons, um atendimento finalizado, um descartado,
+     * um em andamento com itens e clientes aguardando na fila de espera.
+     *
+     * @return identificador do pedido do atendimento em andamento
+     */
+    private static int simularServico(DiarioDeEventos diario) {
+        Restaurante restaurante = new Restaurante("Teste");
+        restaurante.setOuvinte(diario);
+        Garcom joao = new Garcom(1, "João", null);
+        restaurante.adicionarGarcom(joao);
+        restaurante.adicionarGarcom(new Garcom(2, "Maria", null));
+
+        restaurante.getFilaDeEsperaGeral().adicionar(novoCliente(10, "Ana"));
+        restaurante.getFilaDeEsperaGeral().adicionar(novoCliente(11, "Bruno"));
+        GrupoClientes grupo = new GrupoClientes(30, "Mesa 30");
+        grupo.adicionarCliente(novoCliente(31, "Carla"));
+        grupo.adicionarCliente(novoCliente(32, "Davi"));
+        grupo.setHoraChegada(LocalTime.of(12, 0));
+        restaurante.getFilaDeEsperaGeral().adicionar(grupo);
+
+        // Ana é atendida e finalizada
+        restaurante.distribuirAtendimento(restaurante.getFilaDeEsperaGeral().retirarProximo());
+        Atendimento finalizado = joao.getFilaAtendimentoIndividual().getFila().peek();
+        finalizado.getPedido().adicionarItem(new ItemPedido("Lasanha", 1, 35.0));
+        finalizado.finalizarAtendimento();
+        restaurante.registrarAtendimentoFinalizado(finalizado);
+
+        // Bruno é atendido e continua em andamento, com um item removido
+        restaurante.distribuirAtendimento(restaurante.getFilaDeEsperaGeral().retirarProximo());
+        Atendimento ativo = joao.getFilaAtendimentoIndividual().getFila().peek();
+        ItemPedido suco = new ItemPedido("Suco", 2, 8.0);
+        suco.adicionarObservacao(new ObservacaoDoPedido("Sem açúcar"));
+        ItemPedido pizza = new ItemPedido("Pizza", 1, 45.0);
+        ativo.getPedido().adicionarItem(pizza);
+        ativo.getPedido().adicionarItem(suco);
+        ativo.getPedido().removerItem(pizza);
+
+        // O grupo é atendido e descartado, voltando à fila de espera
+        Atendivel retirado = restaurante.getFilaDeEsperaGeral().retirarProximo();
+        restaurante.distribuirAtendimento(retirado);
+        for (Garcom garcom : restaurante.getGarcons()) {
+            Atendimento doGrupo = garcom.getFilaAtendimentoGrupo().getFila().peek();
+            if (doGrupo != null) garcom.descartarAtendimento(doGrupo);
+        }
+        restaurante.getFilaDeEsperaGeral().devolverAoInicio(retirado);
+        return ativo.getPedido().getId();
+    }
+
+    private static void verificarEstado(Restaurante recuperado, int pedidoAtivo) {
+        assertEquals(List.of("João", "Maria"), recuperado.getGarcons().stream().map(Garcom::getNome).toList());
+
+        assertEquals(1, recuperado.getHistoricoAtendimentos().size());
+        Atendimento finalizado = recuperado.getHistoricoAtendimentos().get(0);
+        assertNotNull(finalizado.getFim());
+        assertEquals("Lasanha", finalizado.getPedido().getItens().get(0).getNome());
+
+        Garcom joao = recuperado.buscarGarcomPorId(1);
+        assertEquals(1, joao.getFilaAtendimentoIndividual().getFila().size());
+        assertEquals(0, joao.getFilaAtendimentoGrupo().getFila().size());
+        Atendimento ativo = recuperado.buscarAtendimentoPorPedidoId(pedidoAtivo);
+        assertNotNull(ativo);
+        assertNull(ativo.getFim());
+        assertEquals(1, ativo.getPedido().getItens().size());
+        ItemPedido suco = ativo.getPedido().getItens().get(0);
+        assertEquals("Suco", suco.getNome());
+        assertEquals("Sem açúcar", suco.getObservacoes().get(0).getDescricao());
+
+        assertEquals(1, recuperado.getFilaDeEsperaGeral().tamanho());
+        GrupoClientes grupo = assertInstanceOf(GrupoClientes.class, recuperado.getFilaDeEsperaGeral().consultarProximo());
+        assertEquals("Mesa 30", grupo.getNomeGrupo());
+        assertEquals(2, grupo.getClientes().size());
+        assertTrue(recuperado.getGarcons().stream().allMatch(g -> g.getFilaAtendimentoGrupo().getFila().isEmpty()));
+    }
+
+    private static Cliente novoCliente(int id, String nome) {
+        Cliente cliente = new Cliente(id, nome, TipoCliente.COMUM);
+        cliente.setHoraChegada(LocalTime.of(12, 0));
+        return cliente;
+    }
+}